@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.ingredients;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+
+/**
+ * The {@link InMemoryIngredientRepository} benchmark, measuring lookups depending on the number of stored ingredients.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class InMemoryIngredientRepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int ingredientsCount;
+
+    private InMemoryIngredientRepository repository;
+    private IngredientId[] ingredientIds;
+    private Name[] ingredientNames;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryIngredientRepository();
+        ingredientIds = new IngredientId[ingredientsCount];
+        ingredientNames = new Name[ingredientsCount];
+        for (int i = 0; i < ingredientsCount; i++) {
+            ingredientIds[i] = IngredientId.generate();
+            ingredientNames[i] = new Name("Ingredient " + i);
+            repository.save(new Ingredient(new CreateIngredient(ingredientIds[i], ingredientNames[i],
+                    List.of(MeasurementType.WEIGHT))));
+        }
+    }
+
+    @Benchmark
+    public boolean exists() {
+        return repository.exists(ingredientIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public Optional<Ingredient> findById() {
+        return repository.findById(ingredientIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public Optional<Ingredient> findByNameIgnoreCase() {
+        return repository.findByNameIgnoreCase(ingredientNames[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        next = (next + 7919) % ingredientsCount;
+        return next;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.ingredients;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+
+/**
+ * The {@link IngredientCreation} benchmark, measuring ingredient creation depending on the number of already existing
+ * ingredients. The ingredients created during an iteration are deleted at the end of the iteration, so that the number
+ * of existing ingredients stays stable.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class IngredientCreationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int ingredientsCount;
+
+    private InMemoryIngredientRepository repository;
+    private IngredientCreation ingredientCreation;
+    private final List<IngredientId> createdIngredients = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryIngredientRepository();
+        ingredientCreation = new IngredientCreation(repository, event -> {});
+        for (int i = 0; i < ingredientsCount; i++) {
+            repository.save(new Ingredient(new CreateIngredient(IngredientId.generate(), new Name("Ingredient " + i),
+                    List.of(MeasurementType.WEIGHT))));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreatedIngredients() {
+        createdIngredients.forEach(id -> repository.delete(repository.findNotNullById(id)));
+        createdIngredients.clear();
+    }
+
+    @Benchmark
+    public void createIngredient() {
+        var ingredientId = IngredientId.generate();
+        ingredientCreation.createIngredient(new CreateIngredient(ingredientId, new Name("Created " + ingredientId),
+                List.of(MeasurementType.WEIGHT, MeasurementType.COUNT)));
+        createdIngredients.add(ingredientId);
+    }
+
+}
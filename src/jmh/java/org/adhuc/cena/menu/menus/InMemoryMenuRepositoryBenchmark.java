@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * The {@link InMemoryMenuRepository} benchmark, measuring lookups depending on the number of stored menus. Menus are
+ * evenly distributed among 100 owners.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class InMemoryMenuRepositoryBenchmark {
+
+    static final int OWNERS_COUNT = 100;
+    static final LocalDate START_DATE = LocalDate.parse("2020-01-01");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int menusCount;
+
+    private InMemoryMenuRepository repository;
+    private MenuId[] menuIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryMenuRepository();
+        menuIds = fillRepository(repository, menusCount, RecipeId.generate());
+    }
+
+    @Benchmark
+    public Optional<Menu> findById() {
+        return repository.findById(menuIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public Collection<Menu> findByOwnerAndDateBetween() {
+        var menuId = menuIds[nextIndex()];
+        return repository.findByOwnerAndDateBetween(menuId.owner(), menuId.date(), menuId.date().plusDays(6));
+    }
+
+    private int nextIndex() {
+        next = (next + 7919) % menuIds.length;
+        return next;
+    }
+
+    /**
+     * Fills the repository with menus for {@value #OWNERS_COUNT} owners, scheduled for every meal type of consecutive
+     * days starting at {@link #START_DATE}.
+     *
+     * @param repository the menu repository.
+     * @param menusCount the number of menus to store.
+     * @param recipeId   the main course recipe of every menu.
+     * @return the stored menus identities.
+     */
+    static MenuId[] fillRepository(MenuRepository repository, int menusCount, RecipeId recipeId) {
+        var mealTypes = MealType.values();
+        var menuIds = new MenuId[menusCount];
+        for (int i = 0; i < menusCount; i++) {
+            var owner = new MenuOwner("owner" + i % OWNERS_COUNT);
+            var ownerMenuIndex = i / OWNERS_COUNT;
+            var command = new CreateMenu(owner, START_DATE.plusDays(ownerMenuIndex / mealTypes.length),
+                    mealTypes[ownerMenuIndex % mealTypes.length], new Covers(2), Set.of(recipeId));
+            menuIds[i] = command.menuId();
+            repository.save(new Menu(command));
+        }
+        return menuIds;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import static org.adhuc.cena.menu.menus.InMemoryMenuRepositoryBenchmark.START_DATE;
+import static org.adhuc.cena.menu.menus.InMemoryMenuRepositoryBenchmark.fillRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.adhuc.cena.menu.recipes.RecipeId;
+import org.adhuc.cena.menu.recipes.RecipesFixture;
+
+/**
+ * The {@link MenuCreation} benchmark, measuring menu creation depending on the number of already existing menus. Menus
+ * are created with 3 main course recipes chosen among 1000 existing recipes. The menus created during an iteration are
+ * deleted at the end of the iteration, so that the number of existing menus stays stable.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class MenuCreationBenchmark {
+
+    private static final MenuOwner OWNER = new MenuOwner("benchmark");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int menusCount;
+
+    private InMemoryMenuRepository repository;
+    private MenuCreation menuCreation;
+    private RecipeId[] recipeIds;
+    private final List<MenuId> createdMenus = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        var recipes = new RecipesFixture(1000, 100, 5);
+        recipeIds = recipes.recipeIds();
+        repository = new InMemoryMenuRepository();
+        menuCreation = new MenuCreation(repository, recipes.recipeConsultation(), event -> {});
+        fillRepository(repository, menusCount, recipeIds[0]);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreatedMenus() {
+        createdMenus.forEach(id -> repository.delete(repository.findNotNullById(id)));
+        createdMenus.clear();
+    }
+
+    @Benchmark
+    public void createMenu() {
+        var index = createdMenus.size();
+        var mealTypes = MealType.values();
+        var command = new CreateMenu(OWNER, START_DATE.plusDays(index / mealTypes.length),
+                mealTypes[index % mealTypes.length], new Covers(4), Set.of(recipeIds[index % recipeIds.length],
+                recipeIds[(index + 1) % recipeIds.length], recipeIds[(index + 2) % recipeIds.length]));
+        menuCreation.createMenu(command);
+        createdMenus.add(command.menuId());
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import static org.adhuc.cena.menu.menus.InMemoryMenuRepositoryBenchmark.START_DATE;
+
+import java.util.EnumSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.adhuc.cena.menu.recipes.RecipesFixture;
+
+/**
+ * The {@link MenuGeneration} benchmark, measuring the generation of a week of lunches and dinners depending on the
+ * number of main course recipes, each composed of 5 ingredients among 1000. Generation is expected to take less than
+ * 100 milliseconds with 100000 recipes. Each generation is done for a new owner, and the menus generated during an
+ * iteration are deleted at the end of the iteration.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@State(Scope.Thread)
+public class MenuGenerationBenchmark {
+
+    private static final DateRange WEEK = DateRange.range(START_DATE, START_DATE.plusDays(6));
+
+    @Param({"1000", "10000", "100000"})
+    private int recipesCount;
+
+    private InMemoryMenuRepository repository;
+    private MenuGeneration menuGeneration;
+    private int generations;
+
+    @Setup
+    public void setUp() {
+        var recipes = new RecipesFixture(recipesCount, 1000, 5);
+        repository = new InMemoryMenuRepository();
+        menuGeneration = new MenuGeneration(repository, recipes.recipeConsultation(), event -> {});
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteGeneratedMenus() {
+        repository.deleteAll();
+        generations = 0;
+    }
+
+    @Benchmark
+    public void generateWeekMenus() {
+        var owner = new MenuOwner("benchmark-" + generations++);
+        menuGeneration.generateMenus(new GenerateMenus(owner, WEEK, EnumSet.allOf(MealType.class), new Covers(4)));
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.adhuc.cena.menu.recipes.RecipesFixture;
+
+/**
+ * The journal recovery benchmark, measuring the time for the recipe repository to be ready on startup, depending on
+ * the number of recipes stored in the snapshot and on the number of modifications recorded in the journal since the
+ * snapshot. Each recipe is composed of 5 ingredients.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@State(Scope.Benchmark)
+public class JournalRecoveryBenchmark {
+
+    private static final String JOURNAL_NAME = "recipes";
+
+    @Param({"10000", "100000", "1000000"})
+    private int recipesCount;
+
+    @Param({"0", "10000"})
+    private int tailSize;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("cena-journal-benchmark");
+        var codec = new RecipeCodec();
+        var recipes = new RecipesFixture(recipesCount, recipesCount / 10, 5).recipes();
+        var entities = new ArrayList<byte[]>(recipes.size());
+        for (var recipe : recipes) {
+            var bytes = new ByteArrayOutputStream();
+            try (var output = new DataOutputStream(bytes)) {
+                codec.writeEntity(recipe, output);
+            }
+            entities.add(bytes.toByteArray());
+        }
+        new SnapshotFile(directory.resolve(JOURNAL_NAME + ".snapshot")).write(1, entities);
+        try (var journal = new FileJournal<>(directory, JOURNAL_NAME, codec)) {
+            recipes.stream().limit(tailSize).forEach(journal::recordSave);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int recover() throws IOException {
+        try (var journal = new FileJournal<>(directory, JOURNAL_NAME, new RecipeCodec())) {
+            return RecipesFixture.recover(journal);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.ingredients;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.core.ControllerEntityLinks;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilderFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.ingredients.CreateIngredient;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.MeasurementType;
+
+/**
+ * The {@link IngredientModelAssembler#toCollectionModel(Iterable)} benchmark, measuring the conversion of ingredients
+ * lists into models depending on the list size. Each conversion is performed in a distinct request, as links built
+ * for the current request can be reused.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+public class IngredientModelAssemblerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int ingredientsCount;
+
+    private IngredientModelAssembler assembler;
+    private List<Ingredient> ingredients;
+
+    @Setup
+    public void setUp() {
+        assembler = new IngredientModelAssembler(new ControllerEntityLinks(List.of(IngredientsController.class),
+                new WebMvcLinkBuilderFactory()));
+        ingredients = new ArrayList<>(ingredientsCount);
+        for (int i = 0; i < ingredientsCount; i++) {
+            ingredients.add(new Ingredient(new CreateIngredient(IngredientId.generate(), new Name("Ingredient " + i),
+                    List.of(MeasurementType.WEIGHT, MeasurementType.COUNT))));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public CollectionModel<IngredientModel> toCollectionModel() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        return assembler.toCollectionModel(ingredients);
+    }
+
+}
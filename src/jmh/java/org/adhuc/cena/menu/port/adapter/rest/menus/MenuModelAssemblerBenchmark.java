@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.core.ControllerEntityLinks;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilderFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import org.adhuc.cena.menu.menus.Covers;
+import org.adhuc.cena.menu.menus.CreateMenu;
+import org.adhuc.cena.menu.menus.MealType;
+import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.MenuOwner;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * The {@link MenuModelAssembler#toCollectionModel(Iterable)} benchmark, measuring the conversion of menus lists into
+ * models depending on the list size. Each conversion is performed in a distinct request, as links built for the
+ * current request can be reused.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+public class MenuModelAssemblerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int menusCount;
+
+    private MenuModelAssembler assembler;
+    private List<Menu> menus;
+
+    @Setup
+    public void setUp() {
+        assembler = new MenuModelAssembler(new ControllerEntityLinks(List.of(MenusController.class),
+                new WebMvcLinkBuilderFactory()), new MenuIdConverter());
+        var owner = new MenuOwner("benchmark");
+        var startDate = LocalDate.parse("2020-01-01");
+        var mealTypes = MealType.values();
+        menus = new ArrayList<>(menusCount);
+        for (int i = 0; i < menusCount; i++) {
+            menus.add(new Menu(new CreateMenu(owner, startDate.plusDays(i / mealTypes.length),
+                    mealTypes[i % mealTypes.length], new Covers(2), Set.of(RecipeId.generate(), RecipeId.generate()))));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public CollectionModel<MenuModel> toCollectionModel() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        return assembler.toCollectionModel(menus);
+    }
+
+}
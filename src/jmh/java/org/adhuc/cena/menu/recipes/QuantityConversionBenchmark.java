@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.*;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link QuantityConversion} benchmark, measuring single and bulk conversions of volume quantities expressed in
+ * random units. Conversions are expected not to allocate, which can be checked with the GC profiler
+ * ({@code -Pjmh.profilers=gc}): the normalized allocation rate ({@code gc.alloc.rate.norm}) should be 0 byte per
+ * operation.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class QuantityConversionBenchmark {
+
+    private static final MeasurementUnit[] VOLUME_UNITS = {LITER, CENTILITER, MILLILITER, TABLESPOON, TEASPOON};
+
+    @Param({"100", "10000", "1000000"})
+    private int quantitiesCount;
+
+    private long[] values;
+    private MeasurementUnit[] units;
+    private long[] converted;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var random = new Random(quantitiesCount);
+        values = new long[quantitiesCount];
+        units = new MeasurementUnit[quantitiesCount];
+        converted = new long[quantitiesCount];
+        for (int i = 0; i < quantitiesCount; i++) {
+            values[i] = QuantityConversion.toFixedPoint(1 + random.nextInt(1000));
+            units[i] = VOLUME_UNITS[random.nextInt(VOLUME_UNITS.length)];
+        }
+    }
+
+    @Benchmark
+    public long convert() {
+        next = (next + 7919) % quantitiesCount;
+        return QuantityConversion.convert(values[next], units[next], LITER);
+    }
+
+    @Benchmark
+    public long[] convertInBulk() {
+        QuantityConversion.convert(values, units, MILLILITER, converted);
+        return converted;
+    }
+
+    @Benchmark
+    public long scaleAndSum() {
+        var sum = 0L;
+        for (int i = 0; i < quantitiesCount; i++) {
+            sum += QuantityConversion.scale(QuantityConversion.convert(values[i], units[i], MILLILITER), 4, 6);
+        }
+        return sum;
+    }
+
+}
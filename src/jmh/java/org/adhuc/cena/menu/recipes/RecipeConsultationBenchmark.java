@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.adhuc.cena.menu.ingredients.IngredientId;
+
+/**
+ * The {@link RecipeConsultationImpl#isIngredientRelated(IngredientId)} benchmark, measuring the check performed before
+ * deleting an ingredient, for ingredients related or not to recipes.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class RecipeConsultationBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int recipesCount;
+
+    private RecipeConsultationImpl recipeConsultation;
+    private IngredientId[] relatedIngredientIds;
+    private IngredientId unrelatedIngredientId;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        var fixture = new RecipesFixture(recipesCount, recipesCount / 10, 5);
+        recipeConsultation = (RecipeConsultationImpl) fixture.recipeConsultation();
+        relatedIngredientIds = fixture.recipes().stream()
+                .flatMap(recipe -> recipe.ingredientIds().stream())
+                .distinct()
+                .toArray(IngredientId[]::new);
+        unrelatedIngredientId = IngredientId.generate();
+    }
+
+    @Benchmark
+    public boolean isRelatedIngredientRelated() {
+        next = (next + 7919) % relatedIngredientIds.length;
+        return recipeConsultation.isIngredientRelated(relatedIngredientIds[next]);
+    }
+
+    @Benchmark
+    public boolean isUnrelatedIngredientRelated() {
+        return recipeConsultation.isIngredientRelated(unrelatedIngredientId);
+    }
+
+}
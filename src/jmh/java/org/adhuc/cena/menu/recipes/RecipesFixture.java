@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.adhuc.cena.menu.common.aggregate.Journal;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.ingredients.IngredientConsultation;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+
+/**
+ * A recipes fixture for benchmarks, storing recipes composed of randomly chosen ingredients into an in-memory
+ * repository.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public final class RecipesFixture {
+
+    private final InMemoryRecipeRepository repository = new InMemoryRecipeRepository();
+    private final RecipeId[] recipeIds;
+    private final IngredientId[] ingredientIds;
+
+    /**
+     * Creates a recipes fixture.
+     *
+     * @param recipesCount         the number of recipes to store.
+     * @param ingredientsCount     the number of distinct ingredients the recipes are composed of.
+     * @param ingredientsPerRecipe the number of ingredients in each recipe.
+     */
+    public RecipesFixture(int recipesCount, int ingredientsCount, int ingredientsPerRecipe) {
+        var random = new Random(recipesCount);
+        ingredientIds = new IngredientId[ingredientsCount];
+        for (int i = 0; i < ingredientsCount; i++) {
+            ingredientIds[i] = IngredientId.generate();
+        }
+        recipeIds = new RecipeId[recipesCount];
+        for (int i = 0; i < recipesCount; i++) {
+            recipeIds[i] = RecipeId.generate();
+            var recipe = new Recipe(new CreateRecipe(recipeIds[i], new Name("Recipe " + i), "Recipe content " + i,
+                    new RecipeAuthor("author"), Set.of(CourseType.MAIN_COURSE)));
+            for (int j = 0; j < ingredientsPerRecipe; j++) {
+                var ingredientId = ingredientIds[random.nextInt(ingredientsCount)];
+                if (!recipe.isComposedOf(ingredientId)) {
+                    recipe.addIngredient(new AddIngredientToRecipe(ingredientId, recipeIds[i], j == 0,
+                            new Quantity(j + 1, MeasurementUnit.UNIT)));
+                }
+            }
+            repository.save(recipe);
+        }
+    }
+
+    /**
+     * Gets the stored recipes identities.
+     *
+     * @return the recipes identities.
+     */
+    public RecipeId[] recipeIds() {
+        return recipeIds;
+    }
+
+    /**
+     * Gets the identities of the ingredients the stored recipes are composed of.
+     *
+     * @return the ingredients identities.
+     */
+    public IngredientId[] ingredientIds() {
+        return ingredientIds;
+    }
+
+    /**
+     * Gets the stored recipes.
+     *
+     * @return the recipes.
+     */
+    public Collection<Recipe> recipes() {
+        return repository.findAll();
+    }
+
+    /**
+     * Gets a recipe consultation service based on the stored recipes. The ingredient consultation service it relies on
+     * is a mock, as benchmarks are not expected to filter recipes by ingredient through this service: recipe summaries
+     * are therefore listed without ingredients names.
+     *
+     * @return the recipe consultation service.
+     */
+    public RecipeConsultation recipeConsultation() {
+        var ingredientConsultation = mock(IngredientConsultation.class);
+        return new RecipeConsultationImpl(repository, ingredientConsultation, new RecipeScaling(repository),
+                new RecipeSummaryProjection(repository, ingredientConsultation));
+    }
+
+    /**
+     * Recovers recipes from the specified journal into a new in-memory repository, as done on application startup.
+     *
+     * @param journal the journal.
+     * @return the number of recovered recipes.
+     */
+    public static int recover(Journal<Recipe, RecipeId> journal) {
+        return new InMemoryRecipeRepository(Optional.of(journal)).findAll().size();
+    }
+
+    InMemoryRecipeRepository repository() {
+        return repository;
+    }
+
+}
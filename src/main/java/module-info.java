@@ -16,7 +16,10 @@
 open module org.adhuc.cena.menu {
     requires static lombok;
     requires com.fasterxml.jackson.annotation;
+    requires com.fasterxml.jackson.core;
+    requires com.fasterxml.jackson.databind;
     requires java.validation;
+    requires micrometer.core;
     requires org.apache.commons.io;
     requires spring.aop;
     requires spring.beans;
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.aggregate;
+
+import java.util.Optional;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import org.adhuc.cena.menu.common.exception.CenaException;
+
+/**
+ * The result of an entity creation within a batch of creations. The creation of an entity in a batch can be rejected
+ * without preventing the other entities of the batch to be created.
+ *
+ * @param <I> the entity identity type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CreationResult<I extends Identity> {
+
+    private final I id;
+    private final CenaException failure;
+
+    /**
+     * Creates the result of a successful entity creation.
+     *
+     * @param id  the created entity identity.
+     * @param <I> the entity identity type.
+     * @return the creation result.
+     */
+    public static <I extends Identity> CreationResult<I> created(@NonNull I id) {
+        return new CreationResult<>(id, null);
+    }
+
+    /**
+     * Creates the result of a rejected entity creation.
+     *
+     * @param id      the identity of the entity that could not be created.
+     * @param failure the reason why the entity could not be created.
+     * @param <I>     the entity identity type.
+     * @return the creation result.
+     */
+    public static <I extends Identity> CreationResult<I> rejected(@NonNull I id, @NonNull CenaException failure) {
+        return new CreationResult<>(id, failure);
+    }
+
+    /**
+     * Gets the identity of the entity to create.
+     *
+     * @return the entity identity.
+     */
+    public I id() {
+        return id;
+    }
+
+    /**
+     * Indicates whether the entity has been created.
+     *
+     * @return {@code true} if the entity has been created, {@code false} otherwise.
+     */
+    public boolean isCreated() {
+        return failure == null;
+    }
+
+    /**
+     * Gets the reason why the entity could not be created.
+     *
+     * @return the failure, or an empty optional if the entity has been created.
+     */
+    public Optional<CenaException> failure() {
+        return Optional.ofNullable(failure);
+    }
+
+}
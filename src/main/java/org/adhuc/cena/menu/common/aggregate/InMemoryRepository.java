@@ -0,0 +1,476 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.aggregate;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+/**
+ * A thread-safe in-memory {@link Repository} implementation base, storing entities in a {@link ConcurrentHashMap}.
+ * <p>
+ * Reads are lock-free. Modifications of an entity are serialized through a lock chosen among a fixed number of lock
+ * stripes depending on the entity identity, so that concurrent modifications on the same entity cannot be lost while
+ * modifications on different entities mostly proceed in parallel. {@link #insertAll(Collection) Inserting} several
+ * entities acquires the stripes of all the entities, and deleting all entities acquires every stripe, stripes being
+ * always acquired in the same order.
+ * <p>
+ * Implementations can maintain secondary indexes by overriding {@link #index(Entity, Entity)}, {@link #unindex(Entity)}
+ * and {@link #clearIndexes()}, that are always called while holding the lock(s) of the modified entities.
+ * <p>
+ * Implementations created with an identity order also maintain an ordered index of the identities, allowing to
+ * retrieve entities {@link #findAll(Pagination) page by page}. Retrieving a page only visits the entities of the page
+ * and its neighbours, whatever the number of stored entities.
+ * <p>
+ * Implementations created with a {@link Journal} record every modification into the journal before applying it, while
+ * holding the lock(s) of the modified entities, so that a modification failing to be recorded is not applied. Secondary
+ * indexes are updated before the modification is recorded, so that their constraints are checked first, and reverted
+ * if the recording fails. Implementations {@link #recover() recover} the recorded entities on creation. Reads are still
+ * served from memory only.
+ * <p>
+ * {@link #update(Identity, Consumer) Updates} are applied on a {@link #copy(Entity) copy} of the stored entity, that
+ * replaces the stored entity only once the modification has been recorded: an update failing to be recorded leaves
+ * neither the stored entity nor the secondary indexes modified.
+ * <p>
+ * The repository content version is incremented after each modification, and each entity version is set to the content
+ * version resulting from its last modification. Versions start from a random value, so that the versions of a
+ * repository re-created on restart do not collide with those previously provided.
+ *
+ * @param <E> the entities type.
+ * @param <I> the entities' identity type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public abstract class InMemoryRepository<E extends Entity<I>, I extends Identity> implements Repository<E, I> {
+
+    private static final int DEFAULT_LOCK_STRIPES = 64;
+    private static final long MAXIMUM_INITIAL_VERSION = 1L << 62;
+
+    private final ConcurrentMap<I, E> entities = new ConcurrentHashMap<>();
+    private final ConcurrentMap<I, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong(ThreadLocalRandom.current().nextLong(1, MAXIMUM_INITIAL_VERSION));
+    private final NavigableSet<I> orderedIdentities;
+    private final Journal<E, I> journal;
+    private final Lock[] locks;
+
+    /**
+     * Creates an in-memory repository with the default number of lock stripes.
+     */
+    protected InMemoryRepository() {
+        this(DEFAULT_LOCK_STRIPES);
+    }
+
+    /**
+     * Creates an in-memory repository with the default number of lock stripes, whose entities can be retrieved page by
+     * page according to the specified identity order.
+     *
+     * @param identityOrder the identity order.
+     */
+    protected InMemoryRepository(@NonNull Comparator<? super I> identityOrder) {
+        this(DEFAULT_LOCK_STRIPES, identityOrder, null);
+    }
+
+    /**
+     * Creates an in-memory repository with the specified number of lock stripes.
+     *
+     * @param lockStripes the number of lock stripes. Must be a positive power of two.
+     */
+    protected InMemoryRepository(int lockStripes) {
+        this(lockStripes, null, null);
+    }
+
+    /**
+     * Creates an in-memory repository with the default number of lock stripes, recording modifications into the
+     * specified journal. Implementations must call {@link #recover()} once fully initialized.
+     *
+     * @param journal the journal, or {@code null} if modifications must not be recorded.
+     */
+    protected InMemoryRepository(Journal<E, I> journal) {
+        this(DEFAULT_LOCK_STRIPES, null, journal);
+    }
+
+    /**
+     * Creates an in-memory repository with the default number of lock stripes, whose entities can be retrieved page by
+     * page according to the specified identity order, recording modifications into the specified journal.
+     * Implementations must call {@link #recover()} once fully initialized.
+     *
+     * @param identityOrder the identity order.
+     * @param journal       the journal, or {@code null} if modifications must not be recorded.
+     */
+    protected InMemoryRepository(@NonNull Comparator<? super I> identityOrder, Journal<E, I> journal) {
+        this(DEFAULT_LOCK_STRIPES, identityOrder, journal);
+    }
+
+    private InMemoryRepository(int lockStripes, Comparator<? super I> identityOrder, Journal<E, I> journal) {
+        orderedIdentities = identityOrder != null ? new ConcurrentSkipListSet<>(identityOrder) : null;
+        this.journal = journal;
+        isTrue(lockStripes > 0 && Integer.bitCount(lockStripes) == 1,
+                () -> "Cannot create in-memory repository with " + lockStripes + " lock stripes, expected a power of 2");
+        locks = new Lock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Finds all the entities stored in the repository. The returned collection is a non-modifiable view on the
+     * repository content, that can safely be iterated while the repository is modified.
+     *
+     * @return all the entities.
+     */
+    public Collection<E> findAll() {
+        return Collections.unmodifiableCollection(entities.values());
+    }
+
+    /**
+     * Finds the page of entities corresponding to the specified pagination, according to the repository identity order.
+     *
+     * @param pagination the pagination.
+     * @return the page of entities.
+     * @throws UnsupportedOperationException if the repository has not been created with an identity order.
+     */
+    public Page<E, I> findAll(@NonNull Pagination<I> pagination) {
+        if (orderedIdentities == null) {
+            throw new UnsupportedOperationException("Cannot paginate entities without identity order");
+        }
+        return page(orderedIdentities, pagination);
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public long version(@NonNull I id) {
+        return versions.getOrDefault(id, 0L);
+    }
+
+    @Override
+    public boolean exists(I id) {
+        return id != null && entities.containsKey(id);
+    }
+
+    @Override
+    public Optional<E> findById(@NonNull I id) {
+        return Optional.ofNullable(entities.get(id));
+    }
+
+    @Override
+    public <S extends E> S save(@NonNull S entity) {
+        return withLock(entity.id(), () -> {
+            var previous = entities.get(entity.id());
+            index(previous, entity);
+            if (journal != null) {
+                try {
+                    journal.recordSave(entity);
+                } catch (RuntimeException e) {
+                    revertIndex(previous, entity);
+                    throw e;
+                }
+            }
+            put(entity);
+            return entity;
+        });
+    }
+
+    @Override
+    public E update(@NonNull I id, @NonNull Consumer<E> modification) {
+        return withLock(id, () -> {
+            var modified = copy(findNotNullById(id));
+            modification.accept(modified);
+            return save(modified);
+        });
+    }
+
+    /**
+     * Saves the specified new entities atomically, while holding the locks of all the entities: either all the entities
+     * are saved, or none of them if one of them already exists or appears several times. The entities are recorded as a
+     * single journal record.
+     *
+     * @param newEntities the new entities to save.
+     * @return the saved entities.
+     * @throws AlreadyExistingEntityException if one of the entities already exists, in which case none of the entities
+     *                                        is saved.
+     */
+    @Override
+    public <S extends E> Collection<S> insertAll(@NonNull Collection<S> newEntities) {
+        var stripes = newEntities.stream().mapToInt(entity -> stripe(entity.id())).distinct().sorted().toArray();
+        for (var stripe : stripes) {
+            locks[stripe].lock();
+        }
+        try {
+            var ids = new HashSet<I>();
+            for (var entity : newEntities) {
+                if (!ids.add(entity.id()) || entities.containsKey(entity.id())) {
+                    throw new AlreadyExistingEntityException(entityType(), entity.id());
+                }
+            }
+            var indexed = new ArrayList<S>(newEntities.size());
+            try {
+                for (var entity : newEntities) {
+                    index(null, entity);
+                    indexed.add(entity);
+                }
+                if (journal != null) {
+                    journal.recordSaveAll(newEntities);
+                }
+            } catch (RuntimeException e) {
+                indexed.forEach(this::unindex);
+                throw e;
+            }
+            newEntities.forEach(this::put);
+            return newEntities;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Deletes all the entities stored in the repository.
+     */
+    public void deleteAll() {
+        for (var lock : locks) {
+            lock.lock();
+        }
+        try {
+            if (journal != null) {
+                journal.recordDeleteAll();
+            }
+            clear();
+        } finally {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+
+    /**
+     * Deletes the entity with the same identity as the specified one.
+     *
+     * @param entity the entity to delete.
+     */
+    public void delete(@NonNull E entity) {
+        withLock(entity.id(), () -> {
+            var existing = entities.get(entity.id());
+            if (existing != null && journal != null) {
+                journal.recordDelete(existing);
+            }
+            return remove(entity.id());
+        });
+    }
+
+    /**
+     * Recovers the entities recorded in the journal, if any, by replaying the recorded modifications without recording
+     * them again. Must be called once by implementations created with a journal, at the end of their construction so
+     * that secondary indexes are initialized, and before the repository is used.
+     */
+    protected void recover() {
+        if (journal == null) {
+            return;
+        }
+        journal.replay(new Journal.Modifications<>() {
+            @Override
+            public void save(E entity) {
+                store(entity);
+            }
+
+            @Override
+            public void delete(I id) {
+                remove(id);
+            }
+
+            @Override
+            public void deleteAll() {
+                clear();
+            }
+        });
+    }
+
+    /**
+     * Copies the specified entity, so that the copy can be modified without modifying the specified entity.
+     *
+     * @param entity the entity to copy.
+     * @return the entity copy.
+     */
+    protected abstract E copy(E entity);
+
+    /**
+     * Executes the specified action while holding the lock associated with the specified entity identity. Locks are
+     * reentrant, so that the action can safely modify the same entity through this repository.
+     *
+     * @param id     the entity identity.
+     * @param action the action to execute.
+     * @param <R>    the action result type.
+     * @return the action result.
+     */
+    protected <R> R withLock(@NonNull I id, @NonNull Supplier<R> action) {
+        var lock = lockFor(id);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Builds the page of entities corresponding to the specified pagination, among the entities whose identities are
+     * in the specified ordered set. Identities of entities that are not stored anymore are ignored, so that secondary
+     * indexes can be used even if modified concurrently.
+     *
+     * @param identities the ordered identities of the entities to paginate.
+     * @param pagination the pagination.
+     * @return the page of entities.
+     */
+    protected Page<E, I> page(@NonNull NavigableSet<I> identities, @NonNull Pagination<I> pagination) {
+        var size = pagination.size();
+        var content = new ArrayList<E>(size);
+        Pagination<I> next = null;
+        for (var id : pagination.after().map(after -> identities.tailSet(after, false)).orElse(identities)) {
+            var entity = entities.get(id);
+            if (entity == null) {
+                continue;
+            }
+            if (content.size() == size) {
+                next = Pagination.after(content.get(size - 1).id(), size);
+                break;
+            }
+            content.add(entity);
+        }
+        var preceding = content.isEmpty()
+                ? pagination.after().map(after -> identities.headSet(after, true)).orElse(Collections.emptyNavigableSet())
+                : identities.headSet(content.get(0).id(), false);
+        return new Page<>(content, previous(preceding, size), next);
+    }
+
+    private void store(E entity) {
+        index(entities.get(entity.id()), entity);
+        put(entity);
+    }
+
+    private void revertIndex(E previous, E saved) {
+        unindex(saved);
+        if (previous != null) {
+            index(null, previous);
+        }
+    }
+
+    private void put(E entity) {
+        entities.put(entity.id(), entity);
+        if (orderedIdentities != null) {
+            orderedIdentities.add(entity.id());
+        }
+        versions.put(entity.id(), version.incrementAndGet());
+    }
+
+    private E remove(I id) {
+        var deleted = entities.remove(id);
+        if (deleted != null) {
+            unindex(deleted);
+            if (orderedIdentities != null) {
+                orderedIdentities.remove(deleted.id());
+            }
+            versions.remove(deleted.id());
+            version.incrementAndGet();
+        }
+        return deleted;
+    }
+
+    private void clear() {
+        clearIndexes();
+        entities.clear();
+        if (orderedIdentities != null) {
+            orderedIdentities.clear();
+        }
+        versions.clear();
+        version.incrementAndGet();
+    }
+
+    private Pagination<I> previous(NavigableSet<I> preceding, int size) {
+        var count = 0;
+        for (var id : preceding.descendingSet()) {
+            if (!entities.containsKey(id)) {
+                continue;
+            }
+            if (count == size) {
+                return Pagination.after(id, size);
+            }
+            count++;
+        }
+        return count > 0 ? Pagination.first(size) : null;
+    }
+
+    /**
+     * Updates the secondary indexes when an entity is saved. This method is called while holding the entity lock, before
+     * the entity is recorded and stored, so that an exception thrown by this method prevents the entity from being
+     * recorded and stored. It is also called with no previous entity to restore the previous entity indexes, after
+     * {@link #unindex(Entity)} has been called for the saved entity, if the saving fails to be recorded. Default
+     * implementation does nothing.
+     *
+     * @param previous the entity previously stored with the same identity, or {@code null} if none. As entities are
+     *                 generally modified in place, it can be the same instance as {@code saved}.
+     * @param saved    the entity being saved.
+     */
+    protected void index(E previous, E saved) {
+    }
+
+    /**
+     * Updates the secondary indexes when an entity is deleted. This method is called while holding the entity lock.
+     * Default implementation does nothing.
+     *
+     * @param deleted the deleted entity, as it was stored in the repository.
+     */
+    protected void unindex(E deleted) {
+    }
+
+    /**
+     * Clears the secondary indexes when all entities are deleted. This method is called while holding every lock.
+     * Default implementation does nothing.
+     */
+    protected void clearIndexes() {
+    }
+
+    private Lock lockFor(I id) {
+        return locks[stripe(id)];
+    }
+
+    private int stripe(I id) {
+        var hash = id.hashCode();
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+
+}
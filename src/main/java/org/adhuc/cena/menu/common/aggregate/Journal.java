@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.aggregate;
+
+import java.util.Collection;
+
+/**
+ * A journal recording the modifications of a repository's entities, so that the entities can be recovered after a
+ * restart by replaying the recorded modifications. Modifications are recorded before being applied to the repository,
+ * and are durable once the recording method returns: a recording method throwing an exception indicates that the
+ * modification must not be applied.
+ *
+ * @param <E> the entities type.
+ * @param <I> the entities' identity type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ * @see InMemoryRepository
+ */
+public interface Journal<E extends Entity<I>, I extends Identity> {
+
+    /**
+     * Records the saving of the specified entity.
+     *
+     * @param entity the saved entity.
+     */
+    void recordSave(E entity);
+
+    /**
+     * Records the saving of the specified entities. Implementations should record the entities as a single record, so
+     * that either all the entities are replayed, or none of them. Default implementation records each entity saving
+     * separately.
+     *
+     * @param entities the saved entities.
+     */
+    default void recordSaveAll(Collection<? extends E> entities) {
+        entities.forEach(this::recordSave);
+    }
+
+    /**
+     * Records the deletion of the specified entity.
+     *
+     * @param entity the deleted entity.
+     */
+    void recordDelete(E entity);
+
+    /**
+     * Records the deletion of all the entities.
+     */
+    void recordDeleteAll();
+
+    /**
+     * Replays the recorded modifications, in the order they have been recorded. Implementations compacting their
+     * records may replay an equivalent sequence of modifications instead, such as the saving of each remaining entity
+     * followed by the most recent modifications.
+     *
+     * @param modifications the modifications to apply for each record.
+     */
+    void replay(Modifications<E, I> modifications);
+
+    /**
+     * The modifications applied while replaying a journal.
+     *
+     * @param <E> the entities type.
+     * @param <I> the entities' identity type.
+     */
+    interface Modifications<E extends Entity<I>, I extends Identity> {
+
+        /**
+         * Saves the specified entity.
+         *
+         * @param entity the entity to save.
+         */
+        void save(E entity);
+
+        /**
+         * Deletes the entity corresponding to the specified identity.
+         *
+         * @param id the identity of the entity to delete.
+         */
+        void delete(I id);
+
+        /**
+         * Deletes all the entities.
+         */
+        void deleteAll();
+
+    }
+
+}
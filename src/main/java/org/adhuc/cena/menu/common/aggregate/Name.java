@@ -17,6 +17,8 @@ package org.adhuc.cena.menu.common.aggregate;
 
 import static org.adhuc.cena.menu.util.Assert.hasText;
 
+import java.util.Locale;
+
 import lombok.NonNull;
 import lombok.Value;
 import lombok.experimental.Accessors;
@@ -25,7 +27,7 @@ import lombok.experimental.Accessors;
  * A name value definition. A name must contain a value, trimmed on creation.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.2.0
  */
 @Value
@@ -59,6 +61,16 @@ public class Name {
         return value.equalsIgnoreCase(other.value);
     }
 
+    /**
+     * Gets the normalized value of this name, that is the same for every name equal to this one ignoring case. This
+     * value is suitable as a key to index names ignoring case.
+     *
+     * @return the normalized value.
+     */
+    public String normalizedValue() {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
     public String toString() {
         return value;
     }
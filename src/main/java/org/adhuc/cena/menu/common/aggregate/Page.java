@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.aggregate;
+
+import java.util.List;
+import java.util.Optional;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A page of entities, retrieved from an ordered list of entities according to a {@link Pagination}. A page knows the
+ * paginations allowing to retrieve the previous and next pages, if any.
+ *
+ * @param <E> the entities type.
+ * @param <I> the entities' identity type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class Page<E extends Entity<I>, I extends Identity> {
+
+    private final List<E> content;
+    private final Pagination<I> previous;
+    private final Pagination<I> next;
+
+    /**
+     * Creates a page.
+     *
+     * @param content  the entities in the page.
+     * @param previous the pagination to retrieve the previous page, or {@code null} if this page is the first one.
+     * @param next     the pagination to retrieve the next page, or {@code null} if this page is the last one.
+     */
+    public Page(@NonNull List<E> content, Pagination<I> previous, Pagination<I> next) {
+        this.content = List.copyOf(content);
+        this.previous = previous;
+        this.next = next;
+    }
+
+    /**
+     * Gets the entities in the page.
+     *
+     * @return the entities (not modifiable).
+     */
+    public List<E> content() {
+        return content;
+    }
+
+    /**
+     * Gets the pagination to retrieve the previous page.
+     *
+     * @return the pagination to retrieve the previous page, or an empty optional if this page is the first one.
+     */
+    public Optional<Pagination<I>> previous() {
+        return Optional.ofNullable(previous);
+    }
+
+    /**
+     * Gets the pagination to retrieve the next page.
+     *
+     * @return the pagination to retrieve the next page, or an empty optional if this page is the last one.
+     */
+    public Optional<Pagination<I>> next() {
+        return Optional.ofNullable(next);
+    }
+
+}
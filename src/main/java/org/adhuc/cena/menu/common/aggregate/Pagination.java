@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.aggregate;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.util.Optional;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * A pagination on an ordered list of entities, defining the maximum number of entities to retrieve, and the identity
+ * of the entity after which retrieval starts. The entities order is defined by the repository, so that an entity
+ * identity can be used as a cursor even if the entity has been deleted meanwhile.
+ *
+ * @param <I> the entities' identity type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Query
+@ToString
+@EqualsAndHashCode
+public final class Pagination<I extends Identity> {
+
+    private final int size;
+    private final I after;
+
+    private Pagination(int size, I after) {
+        isTrue(size > 0, () -> "Cannot create pagination with size " + size + ", expected positive value");
+        this.size = size;
+        this.after = after;
+    }
+
+    /**
+     * Creates a pagination starting with the first entity.
+     *
+     * @param size the maximum number of entities to retrieve.
+     * @param <I>  the entities' identity type.
+     * @return the pagination.
+     */
+    public static <I extends Identity> Pagination<I> first(int size) {
+        return new Pagination<>(size, null);
+    }
+
+    /**
+     * Creates a pagination starting with the entity following the specified identity.
+     *
+     * @param after the identity of the entity after which retrieval starts.
+     * @param size  the maximum number of entities to retrieve.
+     * @param <I>   the entities' identity type.
+     * @return the pagination.
+     */
+    public static <I extends Identity> Pagination<I> after(@NonNull I after, int size) {
+        return new Pagination<>(size, after);
+    }
+
+    /**
+     * Gets the maximum number of entities to retrieve.
+     *
+     * @return the maximum number of entities to retrieve.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the identity of the entity after which retrieval starts.
+     *
+     * @return the identity of the entity after which retrieval starts, or an empty optional if retrieval starts with
+     * the first entity.
+     */
+    public Optional<I> after() {
+        return Optional.ofNullable(after);
+    }
+
+}
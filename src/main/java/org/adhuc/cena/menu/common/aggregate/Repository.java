@@ -15,7 +15,13 @@
  */
 package org.adhuc.cena.menu.common.aggregate;
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import lombok.NonNull;
 
@@ -37,6 +43,25 @@ public interface Repository<E extends Entity<I>, I extends Identity> {
      */
     Class<E> entityType();
 
+    /**
+     * Gets the version of the repository content. The version changes whenever an entity is saved or deleted, and is
+     * changed only once the modification is visible: content read after the version is at least as recent as the
+     * version, which can therefore be used to detect that content has not changed since it was last read.
+     *
+     * @return the repository content version.
+     */
+    long version();
+
+    /**
+     * Gets the version of the entity corresponding to the specified identity. The version changes whenever the entity
+     * is saved or deleted, and is changed only once the modification is visible. Implementations may also change the
+     * version when other entities are modified.
+     *
+     * @param id the entity identity.
+     * @return the entity version, or {@code 0} if no entity corresponds to identity.
+     */
+    long version(I id);
+
     /**
      * Indicates whether an entity exists with the specified identity.
      *
@@ -45,6 +70,19 @@ public interface Repository<E extends Entity<I>, I extends Identity> {
      */
     boolean exists(I id);
 
+    /**
+     * Finds, among the specified identities, those corresponding to existing entities. Implementations may look all the
+     * identities up at once, which is more efficient than checking them one by one.
+     *
+     * @param ids the entities identities.
+     * @return the identities of the existing entities.
+     */
+    default Set<I> findExistingIds(@NonNull Collection<I> ids) {
+        return ids.stream()
+                .filter(this::exists)
+                .collect(toSet());
+    }
+
     /**
      * Finds the entity corresponding to the specified identity.
      *
@@ -68,6 +106,20 @@ public interface Repository<E extends Entity<I>, I extends Identity> {
         throw new EntityNotFoundException(entityType(), id);
     }
 
+    /**
+     * Finds the entities corresponding to the specified identities. Implementations may retrieve all the entities at
+     * once, which is more efficient than looking them up one by one.
+     *
+     * @param ids the entities identities.
+     * @return the existing entities, identities without corresponding entity being ignored.
+     */
+    default Collection<E> findAllById(@NonNull Collection<I> ids) {
+        return ids.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .collect(toList());
+    }
+
     /**
      * Saves the specified entity.
      *
@@ -76,4 +128,51 @@ public interface Repository<E extends Entity<I>, I extends Identity> {
      */
     <S extends E> S save(S entity);
 
+    /**
+     * Saves the specified entities. Implementations may save the entities in a single batch, which is more efficient
+     * than saving them one by one. Saving entities is not atomic: if an entity cannot be saved, the entities preceding
+     * it may have been saved nonetheless.
+     *
+     * @param entities the entities to save.
+     * @return the saved entities.
+     */
+    default <S extends E> Collection<S> saveAll(@NonNull Collection<S> entities) {
+        entities.forEach(this::save);
+        return entities;
+    }
+
+    /**
+     * Saves the specified new entities, only if none of them already exists. Implementations that can be accessed
+     * concurrently must ensure that the entities are saved atomically, so that either all the entities are saved, or
+     * none of them if one of them has been saved concurrently.
+     *
+     * @param entities the new entities to save.
+     * @return the saved entities.
+     * @throws AlreadyExistingEntityException if one of the entities already exists, in which case none of the entities
+     *                                        is saved.
+     */
+    default <S extends E> Collection<S> insertAll(@NonNull Collection<S> entities) {
+        var existing = findExistingIds(entities.stream().map(Entity::id).collect(toList()));
+        if (!existing.isEmpty()) {
+            throw new AlreadyExistingEntityException(entityType(), existing.iterator().next());
+        }
+        return saveAll(entities);
+    }
+
+    /**
+     * Applies the specified modification on the entity corresponding to the specified identity, then saves the entity.
+     * Implementations that can be accessed concurrently must ensure that concurrent modifications on the same entity
+     * are applied one after the other, so that no modification is lost.
+     *
+     * @param id           the entity identity.
+     * @param modification the modification to apply on the entity.
+     * @return the modified entity.
+     * @throws EntityNotFoundException if no entity could be found for identity.
+     */
+    default E update(@NonNull I id, @NonNull Consumer<E> modification) {
+        var entity = findNotNullById(id);
+        modification.accept(entity);
+        return save(entity);
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.event;
+
+import java.time.Duration;
+
+/**
+ * A dispatcher of published domain events to their subscribers. Writers can wait for the events they published to be
+ * dispatched, so that the data maintained by subscribers, such as read models, reflect their changes once they are
+ * done.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public interface DomainEventDispatcher {
+
+    /**
+     * Waits for the events published by the current thread to be dispatched to subscribers, at most for the specified
+     * timeout. Events published concurrently by other threads are not waited for, unless published before the current
+     * thread events. Returns immediately when the current thread did not publish any event, when called while
+     * dispatching events, or when dispatch has not started yet.
+     *
+     * @param timeout the maximum duration to wait for.
+     * @return {@code true} if the current thread events have been dispatched, {@code false} otherwise.
+     */
+    boolean awaitDispatch(Duration timeout);
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.event;
+
+import java.util.List;
+
+/**
+ * A subscriber to domain events of a specific type, including its subtypes. Events are delivered in batches, in the
+ * order they have been published.
+ *
+ * @param <E> the subscribed events type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    /**
+     * Gets the type of the events this subscriber is interested in.
+     *
+     * @return the subscribed events type.
+     */
+    Class<E> subscribedEventType();
+
+    /**
+     * Handles a batch of published events.
+     *
+     * @param events the published events, never empty.
+     */
+    void handleEvents(List<E> events);
+
+}
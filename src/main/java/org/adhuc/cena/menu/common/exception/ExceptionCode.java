@@ -50,7 +50,8 @@ public enum ExceptionCode {
     INGREDIENT_NOT_RELATED_TO_RECIPE(900101, "Ingredient not related to recipe"),
 
     // Menu generation errors
-    MENU_NOT_CREATABLE_WITH_UNKNOWN_RECIPE(901100, "Menu cannot be created linked to an unknown recipe");
+    MENU_NOT_CREATABLE_WITH_UNKNOWN_RECIPE(901100, "Menu cannot be created linked to an unknown recipe"),
+    MENUS_NOT_GENERATABLE_WITHOUT_RECIPE(901101, "Menus cannot be generated without any main course recipe");
 
     private final int code;
     private final String description;
@@ -17,12 +17,17 @@ package org.adhuc.cena.menu.configuration;
 
 import static org.adhuc.cena.menu.common.security.RolesDefinition.*;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.method.configuration.GlobalMethodSecurityConfiguration;
 import org.springframework.security.core.userdetails.User;
@@ -34,12 +39,16 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties.Security.Credentials;
+import org.adhuc.cena.menu.configuration.security.AuthenticationCache;
+import org.adhuc.cena.menu.configuration.security.AuthenticationCacheInvalidatingUserDetailsManager;
+import org.adhuc.cena.menu.configuration.security.CachingAuthenticationProvider;
 
 /**
- * Configures application security, by providing a {@link UserDetailsService}.
+ * Configures application security, by providing a {@link UserDetailsService} and an {@link AuthenticationProvider}
+ * caching successful authentications when enabled.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @RequiredArgsConstructor
@@ -55,9 +64,32 @@ public class ApplicationSecurityConfiguration extends GlobalMethodSecurityConfig
         return methodSecurityExpressionHandler;
     }
 
+    @Bean
+    AuthenticationCache authenticationCache(@NonNull MenuGenerationProperties menuGenerationProperties,
+                                            @NonNull ObjectProvider<MeterRegistry> meterRegistry) {
+        var properties = menuGenerationProperties.getSecurity().getAuthenticationCache();
+        return new AuthenticationCache(properties.getTimeToLive(), properties.getMaximumSize(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    AuthenticationProvider authenticationProvider(@NonNull UserDetailsService userDetailsService,
+                                                  @NonNull PasswordEncoder passwordEncoder,
+                                                  @NonNull AuthenticationCache authenticationCache,
+                                                  @NonNull MenuGenerationProperties menuGenerationProperties) {
+        var provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        if (menuGenerationProperties.getSecurity().getAuthenticationCache().isEnabled()) {
+            return new CachingAuthenticationProvider(provider, authenticationCache);
+        }
+        return provider;
+    }
+
     @Bean
     UserDetailsService userDetailsService(@NonNull PasswordEncoder passwordEncoder,
-                                          @NonNull MenuGenerationProperties menuGenerationProperties) {
+                                          @NonNull MenuGenerationProperties menuGenerationProperties,
+                                          @NonNull AuthenticationCache authenticationCache) {
         var users = User.builder().passwordEncoder(passwordEncoder::encode);
         var manager = new InMemoryUserDetailsManager();
         manager.createUser(buildUser(users, menuGenerationProperties.getSecurity().getUser()));
@@ -66,7 +98,7 @@ public class ApplicationSecurityConfiguration extends GlobalMethodSecurityConfig
         manager.createUser(users.username(menuGenerationProperties.getManagement().getSecurity().getUsername())
                 .password(menuGenerationProperties.getManagement().getSecurity().getPassword())
                 .roles(ACTUATOR_ROLE).build());
-        return manager;
+        return new AuthenticationCacheInvalidatingUserDetailsManager(manager, authenticationCache);
     }
 
     @Bean
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import org.adhuc.cena.menu.common.event.DomainEventSubscriber;
+import org.adhuc.cena.menu.port.adapter.event.RingBufferDomainEventBus;
+
+/**
+ * Configures the domain event bus. Every {@link DomainEventSubscriber} bean is subscribed to the bus once all singletons
+ * have been created, so that subscribers can depend on services publishing events, and the bus then starts dispatching
+ * events.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+@Configuration
+class DomainEventConfiguration {
+
+    @Bean
+    RingBufferDomainEventBus domainEventBus(MenuGenerationProperties properties) {
+        var events = properties.getEvents();
+        return new RingBufferDomainEventBus(events.getBufferSize(), events.getMaximumBatchSize());
+    }
+
+    @Bean
+    SmartInitializingSingleton domainEventSubscriptions(RingBufferDomainEventBus domainEventBus,
+                                                        ObjectProvider<DomainEventSubscriber<?>> subscribers) {
+        return () -> {
+            subscribers.orderedStream().forEach(subscriber -> {
+                log.info("Subscribe {} to domain events", subscriber);
+                domainEventBus.subscribe(subscriber);
+            });
+            domainEventBus.start();
+        };
+    }
+
+}
@@ -15,6 +15,8 @@
  */
 package org.adhuc.cena.menu.configuration;
 
+import java.time.Duration;
+
 import lombok.Builder;
 import lombok.Data;
 import lombok.Value;
@@ -24,7 +26,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * Configuration properties to configure the menu generation application.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.0.1
  */
 @Value
@@ -36,6 +38,9 @@ public class MenuGenerationProperties {
     private Security security = new Security();
     private Features features = new Features();
     private Rest rest = new Rest();
+    private Persistence persistence = new Persistence();
+    private Events events = new Events();
+    private RecipeScaling recipeScaling = new RecipeScaling();
 
     @Data
     public static class Documentation {
@@ -84,6 +89,16 @@ public class MenuGenerationProperties {
          */
         private Credentials superAdministrator = Credentials.builder().username("super-admin").password("super-admin").build();
 
+        /**
+         * Defines the cache of successful authentications.
+         */
+        private AuthenticationCache authenticationCache = new AuthenticationCache();
+
+        /**
+         * Defines the authentication tokens issued in exchange for credentials.
+         */
+        private Token token = new Token();
+
         @Data
         @Builder
         public static class Credentials {
@@ -96,6 +111,40 @@ public class MenuGenerationProperties {
              */
             private String password;
         }
+
+        @Data
+        public static class AuthenticationCache {
+            /**
+             * Enable authentication cache, avoiding to verify the password of each request with repeated credentials.
+             * Default is {@code true}.
+             */
+            private boolean enabled = true;
+            /**
+             * Defines the duration during which a successful authentication is cached. Default is 5 minutes.
+             */
+            private Duration timeToLive = Duration.ofMinutes(5);
+            /**
+             * Defines the maximum number of cached authentications. Default is 10000.
+             */
+            private int maximumSize = 10000;
+        }
+
+        @Data
+        public static class Token {
+            /**
+             * Enable authentication tokens issuance and validation. Default is {@code true}.
+             */
+            private boolean enabled = true;
+            /**
+             * Defines the secret used to sign authentication tokens, at least 32 bytes long. Should be the same for
+             * every instance of the application. If not set, a random secret is generated on startup.
+             */
+            private String secret;
+            /**
+             * Defines the duration during which an issued authentication token is valid. Default is 1 hour.
+             */
+            private Duration timeToLive = Duration.ofHours(1);
+        }
     }
 
     @Data
@@ -113,6 +162,7 @@ public class MenuGenerationProperties {
     @Value
     public static class Rest {
         private OpenApiValidation openApiValidation = new OpenApiValidation();
+        private ResponseCache responseCache = new ResponseCache();
 
         @Data
         public static class OpenApiValidation {
@@ -120,7 +170,69 @@ public class MenuGenerationProperties {
              * Enable OpenAPI validation. Default is {@code true}.
              */
             private boolean enabled = true;
+            /**
+             * Defines the rate of responses validated against OpenAPI specification, between 0 and 1. Validating a
+             * response requires to buffer and parse its body, sampling allows to reduce this cost. Skipped validations
+             * are counted by the 'cena.rest.openapi.validation.skipped' metric. Default is 1, validating every response.
+             */
+            private double responseSamplingRate = 1;
         }
+
+        @Data
+        public static class ResponseCache {
+            /**
+             * Enable the cache of rendered responses for unfiltered ingredients and recipes collections, serving the
+             * same rendered bytes until the collection is modified. Default is {@code true}.
+             */
+            private boolean enabled = true;
+            /**
+             * Defines the maximum number of rendered responses, each page and media type being cached separately. The
+             * cache is cleared when full. Default is 256.
+             */
+            private int maximumSize = 256;
+        }
+    }
+
+    @Value
+    public static class Persistence {
+        private Journal journal = new Journal();
+
+        @Data
+        public static class Journal {
+            /**
+             * Defines the directory containing the journals, used with 'journal' profile. Default is 'data/journal'.
+             */
+            private String directory = "data/journal";
+            /**
+             * Defines the interval between snapshots of the journals, used with 'journal' profile. A snapshot is only
+             * taken if modifications have been recorded since the previous one, and bounds the number of modifications
+             * to replay on startup. Default is 10 minutes.
+             */
+            private Duration snapshotInterval = Duration.ofMinutes(10);
+        }
+    }
+
+    @Data
+    public static class Events {
+        /**
+         * Defines the maximum number of domain events waiting to be dispatched to subscribers. Publishers wait for the
+         * dispatch of earlier events when this number is reached. Default is 1024.
+         */
+        private int bufferSize = 1024;
+        /**
+         * Defines the maximum number of domain events delivered at once to a subscriber. Default is 64.
+         */
+        private int maximumBatchSize = 64;
+    }
+
+    @Data
+    public static class RecipeScaling {
+        /**
+         * Defines the maximum number of recipes whose scaled versions are cached, each recipe being cached with every
+         * number of servings it has been scaled to. Arbitrary recipes are evicted when the cache is full. Default is
+         * 10000.
+         */
+        private int maximumCachedRecipes = 10000;
     }
 
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.configuration.security;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * A bounded cache of successful authentications, keyed on a keyed hash of the credentials.
+ * <p>
+ * Credentials are never stored as is: the cache key is a HMAC-SHA256 of the username and password, computed with a
+ * random key generated when the cache is created. Cached authentications expire after a fixed time to live, and can be
+ * invalidated for a user, e.g. when the user changes. When the cache is full, expired entries are evicted first, then
+ * arbitrary entries.
+ * <p>
+ * Cache hits and misses are measured by the {@value #METER_NAME} counter, tagged with {@code result}.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class AuthenticationCache {
+
+    static final String METER_NAME = "cena.security.authentication.cache";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int KEY_LENGTH = 32;
+
+    private final Duration timeToLive;
+    private final int maximumSize;
+    private final Clock clock;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final ConcurrentMap<String, CachedAuthentication> authentications = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Creates an authentication cache.
+     *
+     * @param timeToLive    the duration during which an authentication is cached.
+     * @param maximumSize   the maximum number of cached authentications.
+     * @param meterRegistry the registry to record cache hits and misses in.
+     */
+    public AuthenticationCache(@NonNull Duration timeToLive, int maximumSize, @NonNull MeterRegistry meterRegistry) {
+        this(timeToLive, maximumSize, meterRegistry, Clock.systemUTC());
+    }
+
+    AuthenticationCache(@NonNull Duration timeToLive, int maximumSize, @NonNull MeterRegistry meterRegistry,
+                        @NonNull Clock clock) {
+        isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Cannot create authentication cache with non positive time to live");
+        isTrue(maximumSize > 0, "Cannot create authentication cache with non positive maximum size");
+        this.timeToLive = timeToLive;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.key = generateKey();
+        this.macs = ThreadLocal.withInitial(this::createMac);
+        this.hits = Counter.builder(METER_NAME).tag("result", "hit")
+                .description("Number of authentications served from cache").register(meterRegistry);
+        this.misses = Counter.builder(METER_NAME).tag("result", "miss")
+                .description("Number of authentications not served from cache").register(meterRegistry);
+        meterRegistry.gauge(METER_NAME + ".size", authentications, ConcurrentMap::size);
+    }
+
+    /**
+     * Gets the cached authentication corresponding to the specified username and password.
+     *
+     * @param username the username.
+     * @param password the password.
+     * @return the cached authentication, or an empty optional if no valid authentication is cached for those
+     * credentials.
+     */
+    public Optional<CachedAuthentication> get(@NonNull String username, @NonNull String password) {
+        var cached = authentications.get(cacheKey(username, password));
+        if (cached != null && cached.isValidAt(clock.instant())) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Caches the specified successful authentication for the specified username and password.
+     *
+     * @param username       the username.
+     * @param password       the password.
+     * @param authentication the successful authentication.
+     */
+    public void put(@NonNull String username, @NonNull String password, @NonNull Authentication authentication) {
+        var now = clock.instant();
+        if (authentications.size() >= maximumSize) {
+            evict(now);
+        }
+        authentications.put(cacheKey(username, password), new CachedAuthentication(username,
+                authentication.getPrincipal(), authentication.getAuthorities(), now.plus(timeToLive)));
+    }
+
+    /**
+     * Invalidates the cached authentications of the specified user.
+     *
+     * @param username the username.
+     */
+    public void invalidate(@NonNull String username) {
+        log.debug("Invalidate cached authentications for user {}", username);
+        authentications.values().removeIf(cached -> cached.username().equals(username));
+    }
+
+    /**
+     * Invalidates every cached authentication.
+     */
+    public void invalidateAll() {
+        authentications.clear();
+    }
+
+    private void evict(Instant now) {
+        authentications.values().removeIf(cached -> !cached.isValidAt(now));
+        var iterator = authentications.keySet().iterator();
+        while (authentications.size() >= maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private String cacheKey(String username, String password) {
+        var usernameBytes = username.getBytes(UTF_8);
+        var mac = macs.get();
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(usernameBytes.length).array());
+        mac.update(usernameBytes);
+        return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(UTF_8)));
+    }
+
+    private Mac createMac() {
+        try {
+            var mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize authentication cache key hashing", e);
+        }
+    }
+
+    private static SecretKeySpec generateKey() {
+        var bytes = new byte[KEY_LENGTH];
+        new SecureRandom().nextBytes(bytes);
+        return new SecretKeySpec(bytes, MAC_ALGORITHM);
+    }
+
+    /**
+     * A cached authentication, containing the authenticated principal and its authorities.
+     */
+    @Value
+    @Accessors(fluent = true)
+    public static class CachedAuthentication {
+        private final String username;
+        private final Object principal;
+        private final Collection<? extends GrantedAuthority> authorities;
+        private final Instant expiration;
+
+        boolean isValidAt(Instant instant) {
+            return instant.isBefore(expiration);
+        }
+    }
+
+}
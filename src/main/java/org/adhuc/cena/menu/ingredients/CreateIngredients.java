@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.ingredients;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Command;
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.util.Assert;
+
+/**
+ * An ingredients creation command, allowing to create a batch of ingredients at once, e.g. when importing ingredients.
+ * The creation result of each ingredient is reported to the command result sink, in the order of the ingredients.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Command
+@Value
+@Accessors(fluent = true)
+public class CreateIngredients {
+
+    private final List<CreateIngredient> ingredients;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Consumer<CreationResult<IngredientId>> resultSink;
+
+    /**
+     * Creates an ingredients creation command.
+     *
+     * @param ingredients the ingredient creation commands.
+     * @param resultSink  the sink the creation result of each ingredient is reported to.
+     */
+    public CreateIngredients(@NonNull List<CreateIngredient> ingredients,
+                             @NonNull Consumer<CreationResult<IngredientId>> resultSink) {
+        Assert.notEmpty(ingredients, () -> "Cannot create ingredients creation command without any ingredient");
+        this.ingredients = List.copyOf(ingredients);
+        this.resultSink = resultSink;
+    }
+
+}
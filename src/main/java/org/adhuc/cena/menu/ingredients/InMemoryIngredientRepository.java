@@ -15,66 +15,90 @@
  */
 package org.adhuc.cena.menu.ingredients;
 
-import java.util.*;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import org.adhuc.cena.menu.common.aggregate.InMemoryRepository;
+import org.adhuc.cena.menu.common.aggregate.Journal;
 import org.adhuc.cena.menu.common.aggregate.Name;
 
 /**
  * An in-memory {@link IngredientRepository} implementation.
+ * <p>
+ * Ingredients are indexed by their {@link Name#normalizedValue() normalized name}, so that looking up an ingredient by
+ * name does not require to scan the whole repository. This index also guarantees names uniqueness: saving an
+ * ingredient whose name is already used by another ingredient, ignoring case, fails with an
+ * {@link IngredientNameAlreadyUsedException}, even when both ingredients are saved concurrently.
+ * <p>
+ * Ingredients are ordered by identity, allowing to retrieve them page by page.
+ * <p>
+ * When a {@link Journal} is available, for instance with the {@code journal} profile, every modification is recorded
+ * into the journal and the ingredients recorded in the journal are recovered on creation.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Repository
-@Profile("in-memory")
-class InMemoryIngredientRepository implements IngredientRepository {
+@Profile({"in-memory", "journal"})
+class InMemoryIngredientRepository extends InMemoryRepository<Ingredient, IngredientId> implements IngredientRepository {
 
-    private Map<IngredientId, Ingredient> ingredients = new HashMap<>();
+    private final ConcurrentMap<String, Ingredient> ingredientsByName = new ConcurrentHashMap<>();
 
-    @Override
-    public Collection<Ingredient> findAll() {
-        return Collections.unmodifiableCollection(ingredients.values());
+    InMemoryIngredientRepository() {
+        this(Optional.empty());
     }
 
-    @Override
-    public boolean exists(IngredientId ingredientId) {
-        return ingredients.containsKey(ingredientId);
+    @Autowired
+    InMemoryIngredientRepository(Optional<Journal<Ingredient, IngredientId>> journal) {
+        super(Comparator.naturalOrder(), journal.orElse(null));
+        recover();
     }
 
     @Override
-    public Optional<Ingredient> findById(@NonNull IngredientId ingredientId) {
-        return Optional.ofNullable(ingredients.get(ingredientId));
+    public Optional<Ingredient> findByName(Name ingredientName) {
+        return findByNameIgnoreCase(ingredientName).filter(i -> i.name().equals(ingredientName));
     }
 
     @Override
-    public Optional<Ingredient> findByName(Name ingredientName) {
-        return ingredients.values().stream().filter(i -> i.name().equals(ingredientName)).findFirst();
+    public Optional<Ingredient> findByNameIgnoreCase(Name ingredientName) {
+        return Optional.ofNullable(ingredientsByName.get(ingredientName.normalizedValue()));
     }
 
     @Override
-    public Optional<Ingredient> findByNameIgnoreCase(Name ingredientName) {
-        return ingredients.values().stream().filter(i -> i.name().equalsIgnoreCase(ingredientName)).findFirst();
+    protected Ingredient copy(Ingredient ingredient) {
+        return new Ingredient(ingredient.id(), ingredient.name(), ingredient.measurementTypes());
     }
 
     @Override
-    public <S extends Ingredient> S save(@NonNull S ingredient) {
-        ingredients.put(ingredient.id(), ingredient);
-        return ingredient;
+    protected void index(Ingredient previous, Ingredient saved) {
+        var name = saved.name().normalizedValue();
+        var existing = ingredientsByName.putIfAbsent(name, saved);
+        if (existing != null) {
+            if (!existing.id().equals(saved.id())) {
+                throw new IngredientNameAlreadyUsedException(saved.name());
+            }
+            ingredientsByName.put(name, saved);
+        }
+        if (previous != null && !previous.name().normalizedValue().equals(name)) {
+            ingredientsByName.remove(previous.name().normalizedValue(), previous);
+        }
     }
 
     @Override
-    public void deleteAll() {
-        ingredients.clear();
+    protected void unindex(Ingredient deleted) {
+        ingredientsByName.remove(deleted.name().normalizedValue(), deleted);
     }
 
     @Override
-    public void delete(@NonNull Ingredient ingredient) {
-        ingredients.remove(ingredient.id());
+    protected void clearIndexes() {
+        ingredientsByName.clear();
     }
 
 }
@@ -15,8 +15,12 @@
  */
 package org.adhuc.cena.menu.ingredients;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+
 /**
  * An application service for ingredients consultation. This service provides query methods available for every user.
  *
@@ -33,6 +37,14 @@ public interface IngredientConsultation {
      */
     List<Ingredient> getIngredients();
 
+    /**
+     * Gets the page of ingredients corresponding to the specified pagination. Ingredients are ordered by identity.
+     *
+     * @param pagination the pagination.
+     * @return the page of ingredients.
+     */
+    Page<Ingredient, IngredientId> getIngredients(Pagination<IngredientId> pagination);
+
     /**
      * Gets the ingredient corresponding to the specified identity.
      *
@@ -42,4 +54,28 @@ public interface IngredientConsultation {
      */
     Ingredient getIngredient(IngredientId ingredientId);
 
+    /**
+     * Gets the ingredients corresponding to the specified identities, retrieving all of them at once.
+     *
+     * @param ingredientIds the ingredient identities.
+     * @return the existing ingredients (not modifiable), identities without corresponding ingredient being ignored.
+     */
+    List<Ingredient> getIngredientsById(Collection<IngredientId> ingredientIds);
+
+    /**
+     * Gets the version of the ingredients. The version changes whenever an ingredient is created or deleted.
+     *
+     * @return the ingredients version.
+     */
+    long getIngredientsVersion();
+
+    /**
+     * Gets the version of the ingredient corresponding to the specified identity. The version changes at least whenever
+     * the ingredient is modified.
+     *
+     * @param ingredientId the ingredient identity.
+     * @return the ingredient version, or {@code 0} if no ingredient corresponds to identity.
+     */
+    long getIngredientVersion(IngredientId ingredientId);
+
 }
@@ -15,12 +15,16 @@
  */
 package org.adhuc.cena.menu.ingredients;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.ApplicationService;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 
 /**
  * An {@link IngredientConsultation} implementation.
@@ -41,9 +45,29 @@ class IngredientConsultationImpl implements IngredientConsultation {
         return List.copyOf(repository.findAll());
     }
 
+    @Override
+    public Page<Ingredient, IngredientId> getIngredients(@NonNull Pagination<IngredientId> pagination) {
+        return repository.findAll(pagination);
+    }
+
     @Override
     public Ingredient getIngredient(@NonNull IngredientId ingredientId) {
         return repository.findNotNullById(ingredientId);
     }
 
+    @Override
+    public List<Ingredient> getIngredientsById(@NonNull Collection<IngredientId> ingredientIds) {
+        return List.copyOf(repository.findAllById(Set.copyOf(ingredientIds)));
+    }
+
+    @Override
+    public long getIngredientsVersion() {
+        return repository.version();
+    }
+
+    @Override
+    public long getIngredientVersion(@NonNull IngredientId ingredientId) {
+        return repository.version(ingredientId);
+    }
+
 }
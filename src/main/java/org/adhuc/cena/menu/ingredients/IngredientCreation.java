@@ -15,11 +15,18 @@
  */
 package org.adhuc.cena.menu.ingredients;
 
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.*;
+
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.DomainService;
 import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 
 /**
  * An domain service dedicated to ingredient creation. This service ensures that an ingredient can be created only if no
@@ -35,6 +42,8 @@ class IngredientCreation {
 
     @NonNull
     private final IngredientRepository repository;
+    @NonNull
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Creates an ingredient, ensuring the ingredient name is not already used.
@@ -48,6 +57,71 @@ class IngredientCreation {
         ensureIngredientDoesNotExist(command);
         ensureIngredientNameNotUsed(command);
         repository.save(new Ingredient(command));
+        eventPublisher.publish(new IngredientCreated(command.ingredientId()));
+    }
+
+    /**
+     * Creates a batch of ingredients, ensuring the ingredient names are not already used, either by existing ingredients
+     * or by preceding ingredients in the batch. The identities and names are checked against existing ingredients all at
+     * once, and the ingredients are saved in a single batch. The creation of an ingredient can be rejected without
+     * preventing the other ingredients to be created. The creation results are reported to the command result sink once
+     * the ingredients have been saved, in the same order as the ingredients.
+     *
+     * @param command the ingredients creation command.
+     */
+    void createIngredients(@NonNull CreateIngredients command) {
+        var commands = command.ingredients();
+        var usedNames = repository.findAllByNameIgnoreCase(commands.stream()
+                .map(CreateIngredient::ingredientName)
+                .collect(toList())).stream()
+                .collect(toMap(i -> i.name().normalizedValue(), Ingredient::name, (n1, n2) -> n1, HashMap::new));
+        var existingIds = repository.findExistingIds(commands.stream()
+                .map(CreateIngredient::ingredientId)
+                .collect(toList()));
+        var ids = new HashSet<IngredientId>();
+        var results = new ArrayList<CreationResult<IngredientId>>(commands.size());
+        var ingredients = new ArrayList<Ingredient>(commands.size());
+        for (var ingredient : commands) {
+            var id = ingredient.ingredientId();
+            if (!ids.add(id) || existingIds.contains(id)) {
+                results.add(CreationResult.rejected(id, new AlreadyExistingEntityException(Ingredient.class, id)));
+                continue;
+            }
+            var name = ingredient.ingredientName();
+            var usedName = usedNames.putIfAbsent(name.normalizedValue(), name);
+            if (usedName != null) {
+                results.add(CreationResult.rejected(id, new IngredientNameAlreadyUsedException(usedName)));
+            } else {
+                results.add(CreationResult.created(id));
+                ingredients.add(new Ingredient(ingredient));
+            }
+        }
+        save(ingredients, results);
+        results.stream()
+                .filter(CreationResult::isCreated)
+                .forEach(result -> eventPublisher.publish(new IngredientCreated(result.id())));
+        results.forEach(command.resultSink());
+    }
+
+    private void save(List<Ingredient> ingredients, List<CreationResult<IngredientId>> results) {
+        try {
+            repository.saveAll(ingredients);
+        } catch (IngredientNameAlreadyUsedException e) {
+            // A name has been used concurrently: save ingredients one by one to reject only the conflicting ones
+            var indexes = new HashMap<IngredientId, Integer>();
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).isCreated()) {
+                    indexes.put(results.get(i).id(), i);
+                }
+            }
+            for (var ingredient : ingredients) {
+                try {
+                    repository.save(ingredient);
+                } catch (IngredientNameAlreadyUsedException conflict) {
+                    results.set(indexes.get(ingredient.id()), CreationResult.rejected(ingredient.id(), conflict));
+                }
+            }
+        }
     }
 
     private void ensureIngredientDoesNotExist(CreateIngredient command) {
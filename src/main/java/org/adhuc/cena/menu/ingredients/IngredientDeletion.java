@@ -19,13 +19,14 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.DomainService;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 
 /**
  * A domain service dedicated to ingredient deletion. This service ensures that an ingredient can be deleted only if not
  * related to another object.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.2.0
  */
 @RequiredArgsConstructor
@@ -36,6 +37,8 @@ class IngredientDeletion {
     private IngredientRelatedService ingredientRelatedRetriever;
     @NonNull
     private IngredientRepository repository;
+    @NonNull
+    private DomainEventPublisher eventPublisher;
 
     /**
      * Deletes the ingredients.
@@ -47,6 +50,7 @@ class IngredientDeletion {
             throw new IngredientNotDeletableRelatedToObjectException(ingredientRelatedRetriever.relatedObjectName());
         }
         repository.deleteAll();
+        eventPublisher.publish(new IngredientsDeleted());
     }
 
     /**
@@ -61,6 +65,7 @@ class IngredientDeletion {
                     ingredientRelatedRetriever.relatedObjectName());
         }
         repository.delete(repository.findNotNullById(command.ingredientId()));
+        eventPublisher.publish(new IngredientDeleted(command.ingredientId()));
     }
 
 }
@@ -38,6 +38,16 @@ public interface IngredientManagement {
      */
     void createIngredient(CreateIngredient command);
 
+    /**
+     * Creates a batch of ingredients. The creation of an ingredient is rejected if an ingredient already exists with the
+     * same identity, or if its name is already used by an existing ingredient or by a preceding ingredient in the batch,
+     * without preventing the other ingredients to be created. The creation results are reported to the command result
+     * sink, in the same order as the ingredients.
+     *
+     * @param command the ingredients creation command.
+     */
+    void createIngredients(CreateIngredients command);
+
     /**
      * Deletes an ingredient.
      *
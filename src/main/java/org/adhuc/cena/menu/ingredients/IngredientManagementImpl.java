@@ -46,6 +46,12 @@ class IngredientManagementImpl implements IngredientManagement {
         ingredientCreation.createIngredient(command);
     }
 
+    @Override
+    public void createIngredients(@NonNull CreateIngredients command) {
+        log.info("Create {} ingredients", command.ingredients().size());
+        ingredientCreation.createIngredients(command);
+    }
+
     @Override
     public void deleteIngredient(@NonNull DeleteIngredient command) {
         ingredientDeletion.deleteIngredient(command);
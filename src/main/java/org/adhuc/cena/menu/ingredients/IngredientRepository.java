@@ -15,10 +15,16 @@
  */
 package org.adhuc.cena.menu.ingredients;
 
+import static java.util.stream.Collectors.toList;
+
 import java.util.Collection;
 import java.util.Optional;
 
+import lombok.NonNull;
+
 import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 import org.adhuc.cena.menu.common.aggregate.Repository;
 
 /**
@@ -42,6 +48,15 @@ public interface IngredientRepository extends Repository<Ingredient, IngredientI
      */
     Collection<Ingredient> findAll();
 
+    /**
+     * Finds the page of ingredients stored in the repository corresponding to the specified pagination. Ingredients are
+     * ordered by identity.
+     *
+     * @param pagination the pagination.
+     * @return the page of ingredients.
+     */
+    Page<Ingredient, IngredientId> findAll(Pagination<IngredientId> pagination);
+
     /**
      * Finds the ingredient corresponding to the specified name.
      *
@@ -58,6 +73,20 @@ public interface IngredientRepository extends Repository<Ingredient, IngredientI
      */
     Optional<Ingredient> findByNameIgnoreCase(Name ingredientName);
 
+    /**
+     * Finds the ingredients corresponding to the specified names ignoring case. Implementations may retrieve all the
+     * ingredients at once, which is more efficient than looking them up one by one.
+     *
+     * @param ingredientNames the ingredient names.
+     * @return the existing ingredients.
+     */
+    default Collection<Ingredient> findAllByNameIgnoreCase(@NonNull Collection<Name> ingredientNames) {
+        return ingredientNames.stream()
+                .map(this::findByNameIgnoreCase)
+                .flatMap(Optional::stream)
+                .collect(toList());
+    }
+
     /**
      * Deletes all the ingredients stored in the repository.
      */
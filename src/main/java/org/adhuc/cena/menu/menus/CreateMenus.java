@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Command;
+import org.adhuc.cena.menu.util.Assert;
+
+/**
+ * A menus creation command, allowing to plan several menus of an owner at once, e.g. for a whole week or month.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Command
+@Value
+@Accessors(fluent = true)
+public class CreateMenus implements OwnedBy {
+
+    private final MenuOwner owner;
+    private final List<CreateMenu> menus;
+
+    /**
+     * Creates a menus creation command.
+     *
+     * @param owner the owner of the menus.
+     * @param menus the menu creation commands.
+     * @throws IllegalArgumentException if a menu is owned by another owner, or if several menus are scheduled at the
+     *                                  same date for the same meal type.
+     */
+    public CreateMenus(@NonNull MenuOwner owner, @NonNull List<CreateMenu> menus) {
+        Assert.notEmpty(menus, () -> "Cannot create menus creation command without any menu");
+        menus.forEach(menu -> Assert.isTrue(owner.equals(menu.menuId().owner()),
+                () -> String.format("Wrong menu owner %s for menus owned by %s", menu.menuId().owner(), owner)));
+        Assert.isTrue(menus.stream().map(CreateMenu::menuId).collect(toSet()).size() == menus.size(),
+                "Cannot create menus creation command with several menus scheduled for the same meal");
+        this.owner = owner;
+        this.menus = List.copyOf(menus);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Command;
+import org.adhuc.cena.menu.util.Assert;
+
+/**
+ * A menus generation command, allowing to fill every meal of a date range with menus whose main course recipes are
+ * chosen among the recipe catalogue.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Command
+@Value
+@Accessors(fluent = true)
+public class GenerateMenus implements OwnedBy {
+
+    /**
+     * The default number of days during which a recipe is not chosen again.
+     */
+    public static final int DEFAULT_DAYS_BEFORE_RECIPE_REPETITION = 7;
+    /**
+     * The maximum number of days menus can be generated for at once.
+     */
+    public static final int MAX_DAYS = 62;
+
+    private final MenuOwner owner;
+    private final DateRange dateRange;
+    private final Set<MealType> mealTypes;
+    private final Covers covers;
+    private final int daysBeforeRecipeRepetition;
+
+    /**
+     * Creates a menus generation command, not choosing a recipe again before the default number of days.
+     *
+     * @param owner     the owner of the menus.
+     * @param dateRange the date range to generate menus for.
+     * @param mealTypes the meal types to generate menus for, each day of the date range.
+     * @param covers    the number of covers of each menu.
+     */
+    public GenerateMenus(@NonNull MenuOwner owner, @NonNull DateRange dateRange, @NonNull Set<MealType> mealTypes,
+                         @NonNull Covers covers) {
+        this(owner, dateRange, mealTypes, covers, DEFAULT_DAYS_BEFORE_RECIPE_REPETITION);
+    }
+
+    /**
+     * Creates a menus generation command.
+     *
+     * @param owner                      the owner of the menus.
+     * @param dateRange                  the date range to generate menus for.
+     * @param mealTypes                  the meal types to generate menus for, each day of the date range.
+     * @param covers                     the number of covers of each menu.
+     * @param daysBeforeRecipeRepetition the number of days during which a recipe is not chosen again, whether in
+     *                                   generated or existing menus.
+     * @throws IllegalArgumentException if meal types are empty, if date range is longer than {@link #MAX_DAYS} or if
+     *                                  the number of days before recipe repetition is negative.
+     */
+    public GenerateMenus(@NonNull MenuOwner owner, @NonNull DateRange dateRange, @NonNull Set<MealType> mealTypes,
+                         @NonNull Covers covers, int daysBeforeRecipeRepetition) {
+        Assert.notEmpty(mealTypes, () -> "Cannot create menus generation command without any meal type");
+        Assert.isTrue(DAYS.between(dateRange.since(), dateRange.until()) < MAX_DAYS,
+                () -> "Cannot create menus generation command for more than " + MAX_DAYS + " days");
+        Assert.isTrue(daysBeforeRecipeRepetition >= 0,
+                "Cannot create menus generation command with negative number of days before recipe repetition");
+        this.owner = owner;
+        this.dateRange = dateRange;
+        this.mealTypes = Collections.unmodifiableSet(EnumSet.copyOf(mealTypes));
+        this.covers = covers;
+        this.daysBeforeRecipeRepetition = daysBeforeRecipeRepetition;
+    }
+
+}
@@ -15,68 +15,99 @@
  */
 package org.adhuc.cena.menu.menus;
 
-import static java.util.stream.Collectors.toUnmodifiableSet;
-
 import java.time.LocalDate;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import org.adhuc.cena.menu.common.aggregate.InMemoryRepository;
+import org.adhuc.cena.menu.common.aggregate.Journal;
+
 /**
  * An in-memory {@link MenuRepository} implementation.
+ * <p>
+ * Menus are partitioned by owner, and each owner's menus are sorted by date and meal type, so that finding an owner's
+ * menus within a date range does not require to scan other owners' menus nor the owner's menus outside of the range.
+ * <p>
+ * Menus are recorded into the {@link Journal} if any.
  *
  * @author Alexandre Carbenay
  * @version 0.3.0
  * @since 0.3.0
  */
 @Repository
-@Profile("in-memory")
-class InMemoryMenuRepository implements MenuRepository {
+@Profile({"in-memory", "journal"})
+class InMemoryMenuRepository extends InMemoryRepository<Menu, MenuId> implements MenuRepository {
 
-    private Map<MenuId, Menu> menus = new HashMap<>();
+    private static final Comparator<MenuId> SCHEDULE_ORDER = Comparator.comparing(MenuId::date)
+            .thenComparing(MenuId::mealType);
+    private static final MealType FIRST_MEAL_TYPE = MealType.values()[0];
+    private static final MealType LAST_MEAL_TYPE = MealType.values()[MealType.values().length - 1];
 
-    @Override
-    public Collection<Menu> findByOwner(@NonNull MenuOwner owner) {
-        return menus.values().stream().filter(m -> m.owner().equals(owner)).collect(toUnmodifiableSet());
+    private final ConcurrentMap<MenuOwner, NavigableMap<MenuId, Menu>> menusByOwner = new ConcurrentHashMap<>();
+
+    InMemoryMenuRepository() {
+        this(Optional.empty());
+    }
+
+    @Autowired
+    InMemoryMenuRepository(Optional<Journal<Menu, MenuId>> journal) {
+        super(journal.orElse(null));
+        recover();
     }
 
     @Override
-    public Collection<Menu> findByOwnerAndDateBetween(@NonNull MenuOwner owner, @NonNull LocalDate since, @NonNull LocalDate until) {
-        return menus.values().stream()
-                .filter(m -> m.owner().equals(owner))
-                .filter(m -> m.date().compareTo(since) >= 0 && m.date().compareTo(until) <= 0)
-                .collect(toUnmodifiableSet());
+    public Collection<Menu> findByOwner(@NonNull MenuOwner owner) {
+        var menus = menusByOwner.get(owner);
+        return menus != null ? List.copyOf(menus.values()) : List.of();
     }
 
     @Override
-    public boolean exists(MenuId menuId) {
-        return menus.containsKey(menuId);
+    public Collection<Menu> findByOwnerAndDateBetween(@NonNull MenuOwner owner, @NonNull LocalDate since, @NonNull LocalDate until) {
+        var menus = menusByOwner.get(owner);
+        if (menus == null || since.isAfter(until)) {
+            return List.of();
+        }
+        return List.copyOf(menus.subMap(new MenuId(owner, since, FIRST_MEAL_TYPE), true,
+                new MenuId(owner, until, LAST_MEAL_TYPE), true).values());
     }
 
     @Override
-    public Optional<Menu> findById(@NonNull MenuId menuId) {
-        return Optional.ofNullable(menus.get(menuId));
+    protected Menu copy(Menu menu) {
+        return new Menu(menu.id(), menu.covers(), Set.copyOf(menu.mainCourseRecipes()));
     }
 
     @Override
-    public <S extends Menu> S save(@NonNull S menu) {
-        menus.put(menu.id(), menu);
-        return menu;
+    protected void index(Menu previous, Menu saved) {
+        menusByOwner.compute(saved.owner(), (owner, menus) -> {
+            var indexed = menus != null ? menus : new ConcurrentSkipListMap<MenuId, Menu>(SCHEDULE_ORDER);
+            indexed.put(saved.id(), saved);
+            return indexed;
+        });
     }
 
     @Override
-    public void deleteAll() {
-        menus.clear();
+    protected void unindex(Menu deleted) {
+        menusByOwner.computeIfPresent(deleted.owner(), (owner, menus) -> {
+            menus.remove(deleted.id());
+            return menus.isEmpty() ? null : menus;
+        });
     }
 
     @Override
-    public void delete(@NonNull Menu menu) {
-        menus.remove(menu.id());
+    protected void clearIndexes() {
+        menusByOwner.clear();
     }
 
 }
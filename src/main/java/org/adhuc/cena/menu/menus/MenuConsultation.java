@@ -18,6 +18,7 @@ package org.adhuc.cena.menu.menus;
 import java.util.List;
 
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.recipes.ScaledRecipe;
 
 /**
  * An application service for menus consultation. Menu consultation provides query methods available for menu owners.
@@ -36,6 +37,15 @@ public interface MenuConsultation {
      */
     List<Menu> getMenus(ListMenus query);
 
+    /**
+     * Gets the menu summaries for the specified query, ordered by date and meal type. Summaries are precomputed and
+     * can be shared between readers.
+     *
+     * @param query the menus listing query.
+     * @return the menu summaries (not modifiable).
+     */
+    List<MenuSummary> getMenuSummaries(ListMenus query);
+
     /**
      * Gets the menu corresponding to the specified identity.
      *
@@ -45,4 +55,39 @@ public interface MenuConsultation {
      */
     Menu getMenu(MenuId menuId);
 
+    /**
+     * Gets the main course recipes of the menu corresponding to the specified identity, scaled to the menu covers.
+     *
+     * @param menuId the menu identity.
+     * @return the scaled recipes, ordered by recipe identity (not modifiable).
+     * @throws EntityNotFoundException if no menu corresponds to identity.
+     */
+    List<ScaledRecipe> getMenuRecipes(MenuId menuId);
+
+    /**
+     * Gets the shopping list aggregating the ingredients quantities of the menus for the specified query.
+     *
+     * @param query the menus listing query.
+     * @return the shopping list.
+     */
+    ShoppingList getShoppingList(ListMenus query);
+
+    /**
+     * Gets the version of the menus for the specified query. The version changes at least whenever one of the menus is
+     * created, modified or deleted, and is the version of the menu summaries.
+     *
+     * @param query the menus listing query.
+     * @return the menus version.
+     */
+    long getMenusVersion(ListMenus query);
+
+    /**
+     * Gets the version of the menu corresponding to the specified identity. The version changes at least whenever the
+     * menu is modified.
+     *
+     * @param menuId the menu identity.
+     * @return the menu version, or {@code 0} if no menu corresponds to identity.
+     */
+    long getMenuVersion(MenuId menuId);
+
 }
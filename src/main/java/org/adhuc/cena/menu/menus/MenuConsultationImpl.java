@@ -22,6 +22,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.parameters.P;
 
 import org.adhuc.cena.menu.common.ApplicationService;
+import org.adhuc.cena.menu.recipes.RecipeConsultation;
+import org.adhuc.cena.menu.recipes.ScaledRecipe;
+import org.adhuc.cena.menu.recipes.Servings;
 
 /**
  * A {@link MenuConsultation} implementation.
@@ -34,8 +37,14 @@ import org.adhuc.cena.menu.common.ApplicationService;
 @ApplicationService("menuConsultation")
 class MenuConsultationImpl implements MenuConsultation {
 
+    @NonNull
+    private ShoppingListComputation shoppingListComputation;
+    @NonNull
+    private RecipeConsultation recipeAppService;
     @NonNull
     private MenuRepository repository;
+    @NonNull
+    private MenuSummaryProjection menuSummaries;
 
     @Override
     @AsMenuOwner
@@ -43,10 +52,41 @@ class MenuConsultationImpl implements MenuConsultation {
         return List.copyOf(repository.findByOwnerAndDateBetween(query.owner(), query.since(), query.until()));
     }
 
+    @Override
+    @AsMenuOwner
+    public List<MenuSummary> getMenuSummaries(@P("ownedBy") @NonNull ListMenus query) {
+        return menuSummaries.summaries(query.owner(), query.since(), query.until());
+    }
+
     @Override
     @AsMenuOwner
     public Menu getMenu(@P("ownedBy") @NonNull MenuId menuId) {
         return repository.findNotNullById(menuId);
     }
 
+    @Override
+    @AsMenuOwner
+    public List<ScaledRecipe> getMenuRecipes(@P("ownedBy") @NonNull MenuId menuId) {
+        var menu = repository.findNotNullById(menuId);
+        return recipeAppService.getScaledRecipes(menu.mainCourseRecipes(), new Servings(menu.covers().value()));
+    }
+
+    @Override
+    @AsMenuOwner
+    public ShoppingList getShoppingList(@P("ownedBy") @NonNull ListMenus query) {
+        return shoppingListComputation.computeShoppingList(query);
+    }
+
+    @Override
+    @AsMenuOwner
+    public long getMenusVersion(@P("ownedBy") @NonNull ListMenus query) {
+        return menuSummaries.version(query.owner());
+    }
+
+    @Override
+    @AsMenuOwner
+    public long getMenuVersion(@P("ownedBy") @NonNull MenuId menuId) {
+        return repository.version(menuId);
+    }
+
 }
@@ -15,13 +15,18 @@
  */
 package org.adhuc.cena.menu.menus;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Comparator;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.DomainService;
 import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 
 /**
@@ -40,6 +45,8 @@ class MenuCreation {
     private MenuRepository menuRepository;
     @NonNull
     private RecipeConsultation recipeAppService;
+    @NonNull
+    private DomainEventPublisher eventPublisher;
 
     /**
      * Creates a menu, ensuring the identity is not already used and related recipes exist.
@@ -52,6 +59,24 @@ class MenuCreation {
         ensureMenuDoesNotExist(command);
         ensureRecipesExist(command);
         menuRepository.save(new Menu(command));
+        eventPublisher.publish(new MenuCreated(command.menuId()));
+    }
+
+    /**
+     * Creates menus, ensuring none of the identities is already used and all related recipes exist. Menus identities
+     * and related recipes are checked all at once, and menus are inserted atomically only if all of them can be
+     * created, so that menus created concurrently are never overwritten.
+     *
+     * @param command the menus creation command.
+     * @throws AlreadyExistingEntityException             if a menu already exists with one of the identities specified in
+     *                                                    creation command.
+     * @throws MenuNotCreatableWithUnknownRecipeException if at least one related recipe does not exist.
+     */
+    void createMenus(CreateMenus command) {
+        ensureMenusDoNotExist(command);
+        ensureRecipesExist(command);
+        menuRepository.insertAll(command.menus().stream().map(Menu::new).collect(toList()));
+        command.menus().forEach(menu -> eventPublisher.publish(new MenuCreated(menu.menuId())));
     }
 
     private void ensureMenuDoesNotExist(CreateMenu command) {
@@ -60,6 +85,33 @@ class MenuCreation {
         }
     }
 
+    private void ensureMenusDoNotExist(CreateMenus command) {
+        var existing = menuRepository.findExistingIds(command.menus().stream()
+                .map(CreateMenu::menuId)
+                .collect(toList()));
+        if (!existing.isEmpty()) {
+            throw new AlreadyExistingEntityException("Menus are already scheduled at " + existing.stream()
+                    .sorted(Comparator.comparing(MenuId::date).thenComparing(MenuId::mealType))
+                    .map(MenuId::toScheduleString)
+                    .collect(joining(", ")));
+        }
+    }
+
+    private void ensureRecipesExist(CreateMenus command) {
+        var existing = recipeAppService.existingRecipes(command.menus().stream()
+                .flatMap(menu -> menu.mainCourseRecipes().stream())
+                .collect(toSet()));
+        for (var menu : command.menus()) {
+            var unknownRecipes = menu.mainCourseRecipes().stream()
+                    .filter(recipeId -> !existing.contains(recipeId))
+                    .sorted()
+                    .collect(toList());
+            if (!unknownRecipes.isEmpty()) {
+                throw new MenuNotCreatableWithUnknownRecipeException(unknownRecipes, menu.menuId());
+            }
+        }
+    }
+
     private void ensureRecipesExist(CreateMenu command) {
         var unknownRecipes = command.mainCourseRecipes().stream()
                 .filter(recipeId -> !recipeAppService.exists(recipeId))
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import static org.adhuc.cena.menu.recipes.CourseType.MAIN_COURSE;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.adhuc.cena.menu.common.DomainService;
+import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeConsultation;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * A domain service dedicated to menus generation. This service fills every meal of a date range that is not already
+ * planned with a menu whose main course is chosen among the recipes that can be served as main course, avoiding to
+ * choose a recipe again within the command's number of days, whether in generated or existing menus, and favouring
+ * recipes whose ingredients are the least used in the menus scheduled within the same number of days.
+ * <p>
+ * Avoiding recipe repetition is best effort: a recipe already scheduled within the number of days is penalized rather
+ * than excluded, so that it is chosen again only if every scored candidate is scheduled as well. This happens when the
+ * catalogue holds fewer main course recipes than meals to fill within the number of days, or, on large catalogues,
+ * when the sampled candidates all happen to be scheduled.
+ * <p>
+ * Candidate recipes are retrieved once per generation from the recipes indexed by course type, and existing menus are
+ * retrieved once for the whole date range. Each meal is then filled by scoring a bounded random sample of candidates,
+ * so that generation time depends on the number of generated menus rather than on the size of the recipe catalogue.
+ * Small catalogues are fully scored, starting at a random candidate.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@RequiredArgsConstructor
+@DomainService
+class MenuGeneration {
+
+    static final int SAMPLED_CANDIDATES = 64;
+    private static final long REPETITION_PENALTY = 1_000_000;
+
+    @NonNull
+    private MenuRepository menuRepository;
+    @NonNull
+    private RecipeConsultation recipeAppService;
+    @NonNull
+    private DomainEventPublisher eventPublisher;
+
+    /**
+     * Generates and saves menus for every meal of the command's date range and meal types that is not already planned.
+     *
+     * @param command the menus generation command.
+     * @throws MenusNotGeneratableWithoutRecipeException if no recipe can be served as main course.
+     * @throws AlreadyExistingEntityException            if a menu has been created concurrently for one of the generated
+     *                                                   meals, in which case none of the generated menus is saved.
+     */
+    void generateMenus(GenerateMenus command) {
+        var candidates = recipeAppService.getRecipesByCourseType(MAIN_COURSE);
+        if (candidates.isEmpty()) {
+            throw new MenusNotGeneratableWithoutRecipeException();
+        }
+        var since = command.dateRange().since();
+        var until = command.dateRange().until();
+        var interval = command.daysBeforeRecipeRepetition();
+        var existingMenus = menuRepository.findByOwnerAndDateBetween(command.owner(),
+                since.minusDays(interval), until.plusDays(interval));
+        var schedule = new Schedule(interval);
+        scheduleExisting(existingMenus, candidates, schedule);
+
+        var planned = existingMenus.stream().map(Menu::id).collect(toSet());
+        var random = ThreadLocalRandom.current();
+        var generated = new ArrayList<Menu>();
+        for (var date = since; !date.isAfter(until); date = date.plusDays(1)) {
+            for (var mealType : command.mealTypes()) {
+                if (planned.contains(new MenuId(command.owner(), date, mealType))) {
+                    continue;
+                }
+                var recipe = choose(candidates, date, schedule, random);
+                schedule.add(date, recipe.id(), recipe.ingredientIds());
+                generated.add(new Menu(new CreateMenu(command.owner(), date, mealType, command.covers(),
+                        Set.of(recipe.id()))));
+            }
+        }
+        menuRepository.insertAll(generated);
+        generated.forEach(menu -> eventPublisher.publish(new MenuCreated(menu.id())));
+    }
+
+    private static void scheduleExisting(Collection<Menu> menus, List<Recipe> candidates, Schedule schedule) {
+        if (menus.isEmpty()) {
+            return;
+        }
+        var scheduledRecipeIds = menus.stream()
+                .flatMap(menu -> menu.mainCourseRecipes().stream())
+                .collect(toSet());
+        var scheduledRecipes = candidates.stream()
+                .filter(recipe -> scheduledRecipeIds.contains(recipe.id()))
+                .collect(toMap(Recipe::id, identity()));
+        for (var menu : menus) {
+            for (var recipeId : menu.mainCourseRecipes()) {
+                var recipe = scheduledRecipes.get(recipeId);
+                schedule.add(menu.date(), recipeId, recipe != null ? recipe.ingredientIds() : Set.of());
+            }
+        }
+    }
+
+    private static Recipe choose(List<Recipe> candidates, LocalDate date, Schedule schedule,
+                                 ThreadLocalRandom random) {
+        var size = candidates.size();
+        var exhaustive = size <= SAMPLED_CANDIDATES;
+        var offset = random.nextInt(size);
+        Recipe chosen = null;
+        var chosenScore = Long.MAX_VALUE;
+        for (int i = 0; i < Math.min(size, SAMPLED_CANDIDATES); i++) {
+            var candidate = candidates.get(exhaustive ? (offset + i) % size : random.nextInt(size));
+            var score = schedule.score(candidate, date);
+            if (score < chosenScore) {
+                chosen = candidate;
+                chosenScore = score;
+                if (score == 0) {
+                    break;
+                }
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * The dates at which recipes and ingredients are scheduled, used to score candidate recipes for a date.
+     */
+    @RequiredArgsConstructor
+    private static class Schedule {
+
+        private final int interval;
+        private final Map<RecipeId, List<LocalDate>> recipeDates = new HashMap<>();
+        private final Map<IngredientId, List<LocalDate>> ingredientDates = new HashMap<>();
+
+        private void add(LocalDate date, RecipeId recipeId, Set<IngredientId> ingredientIds) {
+            recipeDates.computeIfAbsent(recipeId, id -> new ArrayList<>()).add(date);
+            ingredientIds.forEach(ingredientId -> ingredientDates.computeIfAbsent(ingredientId, id -> new ArrayList<>())
+                    .add(date));
+        }
+
+        /**
+         * Scores the specified recipe for the specified date, the lower the better: a recipe scheduled within the
+         * interval is penalized so that it is only chosen if no other sampled recipe can be, otherwise the score is
+         * the number of times its ingredients are scheduled within the interval.
+         */
+        private long score(Recipe recipe, LocalDate date) {
+            var score = occurrencesWithinInterval(recipeDates.get(recipe.id()), date) > 0 ? REPETITION_PENALTY : 0;
+            for (var ingredientId : recipe.ingredientIds()) {
+                score += occurrencesWithinInterval(ingredientDates.get(ingredientId), date);
+            }
+            return score;
+        }
+
+        private long occurrencesWithinInterval(List<LocalDate> dates, LocalDate date) {
+            if (dates == null) {
+                return 0;
+            }
+            return dates.stream().filter(scheduled -> Math.abs(DAYS.between(scheduled, date)) < interval).count();
+        }
+
+    }
+
+}
@@ -29,14 +29,13 @@ import org.adhuc.cena.menu.common.aggregate.Identity;
  * @version 0.3.0
  * @since 0.3.0
  */
-@Getter(AccessLevel.PACKAGE)
+@Getter
 @Accessors(fluent = true)
 @RequiredArgsConstructor
 @EqualsAndHashCode
 public class MenuId implements Identity, OwnedBy {
 
     @NonNull
-    @Getter(AccessLevel.PUBLIC)
     private final MenuOwner owner;
     @NonNull
     private final LocalDate date;
@@ -36,6 +36,27 @@ public interface MenuManagement {
      */
     void createMenu(CreateMenu command);
 
+    /**
+     * Creates menus at once. Either all the menus are created, or none of them.
+     *
+     * @param command the menus creation command.
+     * @throws AlreadyExistingEntityException             if a menu with meal type already exists for the owner at one of
+     *                                                    the specified dates.
+     * @throws MenuNotCreatableWithUnknownRecipeException if at least one related recipe does not exist.
+     */
+    void createMenus(CreateMenus command);
+
+    /**
+     * Generates menus for every meal of a date range that is not already planned, choosing main course recipes among
+     * the recipe catalogue. Either all the menus are generated, or none of them. The generated menus can then be
+     * retrieved by listing the menus of the date range. Avoiding recipe repetition within the command's number of days
+     * is best effort: a recipe is chosen again if no other candidate recipe is available.
+     *
+     * @param command the menus generation command.
+     * @throws MenusNotGeneratableWithoutRecipeException if no recipe can be served as main course.
+     */
+    void generateMenus(GenerateMenus command);
+
     /**
      * Deletes a menu.
      *
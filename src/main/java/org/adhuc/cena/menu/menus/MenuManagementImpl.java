@@ -15,16 +15,22 @@
  */
 package org.adhuc.cena.menu.menus;
 
+import java.time.Duration;
+
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.parameters.P;
 
 import org.adhuc.cena.menu.common.ApplicationService;
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.common.security.AsAuthenticatedUser;
 
 /**
- * A {@link MenuConsultation} implementation.
+ * A {@link MenuConsultation} implementation. Each command waits for the dispatch of the events it published before
+ * completing, so that the menu read models reflect the command changes once it is done. If the dispatch times out, the
+ * menu summaries of the owner are marked stale so that they are not served without the command changes.
  *
  * @author Alexandre Carbenay
  * @version 0.3.0
@@ -35,22 +41,59 @@ import org.adhuc.cena.menu.common.security.AsAuthenticatedUser;
 @ApplicationService("menuManagement")
 class MenuManagementImpl implements MenuManagement {
 
+    static final Duration DISPATCH_TIMEOUT = Duration.ofSeconds(1);
+
     @NonNull
     private MenuCreation menuCreation;
     @NonNull
+    private MenuGeneration menuGeneration;
+    @NonNull
     private MenuRepository repository;
+    @NonNull
+    private DomainEventPublisher eventPublisher;
+    @NonNull
+    private DomainEventDispatcher eventDispatcher;
+    @NonNull
+    private MenuSummaryProjection menuSummaries;
 
     @Override
     @AsAuthenticatedUser
     public void createMenu(@NonNull CreateMenu command) {
         log.info("Create menu from command {}", command);
         menuCreation.createMenu(command);
+        awaitDispatch(command.menuId().owner());
+    }
+
+    @Override
+    @AsAuthenticatedUser
+    public void createMenus(@NonNull CreateMenus command) {
+        log.info("Create {} menus for {}", command.menus().size(), command.owner());
+        menuCreation.createMenus(command);
+        awaitDispatch(command.owner());
+    }
+
+    @Override
+    @AsAuthenticatedUser
+    public void generateMenus(@NonNull GenerateMenus command) {
+        log.info("Generate menus from command {}", command);
+        menuGeneration.generateMenus(command);
+        awaitDispatch(command.owner());
     }
 
     @Override
     @AsMenuOwner
     public void deleteMenu(@P("ownedBy") @NonNull DeleteMenu command) {
         repository.delete(repository.findNotNullById(command.menuId()));
+        eventPublisher.publish(new MenuDeleted(command.menuId()));
+        awaitDispatch(command.owner());
+    }
+
+    private void awaitDispatch(MenuOwner owner) {
+        if (!eventDispatcher.awaitDispatch(DISPATCH_TIMEOUT)) {
+            log.warn("Menu events not dispatched within {}, marking menu summaries of {} stale",
+                    DISPATCH_TIMEOUT, owner);
+            menuSummaries.markStale(owner);
+        }
     }
 
 }
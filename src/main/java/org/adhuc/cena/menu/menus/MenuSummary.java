@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Entity;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * A read model of a menu, denormalized for listings: the names of the main course recipes are resolved, and the
+ * recipes are sorted by identity. A menu summary is immutable, its recipes being stored in an array wrapped in an
+ * unmodifiable view, so that it can be shared between readers without copies.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Value
+@Accessors(fluent = true)
+public class MenuSummary implements Entity<MenuId> {
+
+    private MenuId id;
+    private Covers covers;
+    private List<MenuSummaryRecipe> mainCourseRecipes;
+
+    /**
+     * Creates a menu summary.
+     *
+     * @param menu        the menu to summarize.
+     * @param recipeNames the names of the recipes, by identity. Main course recipes whose name is not known are kept
+     *                    without name.
+     */
+    public MenuSummary(@NonNull Menu menu, @NonNull Map<RecipeId, Name> recipeNames) {
+        this.id = menu.id();
+        this.covers = menu.covers();
+        this.mainCourseRecipes = Collections.unmodifiableList(Arrays.asList(menu.mainCourseRecipes().stream()
+                .sorted()
+                .map(recipeId -> new MenuSummaryRecipe(recipeId, recipeNames.get(recipeId)))
+                .toArray(MenuSummaryRecipe[]::new)));
+    }
+
+    public MenuOwner owner() {
+        return id.owner();
+    }
+
+    public LocalDate date() {
+        return id.date();
+    }
+
+    public MealType mealType() {
+        return id.mealType();
+    }
+
+}
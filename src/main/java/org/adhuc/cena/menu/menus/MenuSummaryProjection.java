@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.adhuc.cena.menu.common.DomainService;
+import org.adhuc.cena.menu.common.event.DomainEvent;
+import org.adhuc.cena.menu.common.event.DomainEventSubscriber;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeConsultation;
+import org.adhuc.cena.menu.recipes.RecipeDeleted;
+import org.adhuc.cena.menu.recipes.RecipeId;
+import org.adhuc.cena.menu.recipes.RecipesDeleted;
+
+/**
+ * A projection maintaining the {@link MenuSummary menu summaries} from the menu events. Summaries are stored by owner,
+ * in an array sorted by date and meal type, along with the array of their dates: the summaries of a date range are a
+ * view over the summaries array, located by binary search on the dates array, and are served without joins nor
+ * copies. Changes are applied incrementally, only the summaries of the menus concerned by the received events being
+ * computed again, and the owner arrays being replaced as a whole.
+ * <p>
+ * The names of the main course recipes are resolved when summarizing menus, and are kept up to date from the recipe
+ * events: the summaries of the menus composed of a deleted recipe are computed again, so that the names of deleted
+ * recipes are not served anymore.
+ * <p>
+ * The summaries of an owner are loaded from the repository on first use, and are versioned next to the owner arrays:
+ * each change of the summaries of an owner increments the version of this owner only. Readers never wait: the menu
+ * commands wait for the dispatch of their own events before completing, so that a user reads their own changes once
+ * their command is done. When this dispatch times out, the command marks the summaries of the owner stale, and they
+ * are loaded again from the repository on next read. The projection is maintained from the events published by the
+ * application itself only.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@RequiredArgsConstructor
+@DomainService
+class MenuSummaryProjection implements DomainEventSubscriber<DomainEvent> {
+
+    private static final long MAXIMUM_INITIAL_VERSION = 1L << 62;
+    private static final Comparator<MenuSummary> SCHEDULE_ORDER =
+            Comparator.comparing(MenuSummary::date).thenComparing(MenuSummary::mealType);
+
+    @NonNull
+    private final MenuRepository menuRepository;
+    @NonNull
+    private final RecipeConsultation recipeConsultation;
+    private final ConcurrentMap<MenuOwner, OwnerSummaries> summaries = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the summaries of the menus owned by the specified owner, whose date are between the specified range
+     * inclusively. Summaries are ordered by date and meal type.
+     *
+     * @param owner the menu owner.
+     * @param since the inclusive lower bound date.
+     * @param until the inclusive upper bound date.
+     * @return the menu summaries (not modifiable).
+     */
+    List<MenuSummary> summaries(@NonNull MenuOwner owner, @NonNull LocalDate since, @NonNull LocalDate until) {
+        return ownerSummaries(owner).between(since, until);
+    }
+
+    /**
+     * Gets the version of the summaries of the menus owned by the specified owner, that changes whenever these
+     * summaries change.
+     *
+     * @param owner the menu owner.
+     * @return the version of the owner summaries.
+     */
+    long version(@NonNull MenuOwner owner) {
+        return ownerSummaries(owner).version;
+    }
+
+    /**
+     * Marks the summaries of the menus owned by the specified owner as stale, so that they are loaded again from the
+     * repository on next read, with a new version. This is used when the dispatch of menu events could not be awaited.
+     *
+     * @param owner the menu owner.
+     */
+    void markStale(@NonNull MenuOwner owner) {
+        summaries.computeIfPresent(owner, (o, current) -> current.stale());
+    }
+
+    @Override
+    public Class<DomainEvent> subscribedEventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void handleEvents(@NonNull List<DomainEvent> events) {
+        var changedIdsByOwner = new HashMap<MenuOwner, Set<MenuId>>();
+        var deletedRecipeIds = new HashSet<RecipeId>();
+        var everyRecipeDeleted = false;
+        for (var event : events) {
+            if (event instanceof MenuEvent) {
+                var menuId = ((MenuEvent) event).menuId();
+                changedIdsByOwner.computeIfAbsent(menuId.owner(), o -> new HashSet<>()).add(menuId);
+            } else if (event instanceof RecipeDeleted) {
+                deletedRecipeIds.add(((RecipeDeleted) event).recipeId());
+            } else if (event instanceof RecipesDeleted) {
+                everyRecipeDeleted = true;
+            }
+        }
+        if (everyRecipeDeleted || !deletedRecipeIds.isEmpty()) {
+            Predicate<RecipeId> deleted = everyRecipeDeleted ? recipeId -> true : deletedRecipeIds::contains;
+            summaries.forEach((owner, current) -> {
+                var composedOfDeletedRecipes = current.composedOf(deleted);
+                if (!composedOfDeletedRecipes.isEmpty()) {
+                    changedIdsByOwner.computeIfAbsent(owner, o -> new HashSet<>()).addAll(composedOfDeletedRecipes);
+                }
+            });
+        }
+        changedIdsByOwner.forEach((owner, changedIds) -> summaries.computeIfPresent(owner,
+                (o, current) -> current.update(changedIds, summarize(menuRepository.findAllById(changedIds)))));
+    }
+
+    private OwnerSummaries ownerSummaries(MenuOwner owner) {
+        var current = summaries.computeIfAbsent(owner, o -> new OwnerSummaries(summarize(menuRepository.findByOwner(o)),
+                ThreadLocalRandom.current().nextLong(1, MAXIMUM_INITIAL_VERSION), false));
+        if (!current.stale) {
+            return current;
+        }
+        return summaries.computeIfPresent(owner, (o, previous) -> !previous.stale ? previous
+                : new OwnerSummaries(summarize(menuRepository.findByOwner(o)), previous.version + 1, false));
+    }
+
+    private List<MenuSummary> summarize(Collection<Menu> menus) {
+        var recipeIds = menus.stream().flatMap(menu -> menu.mainCourseRecipes().stream()).collect(toSet());
+        var recipeNames = recipeConsultation.getRecipesById(recipeIds).stream()
+                .collect(toMap(Recipe::id, Recipe::name));
+        var summarized = new ArrayList<MenuSummary>(menus.size());
+        menus.forEach(menu -> summarized.add(new MenuSummary(menu, recipeNames)));
+        summarized.sort(SCHEDULE_ORDER);
+        return summarized;
+    }
+
+    /**
+     * An immutable version of the summaries of the menus of an owner.
+     */
+    private static final class OwnerSummaries {
+
+        private final LocalDate[] dates;
+        private final List<MenuSummary> summaries;
+        private final long version;
+        private final boolean stale;
+
+        private OwnerSummaries(List<MenuSummary> sortedSummaries, long version, boolean stale) {
+            this(sortedSummaries.stream().map(MenuSummary::date).toArray(LocalDate[]::new),
+                    Collections.unmodifiableList(Arrays.asList(sortedSummaries.toArray(new MenuSummary[0]))),
+                    version, stale);
+        }
+
+        private OwnerSummaries(LocalDate[] dates, List<MenuSummary> summaries, long version, boolean stale) {
+            this.dates = dates;
+            this.summaries = summaries;
+            this.version = version;
+            this.stale = stale;
+        }
+
+        private List<MenuSummary> between(LocalDate since, LocalDate until) {
+            var from = indexOfFirstDateAfter(since, true);
+            var to = indexOfFirstDateAfter(until, false);
+            return from < to ? summaries.subList(from, to) : List.of();
+        }
+
+        private Set<MenuId> composedOf(Predicate<RecipeId> recipes) {
+            return summaries.stream()
+                    .filter(summary -> summary.mainCourseRecipes().stream()
+                            .anyMatch(recipe -> recipe.name().isPresent() && recipes.test(recipe.recipeId())))
+                    .map(MenuSummary::id)
+                    .collect(toSet());
+        }
+
+        private OwnerSummaries update(Set<MenuId> changedIds, List<MenuSummary> changed) {
+            var merged = new ArrayList<MenuSummary>(dates.length + changed.size());
+            var index = 0;
+            for (var summary : summaries) {
+                while (index < changed.size() && SCHEDULE_ORDER.compare(changed.get(index), summary) < 0) {
+                    merged.add(changed.get(index++));
+                }
+                if (!changedIds.contains(summary.id())) {
+                    merged.add(summary);
+                }
+            }
+            merged.addAll(changed.subList(index, changed.size()));
+            return new OwnerSummaries(merged, version + 1, stale);
+        }
+
+        private OwnerSummaries stale() {
+            return new OwnerSummaries(dates, summaries, version, true);
+        }
+
+        private int indexOfFirstDateAfter(LocalDate date, boolean inclusive) {
+            var low = 0;
+            var high = dates.length;
+            while (low < high) {
+                var middle = (low + high) >>> 1;
+                var comparison = dates[middle].compareTo(date);
+                if (comparison < 0 || (comparison == 0 && !inclusive)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import org.adhuc.cena.menu.common.exception.CenaException;
+import org.adhuc.cena.menu.common.exception.ExceptionCode;
+
+/**
+ * An exception occurring while generating menus with no main course recipe to choose from.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ResponseStatus(BAD_REQUEST)
+public class MenusNotGeneratableWithoutRecipeException extends CenaException {
+
+    private static final ExceptionCode EXCEPTION_CODE = ExceptionCode.MENUS_NOT_GENERATABLE_WITHOUT_RECIPE;
+
+    /**
+     * Creates a {@code MenusNotGeneratableWithoutRecipeException}.
+     */
+    MenusNotGeneratableWithoutRecipeException() {
+        super("Menus cannot be generated as no recipe can be served as main course", EXCEPTION_CODE);
+    }
+
+}
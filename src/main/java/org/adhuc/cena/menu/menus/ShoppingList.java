@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+/**
+ * A shopping list, aggregating the ingredients quantities of the menus of an owner within a date range. Items are
+ * sorted by ingredient name.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Value
+@Accessors(fluent = true)
+public class ShoppingList implements OwnedBy {
+
+    private final MenuOwner owner;
+    private final LocalDate since;
+    private final LocalDate until;
+    private final List<ShoppingListItem> items;
+
+    public ShoppingList(@NonNull MenuOwner owner, @NonNull LocalDate since, @NonNull LocalDate until,
+                        @NonNull List<ShoppingListItem> items) {
+        this.owner = owner;
+        this.since = since;
+        this.until = until;
+        this.items = List.copyOf(items);
+    }
+
+}
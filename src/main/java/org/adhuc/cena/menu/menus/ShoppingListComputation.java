@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.HALF_UP;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.*;
+import static org.adhuc.cena.menu.recipes.QuantityConversion.*;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.adhuc.cena.menu.common.DomainService;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.recipes.MeasurementUnit;
+import org.adhuc.cena.menu.recipes.QuantityConversion;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeConsultation;
+import org.adhuc.cena.menu.recipes.RecipeIngredient;
+
+/**
+ * A domain service dedicated to shopping lists computation. The quantities of the ingredients of each menu main course
+ * recipe are converted to the reference unit of their measurement type, scaled by the menu covers relative to the
+ * recipe servings and summed per ingredient and measurement type, as fixed-point values handled by
+ * {@link QuantityConversion}. Each sum is finally expressed in the largest unit of its measurement type in which it is
+ * at least one.
+ * <p>
+ * Recipes and ingredient names are retrieved once for the whole date range, whatever the number of menus, both through
+ * the recipe domain so that menus do not depend on the ingredient domain. Quantities are therefore summed per
+ * reference unit, each reference unit standing for its measurement type. Recipes deleted since the menus planning are
+ * ignored, as well as undefined quantities, though an ingredient used only without quantity is still listed.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@RequiredArgsConstructor
+@DomainService
+class ShoppingListComputation {
+
+    private static final int DECIMALS = 2;
+    private static final BigDecimal FIXED_POINT_SCALE = BigDecimal.valueOf(SCALE);
+    private static final Map<MeasurementUnit, List<MeasurementUnit>> DISPLAY_UNITS = displayUnits();
+
+    @NonNull
+    private MenuRepository menuRepository;
+    @NonNull
+    private RecipeConsultation recipeAppService;
+
+    /**
+     * Computes the shopping list of the menus corresponding to the specified query.
+     *
+     * @param query the menus listing query.
+     * @return the shopping list.
+     */
+    ShoppingList computeShoppingList(ListMenus query) {
+        var menus = menuRepository.findByOwnerAndDateBetween(query.owner(), query.since(), query.until());
+        var recipeIds = menus.stream().flatMap(menu -> menu.mainCourseRecipes().stream()).collect(toSet());
+        var recipes = recipeAppService.getRecipesById(recipeIds).stream().collect(toMap(Recipe::id, identity()));
+
+        var amounts = new HashMap<IngredientId, Map<MeasurementUnit, Long>>();
+        for (var menu : menus) {
+            for (var recipeId : menu.mainCourseRecipes()) {
+                var recipe = recipes.get(recipeId);
+                if (recipe == null) {
+                    continue;
+                }
+                recipe.ingredients().forEach(ingredient -> add(amounts, ingredient, menu.covers().value(),
+                        recipe.servings().value()));
+            }
+        }
+
+        var names = recipeAppService.getIngredientNames(amounts.keySet());
+        var items = amounts.entrySet().stream()
+                .filter(entry -> names.containsKey(entry.getKey()))
+                .map(entry -> new ShoppingListItem(entry.getKey(), names.get(entry.getKey()),
+                        quantities(entry.getValue())))
+                .sorted(Comparator.comparing((ShoppingListItem item) -> item.ingredientName().normalizedValue())
+                        .thenComparing(ShoppingListItem::ingredientId))
+                .collect(toList());
+        return new ShoppingList(query.owner(), query.since(), query.until(), items);
+    }
+
+    private static void add(Map<IngredientId, Map<MeasurementUnit, Long>> amounts, RecipeIngredient ingredient,
+                            int covers, int servings) {
+        var amountsByReference = amounts.computeIfAbsent(ingredient.ingredientId(),
+                id -> new EnumMap<>(MeasurementUnit.class));
+        var unit = ingredient.quantity().unit();
+        if (unit == MeasurementUnit.UNDEFINED) {
+            return;
+        }
+        var reference = referenceUnit(unit);
+        var amount = convert(toFixedPoint(ingredient.quantity().value()), unit, reference);
+        amountsByReference.merge(reference, scale(amount, covers, servings), Math::addExact);
+    }
+
+    private static List<ShoppingListQuantity> quantities(Map<MeasurementUnit, Long> amountsByReference) {
+        return DISPLAY_UNITS.keySet().stream()
+                .filter(amountsByReference::containsKey)
+                .map(reference -> quantity(reference, amountsByReference.get(reference)))
+                .collect(toList());
+    }
+
+    private static ShoppingListQuantity quantity(MeasurementUnit reference, long amount) {
+        var units = DISPLAY_UNITS.get(reference);
+        var unit = units.stream()
+                .filter(u -> amount >= convert(SCALE, u, reference))
+                .findFirst()
+                .orElse(units.get(units.size() - 1));
+        var value = BigDecimal.valueOf(convert(amount, reference, unit)).divide(FIXED_POINT_SCALE)
+                .setScale(DECIMALS, HALF_UP);
+        var rounded = reference == UNIT || reference == PINCH
+                ? value.setScale(0, CEILING)
+                : value.stripTrailingZeros();
+        return new ShoppingListQuantity(rounded.scale() < 0 ? rounded.setScale(0) : rounded, unit);
+    }
+
+    /**
+     * Gets the units in which shopping list quantities can be expressed for each reference unit, from the largest to
+     * the smallest. Reference units are ordered as their measurement types, which is the order of quantities in
+     * shopping list items.
+     */
+    private static Map<MeasurementUnit, List<MeasurementUnit>> displayUnits() {
+        var units = new LinkedHashMap<MeasurementUnit, List<MeasurementUnit>>();
+        units.put(GRAM, List.of(KILOGRAM, GRAM));
+        units.put(MILLILITER, List.of(LITER, CENTILITER, MILLILITER));
+        units.put(UNIT, List.of(UNIT));
+        units.put(PINCH, List.of(PINCH));
+        return units;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+
+/**
+ * A shopping list item, listing the quantities to buy for an ingredient, with at most one quantity per measurement
+ * type. Quantities are empty if the ingredient is only used without quantity in recipes.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Value
+@Accessors(fluent = true)
+public class ShoppingListItem {
+
+    private final IngredientId ingredientId;
+    private final Name ingredientName;
+    private final List<ShoppingListQuantity> quantities;
+
+    public ShoppingListItem(@NonNull IngredientId ingredientId, @NonNull Name ingredientName,
+                            @NonNull List<ShoppingListQuantity> quantities) {
+        this.ingredientId = ingredientId;
+        this.ingredientName = ingredientName;
+        this.quantities = List.copyOf(quantities);
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.event;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.adhuc.cena.menu.common.event.DomainEvent;
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
+import org.adhuc.cena.menu.common.event.DomainEventSubscriber;
+
+/**
+ * An in-process {@link DomainEventPublisher} dispatching events asynchronously to its subscribers, from a dedicated
+ * background thread.
+ * <p>
+ * Published events are stored in a bounded ring buffer, from which the dispatcher thread takes them in batches: each
+ * batch contains the events published since the previous one, up to the maximum batch size, and is delivered to every
+ * subscriber as a single list of the events it is interested in. When the ring buffer is full, publishers wait for the
+ * dispatcher to make room, so that slow subscribers slow down publishers rather than letting events accumulate in
+ * memory. A failing subscriber is logged and does not prevent the other subscribers from receiving the events.
+ * <p>
+ * Events are dispatched only once the bus is {@link #start() started}, allowing every subscriber to be registered
+ * before the first dispatch. Events published in the meantime are kept in the ring buffer.
+ * <p>
+ * The bus numbers the published events in the order they are stored in the ring buffer, and counts the dispatched
+ * events. Each publishing thread remembers the number of the last event it published, so that a writer can
+ * {@link #awaitDispatch(Duration) wait} for its own events to be dispatched, without waiting for the events published
+ * concurrently by other writers. Waiting costs a single volatile read when the writer events have already been
+ * dispatched.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class RingBufferDomainEventBus implements DomainEventPublisher, DomainEventDispatcher, Closeable {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long TERMINATION_TIMEOUT_MILLIS = 30_000;
+
+    private final BlockingQueue<DomainEvent> ringBuffer;
+    private final int maximumBatchSize;
+    private final List<DomainEventSubscriber<?>> subscribers = new CopyOnWriteArrayList<>();
+    private final Thread dispatcher;
+    private final Lock publishLock = new ReentrantLock();
+    private final ThreadLocal<Long> lastPublishedEvent = ThreadLocal.withInitial(() -> 0L);
+    private long publishedEvents;
+    private final Object dispatchMonitor = new Object();
+    private volatile long dispatchedEvents;
+    private volatile boolean running = true;
+
+    /**
+     * Creates a domain event bus.
+     *
+     * @param bufferSize       the maximum number of events waiting to be dispatched.
+     * @param maximumBatchSize the maximum number of events delivered at once to subscribers.
+     */
+    public RingBufferDomainEventBus(int bufferSize, int maximumBatchSize) {
+        isTrue(bufferSize > 0, () -> "Cannot create domain event bus with non-positive buffer size " + bufferSize);
+        isTrue(maximumBatchSize > 0,
+                () -> "Cannot create domain event bus with non-positive maximum batch size " + maximumBatchSize);
+        this.ringBuffer = new ArrayBlockingQueue<>(bufferSize);
+        this.maximumBatchSize = maximumBatchSize;
+        this.dispatcher = new Thread(this::dispatch, "domain-event-dispatcher");
+        this.dispatcher.setDaemon(true);
+    }
+
+    /**
+     * Registers a subscriber, receiving the events dispatched from now on.
+     *
+     * @param subscriber the subscriber.
+     */
+    public void subscribe(@NonNull DomainEventSubscriber<?> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Starts dispatching the published events to subscribers.
+     */
+    public void start() {
+        dispatcher.start();
+    }
+
+    /**
+     * Publishes the event, waiting for room in the ring buffer if it is full. Events are numbered while stored, so that
+     * their numbers follow the ring buffer order. Events published once the bus has been closed are discarded.
+     *
+     * @param event the event to publish.
+     */
+    @Override
+    public void publish(@NonNull DomainEvent event) {
+        if (!running) {
+            log.warn("Discard {} published after domain event bus has been closed", event);
+            return;
+        }
+        try {
+            publishLock.lockInterruptibly();
+            try {
+                ringBuffer.put(event);
+                lastPublishedEvent.set(++publishedEvents);
+            } finally {
+                publishLock.unlock();
+            }
+        } catch (InterruptedException e) {
+            log.warn("Discard {} as publisher has been interrupted", event);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean awaitDispatch(@NonNull Duration timeout) {
+        long published = lastPublishedEvent.get();
+        if (dispatchedEvents >= published) {
+            return true;
+        }
+        if (Thread.currentThread() == dispatcher || !dispatcher.isAlive()) {
+            return false;
+        }
+        var deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (dispatchMonitor) {
+            while (dispatchedEvents < published) {
+                var remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    NANOSECONDS.timedWait(dispatchMonitor, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops dispatching events, once the events already published have been dispatched.
+     */
+    @Override
+    public void close() {
+        running = false;
+        if (!dispatcher.isAlive()) {
+            return;
+        }
+        try {
+            dispatcher.join(TERMINATION_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dispatcher.isAlive()) {
+            log.warn("Domain event dispatcher did not terminate in time, {} events not dispatched", ringBuffer.size());
+        }
+    }
+
+    private void dispatch() {
+        var batch = new ArrayList<DomainEvent>(maximumBatchSize);
+        while (true) {
+            DomainEvent first;
+            try {
+                first = running ? ringBuffer.poll(POLL_TIMEOUT_MILLIS, MILLISECONDS) : ringBuffer.poll();
+            } catch (InterruptedException e) {
+                first = ringBuffer.poll();
+            }
+            if (first == null) {
+                if (running) {
+                    continue;
+                }
+                return;
+            }
+            batch.add(first);
+            ringBuffer.drainTo(batch, maximumBatchSize - 1);
+            subscribers.forEach(subscriber -> deliver(subscriber, batch));
+            dispatched(batch.size());
+            batch.clear();
+        }
+    }
+
+    private void dispatched(int count) {
+        synchronized (dispatchMonitor) {
+            dispatchedEvents += count;
+            dispatchMonitor.notifyAll();
+        }
+    }
+
+    private <E extends DomainEvent> void deliver(DomainEventSubscriber<E> subscriber, List<DomainEvent> batch) {
+        var type = subscriber.subscribedEventType();
+        var events = new ArrayList<E>(batch.size());
+        for (var event : batch) {
+            if (type.isInstance(event)) {
+                events.add(type.cast(event));
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            subscriber.handleEvents(events);
+        } catch (RuntimeException e) {
+            log.error("Subscriber {} failed handling {} events", subscriber, events.size(), e);
+        }
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import lombok.NonNull;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.CreateIngredient;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.IngredientNameAlreadyUsedException;
+import org.adhuc.cena.menu.ingredients.IngredientRepository;
+import org.adhuc.cena.menu.ingredients.MeasurementType;
+
+/**
+ * A JDBC {@link IngredientRepository} implementation. Ingredient names are looked up through a unique index on their
+ * normalized value, that also guarantees ingredient names uniqueness.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Repository
+@Profile("jdbc")
+class JdbcIngredientRepository implements IngredientRepository {
+
+    private static final String COLUMNS = "id, name, measurement_types";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM ingredient";
+    private static final String SELECT_BY_ID = SELECT + " WHERE id = ?";
+    private static final String SELECT_BY_IDS = SELECT + " WHERE id IN ";
+    private static final String SELECT_BY_ID_FOR_UPDATE = SELECT_BY_ID + " FOR UPDATE";
+    private static final String SELECT_BY_NORMALIZED_NAME = SELECT + " WHERE normalized_name = ?";
+    private static final String SELECT_BY_NORMALIZED_NAMES = SELECT + " WHERE normalized_name IN ";
+    private static final String SELECT_ALL = SELECT + " ORDER BY id";
+    private static final String SELECT_FIRST_PAGE = "SELECT 0 AS part, " + COLUMNS
+            + " FROM ingredient ORDER BY id LIMIT ?";
+    private static final String SELECT_PAGE_AFTER = "SELECT * FROM ("
+            + "(SELECT 0 AS part, " + COLUMNS + " FROM ingredient WHERE id > ? ORDER BY id LIMIT ?)"
+            + " UNION ALL "
+            + "(SELECT 1 AS part, id, NULL, NULL FROM ingredient WHERE id <= ? ORDER BY id DESC LIMIT ?)"
+            + ") page ORDER BY part, id";
+    private static final String EXISTS = "SELECT EXISTS (SELECT 1 FROM ingredient WHERE id = ?)";
+    private static final String MERGE = "MERGE INTO ingredient (id, name, normalized_name, measurement_types) KEY (id)"
+            + " VALUES (?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM ingredient WHERE id = ?";
+    private static final String DELETE_ALL = "DELETE FROM ingredient";
+
+    private static final String LIST_SEPARATOR = ",";
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcVersions versions;
+
+    JdbcIngredientRepository(@NonNull JdbcTemplate jdbcTemplate, @NonNull TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.versions = new JdbcVersions(jdbcTemplate, "ingredient", "SELECT 1 FROM ingredient WHERE id = ?");
+    }
+
+    @Override
+    public long version() {
+        return versions.version();
+    }
+
+    @Override
+    public long version(@NonNull IngredientId id) {
+        return versions.version(id.id());
+    }
+
+    @Override
+    public Collection<Ingredient> findAll() {
+        return jdbcTemplate.query(SELECT_ALL, (rs, rowNum) -> ingredient(rs));
+    }
+
+    @Override
+    public Page<Ingredient, IngredientId> findAll(@NonNull Pagination<IngredientId> pagination) {
+        var following = new ArrayList<Ingredient>(pagination.size() + 1);
+        var preceding = new ArrayList<IngredientId>();
+        var after = pagination.after();
+        if (after.isPresent()) {
+            jdbcTemplate.query(SELECT_PAGE_AFTER, rs -> {
+                if (rs.getInt("part") == 0) {
+                    following.add(ingredient(rs));
+                } else {
+                    preceding.add(ingredientId(rs));
+                }
+            }, after.get().id(), pagination.size() + 1, after.get().id(), pagination.size() + 1);
+        } else {
+            jdbcTemplate.query(SELECT_FIRST_PAGE, rs -> {
+                following.add(ingredient(rs));
+            }, pagination.size() + 1);
+        }
+        return JdbcPages.page(following, preceding, pagination);
+    }
+
+    @Override
+    public boolean exists(IngredientId id) {
+        return id != null && Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS, Boolean.class, id.id()));
+    }
+
+    @Override
+    public Optional<Ingredient> findById(@NonNull IngredientId id) {
+        return jdbcTemplate.query(SELECT_BY_ID, (rs, rowNum) -> ingredient(rs), id.id()).stream().findFirst();
+    }
+
+    @Override
+    public Collection<Ingredient> findAllById(@NonNull Collection<IngredientId> ids) {
+        return findAllIn(SELECT_BY_IDS, ids.stream().map(IngredientId::id).distinct().collect(toList()));
+    }
+
+    @Override
+    public Optional<Ingredient> findByName(@NonNull Name ingredientName) {
+        return findByNameIgnoreCase(ingredientName).filter(i -> i.name().equals(ingredientName));
+    }
+
+    @Override
+    public Optional<Ingredient> findByNameIgnoreCase(@NonNull Name ingredientName) {
+        return jdbcTemplate.query(SELECT_BY_NORMALIZED_NAME, (rs, rowNum) -> ingredient(rs),
+                ingredientName.normalizedValue()).stream().findFirst();
+    }
+
+    @Override
+    public Collection<Ingredient> findAllByNameIgnoreCase(@NonNull Collection<Name> ingredientNames) {
+        return findAllIn(SELECT_BY_NORMALIZED_NAMES,
+                ingredientNames.stream().map(Name::normalizedValue).distinct().collect(toList()));
+    }
+
+    @Override
+    public <S extends Ingredient> S save(@NonNull S ingredient) {
+        try {
+            transactionTemplate.execute(status -> {
+                jdbcTemplate.update(MERGE, values(ingredient));
+                versions.increment();
+                return ingredient;
+            });
+        } catch (DuplicateKeyException e) {
+            throw new IngredientNameAlreadyUsedException(ingredient.name());
+        }
+        return ingredient;
+    }
+
+    @Override
+    public <S extends Ingredient> Collection<S> saveAll(@NonNull Collection<S> ingredients) {
+        if (ingredients.isEmpty()) {
+            return ingredients;
+        }
+        try {
+            transactionTemplate.execute(status -> {
+                jdbcTemplate.batchUpdate(MERGE, ingredients.stream()
+                        .map(JdbcIngredientRepository::values)
+                        .collect(toList()));
+                versions.increment();
+                return ingredients;
+            });
+        } catch (DuplicateKeyException e) {
+            // The whole batch has been rolled back: save ingredients one by one to report the conflicting name
+            ingredients.forEach(this::save);
+        }
+        return ingredients;
+    }
+
+    @Override
+    public Ingredient update(@NonNull IngredientId id, @NonNull Consumer<Ingredient> modification) {
+        return transactionTemplate.execute(status -> {
+            var ingredient = jdbcTemplate.query(SELECT_BY_ID_FOR_UPDATE, (rs, rowNum) -> ingredient(rs), id.id())
+                    .stream().findFirst().orElseThrow(() -> new EntityNotFoundException(entityType(), id));
+            modification.accept(ingredient);
+            return save(ingredient);
+        });
+    }
+
+    @Override
+    public void deleteAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_ALL);
+            versions.increment();
+        });
+    }
+
+    @Override
+    public void delete(@NonNull Ingredient ingredient) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE, ingredient.id().id());
+            versions.increment();
+        });
+    }
+
+    private static Object[] values(Ingredient ingredient) {
+        return new Object[]{ingredient.id().id(), ingredient.name().value(), ingredient.name().normalizedValue(),
+                ingredient.measurementTypes().stream().map(MeasurementType::name).collect(joining(LIST_SEPARATOR))};
+    }
+
+    private List<Ingredient> findAllIn(String select, List<?> values) {
+        var ingredients = new ArrayList<Ingredient>();
+        for (int from = 0; from < values.size(); from += LOOKUP_CHUNK_SIZE) {
+            var chunk = values.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, values.size()));
+            var sql = select + "(" + String.join(", ", nCopies(chunk.size(), "?")) + ")";
+            ingredients.addAll(jdbcTemplate.query(sql, (rs, rowNum) -> ingredient(rs), chunk.toArray()));
+        }
+        return ingredients;
+    }
+
+    private static Ingredient ingredient(ResultSet rs) throws SQLException {
+        var measurementTypes = rs.getString("measurement_types");
+        return new Ingredient(new CreateIngredient(ingredientId(rs), new Name(rs.getString("name")),
+                measurementTypes.isEmpty() ? List.of() : Arrays.stream(measurementTypes.split(LIST_SEPARATOR))
+                        .map(MeasurementType::valueOf)
+                        .collect(toList())));
+    }
+
+    private static IngredientId ingredientId(ResultSet rs) throws SQLException {
+        return new IngredientId(rs.getObject("id", UUID.class).toString());
+    }
+
+}
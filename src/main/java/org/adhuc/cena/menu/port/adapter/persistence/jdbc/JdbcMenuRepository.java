@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import lombok.NonNull;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.menus.Covers;
+import org.adhuc.cena.menu.menus.CreateMenu;
+import org.adhuc.cena.menu.menus.MealType;
+import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.MenuId;
+import org.adhuc.cena.menu.menus.MenuOwner;
+import org.adhuc.cena.menu.menus.MenuRepository;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * A JDBC {@link MenuRepository} implementation.
+ * <p>
+ * Menus are identified by their owner, date and meal type, the primary key index serving the lookups by owner and
+ * date range. Menus are always retrieved along with their main course recipes in a single query joining both tables.
+ * Saving a menu replaces its main course recipes with a single batch, in the same transaction as the menu itself.
+ * Several menus are saved atomically, each statement being batched for all the menus. New menus are inserted rather
+ * than merged, so that the primary key rejects the whole batch if one of the menus has been created concurrently.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Repository
+@Profile("jdbc")
+class JdbcMenuRepository implements MenuRepository {
+
+    private static final Comparator<Menu> SCHEDULE_ORDER = Comparator.comparing(Menu::date)
+            .thenComparing(Menu::mealType);
+
+    private static final String MENU_KEY = "owner = ? AND menu_date = ? AND meal_type = ?";
+    private static final String SELECT = "SELECT m.owner, m.menu_date, m.meal_type, m.covers, mr.recipe_id"
+            + " FROM menu m JOIN menu_recipe mr"
+            + " ON mr.owner = m.owner AND mr.menu_date = m.menu_date AND mr.meal_type = m.meal_type";
+    private static final String SELECT_BY_ID = SELECT
+            + " WHERE m.owner = ? AND m.menu_date = ? AND m.meal_type = ?";
+    private static final String SELECT_BY_OWNER = SELECT
+            + " WHERE m.owner = ? ORDER BY m.menu_date, m.meal_type";
+    private static final String SELECT_BY_OWNER_AND_DATE_BETWEEN = SELECT
+            + " WHERE m.owner = ? AND m.menu_date BETWEEN ? AND ? ORDER BY m.menu_date, m.meal_type";
+    private static final String SELECT_KEY_FOR_UPDATE = "SELECT owner FROM menu WHERE " + MENU_KEY + " FOR UPDATE";
+    private static final String EXISTS = "SELECT EXISTS (SELECT 1 FROM menu WHERE " + MENU_KEY + ")";
+    private static final String SELECT_KEYS_BY_OWNER_AND_DATE_BETWEEN = "SELECT menu_date, meal_type FROM menu"
+            + " WHERE owner = ? AND menu_date BETWEEN ? AND ?";
+    private static final String MERGE = "MERGE INTO menu (owner, menu_date, meal_type, covers)"
+            + " KEY (owner, menu_date, meal_type) VALUES (?, ?, ?, ?)";
+    private static final String INSERT = "INSERT INTO menu (owner, menu_date, meal_type, covers) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_RECIPES = "DELETE FROM menu_recipe WHERE " + MENU_KEY;
+    private static final String INSERT_RECIPE = "INSERT INTO menu_recipe (owner, menu_date, meal_type, recipe_id)"
+            + " VALUES (?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM menu WHERE " + MENU_KEY;
+    private static final String DELETE_ALL = "DELETE FROM menu";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcVersions versions;
+
+    JdbcMenuRepository(@NonNull JdbcTemplate jdbcTemplate, @NonNull TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.versions = new JdbcVersions(jdbcTemplate, "menu", "SELECT 1 FROM menu WHERE " + MENU_KEY);
+    }
+
+    @Override
+    public long version() {
+        return versions.version();
+    }
+
+    @Override
+    public long version(@NonNull MenuId id) {
+        return versions.version(key(id));
+    }
+
+    @Override
+    public Collection<Menu> findByOwner(@NonNull MenuOwner owner) {
+        return query(SELECT_BY_OWNER, owner.ownerName());
+    }
+
+    @Override
+    public Collection<Menu> findByOwnerAndDateBetween(@NonNull MenuOwner owner, @NonNull LocalDate since,
+                                                      @NonNull LocalDate until) {
+        return query(SELECT_BY_OWNER_AND_DATE_BETWEEN, owner.ownerName(), since, until);
+    }
+
+    @Override
+    public boolean exists(MenuId id) {
+        return id != null && Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS, Boolean.class, key(id)));
+    }
+
+    /**
+     * Looks the menus up by owner, in the date range covering all the identities of the owner, the identities out of
+     * the requested ones being filtered afterwards.
+     */
+    @Override
+    public Set<MenuId> findExistingIds(@NonNull Collection<MenuId> ids) {
+        var requested = Set.copyOf(ids);
+        var existing = new HashSet<MenuId>();
+        requested.stream().collect(groupingBy(MenuId::owner)).forEach((owner, ownerIds) -> {
+            var since = ownerIds.stream().map(MenuId::date).min(Comparator.naturalOrder()).orElseThrow();
+            var until = ownerIds.stream().map(MenuId::date).max(Comparator.naturalOrder()).orElseThrow();
+            jdbcTemplate.query(SELECT_KEYS_BY_OWNER_AND_DATE_BETWEEN,
+                    (rs, rowNum) -> new MenuId(owner, rs.getObject("menu_date", LocalDate.class),
+                            MealType.valueOf(rs.getString("meal_type"))),
+                    owner.ownerName(), since, until).stream()
+                    .filter(requested::contains)
+                    .forEach(existing::add);
+        });
+        return existing;
+    }
+
+    @Override
+    public Optional<Menu> findById(@NonNull MenuId id) {
+        return query(SELECT_BY_ID, key(id)).stream().findFirst();
+    }
+
+    @Override
+    public <S extends Menu> S save(@NonNull S menu) {
+        saveAll(List.of(menu));
+        return menu;
+    }
+
+    /**
+     * Saves the menus in a single transaction, each statement being executed as a batch for all the menus: either all
+     * the menus are saved, or none of them.
+     */
+    @Override
+    public <S extends Menu> Collection<S> saveAll(@NonNull Collection<S> menus) {
+        return write(MERGE, menus, true);
+    }
+
+    /**
+     * Inserts the menus in a single transaction, each statement being executed as a batch for all the menus: either all
+     * the menus are inserted, or none of them if one of them already exists.
+     */
+    @Override
+    public <S extends Menu> Collection<S> insertAll(@NonNull Collection<S> menus) {
+        try {
+            return write(INSERT, menus, false);
+        } catch (DuplicateKeyException e) {
+            var existing = findExistingIds(menus.stream().map(Menu::id).collect(toList()));
+            throw new AlreadyExistingEntityException(entityType(),
+                    existing.isEmpty() ? "unknown" : existing.iterator().next().toString());
+        }
+    }
+
+    private <S extends Menu> Collection<S> write(String menuStatement, Collection<S> menus, boolean replaceRecipes) {
+        var keys = menus.stream().map(menu -> key(menu.id())).collect(toList());
+        var values = menus.stream()
+                .map(menu -> new Object[]{menu.id().owner().ownerName(), menu.date(), menu.mealType().name(),
+                        menu.covers().value()})
+                .collect(toList());
+        var recipes = menus.stream()
+                .flatMap(menu -> menu.mainCourseRecipes().stream()
+                        .map(recipeId -> new Object[]{menu.id().owner().ownerName(), menu.date(),
+                                menu.mealType().name(), recipeId.id()}))
+                .collect(toList());
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(menuStatement, values);
+            if (replaceRecipes) {
+                jdbcTemplate.batchUpdate(DELETE_RECIPES, keys);
+            }
+            jdbcTemplate.batchUpdate(INSERT_RECIPE, recipes);
+            versions.increment();
+            return menus;
+        });
+    }
+
+    @Override
+    public Menu update(@NonNull MenuId id, @NonNull Consumer<Menu> modification) {
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(SELECT_KEY_FOR_UPDATE, key(id)).isEmpty()) {
+                throw new EntityNotFoundException(entityType(), id);
+            }
+            var menu = findNotNullById(id);
+            modification.accept(menu);
+            return save(menu);
+        });
+    }
+
+    @Override
+    public void deleteAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_ALL);
+            versions.increment();
+        });
+    }
+
+    @Override
+    public void delete(@NonNull Menu menu) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE, key(menu.id()));
+            versions.increment();
+        });
+    }
+
+    /**
+     * Queries the menus, whose rows must be sorted by menu. The menus are then sorted by schedule, meal types being
+     * stored by name.
+     */
+    private List<Menu> query(String query, Object... parameters) {
+        var menus = new MenuRows();
+        jdbcTemplate.query(query, menus::add, parameters);
+        var result = menus.menus();
+        result.sort(SCHEDULE_ORDER);
+        return result;
+    }
+
+    private static Object[] key(MenuId id) {
+        return new Object[]{id.owner().ownerName(), id.date(), id.mealType().name()};
+    }
+
+    /**
+     * Accumulates the rows of menus joined with their main course recipes, sorted by menu, into menus.
+     */
+    private static class MenuRows {
+
+        private final List<Menu> menus = new ArrayList<>();
+        private MenuId current;
+        private Covers covers;
+        private List<RecipeId> recipes = new ArrayList<>();
+
+        private void add(ResultSet rs) throws SQLException {
+            var id = new MenuId(new MenuOwner(rs.getString("owner")), rs.getObject("menu_date", LocalDate.class),
+                    MealType.valueOf(rs.getString("meal_type")));
+            if (!id.equals(current)) {
+                flush();
+                current = id;
+                covers = new Covers(rs.getInt("covers"));
+            }
+            recipes.add(new RecipeId(rs.getObject("recipe_id", UUID.class).toString()));
+        }
+
+        private List<Menu> menus() {
+            flush();
+            return menus;
+        }
+
+        private void flush() {
+            if (current != null) {
+                menus.add(new Menu(new CreateMenu(current.owner(), current.date(), current.mealType(), covers,
+                        recipes)));
+                current = null;
+                recipes = new ArrayList<>();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import java.util.List;
+
+import org.adhuc.cena.menu.common.aggregate.Entity;
+import org.adhuc.cena.menu.common.aggregate.Identity;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+
+/**
+ * Builds pages of entities from the result of a page query.
+ * <p>
+ * A page query retrieves, in a single statement, the entities following the pagination cursor (up to one more than
+ * the page size, to detect whether a next page exists) and the identities preceding the cursor, the cursor included
+ * (up to one more than the page size, to position the previous page cursor). Both parts only scan the index the page
+ * is ordered by.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class JdbcPages {
+
+    private JdbcPages() {
+    }
+
+    /**
+     * Builds the page of entities.
+     *
+     * @param following  the entities following the pagination cursor, in order, up to the page size plus one.
+     * @param preceding  the identities preceding the pagination cursor, cursor included, in order, up to the page size
+     *                   plus one.
+     * @param pagination the pagination.
+     * @param <E>        the entities type.
+     * @param <I>        the entities' identity type.
+     * @return the page of entities.
+     */
+    static <E extends Entity<I>, I extends Identity> Page<E, I> page(List<E> following, List<I> preceding,
+                                                                     Pagination<I> pagination) {
+        var size = pagination.size();
+        var content = following.size() > size ? following.subList(0, size) : following;
+        var next = following.size() > size ? Pagination.after(content.get(size - 1).id(), size) : null;
+        Pagination<I> previous = null;
+        if (preceding.size() > size) {
+            previous = Pagination.after(preceding.get(0), size);
+        } else if (!preceding.isEmpty()) {
+            previous = Pagination.first(size);
+        }
+        return new Page<>(content, previous, next);
+    }
+
+}
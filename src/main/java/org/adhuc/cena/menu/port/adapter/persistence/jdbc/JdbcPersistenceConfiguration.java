@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Configures the data source used by JDBC repositories with {@code jdbc} profile, based on {@code spring.datasource}
+ * properties. The schema is initialized when the data source is created, before being used by repositories.
+ * <p>
+ * Data source auto-configuration is disabled for the other profiles, that do not need any database.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+@Configuration
+@Profile("jdbc")
+@EnableConfigurationProperties(DataSourceProperties.class)
+class JdbcPersistenceConfiguration {
+
+    private static final String SCHEMA = "db/jdbc/schema.sql";
+
+    @Bean
+    DataSource dataSource(DataSourceProperties properties) {
+        var dataSource = properties.initializeDataSourceBuilder().build();
+        log.info("Persist entities into database {}", properties.determineUrl());
+        DatabasePopulatorUtils.execute(new ResourceDatabasePopulator(new ClassPathResource(SCHEMA)), dataSource);
+        return dataSource;
+    }
+
+}
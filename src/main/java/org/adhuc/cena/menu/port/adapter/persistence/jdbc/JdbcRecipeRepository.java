@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import lombok.NonNull;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.recipes.CourseType;
+import org.adhuc.cena.menu.recipes.CreateRecipe;
+import org.adhuc.cena.menu.recipes.MeasurementUnit;
+import org.adhuc.cena.menu.recipes.Quantity;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeAuthor;
+import org.adhuc.cena.menu.recipes.RecipeId;
+import org.adhuc.cena.menu.recipes.RecipeIngredient;
+import org.adhuc.cena.menu.recipes.RecipeRepository;
+import org.adhuc.cena.menu.recipes.Servings;
+
+/**
+ * A JDBC {@link RecipeRepository} implementation.
+ * <p>
+ * Recipes are always retrieved along with their ingredients in a single query joining both tables, rows being grouped
+ * by recipe. Recipes composed of an ingredient are found through an index on the ingredient identities, and recipes
+ * of a course type through an index on the course types normalized in their own table. Saving a recipe replaces its
+ * ingredients and course types with batches, in the same transaction as the recipe itself.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Repository
+@Profile("jdbc")
+class JdbcRecipeRepository implements RecipeRepository {
+
+    private static final String COLUMNS = "r.id, r.name, r.content, r.author, r.servings, r.course_types,"
+            + " ri.ingredient_id, ri.main_ingredient, ri.quantity, ri.unit";
+    private static final String JOIN_INGREDIENTS = " LEFT JOIN recipe_ingredient ri ON ri.recipe_id = r.id";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM recipe r" + JOIN_INGREDIENTS;
+    private static final String SELECT_BY_ID = SELECT + " WHERE r.id = ?";
+    private static final String SELECT_ALL = SELECT + " ORDER BY r.id";
+    private static final String SELECT_BY_IDS = SELECT + " WHERE r.id IN ";
+    private static final String ORDER_BY_ID = " ORDER BY r.id";
+    private static final String SELECT_BY_INGREDIENT = "SELECT " + COLUMNS + " FROM recipe_ingredient f"
+            + " JOIN recipe r ON r.id = f.recipe_id" + JOIN_INGREDIENTS
+            + " WHERE f.ingredient_id = ? ORDER BY r.id";
+    private static final String SELECT_BY_COURSE_TYPE = "SELECT " + COLUMNS + " FROM recipe_course_type c"
+            + " JOIN recipe r ON r.id = c.recipe_id" + JOIN_INGREDIENTS
+            + " WHERE c.course_type = ? ORDER BY r.id";
+    private static final String SELECT_FIRST_PAGE = "SELECT 0 AS part, k.id AS page_key, " + COLUMNS
+            + " FROM (SELECT id FROM recipe ORDER BY id LIMIT ?) k"
+            + " JOIN recipe r ON r.id = k.id" + JOIN_INGREDIENTS
+            + " ORDER BY r.id";
+    private static final String SELECT_PAGE_AFTER = "SELECT k.part, k.id AS page_key, " + COLUMNS + " FROM ("
+            + "(SELECT 0 AS part, id FROM recipe WHERE id > ? ORDER BY id LIMIT ?)"
+            + " UNION ALL "
+            + "(SELECT 1 AS part, id FROM recipe WHERE id <= ? ORDER BY id DESC LIMIT ?)"
+            + ") k LEFT JOIN recipe r ON r.id = k.id AND k.part = 0" + JOIN_INGREDIENTS
+            + " ORDER BY k.part, k.id";
+    private static final String SELECT_FIRST_PAGE_BY_INGREDIENT = "SELECT 0 AS part, k.id AS page_key, " + COLUMNS
+            + " FROM (SELECT recipe_id AS id FROM recipe_ingredient"
+            + " WHERE ingredient_id = ? ORDER BY recipe_id LIMIT ?) k"
+            + " JOIN recipe r ON r.id = k.id" + JOIN_INGREDIENTS
+            + " ORDER BY r.id";
+    private static final String SELECT_PAGE_AFTER_BY_INGREDIENT = "SELECT k.part, k.id AS page_key, " + COLUMNS
+            + " FROM ("
+            + "(SELECT 0 AS part, recipe_id AS id FROM recipe_ingredient"
+            + " WHERE ingredient_id = ? AND recipe_id > ? ORDER BY recipe_id LIMIT ?)"
+            + " UNION ALL "
+            + "(SELECT 1 AS part, recipe_id AS id FROM recipe_ingredient"
+            + " WHERE ingredient_id = ? AND recipe_id <= ? ORDER BY recipe_id DESC LIMIT ?)"
+            + ") k LEFT JOIN recipe r ON r.id = k.id AND k.part = 0" + JOIN_INGREDIENTS
+            + " ORDER BY k.part, k.id";
+    private static final String SELECT_ID_FOR_UPDATE = "SELECT id FROM recipe WHERE id = ? FOR UPDATE";
+    private static final String EXISTS = "SELECT EXISTS (SELECT 1 FROM recipe WHERE id = ?)";
+    private static final String SELECT_EXISTING_IDS = "SELECT id FROM recipe WHERE id IN ";
+    private static final String EXISTS_BY_INGREDIENT =
+            "SELECT EXISTS (SELECT 1 FROM recipe_ingredient WHERE ingredient_id = ?)";
+    private static final String MERGE = "MERGE INTO recipe (id, name, content, author, servings, course_types) KEY (id)"
+            + " VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_INGREDIENTS = "DELETE FROM recipe_ingredient WHERE recipe_id = ?";
+    private static final String INSERT_INGREDIENT = "INSERT INTO recipe_ingredient"
+            + " (recipe_id, ingredient_id, main_ingredient, quantity, unit) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_COURSE_TYPES = "DELETE FROM recipe_course_type WHERE recipe_id = ?";
+    private static final String INSERT_COURSE_TYPE = "INSERT INTO recipe_course_type (recipe_id, course_type)"
+            + " VALUES (?, ?)";
+    private static final String DELETE = "DELETE FROM recipe WHERE id = ?";
+    private static final String DELETE_ALL = "DELETE FROM recipe";
+
+    private static final String LIST_SEPARATOR = ",";
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcVersions versions;
+
+    JdbcRecipeRepository(@NonNull JdbcTemplate jdbcTemplate, @NonNull TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.versions = new JdbcVersions(jdbcTemplate, "recipe", "SELECT 1 FROM recipe WHERE id = ?");
+    }
+
+    @Override
+    public long version() {
+        return versions.version();
+    }
+
+    @Override
+    public long version(@NonNull RecipeId id) {
+        return versions.version(id.id());
+    }
+
+    @Override
+    public Collection<Recipe> findAll() {
+        var recipes = new RecipeRows();
+        jdbcTemplate.query(SELECT_ALL, recipes::add);
+        return recipes.recipes();
+    }
+
+    @Override
+    public Page<Recipe, RecipeId> findAll(@NonNull Pagination<RecipeId> pagination) {
+        var size = pagination.size() + 1;
+        return pagination.after()
+                .map(after -> page(pagination, SELECT_PAGE_AFTER, after.id(), size, after.id(), size))
+                .orElseGet(() -> page(pagination, SELECT_FIRST_PAGE, size));
+    }
+
+    @Override
+    public Collection<Recipe> findByIngredient(@NonNull IngredientId ingredientId) {
+        var recipes = new RecipeRows();
+        jdbcTemplate.query(SELECT_BY_INGREDIENT, recipes::add, ingredientId.id());
+        return recipes.recipes();
+    }
+
+    @Override
+    public Page<Recipe, RecipeId> findByIngredient(@NonNull IngredientId ingredientId,
+                                                   @NonNull Pagination<RecipeId> pagination) {
+        var size = pagination.size() + 1;
+        var id = ingredientId.id();
+        return pagination.after()
+                .map(after -> page(pagination, SELECT_PAGE_AFTER_BY_INGREDIENT,
+                        id, after.id(), size, id, after.id(), size))
+                .orElseGet(() -> page(pagination, SELECT_FIRST_PAGE_BY_INGREDIENT, id, size));
+    }
+
+    @Override
+    public Collection<Recipe> findByCourseType(@NonNull CourseType courseType) {
+        var recipes = new RecipeRows();
+        jdbcTemplate.query(SELECT_BY_COURSE_TYPE, recipes::add, courseType.name());
+        return recipes.recipes();
+    }
+
+    @Override
+    public boolean existsByIngredient(@NonNull IngredientId ingredientId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_BY_INGREDIENT, Boolean.class, ingredientId.id()));
+    }
+
+    @Override
+    public boolean exists(RecipeId id) {
+        return id != null && Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS, Boolean.class, id.id()));
+    }
+
+    @Override
+    public Set<RecipeId> findExistingIds(@NonNull Collection<RecipeId> ids) {
+        var values = ids.stream().map(RecipeId::id).distinct().collect(toList());
+        var existing = new HashSet<RecipeId>();
+        for (int from = 0; from < values.size(); from += LOOKUP_CHUNK_SIZE) {
+            var chunk = values.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, values.size()));
+            var sql = SELECT_EXISTING_IDS + "(" + String.join(", ", nCopies(chunk.size(), "?")) + ")";
+            existing.addAll(jdbcTemplate.query(sql,
+                    (rs, rowNum) -> new RecipeId(rs.getObject("id", UUID.class).toString()), chunk.toArray()));
+        }
+        return existing;
+    }
+
+    @Override
+    public Collection<Recipe> findAllById(@NonNull Collection<RecipeId> ids) {
+        var values = ids.stream().map(RecipeId::id).distinct().collect(toList());
+        var recipes = new ArrayList<Recipe>();
+        for (int from = 0; from < values.size(); from += LOOKUP_CHUNK_SIZE) {
+            var chunk = values.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, values.size()));
+            var sql = SELECT_BY_IDS + "(" + String.join(", ", nCopies(chunk.size(), "?")) + ")" + ORDER_BY_ID;
+            var rows = new RecipeRows();
+            jdbcTemplate.query(sql, rows::add, chunk.toArray());
+            recipes.addAll(rows.recipes());
+        }
+        return recipes;
+    }
+
+    @Override
+    public Optional<Recipe> findById(@NonNull RecipeId id) {
+        var recipes = new RecipeRows();
+        jdbcTemplate.query(SELECT_BY_ID, recipes::add, id.id());
+        return recipes.recipes().stream().findFirst();
+    }
+
+    @Override
+    public <S extends Recipe> S save(@NonNull S recipe) {
+        var id = recipe.id().id();
+        var ingredients = recipe.ingredients().stream()
+                .map(ingredient -> new Object[]{id, ingredient.ingredientId().id(), ingredient.isMainIngredient(),
+                        ingredient.quantity().value(), ingredient.quantity().unit().name()})
+                .collect(toList());
+        var courseTypes = recipe.courseTypes().stream()
+                .map(courseType -> new Object[]{id, courseType.name()})
+                .collect(toList());
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update(MERGE, id, recipe.name().value(), recipe.content(), recipe.author().authorName(),
+                    recipe.servings().value(), recipe.courseTypes().stream()
+                            .map(CourseType::name)
+                            .collect(joining(LIST_SEPARATOR)));
+            jdbcTemplate.update(DELETE_INGREDIENTS, id);
+            if (!ingredients.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_INGREDIENT, ingredients);
+            }
+            jdbcTemplate.update(DELETE_COURSE_TYPES, id);
+            if (!courseTypes.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_COURSE_TYPE, courseTypes);
+            }
+            versions.increment();
+            return recipe;
+        });
+    }
+
+    @Override
+    public Recipe update(@NonNull RecipeId id, @NonNull Consumer<Recipe> modification) {
+        return transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(SELECT_ID_FOR_UPDATE, id.id()).isEmpty()) {
+                throw new EntityNotFoundException(entityType(), id);
+            }
+            var recipe = findNotNullById(id);
+            modification.accept(recipe);
+            return save(recipe);
+        });
+    }
+
+    @Override
+    public void deleteAll() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_ALL);
+            versions.increment();
+        });
+    }
+
+    @Override
+    public void delete(@NonNull Recipe recipe) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE, recipe.id().id());
+            versions.increment();
+        });
+    }
+
+    private Page<Recipe, RecipeId> page(Pagination<RecipeId> pagination, String query, Object... parameters) {
+        var following = new RecipeRows();
+        var preceding = new ArrayList<RecipeId>();
+        jdbcTemplate.query(query, rs -> {
+            if (rs.getInt("part") == 0) {
+                following.add(rs);
+            } else {
+                preceding.add(new RecipeId(rs.getObject("page_key", UUID.class).toString()));
+            }
+        }, parameters);
+        return JdbcPages.page(following.recipes(), preceding, pagination);
+    }
+
+    /**
+     * Accumulates the rows of recipes joined with their ingredients, sorted by recipe, into recipes.
+     */
+    private static class RecipeRows {
+
+        private final List<Recipe> recipes = new ArrayList<>();
+        private CreateRecipe current;
+        private List<RecipeIngredient> ingredients = new ArrayList<>();
+
+        private void add(ResultSet rs) throws SQLException {
+            var id = new RecipeId(rs.getObject("id", UUID.class).toString());
+            if (current == null || !current.recipeId().equals(id)) {
+                flush();
+                current = new CreateRecipe(id, new Name(rs.getString("name")), rs.getString("content"),
+                        new RecipeAuthor(rs.getString("author")), new Servings(rs.getInt("servings")),
+                        courseTypes(rs.getString("course_types")));
+            }
+            var ingredientId = rs.getObject("ingredient_id", UUID.class);
+            if (ingredientId != null) {
+                ingredients.add(new RecipeIngredient(id, new IngredientId(ingredientId.toString()),
+                        rs.getBoolean("main_ingredient"),
+                        new Quantity(rs.getInt("quantity"), MeasurementUnit.valueOf(rs.getString("unit")))));
+            }
+        }
+
+        private List<Recipe> recipes() {
+            flush();
+            return recipes;
+        }
+
+        private void flush() {
+            if (current != null) {
+                recipes.add(new Recipe(current, ingredients));
+                current = null;
+                ingredients = new ArrayList<>();
+            }
+        }
+
+        private static Set<CourseType> courseTypes(String courseTypes) {
+            return courseTypes.isEmpty() ? Set.of() : Arrays.stream(courseTypes.split(LIST_SEPARATOR))
+                    .map(CourseType::valueOf)
+                    .collect(toSet());
+        }
+
+    }
+
+}
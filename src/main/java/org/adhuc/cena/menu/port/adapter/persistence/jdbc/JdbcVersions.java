@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import lombok.NonNull;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Maintains the content version of a JDBC repository, stored in the {@code repository_version} table. The version must
+ * be incremented in the same transaction as the modification it reflects, so that a version is never visible before
+ * the content it corresponds to.
+ * <p>
+ * Entities are not versioned individually: the version of an existing entity is the repository content version, that
+ * changes whenever any entity is modified.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+final class JdbcVersions {
+
+    private static final String SELECT = "SELECT version FROM repository_version WHERE name = ?";
+    private static final String SELECT_IF_EXISTS = SELECT + " AND EXISTS (%s)";
+    private static final String INCREMENT = "UPDATE repository_version SET version = version + 1 WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String name;
+    private final String selectIfExists;
+
+    /**
+     * Creates the version of a repository.
+     *
+     * @param jdbcTemplate the JDBC template.
+     * @param name         the repository name in the {@code repository_version} table.
+     * @param existsQuery  the query selecting a row if an entity exists, whose parameters are the entity key.
+     */
+    JdbcVersions(@NonNull JdbcTemplate jdbcTemplate, @NonNull String name, @NonNull String existsQuery) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.name = name;
+        this.selectIfExists = String.format(SELECT_IF_EXISTS, existsQuery);
+    }
+
+    /**
+     * Gets the repository content version.
+     *
+     * @return the content version.
+     */
+    long version() {
+        return jdbcTemplate.queryForObject(SELECT, Long.class, name);
+    }
+
+    /**
+     * Gets the version of the entity corresponding to the specified key.
+     *
+     * @param key the entity key.
+     * @return the content version if entity exists, {@code 0} otherwise.
+     */
+    long version(Object... key) {
+        var parameters = new Object[key.length + 1];
+        parameters[0] = name;
+        System.arraycopy(key, 0, parameters, 1, key.length);
+        return jdbcTemplate.query(selectIfExists, (rs, rowNum) -> rs.getLong("version"), parameters)
+                .stream().findFirst().orElse(0L);
+    }
+
+    /**
+     * Increments the repository content version. Must be called in the transaction of the modification.
+     */
+    void increment() {
+        jdbcTemplate.update(INCREMENT, name);
+    }
+
+}
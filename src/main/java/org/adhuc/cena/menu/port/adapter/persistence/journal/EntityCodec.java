@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.adhuc.cena.menu.common.aggregate.Entity;
+import org.adhuc.cena.menu.common.aggregate.Identity;
+
+/**
+ * A binary codec for the entities recorded in a journal or a snapshot, and their identities.
+ *
+ * @param <E> the entities type.
+ * @param <I> the entities' identity type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+interface EntityCodec<E extends Entity<I>, I extends Identity> {
+
+    /**
+     * Writes the specified entity, starting with its identity as written by {@link #writeIdentity(Entity, DataOutput)},
+     * so that the identity of an encoded entity can be read without decoding the whole entity.
+     *
+     * @param entity the entity.
+     * @param output the output to write entity to.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeEntity(E entity, DataOutput output) throws IOException;
+
+    /**
+     * Reads an entity.
+     *
+     * @param input the input to read entity from.
+     * @return the entity.
+     * @throws IOException if an I/O error occurs.
+     */
+    E readEntity(DataInput input) throws IOException;
+
+    /**
+     * Writes the identity of the specified entity.
+     *
+     * @param entity the entity.
+     * @param output the output to write identity to.
+     * @throws IOException if an I/O error occurs.
+     */
+    void writeIdentity(E entity, DataOutput output) throws IOException;
+
+    /**
+     * Reads an entity identity.
+     *
+     * @param input the input to read identity from.
+     * @return the entity identity.
+     * @throws IOException if an I/O error occurs.
+     */
+    I readIdentity(DataInput input) throws IOException;
+
+    /**
+     * Writes the specified string as UTF-8 bytes preceded by their length. Contrary to
+     * {@link DataOutput#writeUTF(String)}, the string length is not limited to 65535 bytes.
+     *
+     * @param value  the string.
+     * @param output the output to write string to.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void writeString(String value, DataOutput output) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string written with {@link #writeString(String, DataOutput)}.
+     *
+     * @param input the input to read string from.
+     * @return the string.
+     * @throws IOException if an I/O error occurs.
+     */
+    static String readString(DataInput input) throws IOException {
+        var bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
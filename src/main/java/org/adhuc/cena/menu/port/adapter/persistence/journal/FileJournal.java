@@ -0,0 +1,427 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.adhuc.cena.menu.common.aggregate.Entity;
+import org.adhuc.cena.menu.common.aggregate.Identity;
+import org.adhuc.cena.menu.common.aggregate.Journal;
+
+/**
+ * A {@link Journal} implementation recording modifications into {@link JournalFile journal files}. Each modification
+ * is recorded as a single record, starting with the modification type, followed by the saved entity or the deleted
+ * entity identity encoded with the entity codec. The saving of several entities is recorded as a single record
+ * containing the number of entities followed by each encoded entity preceded by its length, so that the entities are
+ * replayed all together or not at all.
+ * <p>
+ * The journal is split into segments, named after the journal name and a generation increasing with each segment.
+ * Modifications are recorded into the latest segment only. Taking a {@link #snapshot() snapshot} starts a new segment,
+ * then compacts the previous snapshot and the former segments into a {@link SnapshotFile snapshot} containing the
+ * latest version of each entity, and finally deletes the compacted segments. As the compaction only reads files that
+ * are not written anymore, modifications can be recorded while a snapshot is taken, only waiting for the new segment
+ * to be created.
+ * <p>
+ * The journal is replayed by saving each entity of the snapshot, followed by the modifications recorded into the
+ * segments that are not covered by the snapshot. The replay duration thus depends on the number of entities and on
+ * the number of modifications since the last snapshot, rather than on the whole modifications history.
+ *
+ * @param <E> the entities type.
+ * @param <I> the entities' identity type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+class FileJournal<E extends Entity<I>, I extends Identity> implements Journal<E, I>, Closeable {
+
+    private static final byte SAVE = 1;
+    private static final byte DELETE = 2;
+    private static final byte DELETE_ALL = 3;
+    private static final byte SAVE_ALL = 4;
+
+    private static final String SEGMENT_EXTENSION = ".journal";
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+    private final Path directory;
+    private final String name;
+    private final EntityCodec<E, I> codec;
+    private final Pattern segmentPattern;
+    private final SnapshotFile snapshot;
+    private final ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    private final Object snapshotLock = new Object();
+    private JournalFile segment;
+    private long generation;
+
+    /**
+     * Creates a journal, opening its latest segment in the specified directory, or creating the first one.
+     *
+     * @param directory the directory containing the journal segments and snapshot.
+     * @param name      the journal name.
+     * @param codec     the entity codec.
+     * @throws JournalException if the journal cannot be opened.
+     */
+    FileJournal(@NonNull Path directory, @NonNull String name, @NonNull EntityCodec<E, I> codec) {
+        this.directory = directory;
+        this.name = name;
+        this.codec = codec;
+        segmentPattern = Pattern.compile(Pattern.quote(name) + "-(\\d+)" + Pattern.quote(SEGMENT_EXTENSION));
+        snapshot = new SnapshotFile(directory.resolve(name + SNAPSHOT_EXTENSION));
+        var generations = segmentGenerations();
+        var lastGeneration = generations.isEmpty() ? 0 : generations.get(generations.size() - 1);
+        generation = Math.max(lastGeneration, snapshot.generation() + 1);
+        segment = new JournalFile(segmentPath(generation));
+    }
+
+    /**
+     * Gets the journal name.
+     *
+     * @return the name.
+     */
+    String name() {
+        return name;
+    }
+
+    @Override
+    public void recordSave(@NonNull E entity) {
+        append(record(SAVE, output -> codec.writeEntity(entity, output)));
+    }
+
+    @Override
+    public void recordSaveAll(@NonNull Collection<? extends E> entities) {
+        append(record(SAVE_ALL, output -> {
+            output.writeInt(entities.size());
+            for (var entity : entities) {
+                var bytes = new ByteArrayOutputStream();
+                codec.writeEntity(entity, new DataOutputStream(bytes));
+                output.writeInt(bytes.size());
+                bytes.writeTo(output);
+            }
+        }));
+    }
+
+    @Override
+    public void recordDelete(@NonNull E entity) {
+        append(record(DELETE, output -> codec.writeIdentity(entity, output)));
+    }
+
+    @Override
+    public void recordDeleteAll() {
+        append(record(DELETE_ALL, output -> {
+        }));
+    }
+
+    @Override
+    public void replay(@NonNull Modifications<E, I> modifications) {
+        synchronized (snapshotLock) {
+            var entities = new AtomicLong();
+            var snapshotGeneration = snapshot.read(entity -> {
+                modifications.save(decode(entity));
+                entities.incrementAndGet();
+            });
+            long records = 0;
+            for (var segmentGeneration : segmentGenerations()) {
+                if (segmentGeneration <= snapshotGeneration) {
+                    deleteSegment(segmentGeneration);
+                } else if (segmentGeneration == generation) {
+                    records += segment.replay(payload -> apply(payload, modifications));
+                } else {
+                    records += replaySegment(segmentGeneration, payload -> apply(payload, modifications));
+                }
+            }
+            log.info("Recovered {} entities from snapshot and replayed {} records from journal {}", entities, records,
+                    name);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the journal entities, if modifications have been recorded since the previous snapshot. The
+     * snapshot is computed from the previous snapshot and the former segments, without blocking the recording of new
+     * modifications.
+     *
+     * @return {@code true} if a snapshot has been taken, {@code false} otherwise.
+     * @throws JournalException if the snapshot cannot be taken. The journal can still be replayed from the previous
+     *                          snapshot and the segments.
+     */
+    boolean snapshot() {
+        synchronized (snapshotLock) {
+            var lastGeneration = roll();
+            if (lastGeneration == 0) {
+                return false;
+            }
+            var entities = new LinkedHashMap<I, byte[]>();
+            var previousGeneration = snapshot.read(entity -> {
+                var bytes = new byte[entity.remaining()];
+                entity.get(bytes);
+                entities.put(identity(bytes, 0), bytes);
+            });
+            for (var segmentGeneration : segmentGenerations()) {
+                if (segmentGeneration > previousGeneration && segmentGeneration <= lastGeneration) {
+                    replaySegment(segmentGeneration, payload -> compact(payload, entities));
+                }
+            }
+            snapshot.write(lastGeneration, entities.values());
+            for (var segmentGeneration : segmentGenerations()) {
+                if (segmentGeneration <= lastGeneration) {
+                    deleteSegment(segmentGeneration);
+                }
+            }
+            log.info("Took snapshot of {} entities from journal {} up to generation {}", entities.size(), name,
+                    lastGeneration);
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        segmentLock.writeLock().lock();
+        try {
+            segment.close();
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+    }
+
+    private void append(byte[] record) {
+        segmentLock.readLock().lock();
+        try {
+            segment.append(record);
+        } finally {
+            segmentLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a new segment if modifications have been recorded into the current one.
+     *
+     * @return the generation of the former segment, or 0 if no new segment has been started.
+     */
+    private long roll() {
+        segmentLock.writeLock().lock();
+        try {
+            if (segment.size() == 0) {
+                return 0;
+            }
+            if (segment.failed()) {
+                throw new JournalException("Cannot start new segment of journal " + name + " after previous failure");
+            }
+            var next = new JournalFile(segmentPath(generation + 1));
+            var former = segment;
+            segment = next;
+            generation++;
+            try {
+                former.close();
+            } catch (IOException e) {
+                log.warn("Unable to close segment {}", former.path(), e);
+            }
+            return generation - 1;
+        } finally {
+            segmentLock.writeLock().unlock();
+        }
+    }
+
+    private long replaySegment(long segmentGeneration, Consumer<byte[]> consumer) {
+        try (var file = new JournalFile(segmentPath(segmentGeneration))) {
+            return file.replay(consumer);
+        } catch (IOException e) {
+            throw new JournalException("Unable to close segment " + segmentPath(segmentGeneration), e);
+        }
+    }
+
+    private void deleteSegment(long segmentGeneration) {
+        try {
+            Files.deleteIfExists(segmentPath(segmentGeneration));
+        } catch (IOException e) {
+            log.warn("Unable to delete segment {} covered by snapshot", segmentPath(segmentGeneration), e);
+        }
+    }
+
+    private List<Long> segmentGenerations() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (var files = Files.list(directory)) {
+            return files.map(file -> segmentPattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.valueOf(matcher.group(1)))
+                    .sorted()
+                    .collect(toList());
+        } catch (IOException e) {
+            throw new JournalException("Unable to list segments of journal " + name + " in " + directory, e);
+        }
+    }
+
+    private Path segmentPath(long segmentGeneration) {
+        return directory.resolve(name + "-" + segmentGeneration + SEGMENT_EXTENSION);
+    }
+
+    private byte[] record(byte type, RecordWriter writer) {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(bytes)) {
+            output.writeByte(type);
+            writer.write(output);
+        } catch (IOException e) {
+            throw new JournalException("Unable to encode record for journal " + name, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void apply(byte[] payload, Modifications<E, I> modifications) {
+        try (var input = new DataInputStream(new ByteArrayInputStream(payload))) {
+            var type = input.readByte();
+            switch (type) {
+                case SAVE:
+                    modifications.save(codec.readEntity(input));
+                    break;
+                case DELETE:
+                    modifications.delete(codec.readIdentity(input));
+                    break;
+                case DELETE_ALL:
+                    modifications.deleteAll();
+                    break;
+                case SAVE_ALL:
+                    var count = input.readInt();
+                    for (int i = 0; i < count; i++) {
+                        input.readInt();
+                        modifications.save(codec.readEntity(input));
+                    }
+                    break;
+                default:
+                    throw unknownRecordType(type);
+            }
+        } catch (IOException e) {
+            throw new JournalException("Unable to decode record from journal " + name, e);
+        }
+    }
+
+    /**
+     * Applies the specified record to the encoded entities. As an encoded entity starts with its identity, saved
+     * entities are kept encoded, without being decoded entirely.
+     */
+    private void compact(byte[] payload, Map<I, byte[]> entities) {
+        switch (payload[0]) {
+            case SAVE:
+                entities.put(identity(payload, 1), Arrays.copyOfRange(payload, 1, payload.length));
+                break;
+            case DELETE:
+                entities.remove(identity(payload, 1));
+                break;
+            case DELETE_ALL:
+                entities.clear();
+                break;
+            case SAVE_ALL:
+                var buffer = ByteBuffer.wrap(payload, 1, payload.length - 1);
+                var count = buffer.getInt();
+                for (int i = 0; i < count; i++) {
+                    var length = buffer.getInt();
+                    var offset = buffer.position();
+                    entities.put(identity(payload, offset), Arrays.copyOfRange(payload, offset, offset + length));
+                    buffer.position(offset + length);
+                }
+                break;
+            default:
+                throw unknownRecordType(payload[0]);
+        }
+    }
+
+    private I identity(byte[] bytes, int offset) {
+        try (var input = new DataInputStream(new ByteArrayInputStream(bytes, offset, bytes.length - offset))) {
+            return codec.readIdentity(input);
+        } catch (IOException e) {
+            throw new JournalException("Unable to decode identity from journal " + name, e);
+        }
+    }
+
+    private E decode(ByteBuffer entity) {
+        try (var input = new DataInputStream(new ByteBufferInputStream(entity))) {
+            return codec.readEntity(input);
+        } catch (IOException e) {
+            throw new JournalException("Unable to decode entity from snapshot " + snapshot.path(), e);
+        }
+    }
+
+    private JournalException unknownRecordType(byte type) {
+        return new JournalException("Unknown record type " + type + " in journal " + name);
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    /**
+     * An input stream reading the remaining bytes of a buffer, avoiding to copy memory-mapped snapshot content before
+     * decoding it.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            var read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static org.adhuc.cena.menu.port.adapter.persistence.journal.EntityCodec.readString;
+import static org.adhuc.cena.menu.port.adapter.persistence.journal.EntityCodec.writeString;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.ingredients.CreateIngredient;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.MeasurementType;
+
+/**
+ * The {@link Ingredient} binary codec. Enumerated values are written by name, so that enumerations can be reordered
+ * without altering existing journals.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+class IngredientCodec implements EntityCodec<Ingredient, IngredientId> {
+
+    @Override
+    public void writeEntity(Ingredient ingredient, DataOutput output) throws IOException {
+        writeIdentity(ingredient, output);
+        writeString(ingredient.name().value(), output);
+        output.writeInt(ingredient.measurementTypes().size());
+        for (var measurementType : ingredient.measurementTypes()) {
+            output.writeUTF(measurementType.name());
+        }
+    }
+
+    @Override
+    public Ingredient readEntity(DataInput input) throws IOException {
+        var id = readIdentity(input);
+        var name = new Name(readString(input));
+        var measurementTypesCount = input.readInt();
+        var measurementTypes = new ArrayList<MeasurementType>(measurementTypesCount);
+        for (int i = 0; i < measurementTypesCount; i++) {
+            measurementTypes.add(MeasurementType.valueOf(input.readUTF()));
+        }
+        return new Ingredient(new CreateIngredient(id, name, measurementTypes));
+    }
+
+    @Override
+    public void writeIdentity(Ingredient ingredient, DataOutput output) throws IOException {
+        output.writeUTF(ingredient.id().toString());
+    }
+
+    @Override
+    public IngredientId readIdentity(DataInput input) throws IOException {
+        return new IngredientId(input.readUTF());
+    }
+
+}
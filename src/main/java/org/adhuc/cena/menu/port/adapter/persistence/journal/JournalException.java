@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import org.adhuc.cena.menu.common.exception.CenaException;
+import org.adhuc.cena.menu.common.exception.ExceptionCode;
+
+/**
+ * An exception occurring while reading or writing a journal.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+class JournalException extends CenaException {
+
+    private static final ExceptionCode EXCEPTION_CODE = ExceptionCode.INTERNAL_ERROR;
+
+    /**
+     * Creates a {@code JournalException} with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    JournalException(String message) {
+        super(message, EXCEPTION_CODE);
+    }
+
+    /**
+     * Creates a {@code JournalException} with the specified detail message and cause.
+     *
+     * @param message the detail message.
+     * @param cause   the cause.
+     */
+    JournalException(String message, Throwable cause) {
+        super(message, cause, EXCEPTION_CODE);
+    }
+
+}
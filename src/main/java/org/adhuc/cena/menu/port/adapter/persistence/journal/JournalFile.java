@@ -0,0 +1,302 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An append-only journal file, storing a sequence of checksummed binary records.
+ * <p>
+ * Each record is written as its payload length and CRC-32C checksum, followed by the payload itself. Appending a
+ * record costs a single sequential write, followed by a group commit: the thread that synchronizes the file with the
+ * storage device also makes durable the records appended concurrently by other threads, which then do not need to
+ * synchronize the file again. Records are durable once {@link #append(byte[])} returns.
+ * <p>
+ * A crash while appending can leave partially written records at the end of the file. Such records, detected while
+ * {@link #replay(Consumer) replaying} the file by their length or their checksum, are truncated, as they have never
+ * been acknowledged. A crash can also leave zero-filled space at the end of the file, e.g. on preallocated extents:
+ * records being never empty, a zero length is always invalid, so that such space is truncated as well rather than read
+ * as empty records whose checksum is zero. An invalid record followed by a valid record, or whose length does not allow
+ * to locate the following record, cannot result from a crash while appending though: the journal is then considered
+ * corrupted and the replay fails, rather than silently dropping acknowledged records.
+ * <p>
+ * An I/O error while writing or synchronizing the file leaves its content undetermined: every subsequent append fails,
+ * until the application is restarted and replays the journal.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+class JournalFile implements Closeable {
+
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Object writeLock = new Object();
+    private final Object syncLock = new Object();
+    private volatile long writtenSize;
+    private long syncedSize;
+    private volatile IOException failure;
+
+    /**
+     * Opens the journal file at the specified path, creating it if it does not exist yet.
+     *
+     * @param path the journal file path.
+     * @throws JournalException if the journal file cannot be opened.
+     */
+    JournalFile(@NonNull Path path) {
+        this.path = path;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, CREATE, READ, WRITE);
+            writtenSize = channel.size();
+            syncedSize = writtenSize;
+            channel.position(writtenSize);
+        } catch (IOException e) {
+            throw new JournalException("Unable to open journal " + path, e);
+        }
+    }
+
+    /**
+     * Gets the journal file path.
+     *
+     * @return the path.
+     */
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Gets the journal file size, including the records being appended.
+     *
+     * @return the size in bytes.
+     */
+    long size() {
+        return writtenSize;
+    }
+
+    /**
+     * Indicates whether the journal is not writable anymore after an I/O error.
+     *
+     * @return {@code true} if a previous write failed, {@code false} otherwise.
+     */
+    boolean failed() {
+        return failure != null;
+    }
+
+    /**
+     * Appends the specified record to the journal, returning once the record is durable.
+     *
+     * @param payload the record payload. Must not be empty.
+     * @throws JournalException if the record cannot be appended.
+     */
+    void append(@NonNull byte[] payload) {
+        if (payload.length == 0) {
+            throw new JournalException("Cannot append empty record to journal " + path);
+        }
+        if (payload.length > MAX_RECORD_SIZE) {
+            throw new JournalException("Cannot append record of " + payload.length + " bytes to journal " + path
+                    + ", maximum size is " + MAX_RECORD_SIZE);
+        }
+        var record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .putInt(checksum(payload))
+                .put(payload)
+                .flip();
+        long end;
+        synchronized (writeLock) {
+            ensureNotFailed();
+            try {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+            } catch (IOException e) {
+                throw fail("Unable to append record to journal " + path, e);
+            }
+            end = writtenSize + record.limit();
+            writtenSize = end;
+        }
+        sync(end);
+    }
+
+    private void sync(long end) {
+        synchronized (syncLock) {
+            if (syncedSize >= end) {
+                return;
+            }
+            ensureNotFailed();
+            var target = writtenSize;
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                throw fail("Unable to synchronize journal " + path, e);
+            }
+            syncedSize = target;
+        }
+    }
+
+    /**
+     * Replays the records stored in the journal, in the order they have been appended. Partially written records at
+     * the end of the journal are truncated.
+     *
+     * @param consumer the consumer of the records payloads.
+     * @return the number of replayed records.
+     * @throws JournalException if the journal cannot be read, or if it is corrupted before its end.
+     */
+    long replay(@NonNull Consumer<byte[]> consumer) {
+        synchronized (writeLock) {
+            long validSize = 0;
+            long records = 0;
+            try {
+                var input = new DataInputStream(new BufferedInputStream(
+                        Channels.newInputStream(channel.position(0))));
+                byte[] payload;
+                while ((payload = readRecord(input, validSize)) != null) {
+                    consumer.accept(payload);
+                    validSize += RECORD_HEADER_SIZE + payload.length;
+                    records++;
+                }
+                if (validSize < channel.size()) {
+                    ensureTornTail(validSize);
+                    log.warn("Truncate journal {} from {} to {} bytes, after last valid record", path, channel.size(),
+                            validSize);
+                    channel.truncate(validSize);
+                    channel.force(false);
+                }
+                channel.position(validSize);
+            } catch (IOException e) {
+                throw new JournalException("Unable to replay journal " + path, e);
+            }
+            writtenSize = validSize;
+            synchronized (syncLock) {
+                syncedSize = validSize;
+            }
+            return records;
+        }
+    }
+
+    private byte[] readRecord(DataInputStream input, long offset) throws IOException {
+        try {
+            var length = input.readInt();
+            var checksum = input.readInt();
+            if (length <= 0 || length > MAX_RECORD_SIZE) {
+                log.warn("Invalid record length {} in journal {} at offset {}", length, path, offset);
+                return null;
+            }
+            var payload = new byte[length];
+            input.readFully(payload);
+            if (checksum(payload) != checksum) {
+                log.warn("Invalid record checksum in journal {} at offset {}", path, offset);
+                return null;
+            }
+            return payload;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Ensures that the invalid records starting at the specified offset are partially written records at the end of the
+     * journal, i.e. that none of the following records is valid. Zero lengths, found in zero-filled space, are skipped
+     * header by header.
+     */
+    private void ensureTornTail(long offset) throws IOException {
+        var size = channel.size();
+        var next = offset;
+        while (next < size) {
+            var header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            if (!readFully(header, next)) {
+                return;
+            }
+            var length = header.getInt(0);
+            if (length == 0) {
+                next += RECORD_HEADER_SIZE;
+                continue;
+            }
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                throw new JournalException("Journal " + path + " is corrupted at offset " + next
+                        + ": invalid record length " + length + " before end of journal");
+            }
+            var payload = ByteBuffer.allocate(length);
+            if (!readFully(payload, next + RECORD_HEADER_SIZE)) {
+                return;
+            }
+            if (next > offset && checksum(payload.array()) == header.getInt(Integer.BYTES)) {
+                throw new JournalException("Journal " + path + " is corrupted at offset " + offset
+                        + ": invalid record followed by valid record at offset " + next);
+            }
+            next += RECORD_HEADER_SIZE + length;
+        }
+    }
+
+    private boolean readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            channel.close();
+        }
+    }
+
+    private void ensureNotFailed() {
+        if (failure != null) {
+            throw new JournalException("Journal " + path + " is not writable anymore after previous failure", failure);
+        }
+    }
+
+    private JournalException fail(String message, IOException cause) {
+        failure = cause;
+        log.error("{}, journal is not writable anymore", message, cause);
+        return new JournalException(message, cause);
+    }
+
+    private static int checksum(byte[] payload) {
+        var crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.MenuId;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * Configures the journals recording ingredients, recipes and menus modifications with {@code journal} profile, each
+ * in its own files inside the configured directory. The in-memory repositories record their modifications into these
+ * journals, and recover their entities from them on startup. Snapshots of the journals are taken periodically, so
+ * that recovery only replays the modifications recorded since the last snapshot.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+@Configuration
+@Profile("journal")
+class JournalPersistenceConfiguration {
+
+    private final Path directory;
+    private final Duration snapshotInterval;
+
+    JournalPersistenceConfiguration(MenuGenerationProperties properties) {
+        var journal = properties.getPersistence().getJournal();
+        this.directory = Path.of(journal.getDirectory());
+        this.snapshotInterval = journal.getSnapshotInterval();
+        log.info("Persist entities into journals in directory {}, with snapshots every {}",
+                directory.toAbsolutePath(), snapshotInterval);
+    }
+
+    @Bean
+    FileJournal<Ingredient, IngredientId> ingredientJournal() {
+        return new FileJournal<>(directory, "ingredients", new IngredientCodec());
+    }
+
+    @Bean
+    FileJournal<Recipe, RecipeId> recipeJournal() {
+        return new FileJournal<>(directory, "recipes", new RecipeCodec());
+    }
+
+    @Bean
+    FileJournal<Menu, MenuId> menuJournal() {
+        return new FileJournal<>(directory, "menus", new MenuCodec());
+    }
+
+    @Bean
+    SnapshotScheduler journalSnapshotScheduler(List<FileJournal<?, ?>> journals) {
+        return new SnapshotScheduler(journals, snapshotInterval);
+    }
+
+}
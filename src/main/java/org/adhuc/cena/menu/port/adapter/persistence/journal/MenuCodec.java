@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.adhuc.cena.menu.menus.Covers;
+import org.adhuc.cena.menu.menus.CreateMenu;
+import org.adhuc.cena.menu.menus.MealType;
+import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.MenuId;
+import org.adhuc.cena.menu.menus.MenuOwner;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * The {@link Menu} binary codec. The menu date is written as its epoch day.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+class MenuCodec implements EntityCodec<Menu, MenuId> {
+
+    @Override
+    public void writeEntity(Menu menu, DataOutput output) throws IOException {
+        writeIdentity(menu, output);
+        output.writeInt(menu.covers().value());
+        output.writeInt(menu.mainCourseRecipes().size());
+        for (var recipeId : menu.mainCourseRecipes()) {
+            output.writeUTF(recipeId.toString());
+        }
+    }
+
+    @Override
+    public Menu readEntity(DataInput input) throws IOException {
+        var owner = new MenuOwner(input.readUTF());
+        var date = LocalDate.ofEpochDay(input.readLong());
+        var mealType = MealType.valueOf(input.readUTF());
+        var covers = new Covers(input.readInt());
+        var recipesCount = input.readInt();
+        var mainCourseRecipes = new ArrayList<RecipeId>(recipesCount);
+        for (int i = 0; i < recipesCount; i++) {
+            mainCourseRecipes.add(new RecipeId(input.readUTF()));
+        }
+        return new Menu(new CreateMenu(owner, date, mealType, covers, mainCourseRecipes));
+    }
+
+    @Override
+    public void writeIdentity(Menu menu, DataOutput output) throws IOException {
+        output.writeUTF(menu.owner().ownerName());
+        output.writeLong(menu.date().toEpochDay());
+        output.writeUTF(menu.mealType().name());
+    }
+
+    @Override
+    public MenuId readIdentity(DataInput input) throws IOException {
+        return new MenuId(new MenuOwner(input.readUTF()), LocalDate.ofEpochDay(input.readLong()),
+                MealType.valueOf(input.readUTF()));
+    }
+
+}
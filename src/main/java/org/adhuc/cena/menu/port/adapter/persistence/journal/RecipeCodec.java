@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static org.adhuc.cena.menu.port.adapter.persistence.journal.EntityCodec.readString;
+import static org.adhuc.cena.menu.port.adapter.persistence.journal.EntityCodec.writeString;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.recipes.CourseType;
+import org.adhuc.cena.menu.recipes.CreateRecipe;
+import org.adhuc.cena.menu.recipes.MeasurementUnit;
+import org.adhuc.cena.menu.recipes.Quantity;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeAuthor;
+import org.adhuc.cena.menu.recipes.RecipeId;
+import org.adhuc.cena.menu.recipes.RecipeIngredient;
+import org.adhuc.cena.menu.recipes.Servings;
+
+/**
+ * The {@link Recipe} binary codec, writing the recipe along with its ingredients.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+class RecipeCodec implements EntityCodec<Recipe, RecipeId> {
+
+    @Override
+    public void writeEntity(Recipe recipe, DataOutput output) throws IOException {
+        writeIdentity(recipe, output);
+        writeString(recipe.name().value(), output);
+        writeString(recipe.content(), output);
+        writeString(recipe.author().authorName(), output);
+        output.writeInt(recipe.servings().value());
+        output.writeInt(recipe.courseTypes().size());
+        for (var courseType : recipe.courseTypes()) {
+            output.writeUTF(courseType.name());
+        }
+        var ingredients = recipe.ingredients();
+        output.writeInt(ingredients.size());
+        for (var ingredient : ingredients) {
+            output.writeUTF(ingredient.ingredientId().toString());
+            output.writeBoolean(ingredient.isMainIngredient());
+            output.writeInt(ingredient.quantity().value());
+            output.writeUTF(ingredient.quantity().unit().name());
+        }
+    }
+
+    @Override
+    public Recipe readEntity(DataInput input) throws IOException {
+        var id = readIdentity(input);
+        var name = new Name(readString(input));
+        var content = readString(input);
+        var author = new RecipeAuthor(readString(input));
+        var servings = new Servings(input.readInt());
+        var courseTypesCount = input.readInt();
+        var courseTypes = new HashSet<CourseType>(courseTypesCount);
+        for (int i = 0; i < courseTypesCount; i++) {
+            courseTypes.add(CourseType.valueOf(input.readUTF()));
+        }
+        var ingredientsCount = input.readInt();
+        var ingredients = new ArrayList<RecipeIngredient>(ingredientsCount);
+        for (int i = 0; i < ingredientsCount; i++) {
+            var ingredientId = new IngredientId(input.readUTF());
+            var isMainIngredient = input.readBoolean();
+            var quantity = new Quantity(input.readInt(), MeasurementUnit.valueOf(input.readUTF()));
+            ingredients.add(new RecipeIngredient(id, ingredientId, isMainIngredient, quantity));
+        }
+        return new Recipe(new CreateRecipe(id, name, content, author, servings, courseTypes), ingredients);
+    }
+
+    @Override
+    public void writeIdentity(Recipe recipe, DataOutput output) throws IOException {
+        output.writeUTF(recipe.id().toString());
+    }
+
+    @Override
+    public RecipeId readIdentity(DataInput input) throws IOException {
+        return new RecipeId(input.readUTF());
+    }
+
+}
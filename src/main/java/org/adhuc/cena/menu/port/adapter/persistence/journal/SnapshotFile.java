@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A snapshot file, storing the encoded entities of a journal up to a given journal segment generation.
+ * <p>
+ * The snapshot starts with a header made of a magic number, the format version, the generation of the last journal
+ * segment it covers and the number of entities. Each entity follows as a checksummed record, laid out as journal
+ * records. A snapshot is written into a temporary file that is synchronized then atomically moved to the snapshot
+ * path, so that a crash while writing a snapshot leaves the previous one untouched.
+ * <p>
+ * Snapshots are read through a memory mapping, entities being decoded directly from the mapped file content.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+class SnapshotFile {
+
+    private static final int MAGIC = 0x43454e41;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+
+    private final Path path;
+
+    /**
+     * Creates a snapshot file at the specified path. The file is not created until the snapshot is written.
+     *
+     * @param path the snapshot file path.
+     */
+    SnapshotFile(@NonNull Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Gets the snapshot file path.
+     *
+     * @return the path.
+     */
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Gets the generation of the last journal segment covered by the snapshot, reading only the snapshot header.
+     *
+     * @return the generation, or 0 if there is no snapshot.
+     * @throws JournalException if the snapshot cannot be read.
+     */
+    long generation() {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (var channel = FileChannel.open(path, READ)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            int read;
+            do {
+                read = channel.read(header);
+            } while (read >= 0 && header.hasRemaining());
+            return readHeader(header.flip());
+        } catch (IOException e) {
+            throw new JournalException("Unable to read snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Reads the snapshot, if any.
+     *
+     * @param consumer the consumer of the encoded entities, each one being provided as a read-only buffer whose
+     *                 remaining bytes are the encoded entity. The buffer is only valid during the consumer call.
+     * @return the generation of the last journal segment covered by the snapshot, or 0 if there is no snapshot.
+     * @throws JournalException if the snapshot cannot be read or is corrupted.
+     */
+    long read(@NonNull Consumer<ByteBuffer> consumer) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (var channel = FileChannel.open(path, READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new JournalException("Cannot map snapshot " + path + " of " + size + " bytes");
+            }
+            var content = channel.map(READ_ONLY, 0, size);
+            var generation = readHeader(content);
+            var count = content.getInt();
+            var crc = new CRC32C();
+            for (int i = 0; i < count; i++) {
+                if (content.remaining() < RECORD_HEADER_SIZE) {
+                    throw corrupted("missing entity " + i + " of " + count);
+                }
+                var length = content.getInt();
+                var checksum = content.getInt();
+                if (length < 0 || length > content.remaining()) {
+                    throw corrupted("invalid length " + length + " for entity " + i);
+                }
+                var entity = content.slice().limit(length);
+                crc.reset();
+                crc.update(entity.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    throw corrupted("invalid checksum for entity " + i);
+                }
+                consumer.accept(entity);
+                content.position(content.position() + length);
+            }
+            if (content.hasRemaining()) {
+                throw corrupted(content.remaining() + " unexpected bytes after last entity");
+            }
+            log.debug("Read {} entities from snapshot {} covering journal generation {}", count, path, generation);
+            return generation;
+        } catch (IOException e) {
+            throw new JournalException("Unable to read snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Writes the snapshot, replacing the previous one if any. The snapshot is durable once this method returns.
+     *
+     * @param generation the generation of the last journal segment covered by the snapshot.
+     * @param entities   the encoded entities.
+     * @throws JournalException if the snapshot cannot be written. The previous snapshot is left untouched.
+     */
+    void write(long generation, @NonNull Collection<byte[]> entities) {
+        var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporary, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                var buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE)
+                        .putInt(MAGIC)
+                        .putInt(FORMAT_VERSION)
+                        .putLong(generation)
+                        .putInt(entities.size());
+                var crc = new CRC32C();
+                for (var entity : entities) {
+                    if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                        flush(channel, buffer);
+                    }
+                    crc.reset();
+                    crc.update(entity);
+                    buffer.putInt(entity.length).putInt((int) crc.getValue());
+                    put(channel, buffer, entity);
+                }
+                flush(channel, buffer);
+                channel.force(true);
+            }
+            Files.move(temporary, path, ATOMIC_MOVE);
+            syncDirectory();
+        } catch (IOException e) {
+            throw new JournalException("Unable to write snapshot " + path, e);
+        }
+    }
+
+    private long readHeader(ByteBuffer header) {
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw corrupted("invalid header");
+        }
+        var version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw corrupted("unsupported format version " + version);
+        }
+        return header.getLong();
+    }
+
+    private JournalException corrupted(String reason) {
+        return new JournalException("Snapshot " + path + " is corrupted: " + reason);
+    }
+
+    private static void put(FileChannel channel, ByteBuffer buffer, byte[] bytes) throws IOException {
+        if (bytes.length > buffer.remaining()) {
+            flush(channel, buffer);
+            if (bytes.length > buffer.capacity()) {
+                write(channel, ByteBuffer.wrap(bytes));
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        write(channel, buffer.flip());
+        buffer.clear();
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void syncDirectory() {
+        try (var directory = FileChannel.open(path.toAbsolutePath().getParent(), READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            log.debug("Unable to synchronize directory of snapshot {}", path, e);
+        }
+    }
+
+}
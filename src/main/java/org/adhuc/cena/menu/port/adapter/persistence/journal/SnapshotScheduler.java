@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically takes snapshots of journals, one journal after the other, in a dedicated background thread. A failing
+ * snapshot is logged and retried at the next period.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+class SnapshotScheduler implements Closeable {
+
+    private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a scheduler taking snapshots of the specified journals at the specified interval.
+     *
+     * @param journals the journals.
+     * @param interval the interval between the end of the snapshots of all journals and the next ones.
+     */
+    SnapshotScheduler(@NonNull List<? extends FileJournal<?, ?>> journals, @NonNull Duration interval) {
+        isTrue(!interval.isNegative() && !interval.isZero(),
+                () -> "Cannot schedule journal snapshots with non-positive interval " + interval);
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> journals.forEach(this::snapshot), interval.toMillis(),
+                interval.toMillis(), MILLISECONDS);
+    }
+
+    private void snapshot(FileJournal<?, ?> journal) {
+        try {
+            journal.snapshot();
+        } catch (RuntimeException e) {
+            log.error("Unable to take snapshot of journal {}", journal.name(), e);
+        }
+    }
+
+    /**
+     * Stops taking snapshots, waiting for the snapshot in progress if any.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, SECONDS)) {
+                log.warn("Snapshot still in progress after {} seconds, stop waiting", TERMINATION_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
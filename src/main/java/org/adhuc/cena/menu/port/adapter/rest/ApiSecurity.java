@@ -23,21 +23,31 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 import static org.adhuc.cena.menu.common.security.RolesDefinition.INGREDIENT_MANAGER_ROLE;
 import static org.adhuc.cena.menu.common.security.RolesDefinition.SUPER_ADMINISTRATOR_ROLE;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+import org.adhuc.cena.menu.port.adapter.rest.authentication.AuthenticationTokenService;
+import org.adhuc.cena.menu.port.adapter.rest.authentication.TokenAuthenticationFilter;
 
 /**
- * Security configuration for REST API.
+ * Security configuration for REST API. Requests can be authenticated either with HTTP Basic credentials, or with a
+ * bearer token issued on /api/token in exchange for those credentials.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Configuration
 @Order(99)
+@RequiredArgsConstructor
 public class ApiSecurity extends WebSecurityConfigurerAdapter {
 
     private static final String WILDCARD = "/**";
@@ -50,6 +60,15 @@ public class ApiSecurity extends WebSecurityConfigurerAdapter {
     private static final String BASE_RECIPE_INGREDIENTS_PATH = RECIPE_INGREDIENTS_PATH + WILDCARD;
     private static final String MENUS_PATH = "/api/menus";
     private static final String BASE_MENUS_PATH = MENUS_PATH + WILDCARD;
+    private static final String TOKEN_PATH = "/api/token";
+
+    private final MenuGenerationProperties menuGenerationProperties;
+
+    @Bean
+    AuthenticationTokenService authenticationTokenService() {
+        var token = menuGenerationProperties.getSecurity().getToken();
+        return new AuthenticationTokenService(token.getSecret(), token.getTimeToLive());
+    }
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
@@ -69,10 +88,17 @@ public class ApiSecurity extends WebSecurityConfigurerAdapter {
                 .mvcMatchers(DELETE, BASE_RECIPES_PATH).authenticated()
                 // Menus resources
                 .mvcMatchers(BASE_MENUS_PATH).authenticated()
+                // Authentication token resource
+                .mvcMatchers(POST, TOKEN_PATH).authenticated()
                 // Other resources
                 .mvcMatchers(BASE_API_PATH).permitAll();
         http.csrf().disable();
-        http.httpBasic().authenticationEntryPoint(new HttpStatusEntryPoint(UNAUTHORIZED));
+        var authenticationEntryPoint = new HttpStatusEntryPoint(UNAUTHORIZED);
+        http.httpBasic().authenticationEntryPoint(authenticationEntryPoint);
+        if (menuGenerationProperties.getSecurity().getToken().isEnabled()) {
+            http.addFilterBefore(new TokenAuthenticationFilter(authenticationTokenService(), authenticationEntryPoint,
+                    new AntPathRequestMatcher(TOKEN_PATH)), BasicAuthenticationFilter.class);
+        }
         http.sessionManagement().sessionCreationPolicy(STATELESS);
     }
 
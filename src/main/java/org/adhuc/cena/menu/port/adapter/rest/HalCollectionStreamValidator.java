@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest;
+
+import static com.fasterxml.jackson.core.JsonToken.NOT_AVAILABLE;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import lombok.NonNull;
+
+/**
+ * A validator checking a HAL collection response body while it is written, without materializing it. The body is fed
+ * chunk by chunk to a non-blocking JSON parser, and the validator only keeps track of the parsing context and of the
+ * item being parsed, so that its memory usage depends on the largest item size rather than on the body size.
+ * <p>
+ * The body must be a well-formed JSON object, containing the {@code _links} property, and whose optional
+ * {@code _embedded.data} property is an array of objects each containing the {@code _links} property. Each item is
+ * copied while parsed, and validated by the {@link ItemValidator} once complete, typically against the item schema of
+ * the OpenAPI specification.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+class HalCollectionStreamValidator {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String LINKS = "_links";
+    private static final String EMBEDDED = "_embedded";
+    private static final String DATA = "data";
+
+    private final ItemValidator itemValidator;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final StringWriter item = new StringWriter();
+    private JsonGenerator itemGenerator;
+    private String failure;
+    private boolean rootStarted;
+    private boolean rootLinksFound;
+    private boolean itemLinksFound;
+
+    /**
+     * Creates a HAL collection stream validator.
+     *
+     * @param itemValidator the validator of each item of the collection.
+     */
+    HalCollectionStreamValidator(@NonNull ItemValidator itemValidator) {
+        this.itemValidator = itemValidator;
+        try {
+            parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to create non blocking JSON parser", e);
+        }
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Feeds the validator with a chunk of the body.
+     *
+     * @param bytes  the bytes containing the chunk.
+     * @param offset the chunk offset.
+     * @param length the chunk length.
+     */
+    void feed(byte[] bytes, int offset, int length) {
+        if (failure != null || length == 0) {
+            return;
+        }
+        try {
+            feeder.feedInput(bytes, offset, offset + length);
+            consume();
+        } catch (IOException e) {
+            fail("Response body is not well-formed JSON: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Indicates the end of the body, and gets the validation result.
+     *
+     * @return the validation failure, or an empty optional if the body is valid.
+     */
+    Optional<String> complete() {
+        if (failure == null) {
+            try {
+                feeder.endOfInput();
+                consume();
+                if (!rootStarted || !parser.getParsingContext().inRoot()) {
+                    fail("Response body is incomplete");
+                } else if (!rootLinksFound) {
+                    fail("Response body does not contain " + LINKS);
+                }
+            } catch (IOException e) {
+                fail("Response body is not well-formed JSON: " + e.getMessage());
+            }
+        }
+        return Optional.ofNullable(failure);
+    }
+
+    private void consume() throws IOException {
+        JsonToken token;
+        while (failure == null && (token = parser.nextToken()) != null && token != NOT_AVAILABLE) {
+            validate(token, parser.getParsingContext());
+        }
+    }
+
+    private void validate(JsonToken token, JsonStreamContext context) throws IOException {
+        if (itemGenerator != null) {
+            itemGenerator.copyCurrentEvent(parser);
+        }
+        if (!rootStarted) {
+            rootStarted = true;
+            if (token != JsonToken.START_OBJECT) {
+                fail("Response body is not a JSON object");
+            }
+            return;
+        }
+        if (token == JsonToken.FIELD_NAME) {
+            var name = parser.getCurrentName();
+            if (LINKS.equals(name) && context.getParent().inRoot()) {
+                rootLinksFound = true;
+            } else if (LINKS.equals(name) && isItem(context)) {
+                itemLinksFound = true;
+            }
+            return;
+        }
+        if (token.isStructEnd()) {
+            if (token == JsonToken.END_OBJECT && isData(context)) {
+                validateItem();
+            }
+            return;
+        }
+        // The context of a structure start token is the structure itself, not the structure containing it
+        var container = token.isStructStart() ? context.getParent() : context;
+        if (isValueOf(container, EMBEDDED, DATA) && token != JsonToken.START_ARRAY) {
+            fail("Response body " + EMBEDDED + "." + DATA + " is not an array");
+        } else if (isData(container)) {
+            if (token != JsonToken.START_OBJECT) {
+                fail("Response body contains " + EMBEDDED + "." + DATA + " item that is not an object");
+                return;
+            }
+            itemLinksFound = false;
+            item.getBuffer().setLength(0);
+            itemGenerator = JSON_FACTORY.createGenerator(item);
+            itemGenerator.copyCurrentEvent(parser);
+        }
+    }
+
+    private void validateItem() throws IOException {
+        itemGenerator.close();
+        itemGenerator = null;
+        if (!itemLinksFound) {
+            fail("Response body contains " + EMBEDDED + "." + DATA + " item without " + LINKS);
+        } else {
+            itemValidator.validate(item.toString()).ifPresent(
+                    itemFailure -> fail("Response body contains invalid " + EMBEDDED + "." + DATA + " item: " + itemFailure));
+        }
+    }
+
+    private static boolean isItem(JsonStreamContext context) {
+        return context.inObject() && isData(context.getParent());
+    }
+
+    private static boolean isData(JsonStreamContext context) {
+        return context != null && context.inArray() && isValueOf(context.getParent(), EMBEDDED, DATA);
+    }
+
+    private static boolean isValueOf(JsonStreamContext context, String parentName, String name) {
+        if (context == null || !context.inObject() || !name.equals(context.getCurrentName())) {
+            return false;
+        }
+        var parent = context.getParent();
+        return parent != null && parent.inObject() && parentName.equals(parent.getCurrentName())
+                && parent.getParent() != null && parent.getParent().inRoot();
+    }
+
+    private void fail(String message) {
+        failure = message;
+    }
+
+    /**
+     * A validator of a single item of a HAL collection.
+     */
+    @FunctionalInterface
+    interface ItemValidator {
+
+        /**
+         * Validates an item.
+         *
+         * @param item the item, as a JSON object.
+         * @return the validation failure, or an empty optional if the item is valid.
+         */
+        Optional<String> validate(String item);
+
+    }
+
+}
@@ -17,39 +17,67 @@ package org.adhuc.cena.menu.port.adapter.rest;
 
 import static com.atlassian.oai.validator.whitelist.rule.WhitelistRules.*;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
+import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.CSV;
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.NDJSON;
+
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.servlet.Filter;
+import javax.servlet.http.HttpServletRequest;
 
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
 import com.atlassian.oai.validator.model.ApiOperation;
 import com.atlassian.oai.validator.model.Request;
 import com.atlassian.oai.validator.model.Response;
+import com.atlassian.oai.validator.model.SimpleRequest;
+import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.report.MessageResolver;
 import com.atlassian.oai.validator.report.ValidationReport;
-import com.atlassian.oai.validator.springmvc.OpenApiValidationFilter;
+import com.atlassian.oai.validator.schema.SchemaValidator;
 import com.atlassian.oai.validator.springmvc.OpenApiValidationInterceptor;
 import com.atlassian.oai.validator.whitelist.ValidationErrorsWhitelist;
 import com.atlassian.oai.validator.whitelist.rule.WhitelistRule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.util.UrlPathHelper;
 
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+import org.adhuc.cena.menu.port.adapter.rest.HalCollectionStreamValidator.ItemValidator;
 
 /**
- * Configures REST API requests and responses validation against its OpenAPI specification.
+ * Configures REST API requests and responses validation against its OpenAPI specification. The specification is parsed
+ * once on startup into a single validator shared by all requests, and the validator is warmed up on startup for every
+ * operation of the specification, so that the schemas involved are compiled before the first request rather than while
+ * serving it. Every request is validated, while responses are
+ * validated according to the configured sampling rate. Collection responses are streamed, and thus validated while
+ * written rather than buffered, each collection item being validated against the item schema of the specification. Bulk imports requests are streamed, and thus not validated.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Slf4j
@@ -57,21 +85,40 @@ import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 @ConditionalOnProperty(prefix = "cena.menu-generation", name = "rest.openApiValidation.enabled", matchIfMissing = true)
 class OpenApiValidationConfiguration implements WebMvcConfigurer {
 
+    private static final Map<String, String> STREAMED_COLLECTIONS_ITEM_SCHEMAS =
+            Map.of("/api/ingredients", "Ingredient", "/api/recipes", "Recipe", "/api/menus", "Menu");
+    private static final String ITEM_KEY_PREFIX = "response.body";
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+    private static final String API_BASE_PATH = "/api";
+    private static final Pattern PATH_PARAMETER = Pattern.compile("\\{[^}]+}");
+    private static final String WARM_UP_PATH_PARAMETER = "warm-up";
+
     private final OpenApiValidationInterceptor validationInterceptor;
+    private final Map<String, ItemValidator> streamedCollectionsItemValidators;
+    private final double responseSamplingRate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     OpenApiValidationConfiguration(@Value("classpath:api/openapi.yml") Resource apiSpecificationResource,
                                    @Value("${management.endpoints.web.base-path}") String managementBasePath,
-                                   MenuGenerationProperties properties
+                                   MenuGenerationProperties properties,
+                                   ObjectProvider<MeterRegistry> meterRegistry
     ) throws IOException {
-        var apiSpecification = IOUtils.toString(apiSpecificationResource.getInputStream(), Charset.defaultCharset());
-        this.validationInterceptor = new OpenApiValidationInterceptor(
-                OpenApiInteractionValidator.createForInlineApiSpecification(apiSpecification)
-                        .withWhitelist(validationErrorsWhitelist(managementBasePath, properties)).build());
+        var apiSpecification = IOUtils.toString(apiSpecificationResource.getInputStream(), StandardCharsets.UTF_8);
+        var validator = OpenApiInteractionValidator.createForInlineApiSpecification(apiSpecification)
+                .withWhitelist(validationErrorsWhitelist(managementBasePath, properties)).build();
+        var openApi = new OpenAPIV3Parser().readContents(apiSpecification, null, null).getOpenAPI();
+        warmUp(validator, openApi);
+        this.validationInterceptor = new OpenApiValidationInterceptor(validator);
+        this.streamedCollectionsItemValidators = itemValidators(openApi);
+        this.responseSamplingRate = properties.getRest().getOpenApiValidation().getResponseSamplingRate();
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
     public Filter validationFilter() {
-        return new OpenApiValidationFilter(true, true);
+        log.info("Validate OpenAPI responses with sampling rate {}", responseSamplingRate);
+        return new SampledOpenApiValidationFilter(responseSamplingRate, this::streamedResponseItemValidator,
+                this::isStreamedRequest, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
     }
 
     @Override
@@ -79,6 +126,72 @@ class OpenApiValidationConfiguration implements WebMvcConfigurer {
         registry.addInterceptor(validationInterceptor);
     }
 
+    private Optional<ItemValidator> streamedResponseItemValidator(HttpServletRequest request) {
+        if (!GET.matches(request.getMethod())) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(
+                streamedCollectionsItemValidators.get(URL_PATH_HELPER.getPathWithinApplication(request)));
+    }
+
+    private boolean isStreamedRequest(HttpServletRequest request) {
+        if (!POST.matches(request.getMethod()) || request.getContentType() == null) {
+            return false;
+        }
+        try {
+            var contentType = MediaType.parseMediaType(request.getContentType());
+            return NDJSON.isCompatibleWith(contentType) || CSV.isCompatibleWith(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates a request and a response for every operation of the specification, so that the validator compiles the
+     * schemas of each operation on startup. Validation results are ignored.
+     */
+    private static void warmUp(OpenApiInteractionValidator validator, OpenAPI openApi) {
+        var operations = 0;
+        for (var path : openApi.getPaths().entrySet()) {
+            var requestPath = API_BASE_PATH + PATH_PARAMETER.matcher(path.getKey()).replaceAll(WARM_UP_PATH_PARAMETER);
+            for (var operation : path.getValue().readOperationsMap().entrySet()) {
+                var method = Request.Method.valueOf(operation.getKey().name());
+                validator.validateRequest(new SimpleRequest.Builder(method, requestPath)
+                        .withContentType(APPLICATION_JSON_VALUE).withBody("{}").build());
+                operation.getValue().getResponses().keySet().stream()
+                        .filter(status -> status.chars().allMatch(Character::isDigit))
+                        .forEach(status -> validator.validateResponse(requestPath, method,
+                                SimpleResponse.Builder.status(Integer.parseInt(status))
+                                        .withContentType(APPLICATION_JSON_VALUE).withBody("{}").build()));
+                operations++;
+            }
+        }
+        log.info("Warmed up OpenAPI validator for {} operations", operations);
+    }
+
+    /**
+     * Creates the validators of streamed collections items, validating each item against the item schema of the
+     * corresponding collection.
+     */
+    private static Map<String, ItemValidator> itemValidators(OpenAPI openApi) {
+        var schemaValidator = new SchemaValidator(openApi, new MessageResolver());
+        var schemas = openApi.getComponents().getSchemas();
+        return STREAMED_COLLECTIONS_ITEM_SCHEMAS.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey,
+                collection -> itemValidator(schemaValidator, schemas.get(collection.getValue()))));
+    }
+
+    private static ItemValidator itemValidator(SchemaValidator schemaValidator, Schema<?> itemSchema) {
+        return item -> {
+            var report = schemaValidator.validate(item, itemSchema, ITEM_KEY_PREFIX);
+            if (!report.hasErrors()) {
+                return Optional.empty();
+            }
+            return Optional.of(report.getMessages().stream()
+                    .map(ValidationReport.Message::getMessage)
+                    .collect(Collectors.joining(", ")));
+        };
+    }
+
     private ValidationErrorsWhitelist validationErrorsWhitelist(String managementBasePath, MenuGenerationProperties properties) {
         log.info("Activate OpenAPI whitelist for Spring Boot management API");
         var whitelist = ValidationErrorsWhitelist.create()
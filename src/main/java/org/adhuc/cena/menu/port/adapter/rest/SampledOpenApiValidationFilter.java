@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest;
+
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.atlassian.oai.validator.springmvc.OpenApiValidationFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import org.adhuc.cena.menu.port.adapter.rest.HalCollectionStreamValidator.ItemValidator;
+
+/**
+ * A filter preparing requests and responses for OpenAPI validation, validating every request but only a sample of the
+ * responses. Response validation requires the response body to be buffered and parsed, which is costly for large
+ * responses: sampling allows to keep detecting specification drifts in production at a fraction of the cost.
+ * <p>
+ * Streamed responses, typically large collections, are never buffered. They are instead validated while written by a
+ * {@link HalCollectionStreamValidator}, checking each item with the item validator of the request, and whose failures
+ * are logged and counted by the {@value #STREAM_VALIDATION_FAILURES_METER_NAME} counter. Compressed streamed responses are not validated.
+ * <p>
+ * Responses that are not validated are counted by the {@value #SKIPPED_VALIDATIONS_METER_NAME} counter.
+ * <p>
+ * Streamed requests, typically bulk imports, are neither buffered nor validated, so that their payload is parsed
+ * incrementally by the controller rather than held in memory.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+class SampledOpenApiValidationFilter extends OncePerRequestFilter {
+
+    static final String SKIPPED_VALIDATIONS_METER_NAME = "cena.rest.openapi.validation.skipped";
+    static final String STREAM_VALIDATION_FAILURES_METER_NAME = "cena.rest.openapi.validation.stream.failures";
+
+    private final Filter requestAndResponseValidationFilter = new OpenApiValidationFilter(true, true);
+    private final Filter requestValidationFilter = new OpenApiValidationFilter(true, false);
+    private final double responseSamplingRate;
+    private final Function<HttpServletRequest, Optional<ItemValidator>> streamedResponses;
+    private final Predicate<HttpServletRequest> streamedRequests;
+    private final Counter skippedResponseValidations;
+    private final Counter streamValidationFailures;
+
+    /**
+     * Creates a sampled OpenAPI validation filter.
+     *
+     * @param responseSamplingRate the rate of responses to validate, between 0 and 1.
+     * @param streamedResponses    the function getting the items validator of a request leading to a streamed response,
+     *                             or an empty optional if the request does not lead to a streamed response.
+     * @param streamedRequests     the predicate indicating whether a request body is streamed.
+     * @param meterRegistry        the registry to record skipped validations in.
+     */
+    SampledOpenApiValidationFilter(double responseSamplingRate,
+                                   @NonNull Function<HttpServletRequest, Optional<ItemValidator>> streamedResponses,
+                                   @NonNull Predicate<HttpServletRequest> streamedRequests,
+                                   @NonNull MeterRegistry meterRegistry) {
+        isTrue(responseSamplingRate >= 0 && responseSamplingRate <= 1,
+                () -> "Cannot validate responses with sampling rate " + responseSamplingRate + ", expected between 0 and 1");
+        this.responseSamplingRate = responseSamplingRate;
+        this.streamedResponses = streamedResponses;
+        this.streamedRequests = streamedRequests;
+        this.skippedResponseValidations = Counter.builder(SKIPPED_VALIDATIONS_METER_NAME)
+                .tag("validation", "response")
+                .description("Number of responses not validated against OpenAPI specification")
+                .register(meterRegistry);
+        this.streamValidationFailures = Counter.builder(STREAM_VALIDATION_FAILURES_METER_NAME)
+                .description("Number of streamed responses failing validation")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return streamedRequests.test(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!isResponseSampled()) {
+            skippedResponseValidations.increment();
+            requestValidationFilter.doFilter(request, response, filterChain);
+            return;
+        }
+        var itemValidator = streamedResponses.apply(request);
+        if (itemValidator.isPresent()) {
+            var validatingResponse = new StreamValidatingResponseWrapper(response, itemValidator.get());
+            requestValidationFilter.doFilter(request, validatingResponse, filterChain);
+            if (response.getStatus() == HttpServletResponse.SC_OK && response.getHeader(CONTENT_ENCODING) == null) {
+                validatingResponse.validate().ifPresent(failure -> {
+                    log.error("Invalid streamed response for {} {}: {}", request.getMethod(), request.getRequestURI(),
+                            failure);
+                    streamValidationFailures.increment();
+                });
+            }
+        } else {
+            requestAndResponseValidationFilter.doFilter(request, response, filterChain);
+        }
+    }
+
+    private boolean isResponseSampled() {
+        return responseSamplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < responseSamplingRate;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.authentication;
+
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * A REST controller exchanging credentials for an authentication token.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/api/token", produces = APPLICATION_JSON_VALUE)
+@ConditionalOnProperty(prefix = "cena.menu-generation.security.token", name = "enabled", matchIfMissing = true)
+class AuthenticationTokenController {
+
+    private final AuthenticationTokenService tokenService;
+
+    /**
+     * Issues an authentication token for the currently authenticated user.
+     */
+    @PostMapping
+    @ResponseStatus(OK)
+    AccessTokenModel issueToken(Authentication authentication) {
+        return new AccessTokenModel(tokenService.issue(authentication));
+    }
+
+}
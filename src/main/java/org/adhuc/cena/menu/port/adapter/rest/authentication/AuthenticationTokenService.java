@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.authentication;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * A service issuing and validating self-contained authentication tokens.
+ * <p>
+ * A token embeds the authenticated username, the token expiration and the user's roles, and is signed with
+ * HMAC-SHA256. Validating a token thus only requires to verify its signature and expiration: no password verification
+ * nor user lookup is performed. The signature key is either configured, so that tokens can be validated by every
+ * instance and survive restarts, or randomly generated on startup.
+ * <p>
+ * A token is composed of the following parts, separated by a dot: the base64url encoded username, the expiration epoch
+ * second, the base64url encoded comma-separated roles, and the base64url encoded signature of the previous parts.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+public class AuthenticationTokenService {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MINIMUM_KEY_LENGTH = 32;
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String PARTS_SEPARATOR = ".";
+    private static final String ROLES_SEPARATOR = ",";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * Creates an authentication token service.
+     *
+     * @param secret     the secret used to sign tokens. If empty, a random secret is generated.
+     * @param timeToLive the duration during which issued tokens are valid.
+     */
+    public AuthenticationTokenService(String secret, @NonNull Duration timeToLive) {
+        this(secret, timeToLive, Clock.systemUTC());
+    }
+
+    AuthenticationTokenService(String secret, @NonNull Duration timeToLive, @NonNull Clock clock) {
+        isTrue(!timeToLive.isNegative() && !timeToLive.isZero(),
+                "Cannot create authentication token service with non positive time to live");
+        this.key = new SecretKeySpec(keyBytes(secret), MAC_ALGORITHM);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::createMac);
+    }
+
+    /**
+     * Issues a token for the specified authentication.
+     *
+     * @param authentication the successful authentication.
+     * @return the issued token.
+     */
+    public AccessToken issue(@NonNull Authentication authentication) {
+        var expiration = clock.instant().plus(timeToLive);
+        var roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .collect(joining(ROLES_SEPARATOR));
+        var content = encode(authentication.getName()) + PARTS_SEPARATOR + expiration.getEpochSecond()
+                + PARTS_SEPARATOR + encode(roles);
+        return new AccessToken(content + PARTS_SEPARATOR + ENCODER.encodeToString(sign(content)), expiration);
+    }
+
+    /**
+     * Authenticates the user corresponding to the specified token.
+     *
+     * @param token the token.
+     * @return the authentication, or an empty optional if the token is malformed, has an invalid signature or is
+     * expired.
+     */
+    public Optional<Authentication> authenticate(@NonNull String token) {
+        var signatureIndex = token.lastIndexOf(PARTS_SEPARATOR);
+        if (signatureIndex < 0) {
+            return Optional.empty();
+        }
+        var content = token.substring(0, signatureIndex);
+        var parts = content.split("\\" + PARTS_SEPARATOR, -1);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            var signature = DECODER.decode(token.substring(signatureIndex + 1));
+            if (!MessageDigest.isEqual(sign(content), signature)) {
+                log.debug("Reject authentication token with invalid signature");
+                return Optional.empty();
+            }
+            if (!clock.instant().isBefore(Instant.ofEpochSecond(Long.parseLong(parts[1])))) {
+                log.debug("Reject expired authentication token");
+                return Optional.empty();
+            }
+            return Optional.of(authentication(decode(parts[0]), decode(parts[2])));
+        } catch (IllegalArgumentException e) {
+            log.debug("Reject malformed authentication token", e);
+            return Optional.empty();
+        }
+    }
+
+    private Authentication authentication(String username, String roles) {
+        List<GrantedAuthority> authorities = roles.isEmpty() ? List.of() : Arrays.stream(roles.split(ROLES_SEPARATOR))
+                .map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role))
+                .collect(toList());
+        var user = new User(username, "", authorities);
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    private byte[] sign(String content) {
+        return macs.get().doFinal(content.getBytes(UTF_8));
+    }
+
+    private Mac createMac() {
+        try {
+            var mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize authentication token signature", e);
+        }
+    }
+
+    private static String encode(String value) {
+        return ENCODER.encodeToString(value.getBytes(UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(DECODER.decode(value), UTF_8);
+    }
+
+    private static byte[] keyBytes(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("No authentication token secret configured, generate a random one: issued tokens will not be "
+                    + "valid after restart");
+            var bytes = new byte[MINIMUM_KEY_LENGTH];
+            new SecureRandom().nextBytes(bytes);
+            return bytes;
+        }
+        var bytes = secret.getBytes(UTF_8);
+        isTrue(bytes.length >= MINIMUM_KEY_LENGTH,
+                () -> "Authentication token secret must be at least " + MINIMUM_KEY_LENGTH + " bytes long");
+        return bytes;
+    }
+
+    /**
+     * An issued access token.
+     */
+    @Value
+    @Accessors(fluent = true)
+    public static class AccessToken {
+        private final String value;
+        private final Instant expiration;
+    }
+
+}
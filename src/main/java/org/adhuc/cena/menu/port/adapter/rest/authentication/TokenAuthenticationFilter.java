@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.authentication;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * A filter authenticating requests bearing an authentication token issued by {@link AuthenticationTokenService}. Requests
+ * without bearer token are left untouched, while requests with an invalid or expired token are rejected through the
+ * authentication entry point. Requests matching the excluded requests matcher, typically the token issuance resource so
+ * that tokens cannot be renewed indefinitely without credentials, are never authenticated by this filter.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String BEARER_PREFIX = "Bearer ";
+
+    @NonNull
+    private final AuthenticationTokenService tokenService;
+    @NonNull
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+    @NonNull
+    private final RequestMatcher excludedRequests;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return excludedRequests.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var header = request.getHeader(AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        var authentication = tokenService.authenticate(header.substring(BEARER_PREFIX.length()).strip());
+        if (authentication.isEmpty()) {
+            SecurityContextHolder.clearContext();
+            authenticationEntryPoint.commence(request, response,
+                    new BadCredentialsException("Invalid authentication token"));
+            return;
+        }
+        SecurityContextHolder.getContext().setAuthentication(authentication.get());
+        filterChain.doFilter(request, response);
+    }
+
+}
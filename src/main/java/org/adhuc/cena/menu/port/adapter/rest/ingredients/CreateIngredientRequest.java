@@ -15,10 +15,17 @@
  */
 package org.adhuc.cena.menu.port.adapter.rest.ingredients;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import javax.validation.constraints.NotBlank;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import lombok.ToString;
 
@@ -31,17 +38,40 @@ import org.adhuc.cena.menu.ingredients.MeasurementType;
  * A request to create an ingredient.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @ToString
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 class CreateIngredientRequest {
 
+    static final String NAME_COLUMN = "name";
+    static final String MEASUREMENT_TYPES_COLUMN = "measurementTypes";
+    private static final String CSV_LIST_SEPARATOR = "\\|";
+
     @NotBlank
     private String name;
     private List<MeasurementType> measurementTypes;
 
+    /**
+     * Creates a request from the values of a CSV line, indexed by column name. The measurement types are separated by
+     * {@code |} characters.
+     *
+     * @param values the CSV line values.
+     * @return the ingredient creation request.
+     * @throws IllegalArgumentException if a measurement type is unknown.
+     */
+    static CreateIngredientRequest fromCsv(@NonNull Map<String, String> values) {
+        var measurementTypes = values.getOrDefault(MEASUREMENT_TYPES_COLUMN, "");
+        return new CreateIngredientRequest(values.get(NAME_COLUMN), measurementTypes.isBlank() ? List.of()
+                : Arrays.stream(measurementTypes.split(CSV_LIST_SEPARATOR))
+                .map(String::strip)
+                .map(MeasurementType::valueOf)
+                .collect(toList()));
+    }
+
     /**
      * Converts this request to a {@code CreateIngredient} command.
      *
@@ -18,9 +18,12 @@ package org.adhuc.cena.menu.port.adapter.rest.ingredients;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.ConditionalRequests.isNotModified;
+
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.adhuc.cena.menu.ingredients.DeleteIngredient;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
@@ -47,12 +50,15 @@ class IngredientController {
      * Gets the ingredient information for the ingredient corresponding to the specified identity.
      *
      * @param ingredientId the ingredient identity.
-     * @return the ingredient information.
+     * @return the ingredient information, or {@code null} if the ingredient did not change since the client retrieved it.
      */
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public IngredientModel getIngredient(@PathVariable String ingredientId) {
-        var ingredient = ingredientConsultation.getIngredient(new IngredientId(ingredientId));
+    public IngredientModel getIngredient(@PathVariable String ingredientId, ServletWebRequest request) {
+        var id = new IngredientId(ingredientId);
+        if (isNotModified(request, ingredientConsultation.getIngredientVersion(id))) {
+            return null;
+        }
+        var ingredient = ingredientConsultation.getIngredient(id);
         return modelAssembler.toModel(ingredient);
     }
 
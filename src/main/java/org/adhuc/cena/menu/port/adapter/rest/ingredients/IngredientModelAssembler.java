@@ -15,25 +15,34 @@
  */
 package org.adhuc.cena.menu.port.adapter.rest.ingredients;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.pageLinks;
+
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import org.adhuc.cena.menu.common.aggregate.Page;
 import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.port.adapter.rest.support.LinkTemplate;
+import org.adhuc.cena.menu.port.adapter.rest.support.StreamedCollectionModel;
 
 /**
  * A {@link org.springframework.hateoas.server.RepresentationModelAssembler RepresentationModelAssembler} implementation
  * allowing building {@link IngredientModel}s.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.1.0
  */
 @Component
 public class IngredientModelAssembler extends RepresentationModelAssemblerSupport<Ingredient, IngredientModel> {
 
     private EntityLinks links;
+    private LinkTemplate ingredientLink;
 
     /**
      * Creates a model assembler for ingredients.
@@ -41,12 +50,13 @@ public class IngredientModelAssembler extends RepresentationModelAssemblerSuppor
     IngredientModelAssembler(EntityLinks links) {
         super(IngredientsController.class, IngredientModel.class);
         this.links = links;
+        this.ingredientLink = LinkTemplate.of(1, params -> links.linkToItemResource(IngredientModel.class, params[0]));
     }
 
     @Override
     public IngredientModel toModel(Ingredient ingredient) {
         return instantiateModel(ingredient)
-                .add(links.linkToItemResource(IngredientModel.class, ingredient.id()).withSelfRel());
+                .add(ingredientLink.expand(IanaLinkRelations.SELF, ingredient.id()));
     }
 
     @Override
@@ -55,6 +65,20 @@ public class IngredientModelAssembler extends RepresentationModelAssemblerSuppor
                 .add(links.linkToCollectionResource(IngredientModel.class).withSelfRel());
     }
 
+    /**
+     * Converts the page of ingredients into a collection model whose items are converted while serialized, avoiding to
+     * hold every item model in memory at once. The collection model contains links to previous and next pages.
+     *
+     * @param page the page of ingredients to convert.
+     * @return the streamed collection model.
+     */
+    public StreamedCollectionModel<Ingredient, IngredientModel> toStreamedCollectionModel(Page<Ingredient, IngredientId> page) {
+        var collectionLink = links.linkToCollectionResource(IngredientModel.class);
+        return new StreamedCollectionModel<Ingredient, IngredientModel>(page.content(), this::toModel)
+                .add(collectionLink.withSelfRel())
+                .add(pageLinks(page, UriComponentsBuilder.fromUriString(collectionLink.getHref())));
+    }
+
     @Override
     protected IngredientModel instantiateModel(Ingredient ingredient) {
         return new IngredientModel(ingredient);
@@ -16,25 +16,36 @@
 package org.adhuc.cena.menu.port.adapter.rest.ingredients;
 
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
-import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.ConditionalRequests.isNotModified;
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.PAGE_AFTER_PARAM;
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.PAGE_SIZE_PARAM;
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.pagination;
+
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import javax.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.ExposesResourceFor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.Ingredient;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientId;
 import org.adhuc.cena.menu.ingredients.IngredientManagement;
+import org.adhuc.cena.menu.port.adapter.rest.support.PageCursor;
+import org.adhuc.cena.menu.port.adapter.rest.support.PageSize;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
+import org.adhuc.cena.menu.port.adapter.rest.support.StreamedCollectionModel;
 
 /**
  * A REST controller exposing /api/ingredients resource.
@@ -54,15 +65,29 @@ public class IngredientsController {
     private final IngredientConsultation ingredientConsultation;
     private final IngredientManagement ingredientManagement;
     private final IngredientModelAssembler modelAssembler;
+    private final RenderedResponseCache responseCache;
 
     /**
-     * Gets the ingredient information for all ingredients.
+     * Gets the ingredient information for a page of ingredients, or responds Not Modified if ingredients did not change
+     * since the client retrieved them. The rendered page is cached until ingredients change.
      */
     @GetMapping
-    @ResponseStatus(OK)
-    CollectionModel<IngredientModel> getIngredients() {
-        var ingredients = ingredientConsultation.getIngredients();
-        return modelAssembler.toCollectionModel(ingredients);
+    StreamedCollectionModel<Ingredient, IngredientModel> getIngredients(@RequestParam(name = PAGE_SIZE_PARAM, required = false) @PageSize(propertyName = PAGE_SIZE_PARAM) Integer pageSize,
+                                                                        @RequestParam(name = PAGE_AFTER_PARAM, required = false) @PageCursor(propertyName = PAGE_AFTER_PARAM) String pageAfter,
+                                                                        ServletWebRequest request) throws IOException {
+        var version = ingredientConsultation.getIngredientsVersion();
+        if (isNotModified(request, version)) {
+            return null;
+        }
+        var pagination = pagination(pageSize, pageAfter, IngredientId::new);
+        if (responseCache.write(request, version, () -> getIngredients(pagination))) {
+            return null;
+        }
+        return getIngredients(pagination);
+    }
+
+    private StreamedCollectionModel<Ingredient, IngredientModel> getIngredients(Pagination<IngredientId> pagination) {
+        return modelAssembler.toStreamedCollectionModel(ingredientConsultation.getIngredients(pagination));
     }
 
     /**
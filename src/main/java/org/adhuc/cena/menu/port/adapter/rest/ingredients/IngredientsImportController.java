@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.ingredients;
+
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.CSV_VALUE;
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.NDJSON_VALUE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import org.adhuc.cena.menu.ingredients.CreateIngredient;
+import org.adhuc.cena.menu.ingredients.CreateIngredients;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.IngredientManagement;
+import org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader;
+import org.adhuc.cena.menu.port.adapter.rest.support.BulkImportResultWriter;
+
+/**
+ * A REST controller exposing /api/ingredients resource for bulk import. Ingredients are imported from newline delimited
+ * JSON, each line being an ingredient creation request, or from CSV, with {@code name} and {@code measurementTypes}
+ * columns. The request is parsed incrementally and ingredients are created by batches, the result of each line being
+ * streamed back as soon as its batch has been created.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+@RestController
+class IngredientsImportController {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final ObjectReader requestReader;
+    private final IngredientManagement ingredientManagement;
+
+    IngredientsImportController(ObjectMapper objectMapper, IngredientManagement ingredientManagement) {
+        this.requestReader = objectMapper.readerFor(CreateIngredientRequest.class);
+        this.ingredientManagement = ingredientManagement;
+    }
+
+    /**
+     * Imports ingredients.
+     */
+    @PostMapping(path = "/api/ingredients", consumes = {NDJSON_VALUE, CSV_VALUE}, produces = NDJSON_VALUE)
+    void importIngredients(@RequestHeader(CONTENT_TYPE) MediaType contentType, InputStream body,
+                           HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_VALUE);
+        try (var reader = BulkImportReader.forContentType(contentType, body, requestReader,
+                CreateIngredientRequest::fromCsv);
+             var results = new BulkImportResultWriter(response.getOutputStream())) {
+            var imported = reader.<CreateIngredient, IngredientId>importAll(BATCH_SIZE,
+                    request -> request.toCommand(IngredientId.generate()),
+                    (commands, resultSink) -> ingredientManagement.createIngredients(
+                            new CreateIngredients(commands, resultSink)),
+                    results);
+            log.info("Imported {} lines of ingredients", imported);
+        }
+    }
+
+}
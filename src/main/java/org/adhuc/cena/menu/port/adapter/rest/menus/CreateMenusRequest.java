@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import org.adhuc.cena.menu.menus.CreateMenus;
+import org.adhuc.cena.menu.menus.MenuOwner;
+
+/**
+ * A request to create several menus at once.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ToString
+@Getter
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+@CreateMenusRequest.DistinctMenus
+class CreateMenusRequest {
+
+    static final int MAX_MENUS = 500;
+
+    @NotEmpty
+    @Size(max = MAX_MENUS)
+    private List<@NotNull @Valid CreateMenuRequest> menus;
+
+    /**
+     * Converts this request to a {@code CreateMenus} command.
+     *
+     * @param ownerName the menus owner name.
+     * @return the menus creation command.
+     */
+    CreateMenus toCommand(@NonNull String ownerName) {
+        return new CreateMenus(new MenuOwner(ownerName), menus.stream()
+                .map(menu -> menu.toCommand(ownerName))
+                .collect(toList()));
+    }
+
+    /**
+     * Gets the date of the first menu to create.
+     *
+     * @return the first menu date.
+     */
+    LocalDate since() {
+        return menus.stream().map(CreateMenuRequest::getDate).min(LocalDate::compareTo).orElseThrow();
+    }
+
+    /**
+     * Gets the date of the last menu to create.
+     *
+     * @return the last menu date.
+     */
+    LocalDate until() {
+        return menus.stream().map(CreateMenuRequest::getDate).max(LocalDate::compareTo).orElseThrow();
+    }
+
+    @Documented
+    @Target(TYPE)
+    @Retention(RUNTIME)
+    @Constraint(validatedBy = DistinctMenusValidator.class)
+    @interface DistinctMenus {
+        String message() default "{menus.CreateMenus.DistinctMenus.message}";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    private static class DistinctMenusValidator implements ConstraintValidator<DistinctMenus, CreateMenusRequest> {
+        @Override
+        public boolean isValid(CreateMenusRequest value, ConstraintValidatorContext context) {
+            if (value.menus == null || value.menus.contains(null)) {
+                return true;
+            }
+            return value.menus.stream()
+                    .map(menu -> List.of(Objects.toString(menu.getDate()), Objects.toString(menu.getMealType())))
+                    .collect(toSet())
+                    .size() == value.menus.size();
+        }
+    }
+
+}
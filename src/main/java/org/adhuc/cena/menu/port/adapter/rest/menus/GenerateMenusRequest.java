@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.LocalDate;
+import java.util.Set;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.Payload;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import org.adhuc.cena.menu.menus.Covers;
+import org.adhuc.cena.menu.menus.DateRange;
+import org.adhuc.cena.menu.menus.GenerateMenus;
+import org.adhuc.cena.menu.menus.MealType;
+import org.adhuc.cena.menu.menus.MenuOwner;
+
+/**
+ * A request to generate menus for every meal of a date range.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ToString
+@Getter
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+@GenerateMenusRequest.ValidDateRange
+class GenerateMenusRequest {
+
+    @NotNull
+    private LocalDate since;
+    @NotNull
+    private LocalDate until;
+    @NotEmpty
+    private Set<@NotNull MealType> mealTypes;
+    @NotNull
+    @Positive
+    private Integer covers;
+    @PositiveOrZero
+    private Integer daysBeforeRecipeRepetition;
+
+    /**
+     * Converts this request to a {@code GenerateMenus} command.
+     *
+     * @param ownerName the menus owner name.
+     * @return the menus generation command.
+     */
+    GenerateMenus toCommand(@NonNull String ownerName) {
+        return new GenerateMenus(new MenuOwner(ownerName), DateRange.range(since, until), mealTypes, new Covers(covers),
+                daysBeforeRecipeRepetition != null
+                        ? daysBeforeRecipeRepetition
+                        : GenerateMenus.DEFAULT_DAYS_BEFORE_RECIPE_REPETITION);
+    }
+
+    @Documented
+    @Target(TYPE)
+    @Retention(RUNTIME)
+    @Constraint(validatedBy = ValidDateRangeValidator.class)
+    @interface ValidDateRange {
+        String message() default "{menus.GenerateMenus.ValidDateRange.message}";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    private static class ValidDateRangeValidator implements ConstraintValidator<ValidDateRange, GenerateMenusRequest> {
+        @Override
+        public boolean isValid(GenerateMenusRequest value, ConstraintValidatorContext context) {
+            if (value.since == null || value.until == null) {
+                return true;
+            }
+            return !value.until.isBefore(value.since) && DAYS.between(value.since, value.until) < GenerateMenus.MAX_DAYS;
+        }
+    }
+
+}
@@ -18,11 +18,14 @@ package org.adhuc.cena.menu.port.adapter.rest.menus;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.ConditionalRequests.isNotModified;
+
 import java.security.Principal;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.adhuc.cena.menu.menus.DeleteMenu;
 import org.adhuc.cena.menu.menus.MenuConsultation;
@@ -50,12 +53,14 @@ class MenuController {
      * Gets the menu information for the menu corresponding to the specified identity.
      *
      * @param menuId the menu identity.
-     * @return the menu information.
+     * @return the menu information, or {@code null} if the menu did not change since the client retrieved it.
      */
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public MenuModel getMenu(@PathVariable String menuId, Principal principal) {
+    public MenuModel getMenu(@PathVariable String menuId, Principal principal, ServletWebRequest request) {
         var id = menuIdConverter.parse(menuId, new MenuOwner(principal.getName()));
+        if (isNotModified(request, menuConsultation.getMenuVersion(id))) {
+            return null;
+        }
         var menu = menuConsultation.getMenu(id);
         return modelAssembler.toModel(menu);
     }
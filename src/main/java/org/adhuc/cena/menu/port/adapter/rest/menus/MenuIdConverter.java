@@ -60,7 +60,17 @@ public class MenuIdConverter {
      * @return the menu identity string representation.
      */
     public String convert(Menu menu) {
-        return menu.date().toString() + ELEMENTS_SEPARATOR + menu.mealType();
+        return convert(menu.id());
+    }
+
+    /**
+     * Converts the specified menu identity to its string representation.
+     *
+     * @param menuId the menu identity.
+     * @return the menu identity string representation.
+     */
+    public String convert(MenuId menuId) {
+        return menuId.date().toString() + ELEMENTS_SEPARATOR + menuId.mealType();
     }
 
     private static class ParsedId {
@@ -16,12 +16,18 @@
 package org.adhuc.cena.menu.port.adapter.rest.menus;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.ToString;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.core.Relation;
@@ -29,6 +35,8 @@ import org.springframework.hateoas.server.core.Relation;
 import org.adhuc.cena.menu.menus.Covers;
 import org.adhuc.cena.menu.menus.MealType;
 import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.MenuSummary;
+import org.adhuc.cena.menu.menus.MenuSummaryRecipe;
 import org.adhuc.cena.menu.recipes.RecipeId;
 
 /**
@@ -47,16 +55,29 @@ class MenuModel extends RepresentationModel<MenuModel> {
     private final String mealType;
     private final int covers;
     private final List<String> mainCourseRecipes;
+    @JsonInclude(NON_NULL)
+    private final Map<String, String> mainCourseRecipeNames;
 
     MenuModel(Menu original) {
-        this(original.date(), original.mealType(), original.covers(), original.mainCourseRecipes());
+        this(original.date(), original.mealType(), original.covers(), original.mainCourseRecipes(), null);
+    }
+
+    MenuModel(MenuSummary summary) {
+        this(summary.date(), summary.mealType(), summary.covers(),
+                summary.mainCourseRecipes().stream().map(MenuSummaryRecipe::recipeId).collect(toList()),
+                summary.mainCourseRecipes().stream()
+                        .filter(recipe -> recipe.name().isPresent())
+                        .collect(toMap(recipe -> recipe.recipeId().toString(), recipe -> recipe.name().get().value(),
+                                (first, second) -> first, LinkedHashMap::new)));
     }
 
-    MenuModel(LocalDate date, MealType mealType, Covers covers, Collection<RecipeId> mainCourseRecipes) {
+    private MenuModel(LocalDate date, MealType mealType, Covers covers, Collection<RecipeId> mainCourseRecipes,
+                      Map<String, String> mainCourseRecipeNames) {
         this.date = date.toString();
         this.mealType = mealType.name();
         this.covers = covers.value();
         this.mainCourseRecipes = mainCourseRecipes.stream().map(RecipeId::toString).collect(toList());
+        this.mainCourseRecipeNames = mainCourseRecipeNames;
     }
 
 }
@@ -15,12 +15,18 @@
  */
 package org.adhuc.cena.menu.port.adapter.rest.menus;
 
+import java.util.Collection;
+
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
 import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.MenuSummary;
+import org.adhuc.cena.menu.port.adapter.rest.support.LinkTemplate;
+import org.adhuc.cena.menu.port.adapter.rest.support.StreamedCollectionModel;
 
 /**
  * A {@link org.springframework.hateoas.server.RepresentationModelAssembler RepresentationModelAssembler} implementation
@@ -35,6 +41,7 @@ class MenuModelAssembler extends RepresentationModelAssemblerSupport<Menu, MenuM
 
     private EntityLinks links;
     private MenuIdConverter menuIdConverter;
+    private LinkTemplate menuLink;
 
     /**
      * Creates a model assembler for menus.
@@ -43,12 +50,13 @@ class MenuModelAssembler extends RepresentationModelAssemblerSupport<Menu, MenuM
         super(MenusController.class, MenuModel.class);
         this.links = links;
         this.menuIdConverter = menuIdConverter;
+        this.menuLink = LinkTemplate.of(1, params -> links.linkToItemResource(MenuModel.class, params[0]));
     }
 
     @Override
     public MenuModel toModel(Menu menu) {
         return instantiateModel(menu)
-                .add(links.linkToItemResource(MenuModel.class, menuIdConverter.convert(menu)).withSelfRel());
+                .add(menuLink.expand(IanaLinkRelations.SELF, menuIdConverter.convert(menu)));
     }
 
     @Override
@@ -57,6 +65,42 @@ class MenuModelAssembler extends RepresentationModelAssemblerSupport<Menu, MenuM
                 .add(links.linkToCollectionResource(MenuModel.class).withSelfRel());
     }
 
+    /**
+     * Converts the entities into a collection model whose items are converted while serialized, avoiding to hold every
+     * item model in memory at once.
+     *
+     * @param entities the entities to convert.
+     * @return the streamed collection model.
+     */
+    public StreamedCollectionModel<Menu, MenuModel> toStreamedCollectionModel(Collection<? extends Menu> entities) {
+        return new StreamedCollectionModel<Menu, MenuModel>(entities, this::toModel)
+                .add(links.linkToCollectionResource(MenuModel.class).withSelfRel());
+    }
+
+    /**
+     * Converts the menu summary into a model.
+     *
+     * @param summary the menu summary.
+     * @return the menu model.
+     */
+    public MenuModel toSummaryModel(MenuSummary summary) {
+        return new MenuModel(summary)
+                .add(menuLink.expand(IanaLinkRelations.SELF, menuIdConverter.convert(summary.id())));
+    }
+
+    /**
+     * Converts the menu summaries into a collection model whose items are converted while serialized, avoiding to
+     * hold every item model in memory at once.
+     *
+     * @param summaries the menu summaries to convert.
+     * @return the streamed collection model.
+     */
+    public StreamedCollectionModel<MenuSummary, MenuModel> toStreamedSummaryCollectionModel(
+            Collection<MenuSummary> summaries) {
+        return new StreamedCollectionModel<MenuSummary, MenuModel>(summaries, this::toSummaryModel)
+                .add(links.linkToCollectionResource(MenuModel.class).withSelfRel());
+    }
+
     @Override
     protected MenuModel instantiateModel(Menu menu) {
         return new MenuModel(menu);
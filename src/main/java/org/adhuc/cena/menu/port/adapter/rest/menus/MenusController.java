@@ -23,6 +23,7 @@ import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 import static org.adhuc.cena.menu.menus.DateRange.builder;
+import static org.adhuc.cena.menu.port.adapter.rest.support.ConditionalRequests.isNotModified;
 
 import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
@@ -38,19 +39,23 @@ import javax.validation.constraintvalidation.ValidationTarget;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.ExposesResourceFor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import org.adhuc.cena.menu.menus.ListMenus;
 import org.adhuc.cena.menu.menus.MenuConsultation;
 import org.adhuc.cena.menu.menus.MenuManagement;
 import org.adhuc.cena.menu.menus.MenuOwner;
+import org.adhuc.cena.menu.menus.MenuSummary;
 import org.adhuc.cena.menu.port.adapter.rest.support.Date;
+import org.adhuc.cena.menu.port.adapter.rest.support.StreamedCollectionModel;
 
 /**
  * A REST controller exposing /api/menus resource.
@@ -78,16 +83,41 @@ public class MenusController {
     private final MenuModelAssembler modelAssembler;
 
     /**
-     * Gets the menu information for all menus for the menu owner corresponding to the authenticated user.
+     * Gets the menu information for all menus for the menu owner corresponding to the authenticated user, or responds
+     * Not Modified if menus did not change since the client retrieved them.
      */
     @GetMapping
+    @DateRange
+    StreamedCollectionModel<MenuSummary, MenuModel> getMenus(@RequestParam(name = SINCE_PARAM, required = false) @Date(propertyName = SINCE_PARAM) String since,
+                                                             @RequestParam(name = UNTIL_PARAM, required = false) @Date(propertyName = UNTIL_PARAM) String until,
+                                                             Principal principal, ServletWebRequest request) {
+        var query = new ListMenus(new MenuOwner(principal.getName()), parseDateRange(since, until));
+        if (isNotModified(request, menuConsultation.getMenusVersion(query))) {
+            return null;
+        }
+        var menus = menuConsultation.getMenuSummaries(query);
+        return modelAssembler.toStreamedSummaryCollectionModel(menus);
+    }
+
+    /**
+     * Gets the shopping list aggregating the ingredients quantities of all menus for the menu owner corresponding to
+     * the authenticated user.
+     */
+    @GetMapping("/shopping-list")
     @ResponseStatus(OK)
     @DateRange
-    CollectionModel<MenuModel> getMenus(@RequestParam(name = SINCE_PARAM, required = false) @Date(propertyName = SINCE_PARAM) String since,
-                                        @RequestParam(name = UNTIL_PARAM, required = false) @Date(propertyName = UNTIL_PARAM) String until,
-                                        Principal principal) {
-        var menus = menuConsultation.getMenus(new ListMenus(new MenuOwner(principal.getName()), parseDateRange(since, until)));
-        return modelAssembler.toCollectionModel(menus);
+    ShoppingListModel getShoppingList(@RequestParam(name = SINCE_PARAM, required = false) @Date(propertyName = SINCE_PARAM) String since,
+                                      @RequestParam(name = UNTIL_PARAM, required = false) @Date(propertyName = UNTIL_PARAM) String until,
+                                      Principal principal) {
+        var shoppingList = menuConsultation.getShoppingList(
+                new ListMenus(new MenuOwner(principal.getName()), parseDateRange(since, until)));
+        var menusLink = UriComponentsBuilder.fromUriString(links.linkToCollectionResource(MenuModel.class).getHref())
+                .queryParam(SINCE_PARAM, shoppingList.since())
+                .queryParam(UNTIL_PARAM, shoppingList.until());
+        var model = new ShoppingListModel(shoppingList);
+        model.add(new Link(menusLink.cloneBuilder().path("/shopping-list").build().encode().toUriString()));
+        model.add(new Link(menusLink.build().encode().toUriString(), "menus"));
+        return model;
     }
 
     /**
@@ -100,6 +130,34 @@ public class MenusController {
                 String.format("%s-%s", request.getDate(), request.getMealType())).getHref())).build();
     }
 
+    /**
+     * Creates several menus at once, e.g. for a whole week or month. Either all the menus are created, or none of them.
+     */
+    @PostMapping(path = "/batch", consumes = {APPLICATION_JSON_VALUE, HAL_JSON_VALUE})
+    ResponseEntity<Void> createMenus(@RequestBody @Valid CreateMenusRequest request, Errors errors, Principal principal) {
+        menuManagement.createMenus(request.toCommand(principal.getName()));
+        return ResponseEntity.created(UriComponentsBuilder
+                .fromUriString(links.linkToCollectionResource(MenuModel.class).getHref())
+                .queryParam(SINCE_PARAM, request.since())
+                .queryParam(UNTIL_PARAM, request.until())
+                .build().encode().toUri()).build();
+    }
+
+    /**
+     * Generates menus for every meal of a date range that is not already planned, choosing main course recipes among
+     * the recipe catalogue.
+     */
+    @PostMapping(path = "/generation", consumes = {APPLICATION_JSON_VALUE, HAL_JSON_VALUE})
+    ResponseEntity<Void> generateMenus(@RequestBody @Valid GenerateMenusRequest request, Errors errors,
+                                       Principal principal) {
+        menuManagement.generateMenus(request.toCommand(principal.getName()));
+        return ResponseEntity.created(UriComponentsBuilder
+                .fromUriString(links.linkToCollectionResource(MenuModel.class).getHref())
+                .queryParam(SINCE_PARAM, request.getSince())
+                .queryParam(UNTIL_PARAM, request.getUntil())
+                .build().encode().toUri()).build();
+    }
+
     private static org.adhuc.cena.menu.menus.DateRange parseDateRange(String since, String until) {
         return parseDateRange(
                 since != null ? LocalDate.parse(since) : null,
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import static java.util.stream.Collectors.toList;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.ToString;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import org.adhuc.cena.menu.recipes.ScaledQuantity;
+import org.adhuc.cena.menu.recipes.ScaledRecipe;
+import org.adhuc.cena.menu.recipes.ScaledRecipeIngredient;
+
+/**
+ * A REST resource encapsulating information of a recipe scaled to a menu covers.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ToString(callSuper = true)
+@Relation(collectionRelation = "data")
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+class ScaledRecipeModel extends RepresentationModel<ScaledRecipeModel> {
+
+    private static final int DECIMALS = 2;
+
+    private final String id;
+    private final String name;
+    private final int recipeServings;
+    private final int servings;
+    private final List<IngredientModel> ingredients;
+
+    ScaledRecipeModel(ScaledRecipe original) {
+        this.id = original.recipeId().toString();
+        this.name = original.name().value();
+        this.recipeServings = original.recipeServings().value();
+        this.servings = original.servings().value();
+        this.ingredients = original.ingredients().stream().map(IngredientModel::new).collect(toList());
+    }
+
+    @ToString
+    @JsonInclude(NON_NULL)
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    private static class IngredientModel {
+
+        private final String id;
+        @JsonProperty("mainIngredient")
+        private final boolean isMainIngredient;
+        private final BigDecimal quantity;
+        private final String exactQuantity;
+        private final String measurementUnit;
+
+        private IngredientModel(ScaledRecipeIngredient original) {
+            this.id = original.ingredientId().toString();
+            this.isMainIngredient = original.isMainIngredient();
+            var quantity = original.quantity();
+            var undefined = ScaledQuantity.UNDEFINED.equals(quantity);
+            this.quantity = undefined ? null : quantity.toDecimal(DECIMALS).stripTrailingZeros();
+            this.exactQuantity = undefined ? null : quantity.toFraction();
+            this.measurementUnit = undefined ? null : quantity.unit().name();
+        }
+
+    }
+
+}
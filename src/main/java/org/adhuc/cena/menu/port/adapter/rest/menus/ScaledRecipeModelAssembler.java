@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.EntityLinks;
+import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
+import org.springframework.stereotype.Component;
+
+import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModel;
+import org.adhuc.cena.menu.port.adapter.rest.support.LinkTemplate;
+import org.adhuc.cena.menu.recipes.ScaledRecipe;
+
+/**
+ * A {@link org.springframework.hateoas.server.RepresentationModelAssembler RepresentationModelAssembler} implementation
+ * allowing building {@link ScaledRecipeModel}s.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Component
+class ScaledRecipeModelAssembler extends RepresentationModelAssemblerSupport<ScaledRecipe, ScaledRecipeModel> {
+
+    private static final String RECIPE_LINK = "recipe";
+    private static final String MENU_LINK = "menu";
+
+    private EntityLinks links;
+    private LinkTemplate recipeLink;
+
+    /**
+     * Creates a model assembler for scaled recipes.
+     */
+    ScaledRecipeModelAssembler(EntityLinks links) {
+        super(MenuRecipesController.class, ScaledRecipeModel.class);
+        this.links = links;
+        this.recipeLink = LinkTemplate.of(1, params -> links.linkToItemResource(RecipeModel.class, params[0]));
+    }
+
+    @Override
+    public ScaledRecipeModel toModel(ScaledRecipe recipe) {
+        return instantiateModel(recipe)
+                .add(recipeLink.expand(RECIPE_LINK, recipe.recipeId()));
+    }
+
+    public CollectionModel<ScaledRecipeModel> toCollectionModel(String menuId, Iterable<? extends ScaledRecipe> recipes) {
+        return super.toCollectionModel(recipes)
+                .add(links.linkFor(ScaledRecipeModel.class, menuId).withSelfRel())
+                .add(links.linkToItemResource(MenuModel.class, menuId).withRel(MENU_LINK));
+    }
+
+    @Override
+    protected ScaledRecipeModel instantiateModel(ScaledRecipe recipe) {
+        return new ScaledRecipeModel(recipe);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import static java.util.stream.Collectors.toList;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import lombok.ToString;
+import org.springframework.hateoas.RepresentationModel;
+
+import org.adhuc.cena.menu.menus.ShoppingList;
+import org.adhuc.cena.menu.menus.ShoppingListItem;
+import org.adhuc.cena.menu.menus.ShoppingListQuantity;
+
+/**
+ * A REST resource encapsulating shopping list information.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ToString(callSuper = true)
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+class ShoppingListModel extends RepresentationModel<ShoppingListModel> {
+
+    private final String since;
+    private final String until;
+    private final List<ItemModel> items;
+
+    ShoppingListModel(ShoppingList original) {
+        this.since = original.since().toString();
+        this.until = original.until().toString();
+        this.items = original.items().stream().map(ItemModel::new).collect(toList());
+    }
+
+    @ToString
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    private static class ItemModel {
+
+        private final String id;
+        private final String name;
+        private final List<QuantityModel> quantities;
+
+        private ItemModel(ShoppingListItem original) {
+            this.id = original.ingredientId().toString();
+            this.name = original.ingredientName().value();
+            this.quantities = original.quantities().stream().map(QuantityModel::new).collect(toList());
+        }
+
+    }
+
+    @ToString
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    private static class QuantityModel {
+
+        private final BigDecimal quantity;
+        private final String measurementUnit;
+
+        private QuantityModel(ShoppingListQuantity original) {
+            this.quantity = original.value();
+            this.measurementUnit = original.unit().name();
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.recipes;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.NonNull;
+import lombok.ToString;
+
+import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.CreateRecipeIngredientRequest;
+import org.adhuc.cena.menu.recipes.CreateRecipeWithIngredients;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * A request to create a recipe along with its ingredients.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@ToString
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+class CreateRecipeWithIngredientsRequest {
+
+    @JsonUnwrapped
+    private CreateRecipeRequest recipe = new CreateRecipeRequest();
+    private List<CreateRecipeIngredientRequest> ingredients;
+
+    /**
+     * Converts this request to a {@code CreateRecipeWithIngredients} command.
+     *
+     * @param id         the recipe identity.
+     * @param authorName the recipe author name.
+     * @return the recipe with ingredients creation command.
+     * @throws IllegalArgumentException if the request is invalid.
+     */
+    CreateRecipeWithIngredients toCommand(@NonNull RecipeId id, @NonNull String authorName) {
+        List<CreateRecipeIngredientRequest> ingredients = this.ingredients != null ? this.ingredients : List.of();
+        isTrue(!ingredients.contains(null), "Cannot create recipe with null ingredient");
+        return new CreateRecipeWithIngredients(recipe.toCommand(id, authorName), ingredients.stream()
+                .map(ingredient -> ingredient.toCommand(id))
+                .collect(toList()));
+    }
+
+}
@@ -18,9 +18,12 @@ package org.adhuc.cena.menu.port.adapter.rest.recipes;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.ConditionalRequests.isNotModified;
+
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.adhuc.cena.menu.recipes.DeleteRecipe;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
@@ -47,12 +50,15 @@ public class RecipeController {
      * Gets the recipe information for the recipe corresponding to the specified identity.
      *
      * @param recipeId the recipe identity.
-     * @return the recipe information.
+     * @return the recipe information, or {@code null} if the recipe did not change since the client retrieved it.
      */
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    public RecipeModel getRecipe(@PathVariable String recipeId) {
-        var recipe = recipeConsultation.getRecipe(new RecipeId(recipeId));
+    public RecipeModel getRecipe(@PathVariable String recipeId, ServletWebRequest request) {
+        var id = new RecipeId(recipeId);
+        if (isNotModified(request, recipeConsultation.getRecipeVersion(id))) {
+            return null;
+        }
+        var recipe = recipeConsultation.getRecipe(id);
         return modelAssembler.toModel(recipe);
     }
 
@@ -15,8 +15,11 @@
  */
 package org.adhuc.cena.menu.port.adapter.rest.recipes;
 
+import static java.util.stream.Collectors.toList;
+
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
 
+import java.util.List;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
@@ -29,6 +32,8 @@ import org.springframework.hateoas.server.core.Relation;
 
 import org.adhuc.cena.menu.recipes.CourseType;
 import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeSummary;
+import org.adhuc.cena.menu.recipes.RecipeSummaryIngredient;
 
 /**
  * A REST resource encapsulating ingredient information.
@@ -57,6 +62,7 @@ public class RecipeModel extends RepresentationModel<RecipeModel> {
     private final String recipeAuthor;
     private final int servings;
     private final Set<CourseType> courseTypes;
+    private final List<IngredientModel> ingredients;
 
     RecipeModel(@NonNull Recipe recipe) {
         recipeId = recipe.id().toString();
@@ -65,6 +71,33 @@ public class RecipeModel extends RepresentationModel<RecipeModel> {
         recipeAuthor = recipe.author().toString();
         servings = recipe.servings().value();
         courseTypes = recipe.courseTypes();
+        ingredients = null;
+    }
+
+    RecipeModel(@NonNull RecipeSummary summary) {
+        recipeId = summary.id().toString();
+        recipeName = summary.name().value();
+        recipeContent = summary.content();
+        recipeAuthor = summary.author().toString();
+        servings = summary.servings().value();
+        courseTypes = summary.courseTypes();
+        ingredients = summary.ingredients().stream().map(IngredientModel::new).collect(toList());
+    }
+
+    @ToString
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
+    private static class IngredientModel {
+
+        private final String id;
+        private final String name;
+        private final boolean mainIngredient;
+
+        private IngredientModel(RecipeSummaryIngredient original) {
+            this.id = original.ingredientId().toString();
+            this.name = original.name().value();
+            this.mainIngredient = original.isMainIngredient();
+        }
+
     }
 
 }
@@ -15,20 +15,33 @@
  */
 package org.adhuc.cena.menu.port.adapter.rest.recipes;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.pageLinks;
+
+import java.util.function.Function;
+
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import org.adhuc.cena.menu.common.aggregate.Entity;
+import org.adhuc.cena.menu.common.aggregate.Page;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientModel;
+import org.adhuc.cena.menu.port.adapter.rest.support.LinkTemplate;
+import org.adhuc.cena.menu.port.adapter.rest.support.StreamedCollectionModel;
+import org.adhuc.cena.menu.recipes.QueryRecipes;
 import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeId;
+import org.adhuc.cena.menu.recipes.RecipeSummary;
 
 /**
  * A {@link org.springframework.hateoas.server.RepresentationModelAssembler RepresentationModelAssembler} implementation
  * allowing building {@link RecipeModel}s.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.2.0
  */
 @Component
@@ -37,6 +50,8 @@ public class RecipeModelAssembler extends RepresentationModelAssemblerSupport<Re
     private static final String RECIPE_INGREDIENTS_RELATION = "ingredients";
 
     private EntityLinks links;
+    private LinkTemplate recipeLink;
+    private LinkTemplate recipeIngredientsLink;
 
     /**
      * Creates a model assembler for recipes.
@@ -44,13 +59,28 @@ public class RecipeModelAssembler extends RepresentationModelAssemblerSupport<Re
     RecipeModelAssembler(EntityLinks links) {
         super(RecipesController.class, RecipeModel.class);
         this.links = links;
+        this.recipeLink = LinkTemplate.of(1, params -> links.linkToItemResource(RecipeModel.class, params[0]));
+        this.recipeIngredientsLink = LinkTemplate.of(1,
+                params -> links.linkFor(RecipeIngredientModel.class, params[0]).withSelfRel());
     }
 
     @Override
     public RecipeModel toModel(Recipe recipe) {
         return instantiateModel(recipe)
-                .add(links.linkToItemResource(RecipeModel.class, recipe.id()).withSelfRel())
-                .add(links.linkFor(RecipeIngredientModel.class, recipe.id()).withRel(RECIPE_INGREDIENTS_RELATION));
+                .add(recipeLink.expand(IanaLinkRelations.SELF, recipe.id()))
+                .add(recipeIngredientsLink.expand(RECIPE_INGREDIENTS_RELATION, recipe.id()));
+    }
+
+    /**
+     * Converts the recipe summary into a recipe model, with the same links as a recipe model converted from a recipe.
+     *
+     * @param summary the recipe summary to convert.
+     * @return the recipe model.
+     */
+    public RecipeModel toSummaryModel(RecipeSummary summary) {
+        return new RecipeModel(summary)
+                .add(recipeLink.expand(IanaLinkRelations.SELF, summary.id()))
+                .add(recipeIngredientsLink.expand(RECIPE_INGREDIENTS_RELATION, summary.id()));
     }
 
     @Override
@@ -59,6 +89,43 @@ public class RecipeModelAssembler extends RepresentationModelAssemblerSupport<Re
                 .add(links.linkToCollectionResource(RecipeModel.class).withSelfRel());
     }
 
+    /**
+     * Converts the page of recipes into a collection model whose items are converted while serialized, avoiding to
+     * hold every item model in memory at once. The collection model contains links to previous and next pages,
+     * applying the same filters as the specified query.
+     *
+     * @param page  the page of recipes to convert.
+     * @param query the query the page results from.
+     * @return the streamed collection model.
+     */
+    public StreamedCollectionModel<Recipe, RecipeModel> toStreamedCollectionModel(Page<Recipe, RecipeId> page,
+                                                                                  QueryRecipes query) {
+        return toStreamedCollectionModel(page, query, this::toModel);
+    }
+
+    /**
+     * Converts the page of unfiltered recipe summaries into a collection model whose items are converted while
+     * serialized. The collection model contains links to previous and next pages.
+     *
+     * @param page the page of recipe summaries to convert.
+     * @return the streamed collection model.
+     */
+    public StreamedCollectionModel<RecipeSummary, RecipeModel> toStreamedSummaryCollectionModel(
+            Page<RecipeSummary, RecipeId> page) {
+        return toStreamedCollectionModel(page, QueryRecipes.query(), this::toSummaryModel);
+    }
+
+    private <E extends Entity<RecipeId>> StreamedCollectionModel<E, RecipeModel> toStreamedCollectionModel(
+            Page<E, RecipeId> page, QueryRecipes query, Function<E, RecipeModel> assembler) {
+        var collectionLink = links.linkToCollectionResource(RecipeModel.class);
+        var collectionUri = UriComponentsBuilder.fromUriString(collectionLink.getHref());
+        query.ingredientId().ifPresent(ingredientId ->
+                collectionUri.queryParam(RecipesController.INGREDIENT_FILTER_PARAM, ingredientId));
+        return new StreamedCollectionModel<E, RecipeModel>(page.content(), assembler)
+                .add(collectionLink.withSelfRel())
+                .add(pageLinks(page, collectionUri));
+    }
+
     @Override
     protected RecipeModel instantiateModel(Recipe recipe) {
         return new RecipeModel(recipe);
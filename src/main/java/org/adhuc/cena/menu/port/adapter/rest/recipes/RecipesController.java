@@ -16,29 +16,40 @@
 package org.adhuc.cena.menu.port.adapter.rest.recipes;
 
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
-import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.ConditionalRequests.isNotModified;
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.PAGE_AFTER_PARAM;
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.PAGE_SIZE_PARAM;
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.pagination;
+
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.Principal;
 import javax.validation.Valid;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.ExposesResourceFor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.port.adapter.rest.support.PageCursor;
+import org.adhuc.cena.menu.port.adapter.rest.support.PageSize;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
+import org.adhuc.cena.menu.port.adapter.rest.support.StreamedCollectionModel;
 import org.adhuc.cena.menu.port.adapter.rest.support.Uuid;
 import org.adhuc.cena.menu.recipes.QueryRecipes;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeId;
+import org.adhuc.cena.menu.recipes.RecipeSummary;
 
 /**
  * A REST controller exposing /api/recipes resource.
@@ -54,23 +65,43 @@ import org.adhuc.cena.menu.recipes.RecipeId;
 @RequiredArgsConstructor
 public class RecipesController {
 
+    static final String INGREDIENT_FILTER_PARAM = "filter[ingredient]";
+
     private final EntityLinks links;
     private final RecipeConsultation recipeConsultation;
     private final RecipeAuthoring recipeAuthoring;
     private final RecipeModelAssembler modelAssembler;
+    private final RenderedResponseCache responseCache;
 
     /**
-     * Gets the recipe information for all recipes.
+     * Gets the recipe information for a page of recipes, or responds Not Modified if recipes did not change since the
+     * client retrieved them. Unfiltered recipes are served from the recipe summaries, and their rendered page is cached
+     * until recipes change.
      */
     @GetMapping
-    @ResponseStatus(OK)
-    CollectionModel<RecipeModel> getRecipes(@RequestParam(name = "filter[ingredient]", required = false) @Uuid(propertyName = "filter[ingredient]") String ingredient) {
-        var query = QueryRecipes.query();
+    StreamedCollectionModel<?, RecipeModel> getRecipes(@RequestParam(name = INGREDIENT_FILTER_PARAM, required = false) @Uuid(propertyName = INGREDIENT_FILTER_PARAM) String ingredient,
+                                                       @RequestParam(name = PAGE_SIZE_PARAM, required = false) @PageSize(propertyName = PAGE_SIZE_PARAM) Integer pageSize,
+                                                       @RequestParam(name = PAGE_AFTER_PARAM, required = false) @PageCursor(propertyName = PAGE_AFTER_PARAM) String pageAfter,
+                                                       ServletWebRequest request) throws IOException {
+        var query = ingredient != null
+                ? QueryRecipes.query().withIngredientId(new IngredientId(ingredient))
+                : QueryRecipes.query();
+        var version = recipeConsultation.getRecipesVersion(query);
+        if (isNotModified(request, version)) {
+            return null;
+        }
+        var pagination = pagination(pageSize, pageAfter, RecipeId::new);
         if (ingredient != null) {
-            query = query.withIngredientId(new IngredientId(ingredient));
+            return modelAssembler.toStreamedCollectionModel(recipeConsultation.getRecipes(query, pagination), query);
         }
-        var recipes = recipeConsultation.getRecipes(query);
-        return modelAssembler.toCollectionModel(recipes);
+        if (responseCache.write(request, version, () -> getRecipeSummaries(pagination))) {
+            return null;
+        }
+        return getRecipeSummaries(pagination);
+    }
+
+    private StreamedCollectionModel<RecipeSummary, RecipeModel> getRecipeSummaries(Pagination<RecipeId> pagination) {
+        return modelAssembler.toStreamedSummaryCollectionModel(recipeConsultation.getRecipeSummaries(pagination));
     }
 
     /**
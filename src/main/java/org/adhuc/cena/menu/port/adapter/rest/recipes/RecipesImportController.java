@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.recipes;
+
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.NDJSON_VALUE;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader;
+import org.adhuc.cena.menu.port.adapter.rest.support.BulkImportResultWriter;
+import org.adhuc.cena.menu.recipes.CreateRecipeWithIngredients;
+import org.adhuc.cena.menu.recipes.CreateRecipes;
+import org.adhuc.cena.menu.recipes.RecipeAuthoring;
+import org.adhuc.cena.menu.recipes.RecipeId;
+
+/**
+ * A REST controller exposing /api/recipes resource for bulk import. Recipes are imported from newline delimited JSON,
+ * each line being a recipe creation request along with the recipe ingredients. The request is parsed incrementally and
+ * recipes are created by batches, the result of each line being streamed back as soon as its batch has been created.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Slf4j
+@RestController
+class RecipesImportController {
+
+    static final int BATCH_SIZE = 200;
+
+    private final ObjectReader requestReader;
+    private final RecipeAuthoring recipeAuthoring;
+
+    RecipesImportController(ObjectMapper objectMapper, RecipeAuthoring recipeAuthoring) {
+        this.requestReader = objectMapper.readerFor(CreateRecipeWithIngredientsRequest.class);
+        this.recipeAuthoring = recipeAuthoring;
+    }
+
+    /**
+     * Imports recipes.
+     */
+    @PostMapping(path = "/api/recipes", consumes = NDJSON_VALUE, produces = NDJSON_VALUE)
+    void importRecipes(InputStream body, Principal principal, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_VALUE);
+        try (var reader = BulkImportReader.<CreateRecipeWithIngredientsRequest>ndjson(body, requestReader);
+             var results = new BulkImportResultWriter(response.getOutputStream())) {
+            var imported = reader.<CreateRecipeWithIngredients, RecipeId>importAll(BATCH_SIZE,
+                    request -> request.toCommand(RecipeId.generate(), principal.getName()),
+                    (commands, resultSink) -> recipeAuthoring.createRecipes(new CreateRecipes(commands, resultSink)),
+                    results);
+            log.info("Imported {} lines of recipes", imported);
+        }
+    }
+
+}
@@ -50,7 +50,7 @@ import org.adhuc.cena.menu.recipes.RecipeId;
 @Getter
 @ToString
 @CreateRecipeIngredientRequest.ValidRequest
-class CreateRecipeIngredientRequest {
+public class CreateRecipeIngredientRequest {
 
     @NotBlank
     @Uuid
@@ -65,9 +65,9 @@ class CreateRecipeIngredientRequest {
      * Converts this request to a {@code AddIngredientToRecipe} command.
      *
      * @param recipeId the recipe identity.
-     * @return the ingredient to recipe addition command..
+     * @return the ingredient to recipe addition command.
      */
-    AddIngredientToRecipe toCommand(@NonNull RecipeId recipeId) {
+    public AddIngredientToRecipe toCommand(@NonNull RecipeId recipeId) {
         return new AddIngredientToRecipe(new IngredientId(id), recipeId, mainIngredient,
                 quantity != null ? new Quantity(quantity, measurementUnit) : Quantity.UNDEFINED);
     }
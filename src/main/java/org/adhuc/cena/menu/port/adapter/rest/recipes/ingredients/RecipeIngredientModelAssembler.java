@@ -16,12 +16,14 @@
 package org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients;
 
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.server.EntityLinks;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
 import org.springframework.stereotype.Component;
 
 import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientModel;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModel;
+import org.adhuc.cena.menu.port.adapter.rest.support.LinkTemplate;
 import org.adhuc.cena.menu.recipes.RecipeIngredient;
 
 /**
@@ -29,7 +31,7 @@ import org.adhuc.cena.menu.recipes.RecipeIngredient;
  * allowing building {@link RecipeIngredientModel}s.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.2.0
  */
 @Component
@@ -39,6 +41,9 @@ public class RecipeIngredientModelAssembler extends RepresentationModelAssembler
     private static final String INGREDIENT_LINK = "ingredient";
 
     private EntityLinks links;
+    private LinkTemplate recipeIngredientLink;
+    private LinkTemplate recipeLink;
+    private LinkTemplate ingredientLink;
 
     /**
      * Creates a model assembler for recipe ingredients.
@@ -46,15 +51,19 @@ public class RecipeIngredientModelAssembler extends RepresentationModelAssembler
     RecipeIngredientModelAssembler(EntityLinks links) {
         super(RecipeIngredientsController.class, RecipeIngredientModel.class);
         this.links = links;
+        this.recipeIngredientLink = LinkTemplate.of(2,
+                params -> links.linkFor(RecipeIngredientModel.class, params[0]).slash(params[1]).withSelfRel());
+        this.recipeLink = LinkTemplate.of(1, params -> links.linkToItemResource(RecipeModel.class, params[0]));
+        this.ingredientLink = LinkTemplate.of(1, params -> links.linkToItemResource(IngredientModel.class, params[0]));
     }
 
     @Override
     public RecipeIngredientModel toModel(RecipeIngredient recipeIngredient) {
         return instantiateModel(recipeIngredient)
-                .add(links.linkFor(RecipeIngredientModel.class, recipeIngredient.recipeId())
-                        .slash(recipeIngredient.ingredientId()).withSelfRel())
-                .add(links.linkToItemResource(RecipeModel.class, recipeIngredient.recipeId()).withRel(RECIPE_LINK))
-                .add(links.linkToItemResource(IngredientModel.class, recipeIngredient.ingredientId()).withRel(INGREDIENT_LINK));
+                .add(recipeIngredientLink.expand(IanaLinkRelations.SELF,
+                        recipeIngredient.recipeId(), recipeIngredient.ingredientId()))
+                .add(recipeLink.expand(RECIPE_LINK, recipeIngredient.recipeId()))
+                .add(ingredientLink.expand(INGREDIENT_LINK, recipeIngredient.ingredientId()));
     }
 
     public CollectionModel<RecipeIngredientModel> toCollectionModel(String recipeId, Iterable<? extends RecipeIngredient> recipeIngredients) {
@@ -17,9 +17,10 @@ package org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients;
 
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
-import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.ConditionalRequests.isNotModified;
+
 import java.net.URI;
 import java.net.URISyntaxException;
 import javax.validation.Valid;
@@ -32,6 +33,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeId;
@@ -58,12 +60,16 @@ public class RecipeIngredientsController {
     private final RecipeAuthoring recipeAuthoring;
 
     /**
-     * Gets the recipe ingredient information for all ingredients linked to the recipe.
+     * Gets the recipe ingredient information for all ingredients linked to the recipe, or responds Not Modified if the
+     * recipe did not change since the client retrieved them.
      */
     @GetMapping
-    @ResponseStatus(OK)
-    CollectionModel<RecipeIngredientModel> getRecipeIngredients(@PathVariable String recipeId) {
-        return modelAssembler.toCollectionModel(recipeId, recipeConsultation.getRecipe(new RecipeId(recipeId)).ingredients());
+    CollectionModel<RecipeIngredientModel> getRecipeIngredients(@PathVariable String recipeId, ServletWebRequest request) {
+        var id = new RecipeId(recipeId);
+        if (isNotModified(request, recipeConsultation.getRecipeVersion(id))) {
+            return null;
+        }
+        return modelAssembler.toCollectionModel(recipeId, recipeConsultation.getRecipe(id).ingredients());
     }
 
     /**
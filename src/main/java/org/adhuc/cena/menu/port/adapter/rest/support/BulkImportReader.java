@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.NonNull;
+import org.springframework.http.MediaType;
+
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.aggregate.Identity;
+import org.adhuc.cena.menu.common.exception.ExceptionCode;
+
+/**
+ * A reader parsing bulk import requests incrementally, so that the whole payload is never held in memory. Requests are
+ * either formatted as newline delimited JSON, with one JSON object per line, or as CSV, with a header line naming the
+ * columns followed by one line per element. CSV fields can be quoted, but cannot contain line breaks. Blank lines are
+ * ignored.
+ * <p>
+ * Lines are read by batches, each line being parsed independently: a line that cannot be parsed is rejected without
+ * preventing the other lines to be imported. The results are written for every line as soon as its batch has been
+ * imported, through a {@link BulkImportResultWriter}.
+ *
+ * @param <T> the type of elements parsed from the lines.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public final class BulkImportReader<T> implements Closeable {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType NDJSON = MediaType.valueOf(NDJSON_VALUE);
+    public static final String CSV_VALUE = "text/csv";
+    public static final MediaType CSV = MediaType.valueOf(CSV_VALUE);
+
+    private static final char CSV_SEPARATOR = ',';
+    private static final char CSV_QUOTE = '"';
+
+    private final BufferedReader reader;
+    private final LineParser<T> parser;
+    private int lineNumber;
+
+    private BulkImportReader(BufferedReader reader, LineParser<T> parser, int linesRead) {
+        this.reader = reader;
+        this.parser = parser;
+        this.lineNumber = linesRead;
+    }
+
+    /**
+     * Creates a reader parsing newline delimited JSON lines with the specified object reader.
+     *
+     * @param input        the input to read.
+     * @param objectReader the object reader parsing each line.
+     * @param <T>          the type of elements parsed from the lines.
+     * @return the reader.
+     */
+    public static <T> BulkImportReader<T> ndjson(@NonNull InputStream input, @NonNull ObjectReader objectReader) {
+        return new BulkImportReader<>(bufferedReader(input), objectReader::readValue, 0);
+    }
+
+    /**
+     * Creates a reader parsing CSV lines, each line being converted from a map of the values indexed by column name.
+     *
+     * @param input  the input to read, starting with the header line.
+     * @param mapper the function converting the values of a line into an element, that may reject the line by throwing
+     *               an {@link IllegalArgumentException}.
+     * @param <T>    the type of elements parsed from the lines.
+     * @return the reader.
+     * @throws IOException if the header line cannot be read.
+     */
+    public static <T> BulkImportReader<T> csv(@NonNull InputStream input,
+                                              @NonNull Function<Map<String, String>, T> mapper) throws IOException {
+        var reader = bufferedReader(input);
+        var header = reader.readLine();
+        var columns = header != null ? csvFields(header) : List.<String>of();
+        return new BulkImportReader<>(reader, csvParser(columns, mapper), 1);
+    }
+
+    /**
+     * Creates a reader depending on the specified content type.
+     *
+     * @param contentType  the request content type, either {@link #NDJSON} or {@link #CSV}.
+     * @param input        the input to read.
+     * @param objectReader the object reader parsing newline delimited JSON lines.
+     * @param csvMapper    the function converting the values of a CSV line into an element.
+     * @param <T>          the type of elements parsed from the lines.
+     * @return the reader.
+     * @throws IOException if the CSV header line cannot be read.
+     */
+    public static <T> BulkImportReader<T> forContentType(@NonNull MediaType contentType, @NonNull InputStream input,
+                                                         @NonNull ObjectReader objectReader,
+                                                         @NonNull Function<Map<String, String>, T> csvMapper)
+            throws IOException {
+        if (CSV.isCompatibleWith(contentType)) {
+            return csv(input, csvMapper);
+        }
+        isTrue(NDJSON.isCompatibleWith(contentType), () -> "Cannot import elements from content type " + contentType);
+        return ndjson(input, objectReader);
+    }
+
+    private static BufferedReader bufferedReader(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, UTF_8));
+    }
+
+    /**
+     * Imports all the lines, batch by batch. Each batch of parsed elements is converted into commands that are executed
+     * at once, the execution reporting the result of each command to a result sink, and the result of each line is
+     * written once its batch has been executed.
+     *
+     * @param batchSize the maximum number of lines in a batch.
+     * @param toCommand the function converting a parsed element into a command, that may reject the element by throwing
+     *                  an {@link IllegalArgumentException}.
+     * @param execution the consumer executing a batch of commands, reporting a result for each command in order to the
+     *                  result sink.
+     * @param results   the writer to write results to.
+     * @param <C>       the commands type.
+     * @param <I>       the created entities' identity type.
+     * @return the number of lines imported, either successfully or not.
+     * @throws IOException if the input cannot be read or the results cannot be written.
+     */
+    public <C, I extends Identity> int importAll(int batchSize, @NonNull Function<T, C> toCommand,
+                                                 @NonNull BiConsumer<List<C>, Consumer<CreationResult<I>>> execution,
+                                                 @NonNull BulkImportResultWriter results) throws IOException {
+        isTrue(batchSize > 0, () -> "Cannot import lines with batch size " + batchSize + ", expected positive value");
+        var imported = 0;
+        List<Line<T>> batch;
+        while (!(batch = nextBatch(batchSize)).isEmpty()) {
+            var commands = new ArrayList<C>(batch.size());
+            var rejections = new HashMap<Integer, String>();
+            for (var line : batch) {
+                if (line.error != null) {
+                    rejections.put(line.number, line.error);
+                    continue;
+                }
+                try {
+                    commands.add(toCommand.apply(line.value));
+                } catch (IllegalArgumentException e) {
+                    rejections.put(line.number, e.getMessage());
+                }
+            }
+            var created = new ArrayList<CreationResult<I>>(commands.size());
+            if (!commands.isEmpty()) {
+                execution.accept(commands, created::add);
+            }
+            var createdResults = created.iterator();
+            for (var line : batch) {
+                var rejection = rejections.get(line.number);
+                if (rejection != null) {
+                    results.writeRejected(line.number, ExceptionCode.INVALID_REQUEST, rejection);
+                } else {
+                    results.write(line.number, createdResults.next());
+                }
+            }
+            results.flush();
+            imported += batch.size();
+        }
+        return imported;
+    }
+
+    private List<Line<T>> nextBatch(int batchSize) throws IOException {
+        var batch = new ArrayList<Line<T>>(batchSize);
+        String line;
+        while (batch.size() < batchSize && (line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                batch.add(parse(lineNumber, line));
+            }
+        }
+        return batch;
+    }
+
+    private Line<T> parse(int number, String line) {
+        try {
+            var value = parser.parse(line);
+            if (value == null) {
+                return new Line<>(number, null, "Cannot import null element");
+            }
+            return new Line<>(number, value, null);
+        } catch (JsonProcessingException e) {
+            return new Line<>(number, null, e.getOriginalMessage());
+        } catch (IOException | IllegalArgumentException e) {
+            return new Line<>(number, null, e.getMessage());
+        }
+    }
+
+    private static <T> LineParser<T> csvParser(List<String> columns, Function<Map<String, String>, T> mapper) {
+        return line -> {
+            var fields = csvFields(line);
+            isTrue(fields.size() <= columns.size(),
+                    () -> "Cannot parse line with " + fields.size() + " fields, expected at most " + columns.size());
+            var values = new HashMap<String, String>(columns.size() * 2);
+            for (int i = 0; i < fields.size(); i++) {
+                values.put(columns.get(i), fields.get(i));
+            }
+            return mapper.apply(values);
+        };
+    }
+
+    /**
+     * Splits the specified CSV line into fields. Fields can be quoted, a quote within a quoted field being escaped by
+     * another quote.
+     *
+     * @param line the CSV line.
+     * @return the fields.
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    static List<String> csvFields(String line) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+            if (quoted) {
+                if (c != CSV_QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == CSV_QUOTE) {
+                    field.append(CSV_QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == CSV_QUOTE) {
+                quoted = true;
+            } else if (c == CSV_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        isTrue(!quoted, "Cannot parse line with unclosed quoted field");
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @FunctionalInterface
+    private interface LineParser<T> {
+        T parse(String line) throws IOException;
+    }
+
+    private static final class Line<T> {
+        private final int number;
+        private final T value;
+        private final String error;
+
+        private Line(int number, T value, String error) {
+            this.number = number;
+            this.value = value;
+            this.error = error;
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import lombok.NonNull;
+
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.exception.ExceptionCode;
+
+/**
+ * A writer of bulk import results, as newline delimited JSON. Each result indicates the imported line number, and
+ * whether the element has been created, with its identity, or rejected, with the error code and message. Lines that
+ * cannot be parsed are rejected without identity:
+ * <pre>
+ * {"line":1,"status":"CREATED","id":"3fa85f64-5717-4562-b3fc-2c963f66afa6"}
+ * {"line":2,"status":"REJECTED","id":"168c9f6d-dda3-4fde-a0b0-28934fe9eb9b","code":900000,"message":"..."}
+ * {"line":3,"status":"REJECTED","code":101000,"message":"..."}
+ * </pre>
+ * Results are written directly to the response output, without being buffered.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public final class BulkImportResultWriter implements Flushable, Closeable {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String CREATED = "CREATED";
+    private static final String REJECTED = "REJECTED";
+
+    private final JsonGenerator generator;
+
+    /**
+     * Creates a bulk import result writer.
+     *
+     * @param output the output to write results to.
+     * @throws IOException if the output cannot be written.
+     */
+    public BulkImportResultWriter(@NonNull OutputStream output) throws IOException {
+        generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)
+                .setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    /**
+     * Writes the result of the creation of the element from the specified line.
+     *
+     * @param line   the line number.
+     * @param result the creation result.
+     * @throws IOException if the output cannot be written.
+     */
+    public void write(int line, @NonNull CreationResult<?> result) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", line);
+        generator.writeStringField("status", result.isCreated() ? CREATED : REJECTED);
+        generator.writeStringField("id", result.id().toString());
+        var failure = result.failure();
+        if (failure.isPresent()) {
+            generator.writeNumberField("code", failure.get().exceptionCode().code());
+            generator.writeStringField("message", failure.get().getMessage());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the rejection of the specified line, that could not be converted into an element.
+     *
+     * @param line    the line number.
+     * @param code    the error code.
+     * @param message the error message.
+     * @throws IOException if the output cannot be written.
+     */
+    public void writeRejected(int line, @NonNull ExceptionCode code, String message) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", line);
+        generator.writeStringField("status", REJECTED);
+        generator.writeNumberField("code", code.code());
+        generator.writeStringField("message", message != null ? message : code.description());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Objects;
+
+import lombok.NonNull;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Support for conditional {@code GET} requests. A strong entity tag is derived from the versions of the data a
+ * resource is built from, and from the representation variant, i.e. the request URI and query string, the accepted
+ * media types and content codings, and the authenticated user. The accepted content codings distinguish the gzip
+ * compressed variant of a representation, whose bytes differ from the uncompressed one. When the request
+ * {@code If-None-Match} header matches the entity tag, the resource can answer {@code 304 Not Modified} before
+ * retrieving any data nor building its representation.
+ * <p>
+ * Versions must be retrieved before the data the resource is built from, so that the representation is at least as
+ * recent as the entity tag.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public final class ConditionalRequests {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    private static final String VARIANT_SEPARATOR = "\n";
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Indicates whether the resource representation has not been modified since the client retrieved it. The entity
+     * tag and cache control headers are set on the response, and its status is set to {@code 304 Not Modified} if the
+     * representation has not been modified: the handler must then return without content.
+     *
+     * @param request  the request.
+     * @param versions the versions of the data the resource is built from. A {@code 0} version, indicating that some
+     *                 data does not exist, prevents any entity tag from being set.
+     * @return {@code true} if the representation has not been modified, {@code false} otherwise.
+     */
+    public static boolean isNotModified(@NonNull ServletWebRequest request, long... versions) {
+        for (var version : versions) {
+            if (version == 0) {
+                return false;
+            }
+        }
+        var response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(entityTag(request, versions));
+    }
+
+    private static String entityTag(ServletWebRequest request, long... versions) {
+        var tag = new StringBuilder("\"");
+        for (var version : versions) {
+            tag.append(Long.toHexString(version)).append('.');
+        }
+        var servletRequest = request.getRequest();
+        var variant = String.join(VARIANT_SEPARATOR, servletRequest.getRequestURI(),
+                Objects.toString(servletRequest.getQueryString(), ""),
+                Objects.toString(request.getHeader(HttpHeaders.ACCEPT), ""),
+                Objects.toString(request.getHeader(HttpHeaders.ACCEPT_ENCODING), ""),
+                Objects.toString(request.getRemoteUser(), ""));
+        return tag.append(DigestUtils.md5DigestAsHex(variant.getBytes(UTF_8))).append('"').toString();
+    }
+
+}
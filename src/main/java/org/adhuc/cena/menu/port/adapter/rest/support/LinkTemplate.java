@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import lombok.NonNull;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * A link template, pre-rendering a link whose href only differs by a few parameters, typically the identities of the
+ * linked resources. Building links through {@link org.springframework.hateoas.server.EntityLinks EntityLinks} implies
+ * resolving the controller mapping and building the URI for each link, which is costly when building links for every
+ * element of a large collection. A link template builds the link once with markers in place of the parameters, and
+ * then expands the parameters with plain string concatenation.
+ * <p>
+ * As the link base URI depends on the current request, the rendered template is cached in the request attributes,
+ * so that the link is actually built once per request. Parameters are expected to be identities, whose string
+ * representations do not need to be encoded in URIs.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public final class LinkTemplate {
+
+    private static final String PARAMETER_MARKER = "cenalinktemplateparameter";
+    private static final AtomicInteger TEMPLATES_COUNTER = new AtomicInteger();
+
+    private final int parameters;
+    private final Function<Object[], Link> linkBuilder;
+    private final String attributeName;
+
+    private LinkTemplate(int parameters, Function<Object[], Link> linkBuilder) {
+        isTrue(parameters > 0,
+                () -> "Cannot create link template with " + parameters + " parameters, expected positive value");
+        this.parameters = parameters;
+        this.linkBuilder = linkBuilder;
+        this.attributeName = LinkTemplate.class.getName() + "." + TEMPLATES_COUNTER.incrementAndGet();
+    }
+
+    /**
+     * Creates a link template.
+     *
+     * @param parameters  the number of parameters in the link.
+     * @param linkBuilder the function building the link from the parameters.
+     * @return the link template.
+     */
+    public static LinkTemplate of(int parameters, @NonNull Function<Object[], Link> linkBuilder) {
+        return new LinkTemplate(parameters, linkBuilder);
+    }
+
+    /**
+     * Expands the template with the specified parameters.
+     *
+     * @param relation the link relation.
+     * @param values   the parameters values, in the same order as the parameters given to the link builder.
+     * @return the link.
+     */
+    public Link expand(@NonNull LinkRelation relation, @NonNull Object... values) {
+        isTrue(values.length == parameters,
+                () -> "Cannot expand link template with " + values.length + " parameters, expected " + parameters);
+        var parts = parts();
+        var href = new StringBuilder(parts[0]);
+        for (int i = 0; i < parameters; i++) {
+            href.append(values[i]).append(parts[i + 1]);
+        }
+        return new Link(href.toString(), relation);
+    }
+
+    /**
+     * Expands the template with the specified parameters.
+     *
+     * @param relation the link relation.
+     * @param values   the parameters values, in the same order as the parameters given to the link builder.
+     * @return the link.
+     */
+    public Link expand(@NonNull String relation, @NonNull Object... values) {
+        return expand(LinkRelation.of(relation), values);
+    }
+
+    private String[] parts() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return render();
+        }
+        var parts = (String[]) attributes.getAttribute(attributeName, SCOPE_REQUEST);
+        if (parts == null) {
+            parts = render();
+            attributes.setAttribute(attributeName, parts, SCOPE_REQUEST);
+        }
+        return parts;
+    }
+
+    private String[] render() {
+        var markers = new Object[parameters];
+        for (int i = 0; i < parameters; i++) {
+            markers[i] = PARAMETER_MARKER + i;
+        }
+        var href = linkBuilder.apply(markers).getHref();
+        var parts = new String[parameters + 1];
+        var start = 0;
+        for (int i = 0; i < parameters; i++) {
+            var marker = (String) markers[i];
+            var index = href.indexOf(marker, start);
+            if (index < 0) {
+                throw new IllegalStateException("Unable to find parameter " + i + " in link template " + href);
+            }
+            parts[i] = href.substring(start, index);
+            start = index + marker.length();
+        }
+        parts[parameters] = href.substring(start);
+        return parts;
+    }
+
+}
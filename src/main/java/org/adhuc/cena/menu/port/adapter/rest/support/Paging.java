@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import org.adhuc.cena.menu.common.aggregate.Identity;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+
+/**
+ * Support for cursor-based pagination of collection resources. A page is requested with the {@value #PAGE_SIZE_PARAM}
+ * and {@value #PAGE_AFTER_PARAM} query parameters, the latter being an opaque cursor built from the identity of the
+ * last element of the previous page. Paginated collection resources provide {@code next} and {@code prev} links to
+ * navigate through pages.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+public final class Paging {
+
+    public static final String PAGE_SIZE_PARAM = "page[size]";
+    public static final String PAGE_AFTER_PARAM = "page[after]";
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+    private Paging() {
+    }
+
+    /**
+     * Converts the pagination query parameters into a pagination.
+     *
+     * @param size           the page size, or {@code null} for default page size.
+     * @param after          the cursor of the element after which the page starts, or {@code null} for first page.
+     * @param identityParser the function converting an identity value into an identity.
+     * @param <I>            the identity type.
+     * @return the pagination.
+     * @throws IllegalArgumentException if the cursor is invalid.
+     */
+    public static <I extends Identity> Pagination<I> pagination(Integer size, String after,
+                                                                Function<String, I> identityParser) {
+        var pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (after == null) {
+            return Pagination.first(pageSize);
+        }
+        return Pagination.after(identityParser.apply(decodeCursor(after)), pageSize);
+    }
+
+    /**
+     * Builds the links to the previous and next pages of the specified page.
+     *
+     * @param page          the page.
+     * @param collectionUri the collection resource URI, including the query parameters that are not related to
+     *                      pagination.
+     * @return the links to previous and next pages, if any.
+     */
+    public static List<Link> pageLinks(Page<?, ?> page, UriComponentsBuilder collectionUri) {
+        var links = new ArrayList<Link>(2);
+        page.previous().ifPresent(previous ->
+                links.add(new Link(pageHref(previous, collectionUri), IanaLinkRelations.PREV)));
+        page.next().ifPresent(next -> links.add(new Link(pageHref(next, collectionUri), IanaLinkRelations.NEXT)));
+        return links;
+    }
+
+    static String encodeCursor(Identity identity) {
+        return CURSOR_ENCODER.encodeToString(identity.toString().getBytes(UTF_8));
+    }
+
+    static String decodeCursor(String cursor) {
+        return new String(CURSOR_DECODER.decode(cursor), UTF_8);
+    }
+
+    private static String pageHref(Pagination<?> pagination, UriComponentsBuilder collectionUri) {
+        var uri = collectionUri.cloneBuilder().queryParam(PAGE_SIZE_PARAM, pagination.size());
+        pagination.after().ifPresent(identity -> uri.queryParam(PAGE_AFTER_PARAM, encodeCursor(identity)));
+        return uri.build().toUriString();
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import static org.springframework.hateoas.MediaTypes.HAL_JSON;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.VARY;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import lombok.NonNull;
+import lombok.Value;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+
+/**
+ * A cache of rendered responses, for resources whose representation only depends on the request URL, the negotiated
+ * media type and the version of the data it is built from. A response is rendered once with the message converter that
+ * would have written the resource representation, and kept both as is and gzip compressed. Subsequent requests get the
+ * rendered bytes written as is, without building the resource model nor serializing it again, until the data version
+ * changes. Responses vary on the {@code Accept-Encoding} header, which {@link ConditionalRequests} includes in the
+ * entity tag: the gzip compressed variant is never served under the strong entity tag of the uncompressed one.
+ * <p>
+ * Any modification of the data changes its version, and thus invalidates the rendered responses. The data version must
+ * be retrieved before the data itself, so that a rendered response is at least as recent as the version it is cached
+ * with. The cache is bounded, and cleared when full: rendering a response again is cheap compared to the number of
+ * requests a rendered response serves.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Component
+public class RenderedResponseCache {
+
+    private static final List<MediaType> PRODUCIBLE_MEDIA_TYPES = List.of(HAL_JSON, APPLICATION_JSON);
+    private static final String GZIP = "gzip";
+    private static final Pattern NOT_ACCEPTABLE_QUALITY = Pattern.compile("q\\s*=\\s*0(\\.0{0,3})?");
+
+    private final ConcurrentMap<Key, RenderedResponse> responses = new ConcurrentHashMap<>();
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+    private final boolean enabled;
+    private final int maximumSize;
+
+    RenderedResponseCache(@NonNull ContentNegotiationManager contentNegotiationManager,
+                          @NonNull ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter,
+                          @NonNull MenuGenerationProperties properties) {
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.handlerAdapter = handlerAdapter;
+        this.enabled = properties.getRest().getResponseCache().isEnabled();
+        this.maximumSize = properties.getRest().getResponseCache().getMaximumSize();
+    }
+
+    /**
+     * Writes the response rendered from the resource model, taken from cache if the response has already been rendered
+     * for the same request URL, negotiated media type and data version. The response is gzip compressed if the client
+     * accepts it.
+     *
+     * @param request the request.
+     * @param version the version of the data the resource is built from. A {@code 0} version, indicating that some data
+     *                does not exist, prevents the response from being cached.
+     * @param model   the supplier of the resource model, called only if the response has to be rendered.
+     * @return {@code true} if the response has been written, {@code false} if the response cannot be cached and the
+     * resource model must be rendered as usual.
+     * @throws IOException if an error occurs while rendering or writing the response.
+     */
+    public boolean write(@NonNull ServletWebRequest request, long version, @NonNull Supplier<?> model)
+            throws IOException {
+        if (!enabled || version == 0 || request.getResponse() == null) {
+            return false;
+        }
+        var mediaType = negotiateMediaType(request);
+        if (mediaType.isEmpty()) {
+            return false;
+        }
+        var key = new Key(requestUrl(request.getRequest()), mediaType.get());
+        var rendered = responses.get(key);
+        if (rendered == null || rendered.version != version) {
+            rendered = render(model.get(), mediaType.get(), version);
+            store(key, rendered);
+        }
+        rendered.writeTo(request.getResponse(), acceptsGzip(request));
+        return true;
+    }
+
+    /**
+     * Clears the rendered responses.
+     */
+    public void clear() {
+        responses.clear();
+    }
+
+    private Optional<MediaType> negotiateMediaType(ServletWebRequest request) {
+        List<MediaType> acceptableMediaTypes;
+        try {
+            acceptableMediaTypes = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(request));
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return Optional.empty();
+        }
+        MediaType.sortBySpecificityAndQuality(acceptableMediaTypes);
+        for (var acceptable : acceptableMediaTypes) {
+            if (acceptable.getQualityValue() == 0) {
+                continue;
+            }
+            for (var producible : PRODUCIBLE_MEDIA_TYPES) {
+                if (acceptable.isCompatibleWith(producible)) {
+                    return Optional.of(producible);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private RenderedResponse render(Object model, MediaType mediaType, long version) throws IOException {
+        var message = new RenderedMessage();
+        converter(model.getClass(), mediaType).write(model, mediaType, message);
+        var contentType = message.getHeaders().getContentType();
+        return new RenderedResponse(version, contentType != null ? contentType : mediaType, message.body.toByteArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpMessageConverter<Object> converter(Class<?> modelType, MediaType mediaType) {
+        return (HttpMessageConverter<Object>) handlerAdapter.getObject().getMessageConverters().stream()
+                .filter(converter -> converter.canWrite(modelType, mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "No message converter to render " + modelType.getName() + " as " + mediaType));
+    }
+
+    private void store(Key key, RenderedResponse rendered) {
+        if (responses.size() >= maximumSize && !responses.containsKey(key)) {
+            responses.clear();
+        }
+        // A response rendered from an older version by a concurrent request must not replace a more recent one
+        responses.merge(key, rendered,
+                (current, candidate) -> candidate.version >= current.version ? candidate : current);
+    }
+
+    private static String requestUrl(HttpServletRequest request) {
+        var url = request.getRequestURL();
+        if (request.getQueryString() != null) {
+            url.append('?').append(request.getQueryString());
+        }
+        return url.toString();
+    }
+
+    private static boolean acceptsGzip(ServletWebRequest request) {
+        var headers = request.getHeaderValues(ACCEPT_ENCODING);
+        if (headers == null) {
+            return false;
+        }
+        for (var header : headers) {
+            for (var encoding : header.split(",")) {
+                var parameters = encoding.split(";");
+                if (GZIP.equalsIgnoreCase(parameters[0].trim())) {
+                    return parameters.length == 1 || !NOT_ACCEPTABLE_QUALITY.matcher(parameters[1].trim()).matches();
+                }
+            }
+        }
+        return false;
+    }
+
+    @Value
+    private static class Key {
+        String url;
+        MediaType mediaType;
+    }
+
+    private static class RenderedResponse {
+
+        private final long version;
+        private final String contentType;
+        private final byte[] body;
+        private final byte[] gzipBody;
+
+        RenderedResponse(long version, MediaType contentType, byte[] body) throws IOException {
+            this.version = version;
+            this.contentType = contentType.toString();
+            this.body = body;
+            var compressed = new ByteArrayOutputStream(body.length / 4 + 32);
+            try (var gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            this.gzipBody = compressed.toByteArray();
+        }
+
+        void writeTo(HttpServletResponse response, boolean gzip) throws IOException {
+            var content = gzip ? gzipBody : body;
+            response.setContentType(contentType);
+            response.addHeader(VARY, ACCEPT_ENCODING);
+            if (gzip) {
+                response.setHeader(CONTENT_ENCODING, GZIP);
+            }
+            response.setContentLength(content.length);
+            response.getOutputStream().write(content);
+        }
+
+    }
+
+    private static class RenderedMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(8192);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+    }
+
+}
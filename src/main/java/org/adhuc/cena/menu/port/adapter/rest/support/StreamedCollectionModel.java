@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.NonNull;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * A HAL collection resource, equivalent to a {@link org.springframework.hateoas.CollectionModel CollectionModel} whose
+ * content is embedded with the {@value #COLLECTION_RELATION} relation, but streamed while serialized: each entity is
+ * converted into its model right before being written with the JSON generator, so that the models are never all held
+ * in memory and the first bytes of the response can be sent before the whole collection is converted. Links are
+ * expected to have distinct relations.
+ *
+ * @param <T> the entities type.
+ * @param <M> the entities' model type.
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@JsonSerialize(using = StreamedCollectionModel.Serializer.class)
+public class StreamedCollectionModel<T, M extends RepresentationModel<?>>
+        extends RepresentationModel<StreamedCollectionModel<T, M>> {
+
+    static final String COLLECTION_RELATION = "data";
+
+    private final Collection<? extends T> entities;
+    private final Function<? super T, ? extends M> assembler;
+
+    /**
+     * Creates a streamed collection resource.
+     *
+     * @param entities  the entities to embed in the resource.
+     * @param assembler the function converting an entity into its model.
+     */
+    public StreamedCollectionModel(@NonNull Collection<? extends T> entities,
+                                   @NonNull Function<? super T, ? extends M> assembler) {
+        this.entities = entities;
+        this.assembler = assembler;
+    }
+
+    private void writeEmbedded(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (entities.isEmpty()) {
+            return;
+        }
+        generator.writeObjectFieldStart("_embedded");
+        generator.writeArrayFieldStart(COLLECTION_RELATION);
+        for (T entity : entities) {
+            provider.defaultSerializeValue(assembler.apply(entity), generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeLinks(JsonGenerator generator) throws IOException {
+        if (!hasLinks()) {
+            return;
+        }
+        generator.writeObjectFieldStart("_links");
+        for (Link link : getLinks()) {
+            generator.writeObjectFieldStart(link.getRel().value());
+            generator.writeStringField("href", link.getHref());
+            if (link.isTemplated()) {
+                generator.writeBooleanField("templated", true);
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * The {@link StreamedCollectionModel} serializer, writing the resource in HAL format.
+     */
+    public static class Serializer extends StdSerializer<StreamedCollectionModel<?, ?>> {
+
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("unchecked")
+        public Serializer() {
+            super((Class<StreamedCollectionModel<?, ?>>) (Class<?>) StreamedCollectionModel.class);
+        }
+
+        @Override
+        public void serialize(StreamedCollectionModel<?, ?> model, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            model.writeEmbedded(generator, provider);
+            model.writeLinks(generator);
+            generator.writeEndObject();
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Command;
+
+/**
+ * A recipe creation command, along with the ingredients composing the recipe. This allows to create a recipe and its
+ * ingredients at once, rather than adding each ingredient after the recipe creation.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Command
+@Value
+@Accessors(fluent = true)
+public class CreateRecipeWithIngredients {
+
+    private final CreateRecipe recipe;
+    private final List<AddIngredientToRecipe> ingredients;
+
+    /**
+     * Creates a recipe creation command along with the ingredients composing the recipe.
+     *
+     * @param recipe      the recipe creation command.
+     * @param ingredients the ingredient to recipe addition commands.
+     * @throws IllegalArgumentException if an ingredient addition command is related to another recipe.
+     */
+    public CreateRecipeWithIngredients(@NonNull CreateRecipe recipe, @NonNull List<AddIngredientToRecipe> ingredients) {
+        ingredients.forEach(ingredient -> isTrue(recipe.recipeId().equals(ingredient.recipeId()),
+                () -> String.format("Wrong ingredient addition recipe identity %s for recipe creation with identity %s",
+                        ingredient.recipeId(), recipe.recipeId())));
+        this.recipe = recipe;
+        this.ingredients = List.copyOf(ingredients);
+    }
+
+    /**
+     * Gets the identity of the recipe to create.
+     *
+     * @return the recipe identity.
+     */
+    public RecipeId recipeId() {
+        return recipe.recipeId();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Command;
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.util.Assert;
+
+/**
+ * A recipes creation command, allowing to create several recipes along with their ingredients at once, e.g. when
+ * importing recipes. The creation result of each recipe is reported to the command result sink, in the order of the
+ * recipes.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Command
+@Value
+@Accessors(fluent = true)
+public class CreateRecipes {
+
+    private final List<CreateRecipeWithIngredients> recipes;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Consumer<CreationResult<RecipeId>> resultSink;
+
+    /**
+     * Creates a recipes creation command.
+     *
+     * @param recipes    the recipe with ingredients creation commands.
+     * @param resultSink the sink the creation result of each recipe is reported to.
+     */
+    public CreateRecipes(@NonNull List<CreateRecipeWithIngredients> recipes,
+                         @NonNull Consumer<CreationResult<RecipeId>> resultSink) {
+        Assert.notEmpty(recipes, () -> "Cannot create recipes creation command without any recipe");
+        this.recipes = List.copyOf(recipes);
+        this.resultSink = resultSink;
+    }
+
+}
@@ -15,65 +15,152 @@
  */
 package org.adhuc.cena.menu.recipes;
 
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
-import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
+import org.adhuc.cena.menu.common.aggregate.InMemoryRepository;
+import org.adhuc.cena.menu.common.aggregate.Journal;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 import org.adhuc.cena.menu.ingredients.IngredientId;
 
 /**
  * An in-memory {@link RecipeRepository} implementation.
+ * <p>
+ * Recipes are indexed by the ingredients they are composed of, so that finding the recipes composed of an ingredient
+ * is proportional to the number of matching recipes rather than to the number of stored recipes. The index keeps track
+ * of the ingredients each recipe was composed of when last saved, and is updated with the difference on each save.
+ * <p>
+ * Recipes are also indexed by the course types they can be served as, so that e.g. menu generation can retrieve its
+ * candidate recipes without visiting every stored recipe.
+ * <p>
+ * Recipes are ordered by identity, both in the repository and in the indexes, allowing to retrieve them page by page.
+ * <p>
+ * Recipes are recorded into the {@link Journal} if any, the indexes being rebuilt while recovering them.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.2.0
  */
 @Repository
-@Profile("in-memory")
-class InMemoryRecipeRepository implements RecipeRepository {
+@Profile({"in-memory", "journal"})
+class InMemoryRecipeRepository extends InMemoryRepository<Recipe, RecipeId> implements RecipeRepository {
 
-    private Map<RecipeId, Recipe> recipes = new HashMap<>();
+    private final ConcurrentMap<RecipeId, Set<IngredientId>> indexedIngredients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<IngredientId, NavigableSet<RecipeId>> recipesByIngredient = new ConcurrentHashMap<>();
+    private final Map<CourseType, NavigableSet<RecipeId>> recipesByCourseType = new EnumMap<>(CourseType.class);
 
-    @Override
-    public Collection<Recipe> findAll() {
-        return Collections.unmodifiableCollection(recipes.values());
+    {
+        for (var courseType : CourseType.values()) {
+            recipesByCourseType.put(courseType, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    InMemoryRecipeRepository() {
+        this(Optional.empty());
+    }
+
+    @Autowired
+    InMemoryRecipeRepository(Optional<Journal<Recipe, RecipeId>> journal) {
+        super(Comparator.naturalOrder(), journal.orElse(null));
+        recover();
     }
 
     @Override
     public Collection<Recipe> findByIngredient(IngredientId ingredientId) {
-        return Collections.unmodifiableCollection(
-                recipes.values().stream().filter(r -> r.isComposedOf(ingredientId)).collect(toSet())
-        );
+        var recipeIds = recipesByIngredient.getOrDefault(ingredientId, Collections.emptyNavigableSet());
+        return recipeIds.stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .collect(toUnmodifiableList());
+    }
+
+    @Override
+    public Page<Recipe, RecipeId> findByIngredient(IngredientId ingredientId, Pagination<RecipeId> pagination) {
+        return page(recipesByIngredient.getOrDefault(ingredientId, Collections.emptyNavigableSet()), pagination);
     }
 
     @Override
-    public boolean exists(RecipeId id) {
-        return recipes.containsKey(id);
+    public Collection<Recipe> findByCourseType(CourseType courseType) {
+        return recipesByCourseType.get(courseType).stream()
+                .map(this::findById)
+                .flatMap(Optional::stream)
+                .collect(toUnmodifiableList());
     }
 
     @Override
-    public Optional<Recipe> findById(@NonNull RecipeId recipeId) {
-        return Optional.ofNullable(recipes.get(recipeId));
+    public boolean existsByIngredient(IngredientId ingredientId) {
+        return recipesByIngredient.containsKey(ingredientId);
     }
 
     @Override
-    public <S extends Recipe> S save(@NonNull S recipe) {
-        recipes.put(recipe.id(), recipe);
-        return recipe;
+    protected Recipe copy(Recipe recipe) {
+        return new Recipe(recipe);
     }
 
     @Override
-    public void deleteAll() {
-        recipes.clear();
+    protected void index(Recipe previous, Recipe saved) {
+        var ingredientIds = saved.ingredientIds();
+        var previousIngredientIds = indexedIngredients.getOrDefault(saved.id(), Set.of());
+        previousIngredientIds.stream()
+                .filter(ingredientId -> !ingredientIds.contains(ingredientId))
+                .forEach(ingredientId -> unindex(ingredientId, saved.id()));
+        ingredientIds.stream()
+                .filter(ingredientId -> !previousIngredientIds.contains(ingredientId))
+                .forEach(ingredientId -> index(ingredientId, saved.id()));
+        indexedIngredients.put(saved.id(), ingredientIds);
+        if (previous != null) {
+            previous.courseTypes().stream()
+                    .filter(courseType -> !saved.courseTypes().contains(courseType))
+                    .forEach(courseType -> recipesByCourseType.get(courseType).remove(saved.id()));
+        }
+        saved.courseTypes().forEach(courseType -> recipesByCourseType.get(courseType).add(saved.id()));
     }
 
     @Override
-    public void delete(@NonNull Recipe recipe) {
-        recipes.remove(recipe.id());
+    protected void unindex(Recipe deleted) {
+        var previousIngredientIds = indexedIngredients.remove(deleted.id());
+        if (previousIngredientIds != null) {
+            previousIngredientIds.forEach(ingredientId -> unindex(ingredientId, deleted.id()));
+        }
+        recipesByCourseType.values().forEach(recipeIds -> recipeIds.remove(deleted.id()));
+    }
+
+    @Override
+    protected void clearIndexes() {
+        indexedIngredients.clear();
+        recipesByIngredient.clear();
+        recipesByCourseType.values().forEach(NavigableSet::clear);
+    }
+
+    private void index(IngredientId ingredientId, RecipeId recipeId) {
+        recipesByIngredient.compute(ingredientId, (id, recipeIds) -> {
+            var indexed = recipeIds != null ? recipeIds : new ConcurrentSkipListSet<RecipeId>();
+            indexed.add(recipeId);
+            return indexed;
+        });
+    }
+
+    private void unindex(IngredientId ingredientId, RecipeId recipeId) {
+        recipesByIngredient.computeIfPresent(ingredientId, (id, recipeIds) -> {
+            recipeIds.remove(recipeId);
+            return recipeIds.isEmpty() ? null : recipeIds;
+        });
     }
 
 }
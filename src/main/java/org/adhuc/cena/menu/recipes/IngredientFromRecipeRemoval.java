@@ -19,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.DomainService;
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 
 /**
@@ -35,6 +36,7 @@ class IngredientFromRecipeRemoval {
 
     private final RecipeRepository recipeRepository;
     private final IngredientConsultation ingredientAppService;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Removes an ingredient from a recipe, ensuring both ingredient and recipe exist before proceeding.
@@ -45,9 +47,8 @@ class IngredientFromRecipeRemoval {
     void removeIngredientFromRecipe(RemoveIngredientFromRecipe command) {
         // Ensure that ingredient exists
         ingredientAppService.getIngredient(command.ingredientId());
-        var recipe = recipeRepository.findNotNullById(command.recipeId());
-        recipe.removeIngredient(command);
-        recipeRepository.save(recipe);
+        recipeRepository.update(command.recipeId(), recipe -> recipe.removeIngredient(command));
+        eventPublisher.publish(new RecipeIngredientRemoved(command.recipeId(), command.ingredientId()));
     }
 
 }
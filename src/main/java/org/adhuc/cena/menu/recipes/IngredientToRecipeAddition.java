@@ -19,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.DomainService;
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 
 /**
@@ -35,6 +36,7 @@ class IngredientToRecipeAddition {
 
     private final RecipeRepository recipeRepository;
     private final IngredientConsultation ingredientConsultation;
+    private final DomainEventPublisher eventPublisher;
 
     /**
      * Adds an ingredient to a recipe, ensuring both ingredient and recipe exist before proceeding.
@@ -48,9 +50,8 @@ class IngredientToRecipeAddition {
             throw new InvalidMeasurementUnitForIngredientException(command.ingredientId(), command.recipeId(),
                     command.quantity().unit(), ingredient.measurementTypes());
         }
-        var recipe = recipeRepository.findNotNullById(command.recipeId());
-        recipe.addIngredient(command);
-        recipeRepository.save(recipe);
+        recipeRepository.update(command.recipeId(), recipe -> recipe.addIngredient(command));
+        eventPublisher.publish(new RecipeIngredientAdded(command.recipeId(), command.ingredientId()));
     }
 
 }
@@ -25,7 +25,7 @@ import org.adhuc.cena.menu.util.Assert;
  * A quantity definition. Quantity value must be positive.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.2.0
  */
 @Value
@@ -47,6 +47,20 @@ public class Quantity {
         this.unit = unit;
     }
 
+    /**
+     * Scales this quantity by the specified ratio. The undefined quantity is never scaled.
+     *
+     * @param multiplier the ratio numerator.
+     * @param divisor    the ratio denominator.
+     * @return the scaled quantity.
+     */
+    public ScaledQuantity scale(int multiplier, int divisor) {
+        if (MeasurementUnit.UNDEFINED.equals(unit)) {
+            return ScaledQuantity.UNDEFINED;
+        }
+        return new ScaledQuantity((long) value * multiplier, divisor, unit);
+    }
+
     public String toString() {
         return String.format("%d %s", value, unit.name().toLowerCase());
     }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import static org.adhuc.cena.menu.ingredients.MeasurementType.*;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.*;
+
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import org.adhuc.cena.menu.ingredients.MeasurementType;
+import org.adhuc.cena.menu.util.Assert;
+
+/**
+ * A conversion engine between measurement units of the same measurement type, used to scale and aggregate ingredients
+ * quantities. Quantities are handled as fixed-point {@code long} values, expressing millionths of a unit (see
+ * {@link #SCALE}), so that converted quantities can be summed without loss of precision and without any allocation.
+ * <p>
+ * The conversion factor between every pair of units of the same measurement type is precomputed as a reduced fraction
+ * on class initialization, so that a conversion consists in a table lookup, a multiplication and a rounded division.
+ * Results are rounded half away from zero to the nearest fixed-point value. Conversions to or from the
+ * {@link MeasurementUnit#UNDEFINED undefined} unit are not possible.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@NoArgsConstructor(access = PRIVATE)
+public final class QuantityConversion {
+
+    /**
+     * The fixed-point scale, i.e. the fixed-point value of a whole unit.
+     */
+    public static final long SCALE = 1_000_000L;
+
+    private static final int UNITS_COUNT = MeasurementUnit.values().length;
+    private static final long[] REFERENCE_NUMERATORS = new long[UNITS_COUNT];
+    private static final long[] REFERENCE_DENOMINATORS = new long[UNITS_COUNT];
+    private static final MeasurementUnit[] REFERENCE_UNITS = new MeasurementUnit[MeasurementType.values().length];
+    private static final long[][] NUMERATORS = new long[UNITS_COUNT][UNITS_COUNT];
+    private static final long[][] DENOMINATORS = new long[UNITS_COUNT][UNITS_COUNT];
+
+    static {
+        reference(VOLUME, MILLILITER);
+        define(LITER, 1000, 1);
+        define(CENTILITER, 10, 1);
+        define(MILLILITER, 1, 1);
+        define(TABLESPOON, 15, 1);
+        define(TEASPOON, 5, 1);
+        reference(WEIGHT, GRAM);
+        define(KILOGRAM, 1000, 1);
+        define(GRAM, 1, 1);
+        define(POUND, 45_359_237, 100_000);
+        reference(COUNT, UNIT);
+        define(UNIT, 1, 1);
+        define(TEN, 10, 1);
+        define(DOZEN, 12, 1);
+        reference(AT_CONVENIENCE, PINCH);
+        define(PINCH, 1, 1);
+
+        for (var from : MeasurementUnit.values()) {
+            for (var to : MeasurementUnit.values()) {
+                if (from.associatedType() != null && from.associatedType() == to.associatedType()) {
+                    var numerator = REFERENCE_NUMERATORS[from.ordinal()] * REFERENCE_DENOMINATORS[to.ordinal()];
+                    var denominator = REFERENCE_DENOMINATORS[from.ordinal()] * REFERENCE_NUMERATORS[to.ordinal()];
+                    var gcd = gcd(numerator, denominator);
+                    NUMERATORS[from.ordinal()][to.ordinal()] = numerator / gcd;
+                    DENOMINATORS[from.ordinal()][to.ordinal()] = denominator / gcd;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the fixed-point value of the specified number of whole units.
+     *
+     * @param value the number of whole units.
+     * @return the fixed-point value.
+     */
+    public static long toFixedPoint(int value) {
+        return value * SCALE;
+    }
+
+    /**
+     * Gets the reference unit of the specified measurement type, i.e. the smallest metric unit of this type.
+     *
+     * @param type the measurement type.
+     * @return the reference unit.
+     */
+    public static MeasurementUnit referenceUnit(@NonNull MeasurementType type) {
+        return REFERENCE_UNITS[type.ordinal()];
+    }
+
+    /**
+     * Gets the reference unit of the measurement type the specified unit is associated to.
+     *
+     * @param unit the unit.
+     * @return the reference unit.
+     * @throws IllegalArgumentException if the unit is not associated to any measurement type.
+     */
+    public static MeasurementUnit referenceUnit(@NonNull MeasurementUnit unit) {
+        Assert.isTrue(unit.associatedType() != null, () -> "Cannot get reference unit of " + unit);
+        return referenceUnit(unit.associatedType());
+    }
+
+    /**
+     * Indicates whether quantities can be converted between the specified units, i.e. whether both units are
+     * associated to the same measurement type.
+     *
+     * @param from the unit to convert from.
+     * @param to   the unit to convert to.
+     * @return {@code true} if quantities can be converted, {@code false} otherwise.
+     */
+    public static boolean isConvertible(@NonNull MeasurementUnit from, @NonNull MeasurementUnit to) {
+        return DENOMINATORS[from.ordinal()][to.ordinal()] != 0;
+    }
+
+    /**
+     * Converts the specified fixed-point value from a unit to another.
+     *
+     * @param value the fixed-point value to convert.
+     * @param from  the unit to convert from.
+     * @param to    the unit to convert to.
+     * @return the converted fixed-point value.
+     * @throws IllegalArgumentException if units are not associated to the same measurement type.
+     * @throws ArithmeticException      if the converted value overflows.
+     */
+    public static long convert(long value, @NonNull MeasurementUnit from, @NonNull MeasurementUnit to) {
+        var denominator = DENOMINATORS[from.ordinal()][to.ordinal()];
+        Assert.isTrue(denominator != 0, "Cannot convert quantity between units of different measurement types");
+        return scale(value, NUMERATORS[from.ordinal()][to.ordinal()], denominator);
+    }
+
+    /**
+     * Converts the specified fixed-point values, each one expressed in the unit at the same index, to a single unit.
+     * Converted values are written to the specified target array, that can be the values array itself.
+     *
+     * @param values    the fixed-point values to convert.
+     * @param units     the units of the values.
+     * @param to        the unit to convert to.
+     * @param converted the array to write converted fixed-point values to.
+     * @throws IllegalArgumentException if arrays lengths differ, or if a value unit is not associated to the same
+     *                                  measurement type as the unit to convert to.
+     * @throws ArithmeticException      if a converted value overflows.
+     */
+    public static void convert(@NonNull long[] values, @NonNull MeasurementUnit[] units, @NonNull MeasurementUnit to,
+                               @NonNull long[] converted) {
+        Assert.isTrue(values.length == units.length && values.length == converted.length,
+                "Cannot convert quantities with different numbers of values, units and converted values");
+        for (int i = 0; i < values.length; i++) {
+            converted[i] = convert(values[i], units[i], to);
+        }
+    }
+
+    /**
+     * Scales the specified fixed-point value by a ratio, e.g. to scale a recipe quantity from the recipe servings to a
+     * number of covers. The intermediate computation does not overflow as long as the result does not.
+     *
+     * @param value      the fixed-point value to scale.
+     * @param multiplier the ratio numerator, positive or zero.
+     * @param divisor    the ratio denominator, strictly positive.
+     * @return the scaled fixed-point value.
+     * @throws IllegalArgumentException if the multiplier is negative or the divisor is not positive.
+     * @throws ArithmeticException      if the scaled value overflows.
+     */
+    public static long scale(long value, long multiplier, long divisor) {
+        Assert.isTrue(multiplier >= 0 && divisor > 0, "Cannot scale quantity with negative ratio");
+        var scaledRemainder = Math.multiplyExact(value % divisor, multiplier);
+        var roundedRemainder = scaledRemainder / divisor;
+        var remainder = Math.abs(scaledRemainder % divisor);
+        if (remainder >= divisor - remainder) {
+            roundedRemainder += Long.signum(scaledRemainder);
+        }
+        return Math.addExact(Math.multiplyExact(value / divisor, multiplier), roundedRemainder);
+    }
+
+    private static void reference(MeasurementType type, MeasurementUnit unit) {
+        REFERENCE_UNITS[type.ordinal()] = unit;
+    }
+
+    private static void define(MeasurementUnit unit, long numerator, long denominator) {
+        REFERENCE_NUMERATORS[unit.ordinal()] = numerator;
+        REFERENCE_DENOMINATORS[unit.ordinal()] = denominator;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+}
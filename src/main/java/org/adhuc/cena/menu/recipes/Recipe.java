@@ -18,9 +18,10 @@ package org.adhuc.cena.menu.recipes;
 import static org.adhuc.cena.menu.util.Assert.hasText;
 import static org.adhuc.cena.menu.util.Assert.isTrue;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -59,7 +60,7 @@ public class Recipe extends BasicEntity<RecipeId> {
     private Servings servings;
     @Getter
     private Set<CourseType> courseTypes;
-    private Map<IngredientId, RecipeIngredient> ingredients = new HashMap<>();
+    private Map<IngredientId, RecipeIngredient> ingredients = new ConcurrentHashMap<>();
 
     /**
      * Creates a recipe based on the specified creation command.
@@ -71,6 +72,20 @@ public class Recipe extends BasicEntity<RecipeId> {
                 command.courseTypes());
     }
 
+    /**
+     * Creates a recipe based on the specified creation command, composed of the specified ingredients. This allows to
+     * restore a recipe whose ingredients have been added after its creation, e.g. from a persistent storage.
+     *
+     * @param command     the recipe creation command.
+     * @param ingredients the recipe ingredients.
+     * @throws IllegalArgumentException if an ingredient is related to another recipe.
+     */
+    public Recipe(@NonNull CreateRecipe command, @NonNull Collection<RecipeIngredient> ingredients) {
+        this(command);
+        ingredients.forEach(ingredient -> addIngredient(new AddIngredientToRecipe(ingredient.ingredientId(),
+                ingredient.recipeId(), ingredient.isMainIngredient(), ingredient.quantity())));
+    }
+
     /**
      * Creates a recipe.
      *
@@ -92,6 +107,16 @@ public class Recipe extends BasicEntity<RecipeId> {
         this.courseTypes = courseTypes;
     }
 
+    /**
+     * Creates a copy of the specified recipe, that can be modified independently.
+     *
+     * @param recipe the recipe to copy.
+     */
+    Recipe(@NonNull Recipe recipe) {
+        this(recipe.id(), recipe.name, recipe.content, recipe.author, recipe.servings, recipe.courseTypes);
+        ingredients.putAll(recipe.ingredients);
+    }
+
     /**
      * Indicates whether the recipe is composed of the ingredient corresponding to the specified identity.
      *
@@ -103,6 +128,15 @@ public class Recipe extends BasicEntity<RecipeId> {
         return ingredients.containsKey(ingredientId);
     }
 
+    /**
+     * Gets the identities of the ingredients composing this recipe. This set is immutable.
+     *
+     * @return the identities of the ingredients composing the recipe.
+     */
+    public Set<IngredientId> ingredientIds() {
+        return Set.copyOf(ingredients.keySet());
+    }
+
     /**
      * Gets the set of ingredients composing this recipe. This set is immutable.
      *
@@ -15,10 +15,15 @@
  */
 package org.adhuc.cena.menu.recipes;
 
+import java.time.Duration;
+
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import org.adhuc.cena.menu.common.ApplicationService;
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.common.security.AsSuperAdministrator;
 
 /**
@@ -28,17 +33,35 @@ import org.adhuc.cena.menu.common.security.AsSuperAdministrator;
  * @version 0.3.0
  * @since 0.2.0
  */
+@Slf4j
 @AsSuperAdministrator
 @RequiredArgsConstructor
 @ApplicationService("recipeAdministration")
 class RecipeAdministrationImpl implements RecipeAdministration {
 
+    static final Duration DISPATCH_TIMEOUT = Duration.ofSeconds(1);
+
     @NonNull
     private final RecipeRepository recipeRepository;
+    @NonNull
+    private final DomainEventPublisher eventPublisher;
+    @NonNull
+    private final DomainEventDispatcher eventDispatcher;
+    @NonNull
+    private final RecipeSummaryProjection recipeSummaries;
 
     @Override
     public void deleteRecipes() {
         recipeRepository.deleteAll();
+        eventPublisher.publish(new RecipesDeleted());
+        awaitDispatch();
+    }
+
+    private void awaitDispatch() {
+        if (!eventDispatcher.awaitDispatch(DISPATCH_TIMEOUT)) {
+            log.warn("Recipe events not dispatched within {}, marking recipe summaries stale", DISPATCH_TIMEOUT);
+            recipeSummaries.markStale();
+        }
     }
 
 }
@@ -35,6 +35,15 @@ public interface RecipeAuthoring {
      */
     void createRecipe(CreateRecipe command);
 
+    /**
+     * Creates recipes along with their ingredients. Each recipe is created atomically with its ingredients, and the
+     * rejection of a recipe does not prevent the other recipes from being created. The creation results are reported to
+     * the command result sink, in the same order as the recipes.
+     *
+     * @param command the recipes creation command.
+     */
+    void createRecipes(CreateRecipes command);
+
     /**
      * Deletes a recipe.
      *
@@ -15,15 +15,21 @@
  */
 package org.adhuc.cena.menu.recipes;
 
+import java.time.Duration;
+
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.adhuc.cena.menu.common.ApplicationService;
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.common.security.AsAuthenticatedUser;
 
 /**
- * A {@link RecipeAuthoring} implementation.
+ * A {@link RecipeAuthoring} implementation. Each command waits for the dispatch of the events it published before
+ * completing, so that the recipe read models reflect the command changes once it is done. If the dispatch times out,
+ * the recipe summaries are marked stale so that they are not served without the command changes.
  *
  * @author Alexandre Carbenay
  * @version 0.3.0
@@ -35,6 +41,8 @@ import org.adhuc.cena.menu.common.security.AsAuthenticatedUser;
 @ApplicationService("recipeAuthoring")
 class RecipeAuthoringImpl implements RecipeAuthoring {
 
+    static final Duration DISPATCH_TIMEOUT = Duration.ofSeconds(1);
+
     @NonNull
     private final RecipeCreation recipeCreation;
     @NonNull
@@ -43,33 +51,60 @@ class RecipeAuthoringImpl implements RecipeAuthoring {
     private final IngredientFromRecipeRemoval ingredientFromRecipeRemoval;
     @NonNull
     private final RecipeRepository recipeRepository;
+    @NonNull
+    private final DomainEventPublisher eventPublisher;
+    @NonNull
+    private final DomainEventDispatcher eventDispatcher;
+    @NonNull
+    private final RecipeSummaryProjection recipeSummaries;
 
     @Override
     @AsAuthenticatedUser
     public void createRecipe(@NonNull CreateRecipe command) {
         log.info("Create recipe from command {}", command);
         recipeCreation.createRecipe(command);
+        awaitDispatch();
+    }
+
+    @Override
+    @AsAuthenticatedUser
+    public void createRecipes(@NonNull CreateRecipes command) {
+        log.info("Create {} recipes", command.recipes().size());
+        recipeCreation.createRecipes(command);
+        awaitDispatch();
     }
 
     @Override
     public void deleteRecipe(@NonNull DeleteRecipe command) {
         recipeRepository.delete(recipeRepository.findNotNullById(command.recipeId()));
+        eventPublisher.publish(new RecipeDeleted(command.recipeId()));
+        awaitDispatch();
     }
 
     @Override
     public void addIngredientToRecipe(@NonNull AddIngredientToRecipe command) {
         ingredientToRecipeAddition.addIngredientToRecipe(command);
+        awaitDispatch();
     }
 
     @Override
     public void removeIngredientFromRecipe(@NonNull RemoveIngredientFromRecipe command) {
         ingredientFromRecipeRemoval.removeIngredientFromRecipe(command);
+        awaitDispatch();
     }
 
     @Override
     public void removeIngredientsFromRecipe(@NonNull RemoveIngredientsFromRecipe command) {
-        var recipe = recipeRepository.findNotNullById(command.recipeId());
-        recipe.removeIngredients(command);
+        recipeRepository.update(command.recipeId(), recipe -> recipe.removeIngredients(command));
+        eventPublisher.publish(new RecipeIngredientsRemoved(command.recipeId()));
+        awaitDispatch();
+    }
+
+    private void awaitDispatch() {
+        if (!eventDispatcher.awaitDispatch(DISPATCH_TIMEOUT)) {
+            log.warn("Recipe events not dispatched within {}, marking recipe summaries stale", DISPATCH_TIMEOUT);
+            recipeSummaries.markStale();
+        }
     }
 
 }
@@ -15,9 +15,16 @@
  */
 package org.adhuc.cena.menu.recipes;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.IngredientId;
 
 /**
  * An application service for recipes consultation. Recipe consultation provides query methods available for every user.
@@ -36,6 +43,61 @@ public interface RecipeConsultation {
      */
     List<Recipe> getRecipes(QueryRecipes query);
 
+    /**
+     * Gets the page of recipes corresponding to the specified pagination. Recipes are ordered by identity.
+     *
+     * @param query      the query on recipes list, containing filters.
+     * @param pagination the pagination.
+     * @return the page of recipes.
+     */
+    Page<Recipe, RecipeId> getRecipes(QueryRecipes query, Pagination<RecipeId> pagination);
+
+    /**
+     * Gets the page of recipe summaries corresponding to the specified pagination. Summaries are ordered by recipe
+     * identity, and are maintained from recipes changes, with the names of their ingredients resolved.
+     *
+     * @param pagination the pagination.
+     * @return the page of recipe summaries.
+     */
+    Page<RecipeSummary, RecipeId> getRecipeSummaries(Pagination<RecipeId> pagination);
+
+    /**
+     * Gets the recipes corresponding to the specified identities. All the recipes are looked up at once, and unknown
+     * identities are ignored.
+     *
+     * @param recipeIds the recipe identities.
+     * @return the recipes (not modifiable).
+     */
+    List<Recipe> getRecipesById(Collection<RecipeId> recipeIds);
+
+    /**
+     * Gets the recipes corresponding to the specified identities, scaled to the specified number of servings. Scaled
+     * recipes are cached until the recipe ingredients change, and unknown identities are ignored.
+     *
+     * @param recipeIds the recipe identities.
+     * @param servings  the number of servings to scale the recipes to.
+     * @return the scaled recipes, ordered by recipe identity (not modifiable).
+     */
+    List<ScaledRecipe> getScaledRecipes(Collection<RecipeId> recipeIds, Servings servings);
+
+    /**
+     * Gets the names of the specified recipe ingredients, so that other domains can display recipe ingredients without
+     * depending on the ingredient domain. All the ingredients are looked up at once, and unknown identities are
+     * ignored.
+     *
+     * @param ingredientIds the ingredient identities.
+     * @return the ingredient names by identity (not modifiable).
+     */
+    Map<IngredientId, Name> getIngredientNames(Collection<IngredientId> ingredientIds);
+
+    /**
+     * Gets the recipes that can be served as the specified course type, ordered by identity.
+     *
+     * @param courseType the course type.
+     * @return the recipes that can be served as the course type (not modifiable).
+     */
+    List<Recipe> getRecipesByCourseType(CourseType courseType);
+
     /**
      * Indicates whether a recipe with the specified identity exists.
      *
@@ -44,6 +106,15 @@ public interface RecipeConsultation {
      */
     boolean exists(RecipeId recipeId);
 
+    /**
+     * Filters the specified recipe identities, keeping only those of existing recipes. All the identities are looked
+     * up at once.
+     *
+     * @param recipeIds the recipe identities.
+     * @return the identities of the existing recipes.
+     */
+    Set<RecipeId> existingRecipes(Collection<RecipeId> recipeIds);
+
     /**
      * Gets the recipe corresponding to the specified identity.
      *
@@ -53,4 +124,23 @@ public interface RecipeConsultation {
      */
     Recipe getRecipe(RecipeId recipeId);
 
+    /**
+     * Gets the version of the recipes for the specified query. The version changes at least whenever one of the
+     * recipes is created, modified or deleted. The version of unfiltered recipes is the version of the
+     * {@link #getRecipeSummaries(Pagination) recipe summaries}.
+     *
+     * @param query the query on recipes list, containing filters.
+     * @return the recipes version, or {@code 0} if the query filters recipes on an unknown ingredient.
+     */
+    long getRecipesVersion(QueryRecipes query);
+
+    /**
+     * Gets the version of the recipe corresponding to the specified identity. The version changes at least whenever the
+     * recipe or its ingredients are modified.
+     *
+     * @param recipeId the recipe identity.
+     * @return the recipe version, or {@code 0} if no recipe corresponds to identity.
+     */
+    long getRecipeVersion(RecipeId recipeId);
+
 }
@@ -15,12 +15,21 @@
  */
 package org.adhuc.cena.menu.recipes;
 
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.ApplicationService;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.Ingredient;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientId;
 import org.adhuc.cena.menu.ingredients.IngredientRelatedService;
@@ -40,6 +49,10 @@ class RecipeConsultationImpl implements RecipeConsultation, IngredientRelatedSer
     private final RecipeRepository recipeRepository;
     @NonNull
     private final IngredientConsultation ingredientConsultation;
+    @NonNull
+    private final RecipeScaling recipeScaling;
+    @NonNull
+    private final RecipeSummaryProjection recipeSummaries;
 
     @Override
     public List<Recipe> getRecipes(@NonNull QueryRecipes query) {
@@ -50,16 +63,73 @@ class RecipeConsultationImpl implements RecipeConsultation, IngredientRelatedSer
         return List.copyOf(recipeRepository.findAll());
     }
 
+    @Override
+    public Page<Recipe, RecipeId> getRecipes(@NonNull QueryRecipes query, @NonNull Pagination<RecipeId> pagination) {
+        if (query.ingredientId().isPresent()) {
+            var ingredient = ingredientConsultation.getIngredient(query.ingredientId().get());
+            return recipeRepository.findByIngredient(ingredient.id(), pagination);
+        }
+        return recipeRepository.findAll(pagination);
+    }
+
+    @Override
+    public Page<RecipeSummary, RecipeId> getRecipeSummaries(@NonNull Pagination<RecipeId> pagination) {
+        return recipeSummaries.page(pagination);
+    }
+
+    @Override
+    public List<Recipe> getRecipesById(@NonNull Collection<RecipeId> recipeIds) {
+        return List.copyOf(recipeRepository.findAllById(Set.copyOf(recipeIds)));
+    }
+
+    @Override
+    public List<ScaledRecipe> getScaledRecipes(@NonNull Collection<RecipeId> recipeIds, @NonNull Servings servings) {
+        return List.copyOf(recipeScaling.scaleRecipes(recipeIds, servings));
+    }
+
+    @Override
+    public Map<IngredientId, Name> getIngredientNames(@NonNull Collection<IngredientId> ingredientIds) {
+        return ingredientConsultation.getIngredientsById(Set.copyOf(ingredientIds)).stream()
+                .collect(toUnmodifiableMap(Ingredient::id, Ingredient::name));
+    }
+
+    @Override
+    public List<Recipe> getRecipesByCourseType(@NonNull CourseType courseType) {
+        return List.copyOf(recipeRepository.findByCourseType(courseType));
+    }
+
     @Override
     public boolean exists(@NonNull RecipeId recipeId) {
         return recipeRepository.exists(recipeId);
     }
 
+    @Override
+    public Set<RecipeId> existingRecipes(@NonNull Collection<RecipeId> recipeIds) {
+        return Set.copyOf(recipeRepository.findExistingIds(recipeIds));
+    }
+
     @Override
     public Recipe getRecipe(@NonNull RecipeId recipeId) {
         return recipeRepository.findNotNullById(recipeId);
     }
 
+    @Override
+    public long getRecipesVersion(@NonNull QueryRecipes query) {
+        if (query.ingredientId().isEmpty()) {
+            return recipeSummaries.version();
+        }
+        var version = recipeRepository.version();
+        if (ingredientConsultation.getIngredientVersion(query.ingredientId().get()) == 0) {
+            return 0;
+        }
+        return version;
+    }
+
+    @Override
+    public long getRecipeVersion(@NonNull RecipeId recipeId) {
+        return recipeRepository.version(recipeId);
+    }
+
     @Override
     public String relatedObjectName() {
         return "recipe";
@@ -72,8 +142,7 @@ class RecipeConsultationImpl implements RecipeConsultation, IngredientRelatedSer
 
     @Override
     public boolean isIngredientRelated(IngredientId ingredientId) {
-        return recipeRepository.findAll().stream().anyMatch(
-                r -> r.ingredients().stream().anyMatch(i -> i.ingredientId().equals(ingredientId)));
+        return recipeRepository.existsByIngredient(ingredientId);
     }
 
 }
@@ -15,15 +15,35 @@
  */
 package org.adhuc.cena.menu.recipes;
 
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import org.adhuc.cena.menu.common.DomainService;
 import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientConsultation;
+import org.adhuc.cena.menu.ingredients.IngredientId;
 
 /**
  * A domain service dedicated to recipe creation. This service ensures that a recipe can be created only if its identity
- * is not already used.
+ * is not already used, and that the ingredients composing a recipe created along with its ingredients exist.
  *
  * @author Alexandre Carbenay
  * @version 0.3.0
@@ -35,6 +55,10 @@ class RecipeCreation {
 
     @NonNull
     private RecipeRepository recipeRepository;
+    @NonNull
+    private IngredientConsultation ingredientConsultation;
+    @NonNull
+    private DomainEventPublisher eventPublisher;
 
     /**
      * Creates a recipe, ensuring the identity is not already used.
@@ -47,6 +71,93 @@ class RecipeCreation {
             throw new AlreadyExistingEntityException(Recipe.class, command.recipeId());
         }
         recipeRepository.save(new Recipe(command));
+        eventPublisher.publish(new RecipeCreated(command.recipeId()));
+    }
+
+    /**
+     * Creates recipes along with their ingredients. The existing recipes identities and the ingredients of all the
+     * recipes are retrieved at once, and the measurement units associated to each distinct ingredient are resolved only
+     * once. Each recipe is saved with its ingredients in a single operation, so that a recipe is never stored
+     * partially. A recipe is rejected if its identity is already used, if one of its ingredients does not exist or if
+     * the measurement unit of one of its ingredients does not correspond to the ingredient's measurement types, without
+     * preventing the other recipes from being created. The creation results are reported to the command result sink
+     * once the recipes have been saved, in the same order as the recipes.
+     *
+     * @param command the recipes creation command.
+     */
+    void createRecipes(@NonNull CreateRecipes command) {
+        var commands = command.recipes();
+        var ingredients = ingredients(commands);
+        var existingIds = recipeRepository.findExistingIds(commands.stream()
+                .map(CreateRecipeWithIngredients::recipeId)
+                .collect(toList()));
+        var results = new ArrayList<CreationResult<RecipeId>>(commands.size());
+        var recipes = new ArrayList<Recipe>(commands.size());
+        var recipeIds = new HashSet<RecipeId>();
+        for (var recipeCommand : commands) {
+            try {
+                if (!recipeIds.add(recipeCommand.recipeId()) || existingIds.contains(recipeCommand.recipeId())) {
+                    throw new AlreadyExistingEntityException(Recipe.class, recipeCommand.recipeId());
+                }
+                recipes.add(recipe(recipeCommand, ingredients));
+                results.add(CreationResult.created(recipeCommand.recipeId()));
+            } catch (AlreadyExistingEntityException | EntityNotFoundException
+                    | InvalidMeasurementUnitForIngredientException e) {
+                results.add(CreationResult.rejected(recipeCommand.recipeId(), e));
+            }
+        }
+        recipeRepository.saveAll(recipes);
+        recipes.forEach(recipe -> eventPublisher.publish(new RecipeCreated(recipe.id())));
+        results.forEach(command.resultSink());
+    }
+
+    private Map<IngredientId, IngredientUnits> ingredients(List<CreateRecipeWithIngredients> commands) {
+        var ingredientIds = commands.stream()
+                .flatMap(command -> command.ingredients().stream())
+                .map(AddIngredientToRecipe::ingredientId)
+                .collect(toSet());
+        if (ingredientIds.isEmpty()) {
+            return Map.of();
+        }
+        return ingredientConsultation.getIngredientsById(ingredientIds).stream()
+                .map(IngredientUnits::new)
+                .collect(toMap(units -> units.ingredient.id(), Function.identity()));
+    }
+
+    private static Recipe recipe(CreateRecipeWithIngredients command, Map<IngredientId, IngredientUnits> ingredients) {
+        var recipe = new Recipe(command.recipe());
+        for (var addition : command.ingredients()) {
+            var units = ingredients.get(addition.ingredientId());
+            if (units == null) {
+                throw new EntityNotFoundException(Ingredient.class, addition.ingredientId());
+            }
+            if (!units.measurementUnits.contains(addition.quantity().unit())) {
+                throw new InvalidMeasurementUnitForIngredientException(addition.ingredientId(), addition.recipeId(),
+                        addition.quantity().unit(), units.ingredient.measurementTypes());
+            }
+            recipe.addIngredient(addition);
+        }
+        return recipe;
+    }
+
+    /**
+     * An ingredient along with the measurement units associated to its measurement types.
+     */
+    private static class IngredientUnits {
+
+        private final Ingredient ingredient;
+        private final Set<MeasurementUnit> measurementUnits;
+
+        private IngredientUnits(Ingredient ingredient) {
+            this.ingredient = ingredient;
+            // An ingredient without measurement type cannot be added to a recipe
+            this.measurementUnits = ingredient.measurementTypes().isEmpty()
+                    ? EnumSet.noneOf(MeasurementUnit.class)
+                    : Arrays.stream(MeasurementUnit.values())
+                    .filter(unit -> unit.isAssociatedToOneOf(ingredient.measurementTypes()))
+                    .collect(toCollection(() -> EnumSet.noneOf(MeasurementUnit.class)));
+        }
+
     }
 
 }
@@ -15,8 +15,13 @@
  */
 package org.adhuc.cena.menu.recipes;
 
+import static java.util.stream.Collectors.toUnmodifiableList;
+
 import java.util.Collection;
+import java.util.Comparator;
 
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 import org.adhuc.cena.menu.common.aggregate.Repository;
 import org.adhuc.cena.menu.ingredients.IngredientId;
 
@@ -41,6 +46,15 @@ public interface RecipeRepository extends Repository<Recipe, RecipeId> {
      */
     Collection<Recipe> findAll();
 
+    /**
+     * Finds the page of recipes stored in the repository corresponding to the specified pagination. Recipes are ordered
+     * by identity.
+     *
+     * @param pagination the pagination.
+     * @return the page of recipes.
+     */
+    Page<Recipe, RecipeId> findAll(Pagination<RecipeId> pagination);
+
     /**
      * Finds all the recipes stored in the repository composed of the ingredient corresponding to the specified identity.
      *
@@ -49,6 +63,41 @@ public interface RecipeRepository extends Repository<Recipe, RecipeId> {
      */
     Collection<Recipe> findByIngredient(IngredientId ingredientId);
 
+    /**
+     * Finds the page of recipes stored in the repository composed of the ingredient corresponding to the specified
+     * identity, corresponding to the specified pagination. Recipes are ordered by identity.
+     *
+     * @param ingredientId the ingredient identity to filter on.
+     * @param pagination   the pagination.
+     * @return the page of recipes composed of the ingredient.
+     */
+    Page<Recipe, RecipeId> findByIngredient(IngredientId ingredientId, Pagination<RecipeId> pagination);
+
+    /**
+     * Finds all the recipes stored in the repository that can be served as the specified course type. Recipes are
+     * ordered by identity.
+     *
+     * @param courseType the course type to filter on.
+     * @return the recipes that can be served as the course type.
+     */
+    default Collection<Recipe> findByCourseType(CourseType courseType) {
+        return findAll().stream()
+                .filter(recipe -> recipe.courseTypes().contains(courseType))
+                .sorted(Comparator.comparing(Recipe::id))
+                .collect(toUnmodifiableList());
+    }
+
+    /**
+     * Indicates whether at least one recipe stored in the repository is composed of the ingredient corresponding to the
+     * specified identity.
+     *
+     * @param ingredientId the ingredient identity.
+     * @return {@code true} if at least one recipe is composed of the ingredient, {@code false} otherwise.
+     */
+    default boolean existsByIngredient(IngredientId ingredientId) {
+        return !findByIngredient(ingredientId).isEmpty();
+    }
+
     /**
      * Deletes all the recipes stored in the repository.
      */
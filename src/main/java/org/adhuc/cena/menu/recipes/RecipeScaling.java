@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import org.adhuc.cena.menu.common.DomainService;
+import org.adhuc.cena.menu.common.event.DomainEvent;
+import org.adhuc.cena.menu.common.event.DomainEventSubscriber;
+import org.adhuc.cena.menu.util.Assert;
+
+/**
+ * A domain service dedicated to recipes scaling. Scaled recipes are cached per recipe and number of servings, so that
+ * scaling the recipes of already displayed menus costs a cache lookup per recipe. Recipes that are not cached yet are
+ * retrieved at once.
+ * <p>
+ * The cached scaled recipes of a recipe are invalidated from the recipe events, whenever the recipe changes or is
+ * deleted, and every cached scaled recipe is invalidated when all the recipes are deleted. A scaled recipe computed
+ * concurrently with an invalidation is never cached, as it is put in the cache entry that existed before the
+ * invalidation. The maximum number of cached recipes is configured with the
+ * {@code cena.menu-generation.recipe-scaling.maximum-cached-recipes} property. When the cache is full, arbitrary
+ * recipes are evicted.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@DomainService
+class RecipeScaling implements DomainEventSubscriber<DomainEvent> {
+
+    static final int DEFAULT_MAXIMUM_CACHED_RECIPES = 10_000;
+    private static final String MAXIMUM_CACHED_RECIPES_PROPERTY =
+            "${cena.menu-generation.recipe-scaling.maximum-cached-recipes:" + DEFAULT_MAXIMUM_CACHED_RECIPES + "}";
+
+    private final RecipeRepository recipeRepository;
+    private final int maximumCachedRecipes;
+    private final ConcurrentMap<RecipeId, ConcurrentMap<Servings, ScaledRecipe>> cache = new ConcurrentHashMap<>();
+
+    RecipeScaling(RecipeRepository recipeRepository) {
+        this(recipeRepository, DEFAULT_MAXIMUM_CACHED_RECIPES);
+    }
+
+    @Autowired
+    RecipeScaling(@NonNull RecipeRepository recipeRepository,
+                  @Value(MAXIMUM_CACHED_RECIPES_PROPERTY) int maximumCachedRecipes) {
+        Assert.isTrue(maximumCachedRecipes > 0,
+                () -> "Cannot create recipe scaling with non-positive maximum cached recipes " + maximumCachedRecipes);
+        this.recipeRepository = recipeRepository;
+        this.maximumCachedRecipes = maximumCachedRecipes;
+    }
+
+    /**
+     * Gets the specified recipes scaled to the specified number of servings. Unknown recipes are ignored.
+     *
+     * @param recipeIds the recipe identities.
+     * @param servings  the number of servings to scale the recipes to.
+     * @return the scaled recipes, ordered by recipe identity.
+     */
+    List<ScaledRecipe> scaleRecipes(Collection<RecipeId> recipeIds, Servings servings) {
+        var scaled = new ArrayList<ScaledRecipe>();
+        var missing = new HashMap<RecipeId, Map<Servings, ScaledRecipe>>();
+        for (var recipeId : Set.copyOf(recipeIds)) {
+            var entry = entry(recipeId);
+            var cached = entry.get(servings);
+            if (cached != null) {
+                scaled.add(cached);
+            } else {
+                missing.put(recipeId, entry);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (var recipe : recipeRepository.findAllById(missing.keySet())) {
+                var scaledRecipe = new ScaledRecipe(recipe, servings);
+                missing.remove(recipe.id()).putIfAbsent(servings, scaledRecipe);
+                scaled.add(scaledRecipe);
+            }
+            missing.keySet().forEach(unknownId -> cache.computeIfPresent(unknownId,
+                    (id, scaledRecipes) -> scaledRecipes.isEmpty() ? null : scaledRecipes));
+        }
+        return scaled.stream().sorted(Comparator.comparing(ScaledRecipe::recipeId)).collect(toList());
+    }
+
+    @Override
+    public Class<DomainEvent> subscribedEventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void handleEvents(@NonNull List<DomainEvent> events) {
+        for (var event : events) {
+            if (event instanceof RecipesDeleted) {
+                cache.clear();
+            } else if (event instanceof RecipeEvent) {
+                cache.remove(((RecipeEvent) event).recipeId());
+            }
+        }
+    }
+
+    private ConcurrentMap<Servings, ScaledRecipe> entry(RecipeId recipeId) {
+        var entry = cache.get(recipeId);
+        if (entry != null) {
+            return entry;
+        }
+        if (cache.size() >= maximumCachedRecipes) {
+            evict();
+        }
+        return cache.computeIfAbsent(recipeId, id -> new ConcurrentHashMap<>());
+    }
+
+    private void evict() {
+        var iterator = cache.keySet().iterator();
+        while (cache.size() >= maximumCachedRecipes && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+}
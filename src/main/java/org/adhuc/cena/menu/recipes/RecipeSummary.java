@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Entity;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+
+/**
+ * A read model of a recipe, denormalized for listings: the names of the recipe ingredients are resolved, and the
+ * ingredients are sorted by identity. A recipe summary is immutable, its ingredients being stored in an array wrapped
+ * in an unmodifiable view, so that it can be shared between readers without copies.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Value
+@Accessors(fluent = true)
+public class RecipeSummary implements Entity<RecipeId> {
+
+    private RecipeId id;
+    private Name name;
+    private String content;
+    private RecipeAuthor author;
+    private Servings servings;
+    private Set<CourseType> courseTypes;
+    private List<RecipeSummaryIngredient> ingredients;
+
+    /**
+     * Creates a recipe summary.
+     *
+     * @param recipe          the recipe to summarize.
+     * @param ingredientNames the names of the ingredients, by identity. Recipe ingredients whose name is not known
+     *                        are ignored.
+     */
+    public RecipeSummary(@NonNull Recipe recipe, @NonNull Map<IngredientId, Name> ingredientNames) {
+        this.id = recipe.id();
+        this.name = recipe.name();
+        this.content = recipe.content();
+        this.author = recipe.author();
+        this.servings = recipe.servings();
+        this.courseTypes = recipe.courseTypes();
+        this.ingredients = Collections.unmodifiableList(Arrays.asList(recipe.ingredients().stream()
+                .filter(ingredient -> ingredientNames.containsKey(ingredient.ingredientId()))
+                .sorted(Comparator.comparing(RecipeIngredient::ingredientId))
+                .map(ingredient -> new RecipeSummaryIngredient(ingredient.ingredientId(),
+                        ingredientNames.get(ingredient.ingredientId()), ingredient.isMainIngredient()))
+                .toArray(RecipeSummaryIngredient[]::new)));
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.adhuc.cena.menu.common.DomainService;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.common.event.DomainEvent;
+import org.adhuc.cena.menu.common.event.DomainEventSubscriber;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientConsultation;
+import org.adhuc.cena.menu.ingredients.IngredientDeleted;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.IngredientsDeleted;
+
+/**
+ * A projection maintaining the {@link RecipeSummary recipe summaries} from the recipe events. Summaries are stored in
+ * an array sorted by recipe identity, along with the array of their identities, and both arrays are replaced as a
+ * whole when recipes change: a page of summaries is a view over the summaries array, located by binary search on the
+ * identities array, and is served without joins nor copies. Changes are applied incrementally, only the summaries of
+ * the recipes concerned by the received events being computed again, except when every recipe is deleted.
+ * <p>
+ * The names of the recipe ingredients are resolved when summarizing recipes, and are kept up to date from the
+ * ingredient events: the summaries of the recipes composed of a deleted ingredient are computed again, and every
+ * summary is computed again when every ingredient is deleted.
+ * <p>
+ * The projection is loaded from the repository on first use. Each change increments the projection version, that
+ * changes whenever the summaries change. Readers never wait: the recipe commands wait for the dispatch of their own
+ * events before completing, so that a user reads their own changes once their command is done. When this dispatch
+ * times out, the command marks the projection stale, and it is loaded again from the repository on next read. The
+ * projection is maintained from the events published by the application itself only.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@RequiredArgsConstructor
+@DomainService
+class RecipeSummaryProjection implements DomainEventSubscriber<DomainEvent> {
+
+    private static final long MAXIMUM_INITIAL_VERSION = 1L << 62;
+
+    @NonNull
+    private final RecipeRepository recipeRepository;
+    @NonNull
+    private final IngredientConsultation ingredientConsultation;
+    private volatile Summaries summaries;
+    private volatile boolean stale;
+
+    /**
+     * Gets the page of recipe summaries corresponding to the specified pagination. Summaries are ordered by recipe
+     * identity.
+     *
+     * @param pagination the pagination.
+     * @return the page of recipe summaries.
+     */
+    Page<RecipeSummary, RecipeId> page(@NonNull Pagination<RecipeId> pagination) {
+        return summaries().page(pagination);
+    }
+
+    /**
+     * Gets the projection version, that changes whenever the recipe summaries change.
+     *
+     * @return the projection version.
+     */
+    long version() {
+        return summaries().version;
+    }
+
+    /**
+     * Marks the projection as stale, so that it is loaded again from the repository on next read, with a new version.
+     * This is used when the dispatch of recipe events could not be awaited.
+     */
+    void markStale() {
+        stale = true;
+    }
+
+    @Override
+    public Class<DomainEvent> subscribedEventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void handleEvents(@NonNull List<DomainEvent> events) {
+        var changedIds = new HashSet<RecipeId>();
+        var deletedIngredientIds = new HashSet<IngredientId>();
+        for (var event : events) {
+            if (event instanceof RecipesDeleted || event instanceof IngredientsDeleted) {
+                reload();
+                return;
+            }
+            if (event instanceof RecipeEvent) {
+                changedIds.add(((RecipeEvent) event).recipeId());
+            } else if (event instanceof IngredientDeleted) {
+                deletedIngredientIds.add(((IngredientDeleted) event).ingredientId());
+            }
+        }
+        if (!deletedIngredientIds.isEmpty()) {
+            changedIds.addAll(composedOf(deletedIngredientIds));
+        }
+        if (!changedIds.isEmpty()) {
+            update(changedIds);
+        }
+    }
+
+    private Summaries summaries() {
+        var current = summaries;
+        if (current == null) {
+            return initialize();
+        }
+        return stale ? refresh() : current;
+    }
+
+    private synchronized Summaries initialize() {
+        if (summaries == null) {
+            stale = false;
+            summaries = new Summaries(ThreadLocalRandom.current().nextLong(1, MAXIMUM_INITIAL_VERSION),
+                    summarize(recipeRepository.findAll()));
+        }
+        return summaries;
+    }
+
+    private synchronized Summaries refresh() {
+        if (stale) {
+            stale = false;
+            reload();
+        }
+        return summaries;
+    }
+
+    private synchronized void reload() {
+        if (summaries == null) {
+            initialize();
+            return;
+        }
+        summaries = new Summaries(summaries.version + 1, summarize(recipeRepository.findAll()));
+    }
+
+    private synchronized void update(Set<RecipeId> changedIds) {
+        if (summaries == null) {
+            initialize();
+            return;
+        }
+        var current = summaries;
+        var changed = summarize(recipeRepository.findAllById(changedIds));
+        var merged = new ArrayList<RecipeSummary>(current.ids.length + changed.size());
+        var index = 0;
+        for (var summary : current.summaries) {
+            while (index < changed.size() && changed.get(index).id().compareTo(summary.id()) < 0) {
+                merged.add(changed.get(index++));
+            }
+            if (!changedIds.contains(summary.id())) {
+                merged.add(summary);
+            }
+        }
+        merged.addAll(changed.subList(index, changed.size()));
+        summaries = new Summaries(current.version + 1, merged);
+    }
+
+    private Set<RecipeId> composedOf(Set<IngredientId> ingredientIds) {
+        var current = summaries;
+        if (current == null) {
+            return Set.of();
+        }
+        return current.summaries.stream()
+                .filter(summary -> summary.ingredients().stream()
+                        .anyMatch(ingredient -> ingredientIds.contains(ingredient.ingredientId())))
+                .map(RecipeSummary::id)
+                .collect(toSet());
+    }
+
+    private List<RecipeSummary> summarize(Collection<Recipe> recipes) {
+        var ingredientIds = recipes.stream().flatMap(recipe -> recipe.ingredientIds().stream()).collect(toSet());
+        var ingredientNames = ingredientConsultation.getIngredientsById(ingredientIds).stream()
+                .collect(toMap(Ingredient::id, Ingredient::name));
+        var summarized = new ArrayList<RecipeSummary>(recipes.size());
+        recipes.forEach(recipe -> summarized.add(new RecipeSummary(recipe, ingredientNames)));
+        summarized.sort(Comparator.comparing(RecipeSummary::id));
+        return summarized;
+    }
+
+    /**
+     * An immutable version of the recipe summaries.
+     */
+    private static final class Summaries {
+
+        private final long version;
+        private final RecipeId[] ids;
+        private final List<RecipeSummary> summaries;
+
+        private Summaries(long version, List<RecipeSummary> sortedSummaries) {
+            this.version = version;
+            this.ids = sortedSummaries.stream().map(RecipeSummary::id).toArray(RecipeId[]::new);
+            this.summaries = Collections.unmodifiableList(Arrays.asList(
+                    sortedSummaries.toArray(new RecipeSummary[0])));
+        }
+
+        private Page<RecipeSummary, RecipeId> page(Pagination<RecipeId> pagination) {
+            var size = pagination.size();
+            var from = pagination.after().map(this::indexAfter).orElse(0);
+            var to = Math.min(from + size, ids.length);
+            Pagination<RecipeId> previous = null;
+            if (from > size) {
+                previous = Pagination.after(ids[from - size - 1], size);
+            } else if (from > 0) {
+                previous = Pagination.first(size);
+            }
+            var next = to < ids.length ? Pagination.after(ids[to - 1], size) : null;
+            return new Page<>(summaries.subList(from, to), previous, next);
+        }
+
+        private int indexAfter(RecipeId after) {
+            var index = Arrays.binarySearch(ids, after);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static java.math.RoundingMode.HALF_UP;
+
+import static org.adhuc.cena.menu.util.Assert.isTrue;
+
+import java.math.BigDecimal;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+/**
+ * A quantity scaled from a recipe quantity, kept as an exact fraction so that scaling never loses precision. The
+ * fraction is always reduced, with a positive numerator and denominator.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Value
+@Accessors(fluent = true)
+public class ScaledQuantity {
+
+    /**
+     * A scaled quantity used when no quantity has been explicitly defined for an ingredient in a recipe.
+     */
+    public static final ScaledQuantity UNDEFINED = new ScaledQuantity(1, 1, MeasurementUnit.UNDEFINED);
+
+    private final long numerator;
+    private final long denominator;
+    @NonNull
+    private final MeasurementUnit unit;
+
+    public ScaledQuantity(long numerator, long denominator, @NonNull MeasurementUnit unit) {
+        isTrue(numerator > 0 && denominator > 0, "Cannot create scaled quantity with non positive numerator or denominator");
+        var gcd = gcd(numerator, denominator);
+        this.numerator = numerator / gcd;
+        this.denominator = denominator / gcd;
+        this.unit = unit;
+    }
+
+    /**
+     * Indicates whether this quantity is a whole number of units.
+     *
+     * @return {@code true} if the quantity is a whole number, {@code false} otherwise.
+     */
+    public boolean isWhole() {
+        return denominator == 1;
+    }
+
+    /**
+     * Gets the decimal value of this quantity, rounded half up to the specified number of decimals.
+     *
+     * @param decimals the number of decimals.
+     * @return the decimal value.
+     */
+    public BigDecimal toDecimal(int decimals) {
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), decimals, HALF_UP);
+    }
+
+    /**
+     * Gets the fraction representation of this quantity, e.g. "3/2", or the whole number if quantity is whole.
+     *
+     * @return the fraction representation.
+     */
+    public String toFraction() {
+        return isWhole() ? Long.toString(numerator) : numerator + "/" + denominator;
+    }
+
+    public String toString() {
+        return String.format("%s %s", toFraction(), unit.name().toLowerCase());
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+}
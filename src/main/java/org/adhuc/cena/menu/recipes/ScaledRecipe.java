@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Comparator;
+import java.util.List;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.Accessors;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+
+/**
+ * A read model of a recipe scaled to a number of servings, e.g. the number of covers of a menu. Each ingredient
+ * quantity is multiplied by the ratio between the scaled and the recipe servings, as an exact fraction. Ingredients
+ * are sorted by identity.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Value
+@Accessors(fluent = true)
+public class ScaledRecipe {
+
+    private RecipeId recipeId;
+    private Name name;
+    private Servings recipeServings;
+    private Servings servings;
+    private List<ScaledRecipeIngredient> ingredients;
+
+    /**
+     * Creates a scaled recipe.
+     *
+     * @param recipe   the recipe to scale.
+     * @param servings the number of servings to scale the recipe to.
+     */
+    public ScaledRecipe(@NonNull Recipe recipe, @NonNull Servings servings) {
+        this.recipeId = recipe.id();
+        this.name = recipe.name();
+        this.recipeServings = recipe.servings();
+        this.servings = servings;
+        this.ingredients = recipe.ingredients().stream()
+                .sorted(Comparator.comparing(RecipeIngredient::ingredientId))
+                .map(ingredient -> new ScaledRecipeIngredient(ingredient, servings.value(), recipeServings.value()))
+                .collect(toList());
+    }
+
+}
@@ -0,0 +1,83 @@
+-- Schema used with 'jdbc' profile. Statements are idempotent, the schema being initialized on each startup.
+
+CREATE TABLE IF NOT EXISTS ingredient (
+    id                UUID PRIMARY KEY,
+    name              VARCHAR NOT NULL,
+    normalized_name   VARCHAR NOT NULL,
+    measurement_types VARCHAR NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ingredient_normalized_name_idx ON ingredient (normalized_name);
+
+CREATE TABLE IF NOT EXISTS recipe (
+    id           UUID PRIMARY KEY,
+    name         VARCHAR NOT NULL,
+    content      CLOB    NOT NULL,
+    author       VARCHAR NOT NULL,
+    servings     INT     NOT NULL,
+    course_types VARCHAR NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS recipe_ingredient (
+    recipe_id       UUID    NOT NULL REFERENCES recipe (id) ON DELETE CASCADE,
+    ingredient_id   UUID    NOT NULL,
+    main_ingredient BOOLEAN NOT NULL,
+    quantity        INT     NOT NULL,
+    unit            VARCHAR NOT NULL,
+    PRIMARY KEY (recipe_id, ingredient_id)
+);
+
+CREATE INDEX IF NOT EXISTS recipe_ingredient_ingredient_idx ON recipe_ingredient (ingredient_id, recipe_id);
+
+-- Course types of each recipe, normalized from recipe.course_types so that recipes are found by course type on an index
+CREATE TABLE IF NOT EXISTS recipe_course_type (
+    recipe_id   UUID    NOT NULL REFERENCES recipe (id) ON DELETE CASCADE,
+    course_type VARCHAR NOT NULL,
+    PRIMARY KEY (recipe_id, course_type)
+);
+
+CREATE INDEX IF NOT EXISTS recipe_course_type_course_type_idx ON recipe_course_type (course_type, recipe_id);
+
+CREATE TABLE IF NOT EXISTS menu (
+    owner     VARCHAR NOT NULL,
+    menu_date DATE    NOT NULL,
+    meal_type VARCHAR NOT NULL,
+    covers    INT     NOT NULL,
+    PRIMARY KEY (owner, menu_date, meal_type)
+);
+
+CREATE TABLE IF NOT EXISTS menu_recipe (
+    owner     VARCHAR NOT NULL,
+    menu_date DATE    NOT NULL,
+    meal_type VARCHAR NOT NULL,
+    recipe_id UUID    NOT NULL,
+    PRIMARY KEY (owner, menu_date, meal_type, recipe_id),
+    FOREIGN KEY (owner, menu_date, meal_type) REFERENCES menu (owner, menu_date, meal_type) ON DELETE CASCADE
+);
+
+-- Content version of each repository, incremented with each modification in the same transaction
+CREATE TABLE IF NOT EXISTS repository_version (
+    name    VARCHAR PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO repository_version (name, version)
+SELECT 'ingredient', 1 WHERE NOT EXISTS (SELECT 1 FROM repository_version WHERE name = 'ingredient');
+INSERT INTO repository_version (name, version)
+SELECT 'recipe', 1 WHERE NOT EXISTS (SELECT 1 FROM repository_version WHERE name = 'recipe');
+INSERT INTO repository_version (name, version)
+SELECT 'menu', 1 WHERE NOT EXISTS (SELECT 1 FROM repository_version WHERE name = 'menu');
+
+-- Course types of recipes saved before the recipe_course_type table existed
+INSERT INTO recipe_course_type (recipe_id, course_type)
+SELECT r.id, 'APERITIF' FROM recipe r WHERE CONCAT(',', r.course_types, ',') LIKE '%,APERITIF,%'
+AND NOT EXISTS (SELECT 1 FROM recipe_course_type c WHERE c.recipe_id = r.id AND c.course_type = 'APERITIF');
+INSERT INTO recipe_course_type (recipe_id, course_type)
+SELECT r.id, 'STARTER' FROM recipe r WHERE CONCAT(',', r.course_types, ',') LIKE '%,STARTER,%'
+AND NOT EXISTS (SELECT 1 FROM recipe_course_type c WHERE c.recipe_id = r.id AND c.course_type = 'STARTER');
+INSERT INTO recipe_course_type (recipe_id, course_type)
+SELECT r.id, 'MAIN_COURSE' FROM recipe r WHERE CONCAT(',', r.course_types, ',') LIKE '%,MAIN_COURSE,%'
+AND NOT EXISTS (SELECT 1 FROM recipe_course_type c WHERE c.recipe_id = r.id AND c.course_type = 'MAIN_COURSE');
+INSERT INTO recipe_course_type (recipe_id, course_type)
+SELECT r.id, 'DESSERT' FROM recipe r WHERE CONCAT(',', r.course_types, ',') LIKE '%,DESSERT,%'
+AND NOT EXISTS (SELECT 1 FROM recipe_course_type c WHERE c.recipe_id = r.id AND c.course_type = 'DESSERT');
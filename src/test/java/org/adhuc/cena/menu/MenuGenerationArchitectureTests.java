@@ -43,10 +43,12 @@ import org.springframework.stereotype.Service;
 import org.adhuc.cena.menu.common.ApplicationService;
 import org.adhuc.cena.menu.common.DomainService;
 import org.adhuc.cena.menu.common.aggregate.Command;
+import org.adhuc.cena.menu.common.aggregate.Page;
 import org.adhuc.cena.menu.common.aggregate.Query;
 import org.adhuc.cena.menu.common.exception.CenaException;
 import org.adhuc.cena.menu.ingredients.Ingredient;
 import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.ShoppingList;
 import org.adhuc.cena.menu.recipes.Recipe;
 
 /**
@@ -253,6 +255,9 @@ class MenuGenerationArchitectureTests {
                         .orShould().haveRawReturnType(Recipe.class)
                         .orShould().haveRawReturnType(Menu.class)
                         .orShould().haveRawReturnType(assignableTo(Collection.class))
+                        .orShould().haveRawReturnType(Page.class)
+                        .orShould().haveRawReturnType(ShoppingList.class)
+                        .orShould().haveRawReturnType(long.class)
                         .because("Query handlers in command-query separation should return query result");
 
     }
@@ -0,0 +1,607 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.common.aggregate;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.*;
+
+/**
+ * The {@link InMemoryRepository} test class, ensuring the repository can be used concurrently without losing updates.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("inMemoryRepository")
+@DisplayName("In-memory repository should")
+class InMemoryRepositoryShould {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 10_000;
+
+    private CounterRepository repository;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CounterRepository();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating repository with a number of lock stripes that is not a power of 2")
+    void throwIAEInvalidLockStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new CounterRepository(3));
+    }
+
+    @Test
+    @DisplayName("throw EntityNotFoundException when updating unknown entity")
+    void throwEntityNotFoundExceptionUpdatingUnknownEntity() {
+        assertThrows(EntityNotFoundException.class, () -> repository.update(CounterId.generate(), Counter::increment));
+    }
+
+    @Test
+    @DisplayName("not lose any update when updating the same entity concurrently")
+    void notLoseConcurrentUpdatesOnSameEntity() throws Exception {
+        var counter = repository.save(new Counter(CounterId.generate()));
+
+        runConcurrently(() -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                repository.update(counter.id(), Counter::increment);
+            }
+            return null;
+        });
+
+        assertThat(repository.findNotNullById(counter.id()).value()).isEqualTo(THREADS * OPERATIONS_PER_THREAD);
+        assertThat(repository.indexedSaves.get()).isEqualTo(THREADS * OPERATIONS_PER_THREAD + 1);
+    }
+
+    @Test
+    @DisplayName("not lose any entity when saving different entities concurrently")
+    void notLoseConcurrentSaves() throws Exception {
+        runConcurrently(() -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                repository.save(new Counter(CounterId.generate()));
+                // Iterating while other threads modify the repository must not fail
+                repository.findAll().iterator().next();
+            }
+            return null;
+        });
+
+        assertThat(repository.findAll()).hasSize(THREADS * OPERATIONS_PER_THREAD);
+        assertThat(repository.index).hasSize(THREADS * OPERATIONS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("insert all new entities at once")
+    void insertAll() {
+        var counters = List.of(new Counter(CounterId.generate()), new Counter(CounterId.generate()));
+        repository.insertAll(counters);
+        assertThat(repository.findAll()).containsExactlyInAnyOrderElementsOf(counters);
+        assertThat(repository.index).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("insert no entity when one of the entities already exists")
+    void notInsertAnyEntityWhenOneExists() {
+        var existing = repository.save(new Counter(CounterId.generate()));
+        var version = repository.version();
+        var counter = new Counter(CounterId.generate());
+
+        assertThrows(AlreadyExistingEntityException.class,
+                () -> repository.insertAll(List.of(counter, new Counter(existing.id()))));
+
+        assertThat(repository.findAll()).containsExactly(existing);
+        assertThat(repository.index).containsOnlyKeys(existing.id());
+        assertThat(repository.version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("insert no entity when the same identity appears several times")
+    void notInsertDuplicatedEntities() {
+        var id = CounterId.generate();
+        assertThrows(AlreadyExistingEntityException.class,
+                () -> repository.insertAll(List.of(new Counter(id), new Counter(id))));
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("insert only one of the batches of the same entities inserted concurrently")
+    void insertOnlyOneConcurrentBatch() throws Exception {
+        var ids = IntStream.range(0, 100).mapToObj(i -> CounterId.generate()).collect(toList());
+        var inserted = new AtomicReference<List<Counter>>();
+        var rejections = new AtomicInteger();
+        runConcurrently(() -> {
+            var counters = ids.stream().map(Counter::new).collect(toList());
+            try {
+                repository.insertAll(counters);
+                assertThat(inserted.compareAndSet(null, counters)).isTrue();
+            } catch (AlreadyExistingEntityException e) {
+                rejections.incrementAndGet();
+            }
+            return null;
+        });
+
+        assertThat(rejections.get()).isEqualTo(THREADS - 1);
+        assertThat(repository.findAll()).containsExactlyInAnyOrderElementsOf(inserted.get());
+    }
+
+    @Test
+    @DisplayName("keep indexes consistent when saving and deleting entities concurrently")
+    void keepIndexesConsistentWithConcurrentSavesAndDeletions() throws Exception {
+        runConcurrently(() -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                var counter = repository.save(new Counter(CounterId.generate()));
+                if (i % 2 == 0) {
+                    repository.delete(counter);
+                }
+            }
+            return null;
+        });
+
+        assertThat(repository.findAll()).hasSize(THREADS * OPERATIONS_PER_THREAD / 2);
+        assertThat(repository.index.keySet()).containsExactlyInAnyOrderElementsOf(
+                repository.findAll().stream().map(Counter::id).collect(toList()));
+    }
+
+    @Test
+    @DisplayName("clear entities and indexes when deleting all entities")
+    void clearEntitiesAndIndexes() {
+        repository.save(new Counter(CounterId.generate()));
+        repository.save(new Counter(CounterId.generate()));
+
+        repository.deleteAll();
+
+        assertThat(repository.findAll()).isEmpty();
+        assertThat(repository.index).isEmpty();
+    }
+
+    @Test
+    @DisplayName("change version each time an entity is saved or deleted")
+    void changeVersionOnModification() {
+        var initial = repository.version();
+
+        var counter = repository.save(new Counter(CounterId.generate()));
+        var afterSave = repository.version();
+        repository.delete(counter);
+        var afterDelete = repository.version();
+        repository.deleteAll();
+
+        assertThat(initial).isPositive();
+        assertThat(afterSave).isGreaterThan(initial);
+        assertThat(afterDelete).isGreaterThan(afterSave);
+        assertThat(repository.version()).isGreaterThan(afterDelete);
+    }
+
+    @Test
+    @DisplayName("change entity version only when this entity is saved")
+    void changeEntityVersionOnEntityModification() {
+        var counter = repository.save(new Counter(CounterId.generate()));
+        var version = repository.version(counter.id());
+
+        repository.save(new Counter(CounterId.generate()));
+        assertThat(repository.version(counter.id())).isEqualTo(version);
+
+        repository.update(counter.id(), Counter::increment);
+        assertThat(repository.version(counter.id())).isGreaterThan(version);
+    }
+
+    @Test
+    @DisplayName("have no version for unknown or deleted entity")
+    void haveNoVersionForUnknownEntity() {
+        var counter = repository.save(new Counter(CounterId.generate()));
+        repository.delete(counter);
+
+        assertThat(repository.version(CounterId.generate())).isZero();
+        assertThat(repository.version(counter.id())).isZero();
+    }
+
+    @Test
+    @DisplayName("throw UnsupportedOperationException when paginating entities without identity order")
+    void throwUnsupportedOperationExceptionPaginatingWithoutOrder() {
+        assertThrows(UnsupportedOperationException.class, () -> new CounterRepository(4).findAll(Pagination.first(10)));
+    }
+
+    @Nested
+    @DisplayName("with 25 entities")
+    class With25Entities {
+
+        private List<CounterId> ids;
+
+        @BeforeEach
+        void setUp() {
+            for (int i = 0; i < 25; i++) {
+                repository.save(new Counter(CounterId.generate()));
+            }
+            ids = repository.findAll().stream().map(Counter::id).sorted().collect(toList());
+        }
+
+        @Test
+        @DisplayName("retrieve first page ordered by identity without previous page")
+        void retrieveFirstPage() {
+            var page = repository.findAll(Pagination.first(10));
+            assertThat(page.content()).extracting(Counter::id).containsExactlyElementsOf(ids.subList(0, 10));
+            assertThat(page.previous()).isEmpty();
+            assertThat(page.next()).contains(Pagination.after(ids.get(9), 10));
+        }
+
+        @Test
+        @DisplayName("retrieve every entity once when following next pages")
+        void retrieveEveryEntityFollowingNextPages() {
+            var retrieved = new ArrayList<CounterId>();
+            var pagination = Optional.of(Pagination.<CounterId>first(10));
+            var pages = 0;
+            while (pagination.isPresent()) {
+                var page = repository.findAll(pagination.get());
+                page.content().forEach(counter -> retrieved.add(counter.id()));
+                pagination = page.next();
+                pages++;
+            }
+            assertThat(pages).isEqualTo(3);
+            assertThat(retrieved).containsExactlyElementsOf(ids);
+        }
+
+        @Test
+        @DisplayName("retrieve last page without next page, with previous page")
+        void retrieveLastPage() {
+            var page = repository.findAll(Pagination.after(ids.get(19), 10));
+            assertThat(page.content()).extracting(Counter::id).containsExactlyElementsOf(ids.subList(20, 25));
+            assertThat(page.next()).isEmpty();
+            assertThat(page.previous()).contains(Pagination.after(ids.get(9), 10));
+        }
+
+        @Test
+        @DisplayName("provide first page as previous page of second page")
+        void provideFirstPageAsPreviousOfSecondPage() {
+            var page = repository.findAll(Pagination.after(ids.get(9), 10));
+            assertThat(page.previous()).contains(Pagination.first(10));
+        }
+
+        @Test
+        @DisplayName("provide previous page ending with cursor when page after cursor is empty")
+        void providePreviousPageOfEmptyPage() {
+            var page = repository.findAll(Pagination.after(ids.get(24), 10));
+            assertThat(page.content()).isEmpty();
+            assertThat(page.next()).isEmpty();
+            assertThat(page.previous()).contains(Pagination.after(ids.get(14), 10));
+        }
+
+        @Test
+        @DisplayName("continue pagination after deleted entity")
+        void continuePaginationAfterDeletedEntity() {
+            repository.delete(repository.findNotNullById(ids.get(9)));
+            var page = repository.findAll(Pagination.after(ids.get(9), 10));
+            assertThat(page.content()).extracting(Counter::id).containsExactlyElementsOf(ids.subList(10, 20));
+            assertThat(page.previous()).contains(Pagination.first(10));
+        }
+
+        @Test
+        @DisplayName("retrieve empty page after deleting all entities")
+        void retrieveEmptyPageAfterDeletingAll() {
+            repository.deleteAll();
+            var page = repository.findAll(Pagination.first(10));
+            assertThat(page.content()).isEmpty();
+            assertThat(page.previous()).isEmpty();
+            assertThat(page.next()).isEmpty();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("with journal")
+    class WithJournal {
+
+        private RecordingJournal journal;
+
+        @BeforeEach
+        void setUp() {
+            journal = new RecordingJournal();
+            repository = new CounterRepository(journal);
+        }
+
+        @Test
+        @DisplayName("record modifications in the order they are applied")
+        void recordModifications() {
+            var first = repository.save(new Counter(CounterId.generate()));
+            var second = repository.save(new Counter(CounterId.generate()));
+            repository.update(first.id(), Counter::increment);
+            repository.delete(second);
+            repository.deleteAll();
+
+            assertThat(journal.records).containsExactly("save " + first.id(), "save " + second.id(),
+                    "save " + first.id(), "delete " + second.id(), "delete all");
+        }
+
+        @Test
+        @DisplayName("not apply saving that fails to be recorded")
+        void notApplyUnrecordedSave() {
+            var version = repository.version();
+            journal.failing = true;
+            var counter = new Counter(CounterId.generate());
+
+            assertThrows(IllegalStateException.class, () -> repository.save(counter));
+
+            assertThat(repository.exists(counter.id())).isFalse();
+            assertThat(repository.index).doesNotContainKey(counter.id());
+            assertThat(repository.findAll(Pagination.first(10)).content()).isEmpty();
+            assertThat(repository.version()).isEqualTo(version);
+        }
+
+        @Test
+        @DisplayName("not apply update that fails to be recorded")
+        void notApplyUnrecordedUpdate() {
+            var counter = repository.save(new Counter(CounterId.generate()));
+            var version = repository.version(counter.id());
+            journal.failing = true;
+
+            assertThrows(IllegalStateException.class, () -> repository.update(counter.id(), Counter::increment));
+
+            assertThat(repository.findNotNullById(counter.id()).value()).isZero();
+            assertThat(repository.index).containsEntry(counter.id(), 0);
+            assertThat(repository.version(counter.id())).isEqualTo(version);
+        }
+
+        @Test
+        @DisplayName("not apply deletion that fails to be recorded")
+        void notApplyUnrecordedDelete() {
+            var counter = repository.save(new Counter(CounterId.generate()));
+            journal.failing = true;
+
+            assertThrows(IllegalStateException.class, () -> repository.delete(counter));
+            assertThrows(IllegalStateException.class, () -> repository.deleteAll());
+
+            assertThat(repository.exists(counter.id())).isTrue();
+            assertThat(repository.index).containsKey(counter.id());
+        }
+
+        @Test
+        @DisplayName("record inserted entities at once")
+        void recordInsertedEntities() {
+            var first = new Counter(CounterId.generate());
+            var second = new Counter(CounterId.generate());
+            repository.insertAll(List.of(first, second));
+
+            assertThat(journal.records).containsExactly("save all " + first.id() + ", " + second.id());
+            assertThat(new CounterRepository(journal).findAll()).extracting(Counter::id)
+                    .containsExactlyInAnyOrder(first.id(), second.id());
+        }
+
+        @Test
+        @DisplayName("not apply insertion that fails to be recorded")
+        void notApplyUnrecordedInsert() {
+            journal.failing = true;
+            var counter = new Counter(CounterId.generate());
+
+            assertThrows(IllegalStateException.class, () -> repository.insertAll(List.of(counter)));
+
+            assertThat(repository.exists(counter.id())).isFalse();
+            assertThat(repository.index).isEmpty();
+        }
+
+        @Test
+        @DisplayName("not record deletion of unknown entity")
+        void notRecordUnknownEntityDeletion() {
+            repository.delete(new Counter(CounterId.generate()));
+            assertThat(journal.records).isEmpty();
+        }
+
+        @Test
+        @DisplayName("recover recorded entities and indexes without recording them again")
+        void recoverRecordedEntities() {
+            var first = repository.save(new Counter(CounterId.generate()));
+            var second = repository.save(new Counter(CounterId.generate()));
+            var third = repository.save(new Counter(CounterId.generate()));
+            repository.delete(second);
+
+            var recovered = new CounterRepository(journal);
+
+            assertThat(recovered.findAll()).extracting(Counter::id).containsExactlyInAnyOrder(first.id(), third.id());
+            assertThat(recovered.index.keySet()).containsExactlyInAnyOrder(first.id(), third.id());
+            assertThat(recovered.findAll(Pagination.first(10)).content()).extracting(Counter::id)
+                    .containsExactlyElementsOf(List.of(first.id(), third.id()).stream().sorted().collect(toList()));
+            assertThat(journal.records).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("recover only entities saved after deletion of all entities")
+        void recoverEntitiesSavedAfterDeleteAll() {
+            repository.save(new Counter(CounterId.generate()));
+            repository.deleteAll();
+            var saved = repository.save(new Counter(CounterId.generate()));
+
+            var recovered = new CounterRepository(journal);
+
+            assertThat(recovered.findAll()).extracting(Counter::id).containsExactly(saved.id());
+        }
+
+    }
+
+    private void runConcurrently(Callable<Void> task) throws Exception {
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (var future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static class CounterRepository extends InMemoryRepository<Counter, CounterId> {
+
+        private final ConcurrentHashMap<CounterId, Integer> index = new ConcurrentHashMap<>();
+        private final AtomicInteger indexedSaves = new AtomicInteger();
+
+        CounterRepository() {
+            super(Comparator.naturalOrder());
+        }
+
+        CounterRepository(int lockStripes) {
+            super(lockStripes);
+        }
+
+        CounterRepository(Journal<Counter, CounterId> journal) {
+            super(Comparator.naturalOrder(), journal);
+            recover();
+        }
+
+        @Override
+        public Class<Counter> entityType() {
+            return Counter.class;
+        }
+
+        @Override
+        protected Counter copy(Counter counter) {
+            return new Counter(counter);
+        }
+
+        @Override
+        protected void index(Counter previous, Counter saved) {
+            indexedSaves.incrementAndGet();
+            index.put(saved.id(), saved.value());
+        }
+
+        @Override
+        protected void unindex(Counter deleted) {
+            index.remove(deleted.id());
+        }
+
+        @Override
+        protected void clearIndexes() {
+            index.clear();
+        }
+
+    }
+
+    private static class RecordingJournal implements Journal<Counter, CounterId> {
+
+        private final List<String> records = new ArrayList<>();
+        private final List<Consumer<Modifications<Counter, CounterId>>> modifications = new ArrayList<>();
+        private volatile boolean failing;
+
+        @Override
+        public synchronized void recordSave(Counter entity) {
+            failIfRequired();
+            records.add("save " + entity.id());
+            modifications.add(m -> m.save(entity));
+        }
+
+        @Override
+        public synchronized void recordSaveAll(Collection<? extends Counter> entities) {
+            failIfRequired();
+            records.add("save all " + entities.stream().map(entity -> entity.id().toString()).collect(joining(", ")));
+            var saved = List.copyOf(entities);
+            modifications.add(m -> saved.forEach(m::save));
+        }
+
+        @Override
+        public synchronized void recordDelete(Counter entity) {
+            failIfRequired();
+            records.add("delete " + entity.id());
+            modifications.add(m -> m.delete(entity.id()));
+        }
+
+        @Override
+        public synchronized void recordDeleteAll() {
+            failIfRequired();
+            records.add("delete all");
+            modifications.add(Modifications::deleteAll);
+        }
+
+        private void failIfRequired() {
+            if (failing) {
+                throw new IllegalStateException("Unable to record modification");
+            }
+        }
+
+        @Override
+        public synchronized void replay(Modifications<Counter, CounterId> replayed) {
+            modifications.forEach(modification -> modification.accept(replayed));
+        }
+
+    }
+
+    private static class CounterId extends UuidIdentity {
+
+        private CounterId(UUID id) {
+            super(id);
+        }
+
+        static CounterId generate() {
+            return new CounterId(UUID.randomUUID());
+        }
+
+    }
+
+    @Accessors(fluent = true)
+    private static class Counter extends BasicEntity<CounterId> {
+
+        // Not thread-safe on purpose: updates must be serialized by the repository
+        @Getter
+        private int value;
+
+        Counter(CounterId id) {
+            super(id);
+        }
+
+        Counter(Counter counter) {
+            super(counter.id());
+            value = counter.value;
+        }
+
+        void increment() {
+            value++;
+        }
+
+    }
+
+}
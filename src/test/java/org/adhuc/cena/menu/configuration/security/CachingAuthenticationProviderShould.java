@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.configuration.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * The {@link CachingAuthenticationProvider} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Caching authentication provider should")
+class CachingAuthenticationProviderShould {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "password";
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final Instant NOW = Instant.parse("2020-06-01T12:00:00Z");
+
+    private AuthenticationProvider delegate;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationCache cache;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AuthenticationProvider.class);
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AuthenticationCache(TIME_TO_LIVE, 2, meterRegistry, clock);
+        provider = new CachingAuthenticationProvider(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating cache with non positive time to live")
+    void throwIAENonPositiveTimeToLive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AuthenticationCache(Duration.ZERO, 2, meterRegistry, clock));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating cache with non positive maximum size")
+    void throwIAENonPositiveMaximumSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AuthenticationCache(TIME_TO_LIVE, 0, meterRegistry, clock));
+    }
+
+    @Test
+    @DisplayName("not cache failed authentication")
+    void notCacheFailedAuthentication() {
+        when(delegate.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(request(USERNAME, PASSWORD)));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(request(USERNAME, PASSWORD)));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Nested
+    @DisplayName("with successful authentication")
+    class WithSuccessfulAuthentication {
+
+        @BeforeEach
+        void setUp() {
+            when(delegate.authenticate(any())).thenAnswer(invocation -> authenticated(
+                    ((UsernamePasswordAuthenticationToken) invocation.getArgument(0)).getName()));
+            provider.authenticate(request(USERNAME, PASSWORD));
+        }
+
+        @Test
+        @DisplayName("not call delegate when authenticating again with same credentials")
+        void notCallDelegateSameCredentials() {
+            var result = provider.authenticate(request(USERNAME, PASSWORD));
+            assertThat(result.isAuthenticated()).isTrue();
+            assertThat(result.getName()).isEqualTo(USERNAME);
+            assertThat(AuthorityUtils.authorityListToSet(result.getAuthorities())).containsExactly("ROLE_USER");
+            verify(delegate, times(1)).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("call delegate when authenticating with other password")
+        void callDelegateOtherPassword() {
+            provider.authenticate(request(USERNAME, "other"));
+            verify(delegate, times(2)).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("call delegate when authenticating after time to live")
+        void callDelegateAfterTimeToLive() {
+            when(clock.instant()).thenReturn(NOW.plus(TIME_TO_LIVE));
+            provider.authenticate(request(USERNAME, PASSWORD));
+            verify(delegate, times(2)).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("call delegate when authenticating after user invalidation")
+        void callDelegateAfterInvalidation() {
+            cache.invalidate(USERNAME);
+            provider.authenticate(request(USERNAME, PASSWORD));
+            verify(delegate, times(2)).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("not call delegate when authenticating after other user invalidation")
+        void notCallDelegateAfterOtherUserInvalidation() {
+            cache.invalidate("other");
+            provider.authenticate(request(USERNAME, PASSWORD));
+            verify(delegate, times(1)).authenticate(any());
+        }
+
+        @Test
+        @DisplayName("keep cache size bounded")
+        void keepCacheSizeBounded() {
+            provider.authenticate(request("user2", PASSWORD));
+            provider.authenticate(request("user3", PASSWORD));
+            assertThat(meterRegistry.get(AuthenticationCache.METER_NAME + ".size").gauge().value()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("record cache hits and misses")
+        void recordHitsAndMisses() {
+            provider.authenticate(request(USERNAME, PASSWORD));
+            provider.authenticate(request(USERNAME, PASSWORD));
+            assertThat(meterRegistry.get(AuthenticationCache.METER_NAME).tag("result", "hit").counter().count())
+                    .isEqualTo(2);
+            assertThat(meterRegistry.get(AuthenticationCache.METER_NAME).tag("result", "miss").counter().count())
+                    .isEqualTo(1);
+        }
+
+    }
+
+    private static UsernamePasswordAuthenticationToken request(String username, String password) {
+        return new UsernamePasswordAuthenticationToken(username, password);
+    }
+
+    private static UsernamePasswordAuthenticationToken authenticated(String username) {
+        var user = User.withUsername(username).password("{noop}" + PASSWORD).roles("USER").build();
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+}
@@ -20,6 +20,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -80,6 +83,22 @@ class InMemoryIngredientRepositoryShould {
             assertThat(repository.findAll()).isEmpty();
         }
 
+        @Test
+        @DisplayName("save only one of the ingredients with the same name created concurrently")
+        void saveOnlyOneIngredientWithSameNameConcurrently() {
+            var rejected = new AtomicInteger();
+            IntStream.range(0, 1000).parallel().forEach(i -> {
+                try {
+                    repository.save(ingredient(IngredientId.generate(), new Name(i % 2 == 0 ? "Tomato" : "TOMATO"),
+                            TOMATO_MEASUREMENT_TYPES));
+                } catch (IngredientNameAlreadyUsedException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+            assertThat(repository.findAll()).hasSize(1);
+            assertThat(rejected).hasValue(999);
+        }
+
     }
 
     @Nested
@@ -161,6 +180,32 @@ class InMemoryIngredientRepositoryShould {
             assertThat(repository.findByNameIgnoreCase(new Name(name))).isPresent().contains(tomato);
         }
 
+        @ParameterizedTest
+        @CsvSource({"Tomato", "tomato", "TOMATO"})
+        @DisplayName("return empty ingredient when getting ingredient with tomato name with different case")
+        void returnEmptyTomatoNameDifferentCase(String name) {
+            assertThat(repository.findByName(new Name(name))).isEmpty();
+        }
+
+        @ParameterizedTest
+        @CsvSource({"Tomato", "tomato", "TOMATO"})
+        @DisplayName("throw IngredientNameAlreadyUsedException when saving another ingredient with tomato name")
+        void throwIngredientNameAlreadyUsedSavingTomatoName(String name) {
+            assertThrows(IngredientNameAlreadyUsedException.class,
+                    () -> repository.save(ingredient(CUCUMBER_ID, new Name(name), CUCUMBER_MEASUREMENT_TYPES)));
+            assertThat(repository.exists(CUCUMBER_ID)).isFalse();
+            assertThat(repository.findByNameIgnoreCase(TOMATO)).isPresent().contains(tomato);
+        }
+
+        @Test
+        @DisplayName("save tomato again successfully")
+        void saveTomatoAgain() {
+            var updated = ingredient(TOMATO_ID, TOMATO, CUCUMBER_MEASUREMENT_TYPES);
+            repository.save(updated);
+            assertThat(repository.findByName(TOMATO)).isPresent()
+                    .hasValueSatisfying(i -> assertThat(i.measurementTypes()).isEqualTo(CUCUMBER_MEASUREMENT_TYPES));
+        }
+
         @Test
         @DisplayName("delete tomato successfully")
         void deleteTomato() {
@@ -168,6 +213,23 @@ class InMemoryIngredientRepositoryShould {
             assertThat(repository.findAll()).doesNotContain(tomato);
         }
 
+        @Test
+        @DisplayName("not find tomato by name after deletion")
+        void notFindTomatoByNameAfterDeletion() {
+            repository.delete(tomato);
+            assertThat(repository.findByNameIgnoreCase(TOMATO)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("save another ingredient with tomato name after tomato deletion")
+        void saveTomatoNameAfterDeletion() {
+            repository.delete(tomato);
+            var other = ingredient(CUCUMBER_ID, TOMATO, TOMATO_MEASUREMENT_TYPES);
+            repository.save(other);
+            assertThat(repository.findByName(TOMATO)).isPresent()
+                    .hasValueSatisfying(i -> assertThat(i.id()).isEqualTo(CUCUMBER_ID));
+        }
+
         @Test
         @DisplayName("delete ingredient with tomato identity and cucumber name and measurement types")
         void deleteWithTomatoIdAndCucumberName() {
@@ -207,6 +269,14 @@ class InMemoryIngredientRepositoryShould {
                 assertThat(repository.findAll()).isEmpty();
             }
 
+            @Test
+            @DisplayName("not find ingredients by name after deleting all ingredients")
+            void notFindByNameAfterDeletion() {
+                repository.deleteAll();
+                assertThat(repository.findByNameIgnoreCase(TOMATO)).isEmpty();
+                assertThat(repository.findByNameIgnoreCase(CUCUMBER)).isEmpty();
+            }
+
         }
 
     }
@@ -50,7 +50,8 @@ class IngredientAdministrationImplShould {
     @BeforeEach
     void setUp() {
         ingredientRepository = new InMemoryIngredientRepository();
-        service = new IngredientAdministrationImpl(new IngredientDeletion(ingredientRelatedService, ingredientRepository));
+        service = new IngredientAdministrationImpl(new IngredientDeletion(ingredientRelatedService, ingredientRepository,
+                event -> {}));
 
         ingredientRepository.save(ingredient(TOMATO_ID, TOMATO, TOMATO_MEASUREMENT_TYPES));
         ingredientRepository.save(ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES));
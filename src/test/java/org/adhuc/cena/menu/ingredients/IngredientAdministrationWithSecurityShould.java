@@ -37,6 +37,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.configuration.ApplicationSecurityConfiguration;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
@@ -67,6 +68,8 @@ class IngredientAdministrationWithSecurityShould {
     private RecipeConsultation recipeConsultation;
     @MockBean
     private IngredientRelatedService ingredientRelatedService;
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
 
     @BeforeEach
     void setUp() {
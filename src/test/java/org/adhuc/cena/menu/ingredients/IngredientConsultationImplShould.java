@@ -20,11 +20,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 
 /**
  * The {@link IngredientConsultationImpl} test class.
@@ -54,6 +57,18 @@ class IngredientConsultationImplShould {
         assertThrows(UnsupportedOperationException.class, () -> service.getIngredients().add(ingredient()));
     }
 
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting ingredients page from null pagination")
+    void throwIAEGetIngredientsNullPagination() {
+        assertThrows(IllegalArgumentException.class, () -> service.getIngredients(null));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting ingredients from null identities")
+    void throwIAEGetIngredientsByIdNullIds() {
+        assertThrows(IllegalArgumentException.class, () -> service.getIngredientsById(null));
+    }
+
     @Test
     @DisplayName("throw IllegalArgumentException when getting ingredient from null identity")
     void throwIAEGetIngredientNullId() {
@@ -103,6 +118,21 @@ class IngredientConsultationImplShould {
             assertThat(service.getIngredient(TOMATO_ID)).isEqualToComparingFieldByField(tomato);
         }
 
+        @Test
+        @DisplayName("return tomato version and no version for unknown ingredient")
+        void returnIngredientVersion() {
+            assertThat(service.getIngredientVersion(TOMATO_ID)).isPositive();
+            assertThat(service.getIngredientVersion(CUCUMBER_ID)).isZero();
+        }
+
+        @Test
+        @DisplayName("return a different ingredients version once an ingredient has been saved")
+        void returnIngredientsVersionChangingOnSave() {
+            var version = service.getIngredientsVersion();
+            ingredientRepository.save(ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES));
+            assertThat(service.getIngredientsVersion()).isNotEqualTo(version);
+        }
+
         @Nested
         @DisplayName("and cucumber")
         class AndCucumber {
@@ -122,6 +152,31 @@ class IngredientConsultationImplShould {
                         .containsExactlyInAnyOrder(tomato, cucumber);
             }
 
+            @Test
+            @DisplayName("return ingredients corresponding to identities, ignoring unknown identities")
+            void returnIngredientsById() {
+                var unknownId = IngredientId.generate();
+                assertThat(service.getIngredientsById(List.of(TOMATO_ID, unknownId, CUCUMBER_ID, TOMATO_ID)))
+                        .usingFieldByFieldElementComparator()
+                        .containsExactlyInAnyOrder(tomato, cucumber);
+            }
+
+            @Test
+            @DisplayName("return pages of ingredients ordered by identity")
+            void returnIngredientPages() {
+                var first = TOMATO_ID.compareTo(CUCUMBER_ID) < 0 ? tomato : cucumber;
+                var second = first == tomato ? cucumber : tomato;
+
+                var firstPage = service.getIngredients(Pagination.first(1));
+                assertThat(firstPage.content()).containsExactly(first);
+                assertThat(firstPage.next()).contains(Pagination.after(first.id(), 1));
+
+                var secondPage = service.getIngredients(firstPage.next().get());
+                assertThat(secondPage.content()).containsExactly(second);
+                assertThat(secondPage.previous()).contains(Pagination.first(1));
+                assertThat(secondPage.next()).isEmpty();
+            }
+
         }
 
     }
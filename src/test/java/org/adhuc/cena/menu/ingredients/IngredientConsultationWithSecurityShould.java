@@ -34,6 +34,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.configuration.ApplicationSecurityConfiguration;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
@@ -63,6 +64,8 @@ class IngredientConsultationWithSecurityShould {
     private RecipeConsultation recipeConsultation;
     @MockBean
     private IngredientRelatedService ingredientRelatedService;
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
 
     @BeforeEach
     void setUp() {
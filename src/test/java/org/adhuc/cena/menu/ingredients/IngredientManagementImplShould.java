@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
 import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_MEASUREMENT_TYPES;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.*;
@@ -33,8 +34,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
 import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.event.DomainEvent;
 
 /**
  * The {@link IngredientManagementImpl} test class.
@@ -51,14 +54,16 @@ class IngredientManagementImplShould {
 
     private IngredientRepository ingredientRepository;
     private IngredientManagementImpl service;
+    private List<DomainEvent> events;
     @Mock
     private IngredientRelatedService ingredientRelatedService;
 
     @BeforeEach
     void setUp() {
         ingredientRepository = new InMemoryIngredientRepository();
-        service = new IngredientManagementImpl(new IngredientCreation(ingredientRepository),
-                new IngredientDeletion(ingredientRelatedService, ingredientRepository));
+        events = new ArrayList<>();
+        service = new IngredientManagementImpl(new IngredientCreation(ingredientRepository, events::add),
+                new IngredientDeletion(ingredientRelatedService, ingredientRepository, events::add));
     }
 
     @Test
@@ -67,6 +72,12 @@ class IngredientManagementImplShould {
         assertThrows(IllegalArgumentException.class, () -> service.createIngredient(null));
     }
 
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating ingredients from null command")
+    void throwIAECreateIngredientsNullCommands() {
+        assertThrows(IllegalArgumentException.class, () -> service.createIngredients(null));
+    }
+
     @Test
     @DisplayName("throw IllegalArgumentException when deleting ingredient from null command")
     void throwIAEDeleteIngredientNullCommand() {
@@ -85,6 +96,14 @@ class IngredientManagementImplShould {
             assertThat(ingredientRepository.findNotNullById(ingredient.id())).isNotNull().isEqualToComparingFieldByField(ingredient);
         }
 
+        @Test
+        @DisplayName("publish ingredient created event after creation")
+        void publishIngredientCreatedAfterCreation() {
+            var ingredient = ingredient();
+            service.createIngredient(createCommand(ingredient));
+            assertThat(events).containsExactly(new IngredientCreated(ingredient.id()));
+        }
+
     }
 
     @Nested
@@ -121,6 +140,40 @@ class IngredientManagementImplShould {
             assertThat(exception.getMessage()).isEqualTo("Entity of type Ingredient with identity '" + ID + "' already exists");
         }
 
+        @Test
+        @DisplayName("create batch of ingredients, rejecting only ingredients with already used name")
+        void createIngredientsRejectingAlreadyUsedNames() {
+            var cucumber = ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES);
+            var results = new ArrayList<CreationResult<IngredientId>>();
+            service.createIngredients(new CreateIngredients(List.of(
+                    createCommand(ingredient(IngredientId.generate(), new Name("TOMATO"), List.of())),
+                    createCommand(cucumber),
+                    createCommand(ingredient(IngredientId.generate(), new Name("cucumber"), List.of()))),
+                    results::add));
+            assertThat(results).extracting(CreationResult::isCreated).containsExactly(false, true, false);
+            assertThat(results.get(0).failure()).containsInstanceOf(IngredientNameAlreadyUsedException.class);
+            assertThat(results.get(2).failure()).hasValueSatisfying(e -> assertThat(e)
+                    .hasMessage("Ingredient name 'Cucumber' already used by an existing ingredient"));
+            assertThat(ingredientRepository.findAll()).hasSize(2);
+            assertThat(ingredientRepository.findNotNullById(CUCUMBER_ID)).usingRecursiveComparison().isEqualTo(cucumber);
+            assertThat(events).containsExactly(new IngredientCreated(CUCUMBER_ID));
+        }
+
+        @Test
+        @DisplayName("create batch of ingredients, rejecting ingredients with already used identity")
+        void createIngredientsRejectingAlreadyUsedIdentities() {
+            var results = new ArrayList<CreationResult<IngredientId>>();
+            service.createIngredients(new CreateIngredients(List.of(
+                    createCommand(ingredient(ID, new Name("unused"), List.of())),
+                    createCommand(ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES)),
+                    createCommand(ingredient(CUCUMBER_ID, new Name("other"), List.of()))),
+                    results::add));
+            assertThat(results).extracting(CreationResult::id).containsExactly(ID, CUCUMBER_ID, CUCUMBER_ID);
+            assertThat(results).extracting(CreationResult::isCreated).containsExactly(false, true, false);
+            assertThat(results.get(0).failure()).containsInstanceOf(AlreadyExistingEntityException.class);
+            assertThat(ingredientRepository.findAll()).hasSize(2);
+        }
+
         @Test
         @DisplayName("delete tomato successfully when not used in a recipe")
         void deleteTomatoNotUsedInRecipe() {
@@ -128,6 +181,7 @@ class IngredientManagementImplShould {
             assumeThat(ingredientRepository.exists(ID)).isTrue();
             service.deleteIngredient(deleteCommand());
             assertThat(ingredientRepository.exists(ID)).isFalse();
+            assertThat(events).containsExactly(new IngredientDeleted(ID));
         }
 
         @Test
@@ -138,6 +192,7 @@ class IngredientManagementImplShould {
             assumeThat(ingredientRepository.exists(ID)).isTrue();
             var exception = assertThrows(IngredientNotDeletableRelatedToObjectException.class, () -> service.deleteIngredient(deleteCommand()));
             assertThat(exception.getMessage()).isEqualTo("Ingredient '" + ID + "' cannot be deleted as it is related to at least one recipe");
+            assertThat(events).isEmpty();
         }
 
         @Test
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.menus.MenuMother.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * The {@link CreateMenus} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("domain")
+@DisplayName("Menus creation command should")
+public class CreateMenusShould {
+
+    @ParameterizedTest
+    @MethodSource("invalidCreationParameters")
+    @DisplayName("not be creatable with invalid parameters")
+    void notBeCreatableWithInvalidParameters(MenuOwner owner, List<CreateMenu> menus) {
+        assertThrows(IllegalArgumentException.class, () -> new CreateMenus(owner, menus));
+    }
+
+    private static Stream<Arguments> invalidCreationParameters() {
+        return Stream.of(
+                Arguments.of(null, List.of(createCommand())),
+                Arguments.of(OWNER, null),
+                Arguments.of(OWNER, List.of()),
+                Arguments.of(OTHER_OWNER, List.of(createCommand())),
+                Arguments.of(OWNER, List.of(createCommand(), createCommand(builder().withCovers(TOMORROW_DINNER_COVERS).build())))
+        );
+    }
+
+    @Test
+    @DisplayName("contain values used during creation")
+    void containCreationValues() {
+        var tomorrowDinner = createCommand(builder().withDate(TOMORROW_DINNER_DATE).withMealType(TOMORROW_DINNER_MEAL_TYPE).build());
+        var command = new CreateMenus(OWNER, List.of(createCommand(), tomorrowDinner));
+        assertThat(command.owner()).isEqualTo(OWNER);
+        assertThat(command.menus()).containsExactly(createCommand(), tomorrowDinner);
+    }
+
+}
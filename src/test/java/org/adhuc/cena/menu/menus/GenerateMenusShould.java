@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.menus.MenuMother.*;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * The {@link GenerateMenus} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("domain")
+@DisplayName("Menus generation command should")
+public class GenerateMenusShould {
+
+    private static final DateRange WEEK = DateRange.range(DATE, DATE.plusDays(6));
+
+    @ParameterizedTest
+    @MethodSource("invalidCreationParameters")
+    @DisplayName("not be creatable with invalid parameters")
+    void notBeCreatableWithInvalidParameters(MenuOwner owner, DateRange dateRange, Set<MealType> mealTypes,
+                                             Covers covers, int daysBeforeRecipeRepetition) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GenerateMenus(owner, dateRange, mealTypes, covers, daysBeforeRecipeRepetition));
+    }
+
+    private static Stream<Arguments> invalidCreationParameters() {
+        return Stream.of(
+                Arguments.of(null, WEEK, Set.of(MEAL_TYPE), COVERS, 7),
+                Arguments.of(OWNER, null, Set.of(MEAL_TYPE), COVERS, 7),
+                Arguments.of(OWNER, WEEK, null, COVERS, 7),
+                Arguments.of(OWNER, WEEK, Set.of(), COVERS, 7),
+                Arguments.of(OWNER, WEEK, Set.of(MEAL_TYPE), null, 7),
+                Arguments.of(OWNER, WEEK, Set.of(MEAL_TYPE), COVERS, -1),
+                Arguments.of(OWNER, DateRange.range(DATE, DATE.plusDays(GenerateMenus.MAX_DAYS)), Set.of(MEAL_TYPE), COVERS, 7)
+        );
+    }
+
+    @Test
+    @DisplayName("contain values used during creation")
+    void containCreationValues() {
+        var command = new GenerateMenus(OWNER, WEEK, Set.of(MealType.DINNER, MealType.LUNCH), COVERS, 3);
+        assertSoftly(softly -> {
+            softly.assertThat(command.owner()).isEqualTo(OWNER);
+            softly.assertThat(command.dateRange()).isEqualTo(WEEK);
+            softly.assertThat(command.mealTypes()).containsExactly(MealType.LUNCH, MealType.DINNER);
+            softly.assertThat(command.covers()).isEqualTo(COVERS);
+            softly.assertThat(command.daysBeforeRecipeRepetition()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("not choose a recipe again before the default number of days if not specified")
+    void defaultDaysBeforeRecipeRepetition() {
+        var command = new GenerateMenus(OWNER, WEEK, EnumSet.allOf(MealType.class), COVERS);
+        assertThat(command.daysBeforeRecipeRepetition()).isEqualTo(GenerateMenus.DEFAULT_DAYS_BEFORE_RECIPE_REPETITION);
+    }
+
+    @Test
+    @DisplayName("accept the maximum number of days")
+    void acceptMaximumNumberOfDays() {
+        var dateRange = DateRange.range(DATE, DATE.plusDays(GenerateMenus.MAX_DAYS - 1));
+        assertThat(new GenerateMenus(OWNER, dateRange, Set.of(MEAL_TYPE), COVERS).dateRange()).isEqualTo(dateRange);
+    }
+
+}
@@ -274,6 +274,30 @@ class InMemoryMenuRepositoryShould {
                             .containsExactlyInAnyOrder(todayLunch, tomorrowDinner);
                 }
 
+                @Test
+                @DisplayName("returns a collection containing both menus ordered by date and meal type for owner")
+                void returnOrderedCollectionContainingMenus() {
+                    var todayDinner = builder().withMealType(MealType.DINNER).build();
+                    repository.save(todayDinner);
+                    assertThat(repository.findByOwner(OWNER)).usingFieldByFieldElementComparator()
+                            .containsExactly(todayLunch, todayDinner, tomorrowDinner);
+                }
+
+                @Test
+                @DisplayName("return a collection containing only tomorrow's dinner for owner within tomorrow")
+                void returnCollectionContainingTomorrowDinnerWithinTomorrow() {
+                    assertThat(repository.findByOwnerAndDateBetween(OWNER, TOMORROW_DINNER_DATE, TOMORROW_DINNER_DATE))
+                            .usingFieldByFieldElementComparator().containsExactly(tomorrowDinner);
+                }
+
+                @Test
+                @DisplayName("return a collection containing only today's lunch for owner after tomorrow's dinner deletion")
+                void returnCollectionContainingTodayLunchAfterTomorrowDinnerDeletion() {
+                    repository.delete(tomorrowDinner);
+                    assertThat(repository.findByOwnerAndDateBetween(OWNER, now(), now().plusDays(6)))
+                            .usingFieldByFieldElementComparator().containsExactly(todayLunch);
+                }
+
                 @Test
                 @DisplayName("return a collection containing menu for other owner")
                 void returnCollectionContainingMenuForOtherOwner() {
@@ -18,16 +18,41 @@ package org.adhuc.cena.menu.menus;
 import static java.time.LocalDate.now;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
 import static org.adhuc.cena.menu.menus.DateRange.since;
 import static org.adhuc.cena.menu.menus.DateRange.until;
 import static org.adhuc.cena.menu.menus.MenuMother.*;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.GRAM;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.KILOGRAM;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.UNIT;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_MOZZA_SALAD_ID;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_SERVINGS;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.*;
 
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.recipes.MeasurementUnit;
+import org.adhuc.cena.menu.recipes.Quantity;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeConsultation;
+import org.adhuc.cena.menu.recipes.RecipeMother;
+import org.adhuc.cena.menu.recipes.ScaledRecipe;
+import org.adhuc.cena.menu.recipes.Servings;
 
 /**
  * The {@link MenuConsultationImpl} test class.
@@ -42,12 +67,16 @@ import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
 class MenuConsultationImplShould {
 
     private MenuRepository menuRepository;
+    private RecipeConsultation recipeAppService;
     private MenuConsultationImpl service;
 
     @BeforeEach
     void setUp() {
         menuRepository = new InMemoryMenuRepository();
-        service = new MenuConsultationImpl(menuRepository);
+        recipeAppService = mock(RecipeConsultation.class);
+        service = new MenuConsultationImpl(
+                new ShoppingListComputation(menuRepository, recipeAppService), recipeAppService,
+                menuRepository, new MenuSummaryProjection(menuRepository, recipeAppService));
     }
 
     @Test
@@ -68,6 +97,36 @@ class MenuConsultationImplShould {
         assertThrows(IllegalArgumentException.class, () -> service.getMenu(null));
     }
 
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting shopping list for null query")
+    void throwIAEGetShoppingListNullQuery() {
+        assertThrows(IllegalArgumentException.class, () -> service.getShoppingList(null));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting menu recipes from null identity")
+    void throwIAEGetMenuRecipesNullId() {
+        assertThrows(IllegalArgumentException.class, () -> service.getMenuRecipes(null));
+    }
+
+    @Test
+    @DisplayName("throw EntityNotFoundException when getting menu recipes from unknown identity")
+    void throwEntityNotFoundExceptionGetMenuRecipesUnknownId() {
+        assertThrows(EntityNotFoundException.class, () -> service.getMenuRecipes(ID));
+    }
+
+    @Test
+    @DisplayName("return empty shopping list when owner has no menu")
+    void returnEmptyShoppingList() {
+        var shoppingList = service.getShoppingList(listQuery());
+        assertSoftly(softly -> {
+            softly.assertThat(shoppingList.owner()).isEqualTo(OWNER);
+            softly.assertThat(shoppingList.since()).isEqualTo(listQuery().since());
+            softly.assertThat(shoppingList.until()).isEqualTo(listQuery().until());
+            softly.assertThat(shoppingList.items()).isEmpty();
+        });
+    }
+
     @Nested
     @DisplayName("with no menu for owner")
     class WithNoMenu {
@@ -132,6 +191,19 @@ class MenuConsultationImplShould {
                         .isNotEmpty().usingFieldByFieldElementComparator().containsExactly(todayLunch);
             }
 
+            @Test
+            @DisplayName("return summaries of menus containing today's lunch querying for one week since today")
+            void returnMenuSummariesWithTodayLunchSinceToday() {
+                assertThat(service.getMenuSummaries(listQuery())).extracting(MenuSummary::id)
+                        .containsExactly(todayLunch.id());
+            }
+
+            @Test
+            @DisplayName("return empty summaries of menus querying for one week since tomorrow")
+            void returnEmptyMenuSummariesSinceTomorrow() {
+                assertThat(service.getMenuSummaries(new ListMenus(OWNER, since(now().plusDays(1))))).isEmpty();
+            }
+
             @Test
             @DisplayName("throw EntityNotFoundException when getting menu from unknown identity")
             void throwEntityNotFoundExceptionUnknownId() {
@@ -144,6 +216,14 @@ class MenuConsultationImplShould {
                 assertThat(service.getMenu(TODAY_LUNCH_ID)).isEqualToComparingFieldByField(todayLunch);
             }
 
+            @Test
+            @DisplayName("return today's lunch version and no version for unknown menu")
+            void returnMenuVersion() {
+                assertThat(service.getMenuVersion(TODAY_LUNCH_ID)).isPositive();
+                assertThat(service.getMenuVersion(TOMORROW_DINNER_ID)).isZero();
+                assertThat(service.getMenusVersion(listQuery())).isPositive();
+            }
+
             @Nested
             @DisplayName("and tomorrow's dinner")
             class AndTomorrowDinner {
@@ -161,6 +241,13 @@ class MenuConsultationImplShould {
                     menuRepository.save(tomorrowDinner);
                 }
 
+                @Test
+                @DisplayName("return summaries of all menus for owner ordered by date")
+                void returnMenuSummariesOrderedByDate() {
+                    assertThat(service.getMenuSummaries(listQuery())).extracting(MenuSummary::id)
+                            .containsExactly(todayLunch.id(), tomorrowDinner.id());
+                }
+
                 @Test
                 @DisplayName("return list containing all menus for owner")
                 void returnMenusListWithAllMenus() {
@@ -195,4 +282,113 @@ class MenuConsultationImplShould {
 
     }
 
+    @Nested
+    @DisplayName("computing shopping list")
+    class ComputingShoppingList {
+
+        @BeforeEach
+        void setUp() {
+            menuRepository.save(menu());
+            menuRepository.save(builder()
+                    .withDate(TOMORROW_DINNER_DATE)
+                    .withMealType(TOMORROW_DINNER_MEAL_TYPE)
+                    .withCovers(TOMORROW_DINNER_COVERS)
+                    .withMainCourseRecipes(TOMORROW_DINNER_MAIN_COURSE_RECIPES)
+                    .build());
+            menuRepository.save(builder().withOwner(OTHER_OWNER).withCovers(new Covers(10)).build());
+            when(recipeAppService.getIngredientNames(any()))
+                    .thenReturn(Map.of(TOMATO_ID, TOMATO, CUCUMBER_ID, CUCUMBER));
+        }
+
+        @Test
+        @DisplayName("retrieve recipes and ingredient names at once")
+        void retrieveRecipesAndIngredientsAtOnce() {
+            when(recipeAppService.getRecipesById(any())).thenReturn(List.of(mozzaSalad(), fetaSalad(600)));
+            service.getShoppingList(listQuery());
+            verify(recipeAppService).getRecipesById(Set.of(TOMATO_CUCUMBER_MOZZA_SALAD_ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID));
+            verify(recipeAppService).getIngredientNames(Set.of(TOMATO_ID, CUCUMBER_ID));
+            verifyNoMoreInteractions(recipeAppService);
+        }
+
+        @Test
+        @DisplayName("sum quantities scaled to covers per ingredient and measurement type, sorted by ingredient name")
+        void sumScaledQuantities() {
+            when(recipeAppService.getRecipesById(any())).thenReturn(List.of(mozzaSalad(), fetaSalad(600)));
+            // mozza salad serves 2 for 2 covers, feta salad serves 6 for 4 covers
+            assertThat(service.getShoppingList(listQuery()).items()).containsExactly(
+                    new ShoppingListItem(CUCUMBER_ID, CUCUMBER, List.of(quantity("5", UNIT))),
+                    new ShoppingListItem(TOMATO_ID, TOMATO, List.of(quantity("400", GRAM), quantity("12", UNIT))));
+        }
+
+        @Test
+        @DisplayName("express quantities in the largest unit of their measurement type")
+        void expressQuantitiesInLargestUnit() {
+            when(recipeAppService.getRecipesById(any())).thenReturn(List.of(mozzaSalad(), fetaSalad(2250)));
+            assertThat(service.getShoppingList(listQuery()).items()).containsExactly(
+                    new ShoppingListItem(CUCUMBER_ID, CUCUMBER, List.of(quantity("5", UNIT))),
+                    new ShoppingListItem(TOMATO_ID, TOMATO, List.of(quantity("1.5", KILOGRAM), quantity("12", UNIT))));
+        }
+
+        @Test
+        @DisplayName("ignore recipes that do not exist anymore")
+        void ignoreUnknownRecipes() {
+            when(recipeAppService.getRecipesById(any())).thenReturn(List.of(mozzaSalad()));
+            assertThat(service.getShoppingList(listQuery()).items()).containsExactly(
+                    new ShoppingListItem(CUCUMBER_ID, CUCUMBER, List.of(quantity("3", UNIT))),
+                    new ShoppingListItem(TOMATO_ID, TOMATO, List.of(quantity("12", UNIT))));
+        }
+
+        @Test
+        @DisplayName("list ingredients used without quantity")
+        void listIngredientsWithoutQuantity() {
+            when(recipeAppService.getRecipesById(any())).thenReturn(List.of(RecipeMother.builder()
+                    .withIngredient(TOMATO_ID, true, Quantity.UNDEFINED).build()));
+            when(recipeAppService.getIngredientNames(any())).thenReturn(Map.of(TOMATO_ID, TOMATO));
+            assertThat(service.getShoppingList(listQuery()).items())
+                    .containsExactly(new ShoppingListItem(TOMATO_ID, TOMATO, List.of()));
+        }
+
+        private Recipe mozzaSalad() {
+            return RecipeMother.recipe();
+        }
+
+        private Recipe fetaSalad(int tomatoGrams) {
+            return RecipeMother.builder()
+                    .withId(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)
+                    .withServings(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_SERVINGS)
+                    .withIngredient(TOMATO_ID, true, new Quantity(tomatoGrams, GRAM))
+                    .andIngredient(CUCUMBER_ID, false, new Quantity(2, UNIT))
+                    .build();
+        }
+
+        private ShoppingListQuantity quantity(String value, MeasurementUnit unit) {
+            return new ShoppingListQuantity(new BigDecimal(value), unit);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("getting menu recipes")
+    class GettingMenuRecipes {
+
+        @BeforeEach
+        void setUp() {
+            menuRepository.save(builder()
+                    .withCovers(new Covers(3))
+                    .withMainCourseRecipes(Set.of(TOMATO_CUCUMBER_MOZZA_SALAD_ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID))
+                    .build());
+        }
+
+        @Test
+        @DisplayName("retrieve main course recipes scaled to menu covers")
+        void retrieveScaledRecipes() {
+            var scaledRecipes = List.of(new ScaledRecipe(RecipeMother.recipe(), new Servings(3)));
+            when(recipeAppService.getScaledRecipes(any(), any())).thenReturn(scaledRecipes);
+            assertThat(service.getMenuRecipes(ID)).isEqualTo(scaledRecipes);
+            verify(recipeAppService).getScaledRecipes(
+                    Set.of(TOMATO_CUCUMBER_MOZZA_SALAD_ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID), new Servings(3));
+        }
+
+    }
+
 }
@@ -38,6 +38,8 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.configuration.ApplicationSecurityConfiguration;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
@@ -70,6 +72,10 @@ class MenuConsultationWithSecurityShould {
     private RecipeRepository recipeRepository;
     @MockBean
     private RecipeConsultation recipeConsultationMock;
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+    @MockBean
+    private DomainEventDispatcher domainEventDispatcher;
 
     @BeforeEach
     void setUp() {
@@ -122,6 +128,23 @@ class MenuConsultationWithSecurityShould {
         assertThat(service.getMenus(listQuery(new MenuOwner(SUPER_ADMINISTRATOR)))).isNotEmpty();
     }
 
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("deny menu summaries access to authenticated user for menus not owned by user")
+    void denyMenuSummariesAsAuthenticatedUserNotOwner() {
+        assertThrows(AccessDeniedException.class, () -> service.getMenuSummaries(listQuery(OWNER)));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("grant menu summaries access to authenticated user")
+    void grantMenuSummariesAsAuthenticatedUser() {
+        var menu = builder().withOwnerName(AUTHENTICATED_USER).build();
+        menuRepository.save(menu);
+
+        assertThat(service.getMenuSummaries(listQuery(new MenuOwner(AUTHENTICATED_USER)))).isNotEmpty();
+    }
+
     @Test
     @WithCommunityUser
     @DisplayName("deny menu detail access to community user")
@@ -169,6 +192,73 @@ class MenuConsultationWithSecurityShould {
         assertThat(service.getMenu(menu.id())).isEqualTo(menu);
     }
 
+    @Test
+    @WithCommunityUser
+    @DisplayName("deny menu recipes access to community user")
+    void denyMenuRecipesAccessAsCommunityUser() {
+        assertThrows(AccessDeniedException.class, () -> service.getMenuRecipes(ID));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("deny menu recipes access to authenticated user for menu not owned by user")
+    void denyMenuRecipesAccessAsAuthenticatedUserNotOwner() {
+        var menu = builder().withOwner(OWNER).build();
+        menuRepository.save(menu);
+
+        assertThrows(AccessDeniedException.class, () -> service.getMenuRecipes(menu.id()));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("grant menu recipes access to authenticated user")
+    void grantMenuRecipesAccessAsAuthenticatedUser() {
+        var menu = builder().withOwnerName(AUTHENTICATED_USER).build();
+        menuRepository.save(menu);
+
+        assertThat(service.getMenuRecipes(menu.id())).isEmpty();
+    }
+
+    @Test
+    @WithSuperAdministrator
+    @DisplayName("grant menu recipes access to super administrator")
+    void grantMenuRecipesAccessAsSuperAdministrator() {
+        var menu = builder().withOwnerName(SUPER_ADMINISTRATOR).build();
+        menuRepository.save(menu);
+
+        assertThat(service.getMenuRecipes(menu.id())).isEmpty();
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("deny shopping list access to community user")
+    void denyShoppingListAccessAsCommunityUser() {
+        assertThrows(AccessDeniedException.class, () -> service.getShoppingList(listQuery(OWNER)));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("deny shopping list access to authenticated user for menus not owned by user")
+    void denyShoppingListAccessAsAuthenticatedUserNotOwner() {
+        assertThrows(AccessDeniedException.class, () -> service.getShoppingList(listQuery(OWNER)));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("grant shopping list access to authenticated user")
+    void grantShoppingListAccessAsAuthenticatedUser() {
+        var owner = new MenuOwner(AUTHENTICATED_USER);
+        assertThat(service.getShoppingList(listQuery(owner)).owner()).isEqualTo(owner);
+    }
+
+    @Test
+    @WithSuperAdministrator
+    @DisplayName("grant shopping list access to super administrator")
+    void grantShoppingListAccessAsSuperAdministrator() {
+        var owner = new MenuOwner(SUPER_ADMINISTRATOR);
+        assertThat(service.getShoppingList(listQuery(owner)).owner()).isEqualTo(owner);
+    }
+
     @Configuration
     @Import(ApplicationSecurityConfiguration.class)
     @EnableConfigurationProperties(MenuGenerationProperties.class)
@@ -15,17 +15,30 @@
  */
 package org.adhuc.cena.menu.menus;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
 import static org.adhuc.cena.menu.menus.MenuMother.*;
+import static org.adhuc.cena.menu.recipes.CourseType.MAIN_COURSE;
 import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.*;
@@ -35,6 +48,10 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.event.DomainEvent;
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.recipes.Recipe;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeId;
 import org.adhuc.cena.menu.recipes.RecipeMother;
@@ -54,12 +71,20 @@ class MenuManagementImplShould {
     private MenuRepository menuRepository;
     private RecipeConsultation recipeAppService;
     private MenuManagementImpl service;
+    private List<DomainEvent> events;
+    private DomainEventDispatcher eventDispatcher;
+    private MenuSummaryProjection menuSummaries;
 
     @BeforeEach
     void setUp() {
         menuRepository = new InMemoryMenuRepository();
         recipeAppService = mock(RecipeConsultation.class);
-        service = new MenuManagementImpl(new MenuCreation(menuRepository, recipeAppService), menuRepository);
+        events = new ArrayList<>();
+        eventDispatcher = mock(DomainEventDispatcher.class);
+        menuSummaries = mock(MenuSummaryProjection.class);
+        service = new MenuManagementImpl(new MenuCreation(menuRepository, recipeAppService, events::add),
+                new MenuGeneration(menuRepository, recipeAppService, events::add), menuRepository, events::add,
+                eventDispatcher, menuSummaries);
 
         when(recipeAppService.exists(RecipeMother.ID)).thenReturn(true);
     }
@@ -70,6 +95,58 @@ class MenuManagementImplShould {
         assertThrows(IllegalArgumentException.class, () -> service.createMenu(null));
     }
 
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating menus from null command")
+    void throwIAECreateMenusNullCommand() {
+        assertThrows(IllegalArgumentException.class, () -> service.createMenus(null));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when generating menus from null command")
+    void throwIAEGenerateMenusNullCommand() {
+        assertThrows(IllegalArgumentException.class, () -> service.generateMenus(null));
+    }
+
+    @Test
+    @DisplayName("fail generating menus without any main course recipe")
+    void failGeneratingMenusWithoutMainCourseRecipe() {
+        when(recipeAppService.getRecipesByCourseType(MAIN_COURSE)).thenReturn(List.of());
+        assertThrows(MenusNotGeneratableWithoutRecipeException.class, () -> service.generateMenus(generateCommand(7)));
+        assertThat(menuRepository.findByOwner(OWNER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("generate menus for every meal of date range without repeating recipes")
+    void generateMenusWithoutRepeatingRecipes() {
+        when(recipeAppService.getRecipesByCourseType(MAIN_COURSE)).thenReturn(candidates(14));
+        service.generateMenus(generateCommand(7));
+        var generated = List.copyOf(menuRepository.findByOwner(OWNER));
+
+        assertThat(generated).hasSize(14).allSatisfy(menu -> {
+            assertThat(menu.covers()).isEqualTo(TOMORROW_DINNER_COVERS);
+            assertThat(menu.mainCourseRecipes()).hasSize(1);
+        });
+        assertThat(generated.stream().flatMap(menu -> menu.mainCourseRecipes().stream())).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("generate menus favouring recipes with the least used ingredients")
+    void generateMenusFavouringIngredientsVariety() {
+        var tomatoRecipes = List.of(candidate(TOMATO_ID), candidate(TOMATO_ID));
+        when(recipeAppService.getRecipesByCourseType(MAIN_COURSE)).thenReturn(List.of(
+                tomatoRecipes.get(0), tomatoRecipes.get(1), candidate(CUCUMBER_ID)));
+        service.generateMenus(new GenerateMenus(OWNER, DateRange.range(TODAY_LUNCH_DATE, TODAY_LUNCH_DATE),
+                EnumSet.allOf(MealType.class), TOMORROW_DINNER_COVERS, 1));
+        var generated = List.copyOf(menuRepository.findByOwner(OWNER));
+
+        assertThat(generated).hasSize(2);
+        var lunchRecipe = generated.get(0).mainCourseRecipes().iterator().next();
+        var dinnerRecipe = generated.get(1).mainCourseRecipes().iterator().next();
+        assertThat(lunchRecipe).isNotEqualTo(dinnerRecipe);
+        var tomatoRecipeIds = tomatoRecipes.stream().map(Recipe::id).collect(toList());
+        assertThat(tomatoRecipeIds.contains(lunchRecipe) && tomatoRecipeIds.contains(dinnerRecipe)).isFalse();
+    }
+
     @Test
     @DisplayName("throw IllegalArgumentException when deleting menu from null command")
     void throwIAEDeleteMenuNullCommand() {
@@ -114,6 +191,7 @@ class MenuManagementImplShould {
                     .withCovers(TOMORROW_DINNER_COVERS).withMainCourseRecipes(TOMORROW_DINNER_MAIN_COURSE_RECIPES).build();
             service.createMenu(createCommand(menu));
             assertThat(menuRepository.findNotNullById(menu.id())).isNotNull().isEqualToComparingFieldByField(menu);
+            assertThat(events).containsExactly(new MenuCreated(menu.id()));
         }
 
         @ParameterizedTest
@@ -135,12 +213,95 @@ class MenuManagementImplShould {
             );
         }
 
+        @Test
+        @DisplayName("create non existing menus successfully")
+        void createNonExistingMenus() {
+            when(recipeAppService.existingRecipes(any())).thenReturn(Set.of(RecipeMother.ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID));
+            var todayDinner = builder().withMealType(MealType.DINNER).build();
+            var tomorrowDinner = builder().withDate(TOMORROW_DINNER_DATE).withMealType(TOMORROW_DINNER_MEAL_TYPE)
+                    .withCovers(TOMORROW_DINNER_COVERS).withMainCourseRecipes(TOMORROW_DINNER_MAIN_COURSE_RECIPES).build();
+            service.createMenus(new CreateMenus(OWNER, List.of(createCommand(todayDinner), createCommand(tomorrowDinner))));
+            assertThat(menuRepository.findNotNullById(todayDinner.id())).isNotNull().isEqualToComparingFieldByField(todayDinner);
+            assertThat(menuRepository.findNotNullById(tomorrowDinner.id())).isNotNull().isEqualToComparingFieldByField(tomorrowDinner);
+        }
+
+        @Test
+        @DisplayName("fail creating menus when today's lunch is part of them, without creating any menu")
+        void failCreatingMenusWithTodayLunch() {
+            when(recipeAppService.existingRecipes(any())).thenReturn(Set.of(RecipeMother.ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID));
+            var tomorrowDinner = builder().withDate(TOMORROW_DINNER_DATE).withMealType(TOMORROW_DINNER_MEAL_TYPE).build();
+            var exception = assertThrows(AlreadyExistingEntityException.class,
+                    () -> service.createMenus(new CreateMenus(OWNER, List.of(createCommand(tomorrowDinner), createCommand(menu())))));
+            assertThat(exception).hasMessage(String.format("Menus are already scheduled at %s's lunch", TODAY_LUNCH_DATE));
+            assertThat(menuRepository.exists(TOMORROW_DINNER_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("fail creating menus with unknown main course recipe, without creating any menu")
+        void failCreatingMenusWithUnknownMainCourseRecipe() {
+            when(recipeAppService.existingRecipes(any())).thenReturn(Set.of(RecipeMother.ID));
+            var todayDinner = builder().withMealType(MealType.DINNER).build();
+            var tomorrowDinner = builder().withDate(TOMORROW_DINNER_DATE).withMealType(TOMORROW_DINNER_MEAL_TYPE)
+                    .withMainCourseRecipes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID).build();
+            var exception = assertThrows(MenuNotCreatableWithUnknownRecipeException.class,
+                    () -> service.createMenus(new CreateMenus(OWNER, List.of(createCommand(todayDinner), createCommand(tomorrowDinner)))));
+            assertThat(exception).hasMessage(String.format("Menu scheduled at %s's dinner cannot be created with unknown recipes [%s]",
+                    TOMORROW_DINNER_DATE, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID));
+            assertThat(menuRepository.exists(todayDinner.id())).isFalse();
+        }
+
+        @Test
+        @DisplayName("generate menus around today's lunch, without repeating its recipe")
+        void generateMenusAroundTodayLunch() {
+            var candidates = new ArrayList<>(candidates(3));
+            candidates.add(RecipeMother.recipe());
+            when(recipeAppService.getRecipesByCourseType(MAIN_COURSE)).thenReturn(candidates);
+            service.generateMenus(new GenerateMenus(OWNER, DateRange.range(TODAY_LUNCH_DATE, TOMORROW_DINNER_DATE),
+                    EnumSet.allOf(MealType.class), TOMORROW_DINNER_COVERS, 7));
+            var generated = menuRepository.findByOwner(OWNER).stream()
+                    .filter(menu -> !menu.id().equals(ID))
+                    .collect(toList());
+
+            assertThat(generated).extracting(Menu::id).containsExactly(
+                    builder().withMealType(MealType.DINNER).build().id(),
+                    builder().withDate(TOMORROW_DINNER_DATE).build().id(),
+                    TOMORROW_DINNER_ID);
+            assertThat(generated.stream().flatMap(menu -> menu.mainCourseRecipes().stream()))
+                    .doesNotHaveDuplicates()
+                    .doesNotContain(RecipeMother.ID);
+            assertThat(menuRepository.findNotNullById(ID)).isEqualToComparingFieldByField(menu());
+        }
+
         @Test
         @DisplayName("delete today's lunch successfully")
         void deleteTodayLunch() {
             assumeThat(menuRepository.exists(ID)).isTrue();
             service.deleteMenu(deleteCommand());
             assertThat(menuRepository.exists(ID)).isFalse();
+            assertThat(events).containsExactly(new MenuDeleted(ID));
+        }
+
+        @Test
+        @DisplayName("wait for the dispatch of published events after deleting today's lunch")
+        void waitForDispatchAfterDeletion() {
+            service.deleteMenu(deleteCommand());
+            verify(eventDispatcher).awaitDispatch(MenuManagementImpl.DISPATCH_TIMEOUT);
+        }
+
+        @Test
+        @DisplayName("mark menu summaries of owner stale when dispatch times out after deleting today's lunch")
+        void markSummariesStaleOnDispatchTimeout() {
+            when(eventDispatcher.awaitDispatch(MenuManagementImpl.DISPATCH_TIMEOUT)).thenReturn(false);
+            service.deleteMenu(deleteCommand());
+            verify(menuSummaries).markStale(deleteCommand().owner());
+        }
+
+        @Test
+        @DisplayName("not mark menu summaries stale when dispatch completes after deleting today's lunch")
+        void notMarkSummariesStaleOnDispatch() {
+            when(eventDispatcher.awaitDispatch(MenuManagementImpl.DISPATCH_TIMEOUT)).thenReturn(true);
+            service.deleteMenu(deleteCommand());
+            verify(menuSummaries, never()).markStale(any());
         }
 
         @Test
@@ -153,4 +314,18 @@ class MenuManagementImplShould {
 
     }
 
+    private static GenerateMenus generateCommand(int daysBeforeRecipeRepetition) {
+        return new GenerateMenus(OWNER, DateRange.range(TODAY_LUNCH_DATE, TODAY_LUNCH_DATE.plusDays(6)),
+                EnumSet.allOf(MealType.class), TOMORROW_DINNER_COVERS, daysBeforeRecipeRepetition);
+    }
+
+    private static List<Recipe> candidates(int count) {
+        return IntStream.range(0, count).mapToObj(i -> candidate()).collect(toList());
+    }
+
+    private static Recipe candidate(IngredientId... ingredientIds) {
+        return RecipeMother.builder().withId(new RecipeId(UUID.randomUUID().toString()))
+                .withIngredients(ingredientIds).build();
+    }
+
 }
@@ -17,11 +17,15 @@ package org.adhuc.cena.menu.menus;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import static org.adhuc.cena.menu.menus.MenuMother.*;
 import static org.adhuc.cena.menu.support.UserProvider.*;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
@@ -38,8 +42,11 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.configuration.ApplicationSecurityConfiguration;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+import org.adhuc.cena.menu.recipes.CourseType;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeMother;
 import org.adhuc.cena.menu.recipes.RecipeRepository;
@@ -70,12 +77,17 @@ class MenuManagementWithSecurityShould {
     private RecipeRepository recipeRepository;
     @MockBean
     private RecipeConsultation recipeConsultationMock;
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+    @MockBean
+    private DomainEventDispatcher domainEventDispatcher;
 
     @BeforeEach
     void setUp() {
         menuRepository.deleteAll();
 
         when(recipeConsultationMock.exists(RecipeMother.ID)).thenReturn(true);
+        when(recipeConsultationMock.existingRecipes(any())).thenReturn(Set.of(RecipeMother.ID));
     }
 
     @Test
@@ -112,6 +124,42 @@ class MenuManagementWithSecurityShould {
         assertThat(menuRepository.exists(menu.id())).isTrue();
     }
 
+    @Test
+    @WithCommunityUser
+    @DisplayName("deny menus creation access to community user")
+    void denyMenusCreationAsCommunityUser() {
+        assertThrows(AccessDeniedException.class, () -> service.createMenus(new CreateMenus(OWNER, List.of(createCommand()))));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("grant menus creation access to authenticated user")
+    void grantMenusCreationAsAuthenticatedUser() {
+        var lunch = builder().withOwnerName(AUTHENTICATED_USER).build();
+        var dinner = builder().withOwnerName(AUTHENTICATED_USER).withMealType(MealType.DINNER).build();
+        service.createMenus(new CreateMenus(lunch.owner(), List.of(createCommand(lunch), createCommand(dinner))));
+        assertThat(menuRepository.exists(lunch.id())).isTrue();
+        assertThat(menuRepository.exists(dinner.id())).isTrue();
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("deny menus generation access to community user")
+    void denyMenusGenerationAsCommunityUser() {
+        assertThrows(AccessDeniedException.class, () -> service.generateMenus(new GenerateMenus(OWNER,
+                DateRange.range(DATE, DATE), Set.of(MEAL_TYPE), COVERS)));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("grant menus generation access to authenticated user")
+    void grantMenusGenerationAsAuthenticatedUser() {
+        when(recipeConsultationMock.getRecipesByCourseType(CourseType.MAIN_COURSE)).thenReturn(List.of(RecipeMother.recipe()));
+        var owner = new MenuOwner(AUTHENTICATED_USER);
+        service.generateMenus(new GenerateMenus(owner, DateRange.range(DATE, DATE), Set.of(MEAL_TYPE), COVERS));
+        assertThat(menuRepository.exists(new MenuId(owner, DATE, MEAL_TYPE))).isTrue();
+    }
+
     @Test
     @WithCommunityUser
     @DisplayName("deny menu deletion access to community user")
@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.menus;
+
+import static java.time.LocalDate.now;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import static org.adhuc.cena.menu.menus.MenuMother.*;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_MOZZA_SALAD_ID;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_MOZZA_SALAD_NAME;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.adhuc.cena.menu.recipes.RecipeConsultation;
+import org.adhuc.cena.menu.recipes.RecipeDeleted;
+import org.adhuc.cena.menu.recipes.RecipeMother;
+import org.adhuc.cena.menu.recipes.RecipesDeleted;
+
+/**
+ * The {@link MenuSummaryProjection} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("domainService")
+@DisplayName("Menu summary projection should")
+class MenuSummaryProjectionShould {
+
+    private MenuRepository menuRepository;
+    private RecipeConsultation recipeConsultation;
+    private MenuSummaryProjection projection;
+
+    private Menu todayLunch;
+    private Menu tomorrowDinner;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = new InMemoryMenuRepository();
+        recipeConsultation = mock(RecipeConsultation.class);
+        projection = new MenuSummaryProjection(menuRepository, recipeConsultation);
+
+        when(recipeConsultation.getRecipesById(any())).thenReturn(List.of(RecipeMother.recipe()));
+        todayLunch = menu();
+        tomorrowDinner = builder()
+                .withDate(TOMORROW_DINNER_DATE)
+                .withMealType(TOMORROW_DINNER_MEAL_TYPE)
+                .withCovers(TOMORROW_DINNER_COVERS)
+                .withMainCourseRecipes(TOMORROW_DINNER_MAIN_COURSE_RECIPES)
+                .build();
+        menuRepository.save(todayLunch);
+    }
+
+    @Test
+    @DisplayName("summarize menus with their main course recipes, sorted by recipe identity")
+    void summarizeMenus() {
+        menuRepository.save(builder()
+                .withDate(TOMORROW_DINNER_DATE)
+                .withMealType(TOMORROW_DINNER_MEAL_TYPE)
+                .withCovers(TOMORROW_DINNER_COVERS)
+                .withMainCourseRecipes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, TOMATO_CUCUMBER_MOZZA_SALAD_ID)
+                .build());
+
+        var summaries = projection.summaries(OWNER, now(), now().plusDays(1));
+        assertThat(summaries).extracting(MenuSummary::id).containsExactly(todayLunch.id(), tomorrowDinner.id());
+        assertThat(summaries.get(0).covers()).isEqualTo(todayLunch.covers());
+        assertThat(summaries.get(0).mainCourseRecipes()).extracting(MenuSummaryRecipe::recipeId)
+                .containsExactly(TOMATO_CUCUMBER_MOZZA_SALAD_ID);
+        assertThat(summaries.get(1).mainCourseRecipes()).extracting(MenuSummaryRecipe::recipeId)
+                .containsExactlyInAnyOrder(TOMATO_CUCUMBER_MOZZA_SALAD_ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)
+                .isSorted();
+    }
+
+    @Test
+    @DisplayName("summarize menus with their recipes names, leaving unknown recipes without name")
+    void summarizeMenusWithRecipesNames() {
+        menuRepository.save(tomorrowDinner);
+
+        var summaries = projection.summaries(OWNER, now(), now().plusDays(1));
+        assertThat(summaries.get(0).mainCourseRecipes()).containsExactly(
+                new MenuSummaryRecipe(TOMATO_CUCUMBER_MOZZA_SALAD_ID, TOMATO_CUCUMBER_MOZZA_SALAD_NAME));
+        assertThat(summaries.get(1).mainCourseRecipes()).containsExactly(
+                new MenuSummaryRecipe(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, null));
+        assertThat(summaries.get(1).mainCourseRecipes().get(0).name()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("return summaries of menus between dates inclusively, ordered by date and meal type")
+    void returnSummariesBetweenDates() {
+        var todayDinner = builder().withMealType(MealType.DINNER).build();
+        menuRepository.save(tomorrowDinner);
+        menuRepository.save(todayDinner);
+
+        assertThat(projection.summaries(OWNER, now(), now().plusDays(6))).extracting(MenuSummary::id)
+                .containsExactly(todayLunch.id(), todayDinner.id(), tomorrowDinner.id());
+        assertThat(projection.summaries(OWNER, now().minusDays(6), now())).extracting(MenuSummary::id)
+                .containsExactly(todayLunch.id(), todayDinner.id());
+        assertThat(projection.summaries(OWNER, now().plusDays(1), now().plusDays(1))).extracting(MenuSummary::id)
+                .containsExactly(tomorrowDinner.id());
+        assertThat(projection.summaries(OWNER, now().plusDays(2), now().plusDays(6))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("return summaries of menus owned by owner only")
+    void returnSummariesOfOwner() {
+        menuRepository.save(builder().withOwner(OTHER_OWNER).build());
+
+        assertThat(projection.summaries(OWNER, now(), now())).extracting(MenuSummary::owner).containsOnly(OWNER);
+        assertThat(projection.summaries(OTHER_OWNER, now(), now())).extracting(MenuSummary::owner)
+                .containsOnly(OTHER_OWNER);
+    }
+
+    @Test
+    @DisplayName("return unmodifiable summaries")
+    void returnUnmodifiableSummaries() {
+        var summaries = projection.summaries(OWNER, now(), now());
+        assertThrows(UnsupportedOperationException.class, () -> summaries.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> summaries.get(0).mainCourseRecipes().remove(0));
+    }
+
+    @Test
+    @DisplayName("load summaries of an owner from repository only once")
+    void loadSummariesOnce() {
+        projection.summaries(OWNER, now(), now());
+        menuRepository.save(tomorrowDinner);
+
+        assertThat(projection.summaries(OWNER, now(), now().plusDays(1))).extracting(MenuSummary::id)
+                .containsExactly(todayLunch.id());
+    }
+
+    @Test
+    @DisplayName("add summaries of created menus and change version")
+    void addCreatedMenus() {
+        projection.summaries(OWNER, now(), now());
+        var version = projection.version(OWNER);
+        menuRepository.save(tomorrowDinner);
+        projection.handleEvents(List.of(new MenuCreated(tomorrowDinner.id())));
+
+        assertThat(projection.summaries(OWNER, now(), now().plusDays(1))).extracting(MenuSummary::id)
+                .containsExactly(todayLunch.id(), tomorrowDinner.id());
+        assertThat(projection.version(OWNER)).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("keep version of an owner when menus of another owner change")
+    void keepVersionOfOtherOwner() {
+        var otherOwnerMenu = builder().withOwner(OTHER_OWNER).build();
+        var version = projection.version(OWNER);
+        projection.summaries(OTHER_OWNER, now(), now());
+        menuRepository.save(otherOwnerMenu);
+        projection.handleEvents(List.of(new MenuCreated(otherOwnerMenu.id())));
+
+        assertThat(projection.summaries(OTHER_OWNER, now(), now())).extracting(MenuSummary::id)
+                .containsExactly(otherOwnerMenu.id());
+        assertThat(projection.version(OWNER)).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("reload summaries of an owner marked stale on next read and change version of this owner only")
+    void reloadStaleSummaries() {
+        var version = projection.version(OWNER);
+        var otherOwnerVersion = projection.version(OTHER_OWNER);
+        menuRepository.save(tomorrowDinner);
+        projection.markStale(OWNER);
+
+        assertThat(projection.summaries(OWNER, now(), now().plusDays(1))).extracting(MenuSummary::id)
+                .containsExactly(todayLunch.id(), tomorrowDinner.id());
+        assertThat(projection.version(OWNER)).isNotEqualTo(version);
+        assertThat(projection.version(OTHER_OWNER)).isEqualTo(otherOwnerVersion);
+    }
+
+    @Test
+    @DisplayName("remove summaries of deleted menus")
+    void removeDeletedMenus() {
+        menuRepository.save(tomorrowDinner);
+        projection.summaries(OWNER, now(), now().plusDays(1));
+        menuRepository.delete(todayLunch);
+        projection.handleEvents(List.of(new MenuDeleted(todayLunch.id())));
+
+        assertThat(projection.summaries(OWNER, now(), now().plusDays(1))).extracting(MenuSummary::id)
+                .containsExactly(tomorrowDinner.id());
+    }
+
+    @Test
+    @DisplayName("not load summaries of an owner when receiving events for this owner")
+    void notLoadOwnerOnEvents() {
+        menuRepository.save(tomorrowDinner);
+        projection.handleEvents(List.of(new MenuCreated(tomorrowDinner.id())));
+        menuRepository.delete(tomorrowDinner);
+
+        assertThat(projection.summaries(OWNER, now(), now().plusDays(1))).extracting(MenuSummary::id)
+                .containsExactly(todayLunch.id());
+    }
+
+    @Test
+    @DisplayName("remove names of deleted recipes from summaries of the menus composed of them only")
+    void removeDeletedRecipesNames() {
+        var otherOwnerMenu = builder().withOwner(OTHER_OWNER)
+                .withMainCourseRecipes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)
+                .build();
+        menuRepository.save(otherOwnerMenu);
+        projection.summaries(OWNER, now(), now());
+        projection.summaries(OTHER_OWNER, now(), now());
+        var version = projection.version(OWNER);
+        var otherOwnerVersion = projection.version(OTHER_OWNER);
+        when(recipeConsultation.getRecipesById(any())).thenReturn(List.of());
+        projection.handleEvents(List.of(new RecipeDeleted(TOMATO_CUCUMBER_MOZZA_SALAD_ID)));
+
+        assertThat(projection.summaries(OWNER, now(), now()).get(0).mainCourseRecipes().get(0).name()).isEmpty();
+        assertThat(projection.version(OWNER)).isNotEqualTo(version);
+        assertThat(projection.version(OTHER_OWNER)).isEqualTo(otherOwnerVersion);
+    }
+
+    @Test
+    @DisplayName("remove recipes names from summaries when every recipe is deleted")
+    void removeRecipesNamesWhenEveryRecipeDeleted() {
+        projection.summaries(OWNER, now(), now());
+        var version = projection.version(OWNER);
+        when(recipeConsultation.getRecipesById(any())).thenReturn(List.of());
+        projection.handleEvents(List.of(new RecipesDeleted()));
+
+        assertThat(projection.summaries(OWNER, now(), now()).get(0).mainCourseRecipes().get(0).name()).isEmpty();
+        assertThat(projection.version(OWNER)).isNotEqualTo(version);
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import lombok.Value;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import org.adhuc.cena.menu.common.event.DomainEvent;
+import org.adhuc.cena.menu.common.event.DomainEventSubscriber;
+
+/**
+ * The {@link RingBufferDomainEventBus} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Ring buffer domain event bus should")
+class RingBufferDomainEventBusShould {
+
+    private RingBufferDomainEventBus bus;
+    private RecordingSubscriber<DomainEvent> allEventsSubscriber;
+    private RecordingSubscriber<Created> createdSubscriber;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RingBufferDomainEventBus(16, 2);
+        allEventsSubscriber = new RecordingSubscriber<>(DomainEvent.class);
+        createdSubscriber = new RecordingSubscriber<>(Created.class);
+        bus.subscribe(allEventsSubscriber);
+        bus.subscribe(createdSubscriber);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,1", "-1,1", "1,0", "1,-1"})
+    @DisplayName("refuse non-positive buffer size or maximum batch size")
+    void refuseNonPositiveSizes(int bufferSize, int maximumBatchSize) {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferDomainEventBus(bufferSize, maximumBatchSize));
+    }
+
+    @Test
+    @DisplayName("dispatch events published before start once started, in publication order")
+    void dispatchEventsPublishedBeforeStart() {
+        bus.publish(new Created(1));
+        bus.publish(new Deleted(1));
+        bus.publish(new Created(2));
+
+        bus.start();
+        bus.close();
+
+        assertThat(allEventsSubscriber.events()).containsExactly(new Created(1), new Deleted(1), new Created(2));
+    }
+
+    @Test
+    @DisplayName("dispatch events published once started")
+    void dispatchEventsPublishedAfterStart() {
+        bus.start();
+        IntStream.range(0, 100).forEach(i -> bus.publish(new Created(i)));
+        bus.close();
+
+        assertThat(createdSubscriber.events())
+                .containsExactly(IntStream.range(0, 100).mapToObj(Created::new).toArray(Created[]::new));
+    }
+
+    @Test
+    @DisplayName("deliver events in batches bounded by maximum batch size")
+    void deliverBoundedBatches() {
+        IntStream.range(0, 5).forEach(i -> bus.publish(new Created(i)));
+
+        bus.start();
+        bus.close();
+
+        assertThat(allEventsSubscriber.batches).extracting(List::size).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("deliver to subscribers only the events of their subscribed type")
+    void deliverSubscribedEventsOnly() {
+        bus.publish(new Deleted(1));
+        bus.publish(new Deleted(2));
+        bus.publish(new Created(3));
+
+        bus.start();
+        bus.close();
+
+        assertThat(createdSubscriber.events()).containsExactly(new Created(3));
+        assertThat(createdSubscriber.batches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("keep dispatching events to other subscribers when a subscriber fails")
+    void keepDispatchingWhenSubscriberFails() {
+        var failingSubscriber = new RecordingSubscriber<DomainEvent>(DomainEvent.class) {
+            @Override
+            public void handleEvents(List<DomainEvent> events) {
+                throw new IllegalStateException("failure");
+            }
+        };
+        var otherBus = new RingBufferDomainEventBus(16, 1);
+        otherBus.subscribe(failingSubscriber);
+        otherBus.subscribe(createdSubscriber);
+        otherBus.publish(new Created(1));
+        otherBus.publish(new Created(2));
+
+        otherBus.start();
+        otherBus.close();
+
+        assertThat(createdSubscriber.events()).containsExactly(new Created(1), new Created(2));
+    }
+
+    @Test
+    @DisplayName("discard events published once closed")
+    void discardEventsPublishedOnceClosed() {
+        bus.start();
+        bus.close();
+        bus.publish(new Created(1));
+
+        assertThat(allEventsSubscriber.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("consider events dispatched when no event has been published")
+    void considerNoEventDispatched() {
+        assertThat(bus.awaitDispatch(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    @DisplayName("not wait for the dispatch of events when dispatch has not started")
+    void notWaitForDispatchBeforeStart() {
+        bus.publish(new Created(1));
+
+        assertThat(bus.awaitDispatch(Duration.ofSeconds(5))).isFalse();
+        assertThat(allEventsSubscriber.events()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("wait for the dispatch of the events published by the current thread")
+    void waitForDispatchOfPublishedEvents() {
+        bus.start();
+        IntStream.range(0, 100).forEach(i -> bus.publish(new Created(i)));
+
+        assertThat(bus.awaitDispatch(Duration.ofSeconds(5))).isTrue();
+        assertThat(createdSubscriber.events()).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("not wait for the dispatch of the events published by other threads")
+    void notWaitForDispatchOfOtherThreadsEvents() throws InterruptedException {
+        var publisher = new Thread(() -> bus.publish(new Created(1)));
+        publisher.start();
+        publisher.join();
+
+        assertThat(bus.awaitDispatch(Duration.ofSeconds(5))).isTrue();
+        assertThat(allEventsSubscriber.events()).isEmpty();
+    }
+
+    @Value
+    private static class Created implements DomainEvent {
+        private final int id;
+    }
+
+    @Value
+    private static class Deleted implements DomainEvent {
+        private final int id;
+    }
+
+    private static class RecordingSubscriber<E extends DomainEvent> implements DomainEventSubscriber<E> {
+
+        private final Class<E> type;
+        private final List<List<E>> batches = new ArrayList<>();
+
+        private RecordingSubscriber(Class<E> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Class<E> subscribedEventType() {
+            return type;
+        }
+
+        @Override
+        public void handleEvents(List<E> events) {
+            batches.add(List.copyOf(events));
+        }
+
+        private List<E> events() {
+            var events = new ArrayList<E>();
+            batches.forEach(events::addAll);
+            return events;
+        }
+
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.IngredientNameAlreadyUsedException;
+
+/**
+ * The {@link JdbcIngredientRepository} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("jdbcRepository")
+@DisplayName("JDBC ingredient repository should")
+class JdbcIngredientRepositoryShould {
+
+    private TestDatabase database;
+    private JdbcIngredientRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new TestDatabase();
+        repository = new JdbcIngredientRepository(database.jdbcTemplate(), database.transactionTemplate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("return empty collection when finding all ingredients with no ingredient")
+    void returnEmptyCollection() {
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("with tomato")
+    class WithTomato {
+
+        private Ingredient tomato;
+
+        @BeforeEach
+        void setUp() {
+            tomato = repository.save(ingredient());
+        }
+
+        @Test
+        @DisplayName("return tomato when getting ingredient with tomato id")
+        void returnTomato() {
+            assertThat(repository.findById(TOMATO_ID)).get().usingRecursiveComparison().isEqualTo(tomato);
+        }
+
+        @Test
+        @DisplayName("indicate that tomato exists and cucumber does not")
+        void exists() {
+            assertThat(repository.exists(TOMATO_ID)).isTrue();
+            assertThat(repository.exists(CUCUMBER_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("return tomato when finding ingredient by name ignoring case")
+        void findByNameIgnoreCase() {
+            assertThat(repository.findByNameIgnoreCase(new Name("TOMATO"))).get()
+                    .usingRecursiveComparison().isEqualTo(tomato);
+            assertThat(repository.findByName(new Name("TOMATO"))).isEmpty();
+            assertThat(repository.findByName(TOMATO)).isPresent();
+        }
+
+        @Test
+        @DisplayName("throw IngredientNameAlreadyUsedException when saving other ingredient with tomato name")
+        void throwIngredientNameAlreadyUsed() {
+            var other = ingredient(CUCUMBER_ID, new Name("tomato"), CUCUMBER_MEASUREMENT_TYPES);
+            assertThrows(IngredientNameAlreadyUsedException.class, () -> repository.save(other));
+            assertThat(repository.exists(CUCUMBER_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("return only existing ingredients when finding ingredients by names ignoring case")
+        void findAllByNameIgnoreCase() {
+            assertThat(repository.findAllByNameIgnoreCase(List.of(new Name("TOMATO"), CUCUMBER)))
+                    .usingRecursiveFieldByFieldElementComparator().containsExactly(tomato);
+        }
+
+        @Test
+        @DisplayName("return only existing ingredients when finding ingredients by identities")
+        void findAllById() {
+            assertThat(repository.findAllById(List.of(TOMATO_ID, CUCUMBER_ID, TOMATO_ID)))
+                    .usingRecursiveFieldByFieldElementComparator().containsExactly(tomato);
+        }
+
+        @Test
+        @DisplayName("save batch of ingredients successfully")
+        void saveAll() {
+            var cucumber = ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES);
+            var salt = ingredient(IngredientId.generate(), new Name("Salt"), List.of());
+            repository.saveAll(List.of(cucumber, salt));
+            assertThat(repository.findAll()).hasSize(3);
+            assertThat(repository.findNotNullById(CUCUMBER_ID)).usingRecursiveComparison().isEqualTo(cucumber);
+        }
+
+        @Test
+        @DisplayName("throw IngredientNameAlreadyUsedException when saving batch containing tomato name")
+        void throwIngredientNameAlreadyUsedSavingAll() {
+            var cucumber = ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES);
+            var other = ingredient(IngredientId.generate(), new Name("TOMATO"), List.of());
+            var exception = assertThrows(IngredientNameAlreadyUsedException.class,
+                    () -> repository.saveAll(List.of(cucumber, other)));
+            assertThat(exception).hasMessage("Ingredient name 'TOMATO' already used by an existing ingredient");
+            assertThat(repository.exists(other.id())).isFalse();
+        }
+
+        @Test
+        @DisplayName("replace tomato when saving ingredient with tomato id")
+        void replaceTomato() {
+            var renamed = repository.save(ingredient(TOMATO_ID, new Name("Cherry tomato"), MEASUREMENT_TYPES));
+            assertThat(repository.findAll()).hasSize(1);
+            assertThat(repository.findNotNullById(TOMATO_ID)).usingRecursiveComparison().isEqualTo(renamed);
+        }
+
+        @Test
+        @DisplayName("throw EntityNotFoundException when updating unknown ingredient")
+        void throwEntityNotFoundUpdatingUnknown() {
+            assertThrows(EntityNotFoundException.class, () -> repository.update(CUCUMBER_ID, i -> {
+            }));
+        }
+
+        @Test
+        @DisplayName("delete tomato successfully")
+        void deleteTomato() {
+            repository.delete(tomato);
+            assertThat(repository.findAll()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("delete all ingredients successfully")
+        void deleteAll() {
+            repository.save(ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES));
+            repository.deleteAll();
+            assertThat(repository.findAll()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("change version when saving or deleting ingredients, but not when failing to save")
+        void changeVersion() {
+            var initial = repository.version();
+            assertThat(repository.version(TOMATO_ID)).isEqualTo(initial);
+            assertThat(repository.version(CUCUMBER_ID)).isZero();
+
+            var other = ingredient(CUCUMBER_ID, new Name("tomato"), CUCUMBER_MEASUREMENT_TYPES);
+            assertThrows(IngredientNameAlreadyUsedException.class, () -> repository.save(other));
+            assertThat(repository.version()).isEqualTo(initial);
+
+            repository.save(ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES));
+            var afterSave = repository.version();
+            repository.delete(tomato);
+
+            assertThat(afterSave).isGreaterThan(initial);
+            assertThat(repository.version()).isGreaterThan(afterSave);
+            assertThat(repository.version(TOMATO_ID)).isZero();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("with 25 ingredients")
+    class With25Ingredients {
+
+        @BeforeEach
+        void setUp() {
+            IntStream.range(0, 25).forEach(i -> repository.save(
+                    ingredient(IngredientId.generate(), new Name("Ingredient " + i), MEASUREMENT_TYPES)));
+        }
+
+        @Test
+        @DisplayName("browse every ingredient exactly once through pages of 10")
+        void browseAllPages() {
+            var ids = new ArrayList<IngredientId>();
+            var pagination = Pagination.<IngredientId>first(10);
+            var pages = 0;
+            while (pagination != null) {
+                var page = repository.findAll(pagination);
+                page.content().forEach(i -> ids.add(i.id()));
+                pagination = page.next().orElse(null);
+                pages++;
+            }
+            assertThat(pages).isEqualTo(3);
+            var allIds = repository.findAll().stream().map(Ingredient::id).collect(toList());
+            assertThat(ids).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(allIds);
+        }
+
+        @Test
+        @DisplayName("link second page to first page")
+        void linkSecondPageToFirst() {
+            var first = repository.findAll(Pagination.first(10));
+            assertThat(first.previous()).isEmpty();
+            var second = repository.findAll(first.next().orElseThrow());
+            assertThat(second.content()).hasSize(10);
+            assertThat(second.previous()).hasValueSatisfying(p -> assertThat(p.after()).isEmpty());
+            assertThat(repository.findAll(second.next().orElseThrow()).next()).isEmpty();
+        }
+
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.menus.MenuMother.*;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_MOZZA_SALAD_ID;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID;
+
+import java.util.List;
+
+import org.junit.jupiter.api.*;
+
+import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.menus.MealType;
+import org.adhuc.cena.menu.menus.Menu;
+
+/**
+ * The {@link JdbcMenuRepository} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("jdbcRepository")
+@DisplayName("JDBC menu repository should")
+class JdbcMenuRepositoryShould {
+
+    private TestDatabase database;
+    private JdbcMenuRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new TestDatabase();
+        repository = new JdbcMenuRepository(database.jdbcTemplate(), database.transactionTemplate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("return empty collection when finding menus by owner with no menu")
+    void returnEmptyCollection() {
+        assertThat(repository.findByOwner(OWNER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("throw EntityNotFoundException when updating unknown menu")
+    void throwEntityNotFoundUpdatingUnknown() {
+        assertThrows(EntityNotFoundException.class, () -> repository.update(ID, m -> {
+        }));
+    }
+
+    @Nested
+    @DisplayName("with today's lunch and tomorrow's dinner")
+    class WithTodayLunchAndTomorrowDinner {
+
+        private Menu todayLunch;
+        private Menu tomorrowDinner;
+
+        @BeforeEach
+        void setUp() {
+            tomorrowDinner = repository.save(builder()
+                    .withDate(TOMORROW_DINNER_DATE)
+                    .withMealType(TOMORROW_DINNER_MEAL_TYPE)
+                    .withCovers(TOMORROW_DINNER_COVERS)
+                    .withMainCourseRecipes(TOMATO_CUCUMBER_MOZZA_SALAD_ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)
+                    .build());
+            todayLunch = repository.save(menu());
+        }
+
+        @Test
+        @DisplayName("return today's lunch with its recipes when getting menu with today's lunch id")
+        void returnTodayLunch() {
+            assertThat(repository.findById(TODAY_LUNCH_ID)).get().usingRecursiveComparison().isEqualTo(todayLunch);
+            assertThat(repository.findNotNullById(TOMORROW_DINNER_ID)).usingRecursiveComparison()
+                    .isEqualTo(tomorrowDinner);
+        }
+
+        @Test
+        @DisplayName("indicate that today's lunch exists and today's dinner does not")
+        void exists() {
+            assertThat(repository.exists(TODAY_LUNCH_ID)).isTrue();
+            assertThat(repository.exists(builder().withMealType(MealType.DINNER).build().id())).isFalse();
+        }
+
+        @Test
+        @DisplayName("return menus ordered by schedule when finding menus by owner")
+        void returnMenusOrderedBySchedule() {
+            assertThat(repository.findByOwner(OWNER)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(todayLunch, tomorrowDinner);
+            assertThat(repository.findByOwner(OTHER_OWNER)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("return only menus within date range when finding menus by owner and date range")
+        void returnMenusWithinDateRange() {
+            assertThat(repository.findByOwnerAndDateBetween(OWNER, TODAY_LUNCH_DATE, TODAY_LUNCH_DATE))
+                    .extracting(Menu::id).containsExactly(TODAY_LUNCH_ID);
+            assertThat(repository.findByOwnerAndDateBetween(OWNER, TODAY_LUNCH_DATE, TOMORROW_DINNER_DATE))
+                    .extracting(Menu::id).containsExactly(TODAY_LUNCH_ID, TOMORROW_DINNER_ID);
+            assertThat(repository.findByOwnerAndDateBetween(OTHER_OWNER, TODAY_LUNCH_DATE, TOMORROW_DINNER_DATE))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("return only existing menus identities when finding existing identities")
+        void findExistingIds() {
+            var todayDinnerId = builder().withMealType(MealType.DINNER).build().id();
+            var otherOwnerLunchId = builder().withOwner(OTHER_OWNER).build().id();
+            assertThat(repository.findExistingIds(List.of(TODAY_LUNCH_ID, todayDinnerId, TOMORROW_DINNER_ID, otherOwnerLunchId)))
+                    .containsExactlyInAnyOrder(TODAY_LUNCH_ID, TOMORROW_DINNER_ID);
+        }
+
+        @Test
+        @DisplayName("save several menus at once")
+        void saveAll() {
+            var todayDinner = builder().withMealType(MealType.DINNER).withCovers(TOMORROW_DINNER_COVERS).build();
+            var replacedTodayLunch = builder().withMainCourseRecipes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID).build();
+            var otherOwnerLunch = builder().withOwner(OTHER_OWNER).build();
+            repository.saveAll(List.of(todayDinner, replacedTodayLunch, otherOwnerLunch));
+            assertThat(repository.findByOwner(OWNER)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrder(replacedTodayLunch, todayDinner, tomorrowDinner);
+            assertThat(repository.findByOwner(OTHER_OWNER)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(otherOwnerLunch);
+        }
+
+        @Test
+        @DisplayName("insert several new menus at once")
+        void insertAll() {
+            var todayDinner = builder().withMealType(MealType.DINNER).withCovers(TOMORROW_DINNER_COVERS).build();
+            var otherOwnerLunch = builder().withOwner(OTHER_OWNER).build();
+            repository.insertAll(List.of(todayDinner, otherOwnerLunch));
+            assertThat(repository.findByOwner(OWNER)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrder(todayLunch, todayDinner, tomorrowDinner);
+            assertThat(repository.findByOwner(OTHER_OWNER)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(otherOwnerLunch);
+        }
+
+        @Test
+        @DisplayName("insert no menu when one of the menus already exists")
+        void notInsertAnyMenuWhenOneExists() {
+            var todayDinner = builder().withMealType(MealType.DINNER).build();
+            var replacedTodayLunch = builder().withMainCourseRecipes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID).build();
+            assertThrows(AlreadyExistingEntityException.class,
+                    () -> repository.insertAll(List.of(todayDinner, replacedTodayLunch)));
+            assertThat(repository.findByOwner(OWNER)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrder(todayLunch, tomorrowDinner);
+        }
+
+        @Test
+        @DisplayName("replace today's lunch recipes when saving menu with today's lunch id")
+        void replaceTodayLunch() {
+            var replaced = repository.save(builder()
+                    .withMainCourseRecipes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)
+                    .build());
+            assertThat(repository.findNotNullById(TODAY_LUNCH_ID)).usingRecursiveComparison().isEqualTo(replaced);
+        }
+
+        @Test
+        @DisplayName("delete today's lunch successfully")
+        void deleteTodayLunch() {
+            repository.delete(todayLunch);
+            assertThat(repository.findByOwner(OWNER)).extracting(Menu::id).containsExactly(TOMORROW_DINNER_ID);
+        }
+
+        @Test
+        @DisplayName("delete all menus successfully")
+        void deleteAll() {
+            repository.save(builder().withOwner(OTHER_OWNER).build());
+            repository.deleteAll();
+            assertThat(repository.findByOwner(OWNER)).isEmpty();
+            assertThat(repository.findByOwner(OTHER_OWNER)).isEmpty();
+        }
+
+    }
+
+}
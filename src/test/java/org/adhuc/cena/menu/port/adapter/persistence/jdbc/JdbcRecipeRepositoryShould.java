@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.jdbc;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
+import static org.adhuc.cena.menu.recipes.CourseType.*;
+import static org.adhuc.cena.menu.recipes.RecipeMother.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.*;
+
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.recipes.Recipe;
+import org.adhuc.cena.menu.recipes.RecipeId;
+import org.adhuc.cena.menu.recipes.RemoveIngredientsFromRecipe;
+
+/**
+ * The {@link JdbcRecipeRepository} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("jdbcRepository")
+@DisplayName("JDBC recipe repository should")
+class JdbcRecipeRepositoryShould {
+
+    private static final IngredientId MOZZA_ID = IngredientId.generate();
+    private static final IngredientId FETA_ID = IngredientId.generate();
+
+    private TestDatabase database;
+    private JdbcRecipeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new TestDatabase();
+        repository = new JdbcRecipeRepository(database.jdbcTemplate(), database.transactionTemplate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    @DisplayName("return empty collection when finding all recipes with no recipe")
+    void returnEmptyCollection() {
+        assertThat(repository.findAll()).isEmpty();
+        assertThat(repository.findByIngredient(TOMATO_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("throw EntityNotFoundException when updating unknown recipe")
+    void throwEntityNotFoundUpdatingUnknown() {
+        assertThrows(EntityNotFoundException.class, () -> repository.update(TOMATO_CUCUMBER_MOZZA_SALAD_ID, r -> {
+        }));
+    }
+
+    @Nested
+    @DisplayName("with tomato, cucumber and mozzarella salad")
+    class WithTomatoCucumberAndMozzaSalad {
+
+        private Recipe tomatoCucumberAndMozzaSalad;
+
+        @BeforeEach
+        void setUp() {
+            tomatoCucumberAndMozzaSalad = repository.save(builder()
+                    .withId(TOMATO_CUCUMBER_MOZZA_SALAD_ID)
+                    .withName(TOMATO_CUCUMBER_MOZZA_SALAD_NAME)
+                    .withContent(TOMATO_CUCUMBER_MOZZA_SALAD_CONTENT)
+                    .withAuthor(TOMATO_CUCUMBER_MOZZA_SALAD_AUTHOR)
+                    .withIngredients(TOMATO_ID, CUCUMBER_ID, MOZZA_ID)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("return recipe with its ingredients when getting recipe with recipe id")
+        void returnRecipe() {
+            assertThat(repository.findById(TOMATO_CUCUMBER_MOZZA_SALAD_ID)).get()
+                    .usingRecursiveComparison().isEqualTo(tomatoCucumberAndMozzaSalad);
+        }
+
+        @Test
+        @DisplayName("return a collection containing recipe")
+        void returnCollectionContainingRecipe() {
+            assertThat(repository.findAll()).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(tomatoCucumberAndMozzaSalad);
+        }
+
+        @Test
+        @DisplayName("indicate that tomato, cucumber and mozzarella salad exists")
+        void exists() {
+            assertThat(repository.exists(TOMATO_CUCUMBER_MOZZA_SALAD_ID)).isTrue();
+            assertThat(repository.exists(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("return recipe when finding recipes composed of mozzarella")
+        void returnRecipeComposedOfMozza() {
+            assertThat(repository.findByIngredient(MOZZA_ID)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(tomatoCucumberAndMozzaSalad);
+            assertThat(repository.existsByIngredient(MOZZA_ID)).isTrue();
+            assertThat(repository.findByIngredient(FETA_ID)).isEmpty();
+            assertThat(repository.existsByIngredient(FETA_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("return recipe when finding recipes composed of feta after feta addition")
+        void returnRecipeComposedOfFetaAfterAddition() {
+            repository.update(TOMATO_CUCUMBER_MOZZA_SALAD_ID, r -> r.addIngredient(
+                    addIngredientCommand(FETA_ID, TOMATO_CUCUMBER_MOZZA_SALAD_ID, false, QUANTITY)));
+            assertThat(repository.findByIngredient(FETA_ID)).hasSize(1);
+            assertThat(repository.findNotNullById(TOMATO_CUCUMBER_MOZZA_SALAD_ID).ingredients()).hasSize(4);
+        }
+
+        @Test
+        @DisplayName("return empty collection when finding recipes composed of tomato after ingredients removal")
+        void returnEmptyCollectionComposedOfTomatoAfterIngredientsRemoval() {
+            repository.update(TOMATO_CUCUMBER_MOZZA_SALAD_ID, r -> r.removeIngredients(
+                    new RemoveIngredientsFromRecipe(TOMATO_CUCUMBER_MOZZA_SALAD_ID)));
+            assertThat(repository.findByIngredient(TOMATO_ID)).isEmpty();
+            assertThat(repository.findNotNullById(TOMATO_CUCUMBER_MOZZA_SALAD_ID).ingredients()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("return recipe when finding recipes by one of its course types")
+        void returnRecipeByCourseType() {
+            assertThat(repository.findByCourseType(STARTER)).usingRecursiveFieldByFieldElementComparator()
+                    .containsExactly(tomatoCucumberAndMozzaSalad);
+            assertThat(repository.findByCourseType(DESSERT)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("replace course types when saving recipe again")
+        void replaceCourseTypes() {
+            repository.save(builder()
+                    .withId(TOMATO_CUCUMBER_MOZZA_SALAD_ID)
+                    .withName(TOMATO_CUCUMBER_MOZZA_SALAD_NAME)
+                    .withContent(TOMATO_CUCUMBER_MOZZA_SALAD_CONTENT)
+                    .withAuthor(TOMATO_CUCUMBER_MOZZA_SALAD_AUTHOR)
+                    .withCourseTypes(Set.of(DESSERT))
+                    .withIngredients(TOMATO_ID, CUCUMBER_ID, MOZZA_ID)
+                    .build());
+            assertThat(repository.findByCourseType(STARTER)).isEmpty();
+            assertThat(repository.findByCourseType(DESSERT)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("delete recipe and its ingredients successfully")
+        void deleteRecipe() {
+            repository.delete(tomatoCucumberAndMozzaSalad);
+            assertThat(repository.findAll()).isEmpty();
+            assertThat(repository.existsByIngredient(TOMATO_ID)).isFalse();
+            assertThat(repository.findByCourseType(STARTER)).isEmpty();
+        }
+
+        @Nested
+        @DisplayName("and tomato, cucumber, olive and feta salad")
+        class AndTomatoCucumberOliveAndFetaSalad {
+
+            @BeforeEach
+            void setUp() {
+                repository.save(builder()
+                        .withId(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)
+                        .withName(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_NAME)
+                        .withContent(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_CONTENT)
+                        .withAuthor(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_AUTHOR)
+                        .withCourseTypes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_COURSE_TYPES)
+                        .withIngredients(TOMATO_ID, CUCUMBER_ID, FETA_ID)
+                        .build());
+            }
+
+            @Test
+            @DisplayName("return both recipes when finding recipes composed of tomato")
+            void returnBothRecipesComposedOfTomato() {
+                assertThat(repository.findByIngredient(TOMATO_ID)).extracting(Recipe::id)
+                        .containsExactlyInAnyOrder(TOMATO_CUCUMBER_MOZZA_SALAD_ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID);
+            }
+
+            @Test
+            @DisplayName("return only feta salad when finding recipes composed of feta")
+            void returnFetaSaladComposedOfFeta() {
+                assertThat(repository.findByIngredient(FETA_ID)).extracting(Recipe::id)
+                        .containsExactly(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID);
+            }
+
+            @Test
+            @DisplayName("return known recipes with their ingredients when finding recipes by identities")
+            void returnRecipesByIds() {
+                assertThat(repository.findAllById(List.of(TOMATO_CUCUMBER_MOZZA_SALAD_ID,
+                        TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, new RecipeId("00000000-0000-0000-0000-000000000000"))))
+                        .extracting(Recipe::id, recipe -> recipe.ingredients().size())
+                        .containsExactly(tuple(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, 3), tuple(TOMATO_CUCUMBER_MOZZA_SALAD_ID, 3));
+            }
+
+            @Test
+            @DisplayName("return recipes ordered by identity when finding recipes by course type")
+            void returnRecipesByCourseType() {
+                assertThat(repository.findByCourseType(MAIN_COURSE)).extracting(Recipe::id)
+                        .containsExactly(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, TOMATO_CUCUMBER_MOZZA_SALAD_ID);
+                assertThat(repository.findByCourseType(STARTER)).extracting(Recipe::id)
+                        .containsExactly(TOMATO_CUCUMBER_MOZZA_SALAD_ID);
+                assertThat(repository.findByCourseType(DESSERT)).isEmpty();
+            }
+
+            @Test
+            @DisplayName("delete all recipes successfully")
+            void deleteAll() {
+                repository.deleteAll();
+                assertThat(repository.findAll()).isEmpty();
+                assertThat(repository.existsByIngredient(TOMATO_ID)).isFalse();
+            }
+
+        }
+
+    }
+
+    @Nested
+    @DisplayName("with 25 recipes")
+    class With25Recipes {
+
+        @BeforeEach
+        void setUp() {
+            IntStream.range(0, 25).forEach(i -> repository.save(builder()
+                    .withId(RecipeId.generate())
+                    .withIngredients(i % 2 == 0
+                            ? new IngredientId[]{TOMATO_ID, CUCUMBER_ID}
+                            : new IngredientId[]{TOMATO_ID})
+                    .build()));
+        }
+
+        @Test
+        @DisplayName("browse every recipe exactly once through pages of 10")
+        void browseAllPages() {
+            var ids = new ArrayList<RecipeId>();
+            var pagination = Pagination.<RecipeId>first(10);
+            while (pagination != null) {
+                var page = repository.findAll(pagination);
+                page.content().forEach(r -> ids.add(r.id()));
+                pagination = page.next().orElse(null);
+            }
+            var allIds = repository.findAll().stream().map(Recipe::id).collect(toList());
+            assertThat(ids).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(allIds);
+        }
+
+        @Test
+        @DisplayName("browse every recipe composed of cucumber exactly once through pages of 5")
+        void browseAllPagesComposedOfCucumber() {
+            var ids = new ArrayList<RecipeId>();
+            var pagination = Pagination.<RecipeId>first(5);
+            while (pagination != null) {
+                var page = repository.findByIngredient(CUCUMBER_ID, pagination);
+                page.content().forEach(r -> ids.add(r.id()));
+                assertThat(page.content()).allSatisfy(r -> assertThat(r.ingredients()).hasSize(2));
+                pagination = page.next().orElse(null);
+            }
+            assertThat(ids).hasSize(13).doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("link second page to first page")
+        void linkSecondPageToFirst() {
+            var first = repository.findAll(Pagination.first(10));
+            assertThat(first.previous()).isEmpty();
+            var second = repository.findAll(first.next().orElseThrow());
+            assertThat(second.previous()).hasValueSatisfying(p -> assertThat(p.after()).isEmpty());
+        }
+
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_MEASUREMENT_TYPES;
+import static org.adhuc.cena.menu.ingredients.MeasurementType.COUNT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.adhuc.cena.menu.common.aggregate.Entity;
+import org.adhuc.cena.menu.common.aggregate.Identity;
+import org.adhuc.cena.menu.common.aggregate.Journal;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.IngredientMother;
+import org.adhuc.cena.menu.menus.MenuMother;
+import org.adhuc.cena.menu.recipes.RecipeMother;
+
+/**
+ * The {@link FileJournal} test class, ensuring entities are recovered identically from journal and snapshots.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("File journal should")
+class FileJournalShould {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("replay ingredient modifications")
+    void replayIngredientModifications() throws IOException {
+        var ingredient = IngredientMother.ingredient();
+        var modifications = recordAndReplay(new IngredientCodec(), journal -> {
+            journal.recordSave(ingredient);
+            journal.recordDelete(ingredient);
+            journal.recordDeleteAll();
+        });
+
+        assertThat(modifications).hasSize(3);
+        assertThat(modifications.get(0)).usingRecursiveComparison().isEqualTo(ingredient);
+        assertThat(modifications.get(1)).isEqualTo(ingredient.id());
+        assertThat(modifications.get(2)).isEqualTo("delete all");
+    }
+
+    @Test
+    @DisplayName("replay recipe modifications along with recipe ingredients")
+    void replayRecipeModifications() throws IOException {
+        var recipe = RecipeMother.builder().withContent("é".repeat(40_000)).build();
+        var modifications = recordAndReplay(new RecipeCodec(), journal -> {
+            journal.recordSave(RecipeMother.recipe());
+            journal.recordSave(recipe);
+            journal.recordDelete(recipe);
+        });
+
+        assertThat(modifications).hasSize(3);
+        assertThat(modifications.get(0)).usingRecursiveComparison().isEqualTo(RecipeMother.recipe());
+        assertThat(modifications.get(1)).usingRecursiveComparison().isEqualTo(recipe);
+        assertThat(modifications.get(2)).isEqualTo(recipe.id());
+    }
+
+    @Test
+    @DisplayName("replay menu modifications")
+    void replayMenuModifications() throws IOException {
+        var menu = MenuMother.menu();
+        var modifications = recordAndReplay(new MenuCodec(), journal -> {
+            journal.recordSave(menu);
+            journal.recordDelete(menu);
+        });
+
+        assertThat(modifications).hasSize(2);
+        assertThat(modifications.get(0)).usingRecursiveComparison().isEqualTo(menu);
+        assertThat(modifications.get(1)).isEqualTo(menu.id());
+    }
+
+    @Test
+    @DisplayName("replay saving of several entities recorded at once")
+    void replaySaveAll() throws IOException {
+        var tomato = IngredientMother.ingredient();
+        var cucumber = IngredientMother.ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES);
+        var modifications = recordAndReplay(new IngredientCodec(), journal -> {
+            journal.recordSaveAll(List.of(tomato, cucumber));
+            journal.recordDelete(tomato);
+        });
+
+        assertThat(modifications).hasSize(3);
+        assertThat(modifications.get(0)).usingRecursiveComparison().isEqualTo(tomato);
+        assertThat(modifications.get(1)).usingRecursiveComparison().isEqualTo(cucumber);
+        assertThat(modifications.get(2)).isEqualTo(tomato.id());
+    }
+
+    @Test
+    @DisplayName("compact saving of several entities recorded at once into snapshot")
+    void snapshotSaveAll() throws IOException {
+        var menu = MenuMother.menu();
+        var otherMenu = MenuMother.builder().withDate(menu.date().plusDays(1)).build();
+        try (var journal = new FileJournal<>(directory, "entities", new MenuCodec())) {
+            journal.recordSaveAll(List.of(menu, otherMenu));
+            journal.recordDelete(menu);
+            journal.snapshot();
+        }
+
+        var modifications = replay(new MenuCodec());
+        assertThat(modifications).hasSize(1);
+        assertThat(modifications.get(0)).usingRecursiveComparison().isEqualTo(otherMenu);
+    }
+
+    @Test
+    @DisplayName("fail replaying record with unknown type")
+    void failReplayingUnknownRecordType() throws IOException {
+        try (var file = new JournalFile(directory.resolve("unknown-1.journal"))) {
+            file.append(new byte[]{42});
+        }
+        try (var journal = new FileJournal<>(directory, "unknown", new MenuCodec())) {
+            assertThrows(JournalException.class, () -> journal.replay(new RecordingModifications<>()));
+        }
+    }
+
+    @Test
+    @DisplayName("not take snapshot without recorded modifications")
+    void notSnapshotWithoutModifications() throws IOException {
+        try (var journal = new FileJournal<>(directory, "entities", new IngredientCodec())) {
+            assertThat(journal.snapshot()).isFalse();
+        }
+        assertThat(directory.resolve("entities.snapshot")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("not take snapshot without modifications recorded since previous snapshot")
+    void notSnapshotWithoutNewModifications() throws IOException {
+        try (var journal = new FileJournal<>(directory, "entities", new IngredientCodec())) {
+            journal.recordSave(IngredientMother.ingredient());
+            assertThat(journal.snapshot()).isTrue();
+            assertThat(journal.snapshot()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("delete segments covered by snapshot")
+    void deleteSegmentsCoveredBySnapshot() throws IOException {
+        try (var journal = new FileJournal<>(directory, "entities", new IngredientCodec())) {
+            journal.recordSave(IngredientMother.ingredient());
+            journal.snapshot();
+            journal.recordSave(IngredientMother.ingredient());
+            journal.snapshot();
+        }
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .containsExactlyInAnyOrder("entities.snapshot", "entities-3.journal");
+        }
+    }
+
+    @Test
+    @DisplayName("replay latest version of remaining entities from snapshot, followed by modifications recorded since")
+    void replaySnapshotAndTail() throws IOException {
+        var tomato = IngredientMother.ingredient();
+        var cucumber = IngredientMother.ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES);
+        var aubergine = IngredientMother.ingredient(IngredientId.generate(), new Name("Aubergine"), List.of(COUNT));
+        try (var journal = new FileJournal<>(directory, "entities", new IngredientCodec())) {
+            journal.recordSave(tomato);
+            journal.recordSave(cucumber);
+            journal.recordDelete(tomato);
+            journal.snapshot();
+            journal.recordSave(tomato);
+            journal.recordSave(cucumber);
+            journal.snapshot();
+            journal.recordSave(aubergine);
+            journal.recordDelete(cucumber);
+        }
+
+        var modifications = replay(new IngredientCodec());
+        assertThat(modifications).hasSize(4);
+        assertThat(modifications.get(0)).usingRecursiveComparison().isEqualTo(cucumber);
+        assertThat(modifications.get(1)).usingRecursiveComparison().isEqualTo(tomato);
+        assertThat(modifications.get(2)).usingRecursiveComparison().isEqualTo(aubergine);
+        assertThat(modifications.get(3)).isEqualTo(cucumber.id());
+    }
+
+    @Test
+    @DisplayName("replay nothing from snapshot after all entities deletion")
+    void replaySnapshotAfterDeleteAll() throws IOException {
+        try (var journal = new FileJournal<>(directory, "entities", new RecipeCodec())) {
+            journal.recordSave(RecipeMother.recipe());
+            journal.recordDeleteAll();
+            journal.snapshot();
+        }
+        assertThat(replay(new RecipeCodec())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("replay every segment not covered by snapshot")
+    void replaySegmentsNotCoveredBySnapshot() throws IOException {
+        var menu = MenuMother.menu();
+        try (var journal = new FileJournal<>(directory, "entities", new MenuCodec())) {
+            journal.recordSave(menu);
+            journal.snapshot();
+            journal.recordDelete(menu);
+        }
+        // simulates a snapshot interrupted after starting a new segment
+        new JournalFile(directory.resolve("entities-3.journal")).close();
+        try (var journal = new FileJournal<>(directory, "entities", new MenuCodec())) {
+            journal.recordSave(menu);
+        }
+
+        var modifications = replay(new MenuCodec());
+        assertThat(modifications).hasSize(3);
+        assertThat(modifications.get(0)).usingRecursiveComparison().isEqualTo(menu);
+        assertThat(modifications.get(1)).isEqualTo(menu.id());
+        assertThat(modifications.get(2)).usingRecursiveComparison().isEqualTo(menu);
+    }
+
+    private <E extends Entity<I>, I extends Identity> List<Object> recordAndReplay(
+            EntityCodec<E, I> codec, RecordingScenario<E, I> scenario) throws IOException {
+        try (var journal = new FileJournal<>(directory, "entities", codec)) {
+            scenario.record(journal);
+        }
+        return replay(codec);
+    }
+
+    private <E extends Entity<I>, I extends Identity> List<Object> replay(EntityCodec<E, I> codec) throws IOException {
+        var modifications = new RecordingModifications<E, I>();
+        try (var journal = new FileJournal<>(directory, "entities", codec)) {
+            journal.replay(modifications);
+        }
+        return modifications.modifications;
+    }
+
+    @FunctionalInterface
+    private interface RecordingScenario<E extends Entity<I>, I extends Identity> {
+        void record(Journal<E, I> journal);
+    }
+
+    private static class RecordingModifications<E extends Entity<I>, I extends Identity>
+            implements Journal.Modifications<E, I> {
+
+        private final List<Object> modifications = new ArrayList<>();
+
+        @Override
+        public void save(E entity) {
+            modifications.add(entity);
+        }
+
+        @Override
+        public void delete(I id) {
+            modifications.add(id);
+        }
+
+        @Override
+        public void deleteAll() {
+            modifications.add("delete all");
+        }
+
+    }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The {@link JournalFile} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Journal file should")
+class JournalFileShould {
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private JournalFile file;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("journals").resolve("test.journal");
+        file = new JournalFile(path);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        file.close();
+    }
+
+    @Test
+    @DisplayName("create journal file and its directory")
+    void createFile() {
+        assertThat(path).exists();
+    }
+
+    @Test
+    @DisplayName("replay nothing from empty journal")
+    void replayEmptyJournal() {
+        var records = new ArrayList<String>();
+        assertThat(file.replay(payload -> records.add(new String(payload, UTF_8)))).isZero();
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    @DisplayName("replay appended records in order after reopening")
+    void replayAppendedRecords() throws IOException {
+        append("first", "second", "");
+        var records = reopenAndReplay();
+        assertThat(records).containsExactly("first", "second", "");
+    }
+
+    @Test
+    @DisplayName("append records after replayed records")
+    void appendAfterReplay() throws IOException {
+        append("first");
+        reopenAndReplay();
+        append("second");
+        assertThat(reopenAndReplay()).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("truncate partially written record")
+    void truncatePartiallyWrittenRecord() throws IOException {
+        append("first", "second");
+        file.close();
+        var size = Files.size(path);
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.setLength(size - 2);
+        }
+
+        assertThat(reopenAndReplay()).containsExactly("first");
+        assertThat(Files.size(path)).isEqualTo(2 * Integer.BYTES + "first".length());
+        append("third");
+        assertThat(reopenAndReplay()).containsExactly("first", "third");
+    }
+
+    @Test
+    @DisplayName("truncate record with invalid checksum")
+    void truncateCorruptedRecord() throws IOException {
+        append("first", "second");
+        file.close();
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(raf.length() - 1);
+            raf.write('x');
+        }
+
+        assertThat(reopenAndReplay()).containsExactly("first");
+    }
+
+    @Test
+    @DisplayName("truncate several partially written records")
+    void truncatePartiallyWrittenRecords() throws IOException {
+        append("first", "second", "third");
+        file.close();
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(2 * Integer.BYTES + "first".length() + 2 * Integer.BYTES);
+            raf.write('x');
+            raf.setLength(raf.length() - 1);
+        }
+
+        assertThat(reopenAndReplay()).containsExactly("first");
+        assertThat(Files.size(path)).isEqualTo(2 * Integer.BYTES + "first".length());
+    }
+
+    @Test
+    @DisplayName("truncate zero-filled space at the end of journal")
+    void truncateZeroFilledTail() throws IOException {
+        append("first", "second");
+        file.close();
+        var size = Files.size(path);
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.setLength(size + 4099);
+        }
+
+        assertThat(reopenAndReplay()).containsExactly("first", "second");
+        assertThat(Files.size(path)).isEqualTo(size);
+        append("third");
+        assertThat(reopenAndReplay()).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("fail replaying zero-filled space followed by valid record")
+    void failReplayingZeroFilledSpaceBeforeEnd() throws IOException {
+        append("first", "second");
+        file.close();
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(0);
+            raf.write(new byte[2 * Integer.BYTES + "first".length()]);
+        }
+
+        var reopened = new JournalFile(path);
+        file = reopened;
+        assertThrows(JournalException.class, () -> reopened.replay(payload -> {
+        }));
+    }
+
+    @Test
+    @DisplayName("fail replaying record with invalid checksum followed by valid record")
+    void failReplayingCorruptedRecordBeforeEnd() throws IOException {
+        append("first", "second", "third");
+        file.close();
+        var size = Files.size(path);
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(2 * Integer.BYTES + "first".length() + 2 * Integer.BYTES);
+            raf.write('x');
+        }
+
+        var reopened = new JournalFile(path);
+        file = reopened;
+        assertThrows(JournalException.class, () -> reopened.replay(payload -> {
+        }));
+        assertThat(Files.size(path)).isEqualTo(size);
+    }
+
+    @Test
+    @DisplayName("fail replaying record with invalid length before end of journal")
+    void failReplayingInvalidLengthBeforeEnd() throws IOException {
+        append("first", "second");
+        file.close();
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(0);
+            raf.writeInt(-1);
+        }
+
+        var reopened = new JournalFile(path);
+        file = reopened;
+        assertThrows(JournalException.class, () -> reopened.replay(payload -> {
+        }));
+    }
+
+    @Test
+    @DisplayName("not lose any record when appending concurrently")
+    void notLoseConcurrentRecords() throws Exception {
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < 8; thread++) {
+                var prefix = "thread" + thread + "-";
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        file.append((prefix + i).getBytes(UTF_8));
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        var records = reopenAndReplay();
+        assertThat(records).hasSize(800).doesNotHaveDuplicates();
+        assertThat(records.stream().filter(r -> r.startsWith("thread3-"))).containsExactly(
+                IntStream.range(0, 100).mapToObj(i -> "thread3-" + i).toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("refuse to append empty record")
+    void refuseEmptyRecord() {
+        assertThrows(JournalException.class, () -> file.append(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("refuse to append record exceeding maximum size")
+    void refuseTooLargeRecord() {
+        assertThrows(JournalException.class, () -> file.append(new byte[16 * 1024 * 1024 + 1]));
+    }
+
+    private void append(String... records) {
+        for (var record : records) {
+            file.append(record.getBytes(UTF_8));
+        }
+    }
+
+    private List<String> reopenAndReplay() throws IOException {
+        file.close();
+        file = new JournalFile(path);
+        var records = new ArrayList<String>();
+        file.replay(payload -> records.add(new String(payload, UTF_8)));
+        return records;
+    }
+
+}
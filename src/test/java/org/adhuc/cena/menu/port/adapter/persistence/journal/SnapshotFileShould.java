@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.persistence.journal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The {@link SnapshotFile} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Snapshot file should")
+class SnapshotFileShould {
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private SnapshotFile snapshot;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("test.snapshot");
+        snapshot = new SnapshotFile(path);
+    }
+
+    @Test
+    @DisplayName("read nothing without snapshot")
+    void readNothingWithoutSnapshot() {
+        var entities = new ArrayList<String>();
+        assertThat(snapshot.read(entity -> entities.add(decode(entity)))).isZero();
+        assertThat(entities).isEmpty();
+        assertThat(snapshot.generation()).isZero();
+    }
+
+    @Test
+    @DisplayName("read written entities along with generation")
+    void readWrittenEntities() {
+        write(3, "first", "", "third");
+
+        var entities = new ArrayList<String>();
+        assertThat(snapshot.read(entity -> entities.add(decode(entity)))).isEqualTo(3);
+        assertThat(entities).containsExactly("first", "", "third");
+        assertThat(snapshot.generation()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("read entities larger than write buffer")
+    void readLargeEntities() {
+        var large = "large".repeat(500_000);
+        write(1, "first", large, "third");
+
+        var entities = new ArrayList<String>();
+        snapshot.read(entity -> entities.add(decode(entity)));
+        assertThat(entities).containsExactly("first", large, "third");
+    }
+
+    @Test
+    @DisplayName("replace previous snapshot")
+    void replacePreviousSnapshot() throws IOException {
+        write(1, "first");
+        write(2, "second");
+
+        var entities = new ArrayList<String>();
+        assertThat(snapshot.read(entity -> entities.add(decode(entity)))).isEqualTo(2);
+        assertThat(entities).containsExactly("second");
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    @DisplayName("fail reading entity with invalid checksum")
+    void failReadingCorruptedEntity() throws IOException {
+        write(1, "first", "second");
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.seek(raf.length() - 1);
+            raf.write('x');
+        }
+        assertThrows(JournalException.class, () -> snapshot.read(entity -> {
+        }));
+    }
+
+    @Test
+    @DisplayName("fail reading truncated snapshot")
+    void failReadingTruncatedSnapshot() throws IOException {
+        write(1, "first", "second");
+        try (var raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.setLength(raf.length() - 2);
+        }
+        assertThrows(JournalException.class, () -> snapshot.read(entity -> {
+        }));
+    }
+
+    @Test
+    @DisplayName("fail reading file that is not a snapshot")
+    void failReadingInvalidHeader() throws IOException {
+        Files.writeString(path, "not a snapshot");
+        assertThrows(JournalException.class, () -> snapshot.generation());
+    }
+
+    private void write(long generation, String... entities) {
+        var encoded = new ArrayList<byte[]>();
+        for (var entity : entities) {
+            encoded.add(entity.getBytes(UTF_8));
+        }
+        snapshot.write(generation, List.copyOf(encoded));
+    }
+
+    private static String decode(ByteBuffer entity) {
+        var bytes = new byte[entity.remaining()];
+        entity.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * The {@link HalCollectionStreamValidator} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("HAL collection stream validator should")
+class HalCollectionStreamValidatorShould {
+
+    private static final String VALID_COLLECTION = "{\"_embedded\":{\"data\":[" +
+            "{\"id\":\"1\",\"_links\":{\"self\":{\"href\":\"http://localhost/api/recipes/1\"}}}," +
+            "{\"id\":\"2\",\"_embedded\":{\"data\":[]},\"_links\":{\"self\":{\"href\":\"http://localhost/api/recipes/2\"}}}" +
+            "]},\"_links\":{\"self\":{\"href\":\"http://localhost/api/recipes\"}}}";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 16, 1024})
+    @DisplayName("accept valid collection fed in chunks")
+    void acceptValidCollection(int chunkSize) {
+        assertThat(validate(VALID_COLLECTION, chunkSize)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("accept empty collection")
+    void acceptEmptyCollection() {
+        assertThat(validate("{\"_links\":{\"self\":{\"href\":\"http://localhost/api/recipes\"}}}", 4)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 16, 1024})
+    @DisplayName("validate each item of collection fed in chunks")
+    void validateEachItem(int chunkSize) {
+        var items = new ArrayList<String>();
+        validate(VALID_COLLECTION, chunkSize, item -> {
+            items.add(item);
+            return Optional.empty();
+        });
+        assertThat(items).containsExactly(
+                "{\"id\":\"1\",\"_links\":{\"self\":{\"href\":\"http://localhost/api/recipes/1\"}}}",
+                "{\"id\":\"2\",\"_embedded\":{\"data\":[]},\"_links\":{\"self\":{\"href\":\"http://localhost/api/recipes/2\"}}}");
+    }
+
+    @Test
+    @DisplayName("reject collection containing invalid item")
+    void rejectInvalidItem() {
+        var result = validate(VALID_COLLECTION, 16,
+                item -> item.contains("\"id\":\"2\"") ? Optional.of("invalid id") : Optional.empty());
+        assertThat(result).hasValueSatisfying(failure -> assertThat(failure).contains("invalid id"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "[]",
+            "{\"_embedded\":{\"data\":[]}}",
+            "{\"_embedded\":{\"data\":{}},\"_links\":{}}",
+            "{\"_embedded\":{\"data\":[\"1\"]},\"_links\":{}}",
+            "{\"_embedded\":{\"data\":[{\"id\":\"1\"}]},\"_links\":{}}",
+            "{\"_embedded\":{\"data\":[{\"_embedded\":{\"_links\":{}}}]},\"_links\":{}}",
+            "{\"_embedded\":{\"data\":[{\"_links\":{}}]},\"_links\":{}",
+            "{\"_embedded\":{\"data\":[{\"_links\":{}}]},\"_links\":{}}}",
+            "{\"_links\":{},}"
+    })
+    @DisplayName("reject invalid collection")
+    void rejectInvalidCollection(String body) {
+        assertThat(validate(body, 3)).isNotEmpty();
+    }
+
+    private static Optional<String> validate(String body, int chunkSize) {
+        return validate(body, chunkSize, item -> Optional.empty());
+    }
+
+    private static Optional<String> validate(String body, int chunkSize,
+                                             HalCollectionStreamValidator.ItemValidator itemValidator) {
+        var validator = new HalCollectionStreamValidator(itemValidator);
+        var bytes = body.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            validator.feed(bytes, offset, Math.min(chunkSize, bytes.length - offset));
+        }
+        return validator.complete();
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.port.adapter.rest.SampledOpenApiValidationFilter.SKIPPED_VALIDATIONS_METER_NAME;
+import static org.adhuc.cena.menu.port.adapter.rest.SampledOpenApiValidationFilter.STREAM_VALIDATION_FAILURES_METER_NAME;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import org.adhuc.cena.menu.port.adapter.rest.HalCollectionStreamValidator.ItemValidator;
+
+/**
+ * The {@link SampledOpenApiValidationFilter} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Sampled OpenAPI validation filter should")
+class SampledOpenApiValidationFilterShould {
+
+    private static final Function<HttpServletRequest, Optional<ItemValidator>> NO_STREAMED_RESPONSE =
+            request -> Optional.empty();
+    private static final Function<HttpServletRequest, Optional<ItemValidator>> STREAMED_RESPONSE =
+            request -> Optional.of(item -> Optional.empty());
+    private static final Predicate<HttpServletRequest> NO_STREAMED_REQUEST = request -> false;
+    private static final Predicate<HttpServletRequest> STREAMED_REQUEST = request -> true;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.1})
+    @DisplayName("throw IllegalArgumentException when creating filter with invalid sampling rate")
+    void throwIAEInvalidSamplingRate(double samplingRate) {
+        assertThrows(IllegalArgumentException.class, () -> new SampledOpenApiValidationFilter(samplingRate, NO_STREAMED_RESPONSE,
+                NO_STREAMED_REQUEST, meterRegistry));
+    }
+
+    @Test
+    @DisplayName("prepare every response for validation with sampling rate 1")
+    void validateEveryResponse() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(1, NO_STREAMED_RESPONSE, NO_STREAMED_REQUEST, meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            var chain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/recipes"), new MockHttpServletResponse(), chain);
+            assertThat(chain.getResponse()).isInstanceOf(ContentCachingResponseWrapper.class);
+        }
+        assertThat(skippedValidations()).isZero();
+    }
+
+    @Test
+    @DisplayName("skip every response validation with sampling rate 0")
+    void skipEveryResponseValidation() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(0, NO_STREAMED_RESPONSE, NO_STREAMED_REQUEST, meterRegistry);
+        for (int i = 0; i < 10; i++) {
+            var chain = new MockFilterChain();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/recipes"), new MockHttpServletResponse(), chain);
+            assertThat(chain.getResponse()).isNotInstanceOf(ContentCachingResponseWrapper.class);
+        }
+        assertThat(skippedValidations()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("skip part of response validations with intermediate sampling rate")
+    void skipPartOfResponseValidations() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(0.5, NO_STREAMED_RESPONSE, NO_STREAMED_REQUEST, meterRegistry);
+        for (int i = 0; i < 1000; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/recipes"), new MockHttpServletResponse(),
+                    new MockFilterChain());
+        }
+        assertThat(skippedValidations()).isBetween(1d, 999d);
+    }
+
+    @Test
+    @DisplayName("not buffer streamed response")
+    void notBufferStreamedResponse() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(1, STREAMED_RESPONSE, NO_STREAMED_REQUEST, meterRegistry);
+        var chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/recipes"), new MockHttpServletResponse(), chain);
+        assertThat(chain.getResponse()).isInstanceOf(StreamValidatingResponseWrapper.class);
+    }
+
+    @Test
+    @DisplayName("not count failure for valid streamed response")
+    void notCountFailureValidStreamedResponse() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(1, STREAMED_RESPONSE, NO_STREAMED_REQUEST, meterRegistry);
+        var response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/recipes"), response,
+                respondingChain("{\"_embedded\":{\"data\":[{\"_links\":{}}]},\"_links\":{}}"));
+        assertThat(response.getContentAsString()).isEqualTo("{\"_embedded\":{\"data\":[{\"_links\":{}}]},\"_links\":{}}");
+        assertThat(streamValidationFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("count failure for invalid streamed response")
+    void countFailureInvalidStreamedResponse() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(1, STREAMED_RESPONSE, NO_STREAMED_REQUEST, meterRegistry);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/recipes"), new MockHttpServletResponse(),
+                respondingChain("{\"_embedded\":{\"data\":{}},\"_links\":{}}"));
+        assertThat(streamValidationFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("count failure for streamed response containing invalid item")
+    void countFailureInvalidStreamedResponseItem() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(1, request -> Optional.of(item -> Optional.of("invalid item")),
+                NO_STREAMED_REQUEST, meterRegistry);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/recipes"), new MockHttpServletResponse(),
+                respondingChain("{\"_embedded\":{\"data\":[{\"_links\":{}}]},\"_links\":{}}"));
+        assertThat(streamValidationFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("neither buffer nor validate streamed request")
+    void notValidateStreamedRequest() throws Exception {
+        var filter = new SampledOpenApiValidationFilter(1, NO_STREAMED_RESPONSE, STREAMED_REQUEST, meterRegistry);
+        var request = new MockHttpServletRequest("POST", "/api/ingredients");
+        var response = new MockHttpServletResponse();
+        var chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(chain.getResponse()).isSameAs(response);
+    }
+
+    private static MockFilterChain respondingChain(String body) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+
+    private double streamValidationFailures() {
+        return meterRegistry.get(STREAM_VALIDATION_FAILURES_METER_NAME).counter().count();
+    }
+
+    private double skippedValidations() {
+        return meterRegistry.get(SKIPPED_VALIDATIONS_METER_NAME).tag("validation", "response").counter().count();
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.authentication;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import static org.adhuc.cena.menu.common.security.RolesDefinition.USER_ROLE;
+import static org.adhuc.cena.menu.support.UserProvider.AUTHENTICATED_USER;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.adhuc.cena.menu.support.WithAuthenticatedUser;
+import org.adhuc.cena.menu.support.WithCommunityUser;
+
+/**
+ * The {@link AuthenticationTokenController} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("restController")
+@ExtendWith(SpringExtension.class)
+@WebMvcTest(AuthenticationTokenController.class)
+@DisplayName("Authentication token controller should")
+class AuthenticationTokenControllerShould {
+
+    private static final String TOKEN_API_URL = "/api/token";
+    private static final String MENUS_API_URL = "/api/menus";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when issuing token as community user")
+    void respond401IssueTokenCommunityUser() throws Exception {
+        mvc.perform(post(TOKEN_API_URL)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("issue bearer token when issuing token as authenticated user")
+    void issueTokenAuthenticatedUser() throws Exception {
+        mvc.perform(post(TOKEN_API_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").isString())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresAt").exists());
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when using invalid bearer token")
+    void respond401InvalidToken() throws Exception {
+        mvc.perform(get(MENUS_API_URL).header(AUTHORIZATION, "Bearer invalid"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("grant access to resource requiring authentication when using issued bearer token")
+    void grantAccessWithToken() throws Exception {
+        var token = issueToken();
+        // Menus controller is not part of the tested slice: being granted access results in a not found status
+        mvc.perform(get(MENUS_API_URL).header(AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when issuing token with bearer token")
+    void respond401IssueTokenWithToken() throws Exception {
+        var token = issueToken();
+        mvc.perform(post(TOKEN_API_URL).header(AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String issueToken() throws Exception {
+        var response = mvc.perform(post(TOKEN_API_URL).with(user(AUTHENTICATED_USER).roles(USER_ROLE)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.accessToken");
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * The {@link AuthenticationTokenService} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Authentication token service should")
+class AuthenticationTokenServiceShould {
+
+    private static final String SECRET = "a-secret-long-enough-to-sign-tokens-safely";
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+    private static final Instant NOW = Instant.parse("2020-06-01T12:00:00Z");
+
+    private Clock clock;
+    private AuthenticationTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW);
+        service = new AuthenticationTokenService(SECRET, TIME_TO_LIVE, clock);
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating service with too short secret")
+    void throwIAETooShortSecret() {
+        assertThrows(IllegalArgumentException.class, () -> new AuthenticationTokenService("secret", TIME_TO_LIVE, clock));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating service with non positive time to live")
+    void throwIAENonPositiveTimeToLive() {
+        assertThrows(IllegalArgumentException.class, () -> new AuthenticationTokenService(SECRET, Duration.ZERO, clock));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "invalid", "a.b.c.d", "a.b.c", "dXNlcg.1591016400.VVNFUg.invalid"})
+    @DisplayName("not authenticate malformed token")
+    void notAuthenticateMalformedToken(String token) {
+        assertThat(service.authenticate(token)).isEmpty();
+    }
+
+    @Nested
+    @DisplayName("with token issued for user")
+    class WithTokenIssuedForUser {
+
+        private AuthenticationTokenService.AccessToken token;
+
+        @BeforeEach
+        void setUp() {
+            token = service.issue(new UsernamePasswordAuthenticationToken("user", null,
+                    AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_INGREDIENT_MANAGER")));
+        }
+
+        @Test
+        @DisplayName("issue token expiring after time to live")
+        void issueTokenExpiringAfterTimeToLive() {
+            assertThat(token.expiration()).isEqualTo(NOW.plus(TIME_TO_LIVE));
+        }
+
+        @Test
+        @DisplayName("authenticate user with roles from token")
+        void authenticateUserWithRoles() {
+            assertThat(service.authenticate(token.value())).hasValueSatisfying(authentication -> {
+                assertThat(authentication.isAuthenticated()).isTrue();
+                assertThat(authentication.getPrincipal()).isInstanceOf(UserDetails.class);
+                assertThat(authentication.getName()).isEqualTo("user");
+                assertThat(AuthorityUtils.authorityListToSet(authentication.getAuthorities()))
+                        .containsExactlyInAnyOrder("ROLE_USER", "ROLE_INGREDIENT_MANAGER");
+            });
+        }
+
+        @Test
+        @DisplayName("not authenticate user from expired token")
+        void notAuthenticateExpiredToken() {
+            when(clock.instant()).thenReturn(NOW.plus(TIME_TO_LIVE));
+            assertThat(service.authenticate(token.value())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("not authenticate user from token signed with another secret")
+        void notAuthenticateTokenSignedWithOtherSecret() {
+            var otherService = new AuthenticationTokenService("another-secret-long-enough-to-sign-tokens", TIME_TO_LIVE,
+                    clock);
+            assertThat(otherService.authenticate(token.value())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("not authenticate user from tampered token")
+        void notAuthenticateTamperedToken() {
+            var parts = token.value().split("\\.");
+            var tampered = String.join(".", parts[0], parts[1], "U1VQRVJfQURNSU4", parts[3]);
+            assertThat(service.authenticate(tampered)).isEmpty();
+        }
+
+    }
+
+}
@@ -39,6 +39,7 @@ import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
 import org.adhuc.cena.menu.ingredients.Ingredient;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientManagement;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.support.WithCommunityUser;
 import org.adhuc.cena.menu.support.WithIngredientManager;
 import org.adhuc.cena.menu.support.WithSuperAdministrator;
@@ -52,7 +53,8 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
  */
 @Tag("integration")
 @Tag("restController")
-@WebMvcTest({IngredientsController.class, IngredientController.class, IngredientModelAssembler.class})
+@WebMvcTest({IngredientsController.class, IngredientController.class, IngredientModelAssembler.class,
+        RenderedResponseCache.class})
 @DisplayName("Ingredient controller should")
 class IngredientControllerShould {
 
@@ -43,6 +43,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientManagement;
 import org.adhuc.cena.menu.port.adapter.rest.ResultHandlerConfiguration;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.support.WithIngredientManager;
 
 /**
@@ -54,7 +55,8 @@ import org.adhuc.cena.menu.support.WithIngredientManager;
  */
 @Tag("integration")
 @Tag("documentation")
-@WebMvcTest({IngredientsController.class, IngredientController.class, IngredientModelAssembler.class})
+@WebMvcTest({IngredientsController.class, IngredientController.class, IngredientModelAssembler.class,
+        RenderedResponseCache.class})
 @ContextConfiguration(classes = ResultHandlerConfiguration.class)
 @AutoConfigureRestDocs("build/generated-snippets")
 @DisplayName("Ingredient resource documentation")
@@ -16,24 +16,31 @@
 package org.adhuc.cena.menu.port.adapter.rest.ingredients;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Mockito.*;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON;
-import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_XML;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.DEFAULT_PAGE_SIZE;
 
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -43,8 +50,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.ingredients.*;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.support.WithAuthenticatedUser;
 import org.adhuc.cena.menu.support.WithCommunityUser;
 import org.adhuc.cena.menu.support.WithIngredientManager;
@@ -59,7 +69,8 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
  */
 @Tag("integration")
 @Tag("restController")
-@WebMvcTest({IngredientsController.class, IngredientsDeletionController.class, IngredientModelAssembler.class})
+@WebMvcTest({IngredientsController.class, IngredientsDeletionController.class, IngredientModelAssembler.class,
+        RenderedResponseCache.class})
 @EnableConfigurationProperties(MenuGenerationProperties.class)
 @DisplayName("Ingredients controller should")
 class IngredientsControllerShould {
@@ -74,6 +85,13 @@ class IngredientsControllerShould {
     private IngredientManagement ingredientManagementMock;
     @MockBean
     private IngredientAdministration ingredientAdministrationMock;
+    @Autowired
+    private RenderedResponseCache responseCache;
+
+    @AfterEach
+    void clearResponseCache() {
+        responseCache.clear();
+    }
 
     @Nested
     @DisplayName("with 2 ingredients")
@@ -85,7 +103,8 @@ class IngredientsControllerShould {
         void setUp() {
             ingredients = List.of(ingredient(TOMATO_ID, TOMATO, TOMATO_MEASUREMENT_TYPES),
                     ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES));
-            when(ingredientConsultationMock.getIngredients()).thenReturn(ingredients);
+            when(ingredientConsultationMock.getIngredients(Pagination.first(DEFAULT_PAGE_SIZE)))
+                    .thenReturn(new Page<>(ingredients, null, null));
         }
 
         @Test
@@ -110,6 +129,95 @@ class IngredientsControllerShould {
             ).andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON));
         }
 
+        @Test
+        @DisplayName("have no entity tag when ingredients version is unknown")
+        void haveNoETagOnListWithUnknownVersion() throws Exception {
+            mvc.perform(get(INGREDIENTS_API_URL))
+                    .andExpect(header().doesNotExist(ETAG));
+        }
+
+        @Test
+        @DisplayName("respond Not Modified without loading ingredients when entity tag matches current version")
+        void respond304OnListWithMatchingETag() throws Exception {
+            when(ingredientConsultationMock.getIngredientsVersion()).thenReturn(42L);
+            var etag = mvc.perform(get(INGREDIENTS_API_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(ETAG))
+                    .andReturn().getResponse().getHeader(ETAG);
+
+            mvc.perform(get(INGREDIENTS_API_URL).header(IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(ETAG, etag))
+                    .andExpect(content().string(""));
+            verify(ingredientConsultationMock, times(1)).getIngredients(Pagination.first(DEFAULT_PAGE_SIZE));
+        }
+
+        @Test
+        @DisplayName("respond OK when entity tag does not match current version anymore")
+        void respond200OnListWithStaleETag() throws Exception {
+            when(ingredientConsultationMock.getIngredientsVersion()).thenReturn(42L);
+            var etag = mvc.perform(get(INGREDIENTS_API_URL)).andReturn().getResponse().getHeader(ETAG);
+            when(ingredientConsultationMock.getIngredientsVersion()).thenReturn(43L);
+
+            mvc.perform(get(INGREDIENTS_API_URL).header(IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(ETAG, Matchers.not(etag)));
+        }
+
+        @Test
+        @DisplayName("respond with rendered ingredients without loading them again while ingredients version does not change")
+        void respondRenderedListWhileVersionUnchanged() throws Exception {
+            when(ingredientConsultationMock.getIngredientsVersion()).thenReturn(42L);
+            var rendered = mvc.perform(get(INGREDIENTS_API_URL))
+                    .andReturn().getResponse().getContentAsString();
+
+            mvc.perform(get(INGREDIENTS_API_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(HAL_JSON))
+                    .andExpect(content().string(rendered));
+            mvc.perform(get(INGREDIENTS_API_URL).accept(APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON));
+            verify(ingredientConsultationMock, times(2)).getIngredients(Pagination.first(DEFAULT_PAGE_SIZE));
+
+            when(ingredientConsultationMock.getIngredientsVersion()).thenReturn(43L);
+            mvc.perform(get(INGREDIENTS_API_URL))
+                    .andExpect(status().isOk());
+            verify(ingredientConsultationMock, times(3)).getIngredients(Pagination.first(DEFAULT_PAGE_SIZE));
+        }
+
+        @Test
+        @DisplayName("respond with gzip compressed rendered ingredients when accepted")
+        void respondGzipRenderedList() throws Exception {
+            when(ingredientConsultationMock.getIngredientsVersion()).thenReturn(42L);
+            var rendered = mvc.perform(get(INGREDIENTS_API_URL))
+                    .andReturn().getResponse().getContentAsString();
+
+            var compressed = mvc.perform(get(INGREDIENTS_API_URL).header(ACCEPT_ENCODING, "deflate, gzip"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                    .andReturn().getResponse().getContentAsByteArray();
+            try (var gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                assertThat(new String(gzip.readAllBytes(), UTF_8)).isEqualTo(rendered);
+            }
+        }
+
+        @Test
+        @DisplayName("respond with distinct entity tags for gzip compressed and uncompressed ingredients")
+        void respondDistinctETagsForGzipList() throws Exception {
+            when(ingredientConsultationMock.getIngredientsVersion()).thenReturn(42L);
+            var etag = mvc.perform(get(INGREDIENTS_API_URL)).andReturn().getResponse().getHeader(ETAG);
+            var gzipEtag = mvc.perform(get(INGREDIENTS_API_URL).header(ACCEPT_ENCODING, "gzip"))
+                    .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+                    .andExpect(header().string(ETAG, Matchers.not(etag)))
+                    .andReturn().getResponse().getHeader(ETAG);
+
+            mvc.perform(get(INGREDIENTS_API_URL).header(ACCEPT_ENCODING, "gzip").header(IF_NONE_MATCH, gzipEtag))
+                    .andExpect(status().isNotModified());
+            mvc.perform(get(INGREDIENTS_API_URL).header(IF_NONE_MATCH, gzipEtag))
+                    .andExpect(status().isOk());
+        }
+
         @Test
         @DisplayName("have self link with correct value when retrieving ingredients")
         void haveSelfOnList() throws Exception {
@@ -127,6 +235,65 @@ class IngredientsControllerShould {
             assertJsonContainsIngredient(result, "$._embedded.data[0]", ingredients.get(0));
             assertJsonContainsIngredient(result, "$._embedded.data[1]", ingredients.get(1));
         }
+
+        @Test
+        @DisplayName("have no previous nor next link when retrieving single page of ingredients")
+        void haveNoPrevNorNextOnSinglePage() throws Exception {
+            mvc.perform(get(INGREDIENTS_API_URL))
+                    .andExpect(jsonPath("$._links.prev").doesNotExist())
+                    .andExpect(jsonPath("$._links.next").doesNotExist());
+        }
+    }
+
+    @Nested
+    @DisplayName("with multiple pages")
+    class WithMultiplePages {
+
+        @BeforeEach
+        void setUp() {
+            when(ingredientConsultationMock.getIngredients(Pagination.after(TOMATO_ID, 1)))
+                    .thenReturn(new Page<>(List.of(ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES)),
+                            Pagination.first(1), Pagination.after(CUCUMBER_ID, 1)));
+        }
+
+        @Test
+        @DisplayName("retrieve page corresponding to page parameters")
+        void retrievePageFromParameters() throws Exception {
+            mvc.perform(get(INGREDIENTS_API_URL).param("page[size]", "1").param("page[after]", cursor(TOMATO_ID)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$._embedded.data", hasSize(1)))
+                    .andExpect(jsonPath("$._embedded.data[0].id").value(CUCUMBER_ID.toString()));
+        }
+
+        @Test
+        @DisplayName("have previous and next links when retrieving intermediate page of ingredients")
+        void havePrevAndNextOnIntermediatePage() throws Exception {
+            mvc.perform(get(INGREDIENTS_API_URL).param("page[size]", "1").param("page[after]", cursor(TOMATO_ID)))
+                    .andExpect(jsonPath("$._links.prev.href",
+                            Matchers.endsWith(INGREDIENTS_API_URL + "?page[size]=1")))
+                    .andExpect(jsonPath("$._links.next.href",
+                            Matchers.endsWith(INGREDIENTS_API_URL + "?page[size]=1&page[after]=" + cursor(CUCUMBER_ID))));
+        }
+
+        private String cursor(IngredientId id) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(UTF_8));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "101", "-1"})
+    @DisplayName("respond Bad Request when retrieving ingredients with invalid page size")
+    void respond400OnListWithInvalidPageSize(String pageSize) throws Exception {
+        mvc.perform(get(INGREDIENTS_API_URL).param("page[size]", pageSize))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid cursor", "aW52YWxpZA"})
+    @DisplayName("respond Bad Request when retrieving ingredients with invalid page cursor")
+    void respond400OnListWithInvalidPageCursor(String pageAfter) throws Exception {
+        mvc.perform(get(INGREDIENTS_API_URL).param("page[after]", pageAfter))
+                .andExpect(status().isBadRequest());
     }
 
     @Nested
@@ -134,7 +301,8 @@ class IngredientsControllerShould {
     class WithEmptyList {
         @BeforeEach
         void setUp() {
-            when(ingredientConsultationMock.getIngredients()).thenReturn(List.of());
+            when(ingredientConsultationMock.getIngredients(Pagination.first(DEFAULT_PAGE_SIZE)))
+                    .thenReturn(new Page<>(List.of(), null, null));
         }
 
         @Test
@@ -31,6 +31,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientManagement;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.support.WithSuperAdministrator;
 
 /**
@@ -42,7 +43,8 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
  */
 @Tag("integration")
 @Tag("restController")
-@WebMvcTest({IngredientsController.class, IngredientsDeletionController.class, IngredientModelAssembler.class})
+@WebMvcTest({IngredientsController.class, IngredientsDeletionController.class, IngredientModelAssembler.class,
+        RenderedResponseCache.class})
 @TestPropertySource(properties = "cena.menu-generation.features.ingredients-deletion=false")
 @EnableConfigurationProperties(MenuGenerationProperties.class)
 @DisplayName("Ingredients deletion controller should")
@@ -15,15 +15,21 @@
  */
 package org.adhuc.cena.menu.port.adapter.rest.ingredients;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.NDJSON;
 
 import java.util.HashMap;
 import java.util.List;
@@ -42,12 +48,18 @@ import org.springframework.restdocs.snippet.TemplatedSnippet;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.CreateIngredients;
 import org.adhuc.cena.menu.ingredients.IngredientAdministration;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientManagement;
+import org.adhuc.cena.menu.ingredients.IngredientNameAlreadyUsedException;
 import org.adhuc.cena.menu.ingredients.MeasurementType;
 import org.adhuc.cena.menu.port.adapter.rest.ResultHandlerConfiguration;
 import org.adhuc.cena.menu.port.adapter.rest.documentation.support.ConstrainedFields;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.support.WithIngredientManager;
 import org.adhuc.cena.menu.support.WithSuperAdministrator;
 
@@ -60,7 +72,8 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
  */
 @Tag("integration")
 @Tag("documentation")
-@WebMvcTest({IngredientsController.class, IngredientsDeletionController.class, IngredientModelAssembler.class})
+@WebMvcTest({IngredientsController.class, IngredientsDeletionController.class, IngredientsImportController.class,
+        IngredientModelAssembler.class, RenderedResponseCache.class})
 @ContextConfiguration(classes = ResultHandlerConfiguration.class)
 @AutoConfigureRestDocs("build/generated-snippets")
 @DisplayName("Ingredients resource documentation")
@@ -83,13 +96,20 @@ class IngredientsDocumentation {
     @Test
     @DisplayName("generates ingredients list example")
     void ingredientsListExample() throws Exception {
-        when(ingredientConsultationMock.getIngredients()).thenReturn(List.of(
+        when(ingredientConsultationMock.getIngredients(any())).thenReturn(new Page<>(List.of(
                 ingredient(TOMATO_ID, TOMATO, TOMATO_MEASUREMENT_TYPES),
-                ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES)));
+                ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES)), null, Pagination.after(CUCUMBER_ID, 2)));
 
-        mvc.perform(get(INGREDIENTS_API_URL)).andExpect(status().isOk())
+        mvc.perform(get(INGREDIENTS_API_URL).param("page[size]", "2")).andExpect(status().isOk())
                 .andDo(documentationHandler.document(
-                        links(linkWithRel("self").description("This <<resources-ingredients,ingredients list>>")),
+                        requestParameters(
+                                parameterWithName("page[size]").optional()
+                                        .description("The maximum number of ingredients in the page, between 1 and 100. Defaults to 50 _(optional)_"),
+                                parameterWithName("page[after]").optional()
+                                        .description("The opaque cursor of the ingredient after which the page starts, as provided by `next` and `prev` links _(optional)_")),
+                        links(linkWithRel("self").description("This <<resources-ingredients,ingredients list>>"),
+                                linkWithRel("next").optional().description("The next page of this <<resources-ingredients,ingredients list>>, if any"),
+                                linkWithRel("prev").optional().description("The previous page of this <<resources-ingredients,ingredients list>>, if any")),
                         responseFields(
                                 subsectionWithPath("_embedded.data")
                                         .description("An array of <<resources-ingredient, Ingredient resources>>"),
@@ -112,6 +132,23 @@ class IngredientsDocumentation {
                         new MeasurementTypesSnippet()));
     }
 
+    @Test
+    @WithIngredientManager
+    @DisplayName("generates ingredients import example")
+    void ingredientsImportExample() throws Exception {
+        doAnswer(invocation -> {
+            var resultSink = invocation.<CreateIngredients>getArgument(0).resultSink();
+            resultSink.accept(CreationResult.created(TOMATO_ID));
+            resultSink.accept(CreationResult.rejected(CUCUMBER_ID, new IngredientNameAlreadyUsedException(CUCUMBER)));
+            return null;
+        }).when(ingredientManagementMock).createIngredients(any());
+        // Newline delimited JSON cannot be pretty printed without altering its structure
+        mvc.perform(post(INGREDIENTS_API_URL).contentType(NDJSON)
+                .content("{\"name\":\"Tomato\",\"measurementTypes\":[\"WEIGHT\",\"COUNT\"]}\n"
+                        + "{\"name\":\"Cucumber\",\"measurementTypes\":[\"COUNT\"]}\n"))
+                .andExpect(status().isOk()).andDo(document("{method-name}"));
+    }
+
     @Test
     @WithSuperAdministrator
     @DisplayName("generates ingredients deletion example")
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.ingredients;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import static org.adhuc.cena.menu.ingredients.MeasurementType.COUNT;
+import static org.adhuc.cena.menu.ingredients.MeasurementType.WEIGHT;
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.CSV;
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.NDJSON;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+import org.adhuc.cena.menu.ingredients.CreateIngredient;
+import org.adhuc.cena.menu.ingredients.CreateIngredients;
+import org.adhuc.cena.menu.ingredients.IngredientManagement;
+import org.adhuc.cena.menu.ingredients.IngredientNameAlreadyUsedException;
+import org.adhuc.cena.menu.support.WithAuthenticatedUser;
+import org.adhuc.cena.menu.support.WithCommunityUser;
+import org.adhuc.cena.menu.support.WithIngredientManager;
+
+/**
+ * The {@link IngredientsImportController} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("restController")
+@WebMvcTest(IngredientsImportController.class)
+@EnableConfigurationProperties(MenuGenerationProperties.class)
+@DisplayName("Ingredients import controller should")
+class IngredientsImportControllerShould {
+
+    private static final String INGREDIENTS_API_URL = "/api/ingredients";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockBean
+    private IngredientManagement ingredientManagementMock;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            var command = invocation.<CreateIngredients>getArgument(0);
+            command.ingredients().forEach(ingredient -> command.resultSink().accept(
+                    ingredient.ingredientName().equals(new Name("Tomato"))
+                            ? CreationResult.rejected(ingredient.ingredientId(),
+                            new IngredientNameAlreadyUsedException(ingredient.ingredientName()))
+                            : CreationResult.created(ingredient.ingredientId())));
+            return null;
+        }).when(ingredientManagementMock).createIngredients(any());
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when importing ingredients as a community user")
+    void respond401OnImportAsCommunityUser() throws Exception {
+        mvc.perform(post(INGREDIENTS_API_URL)
+                .contentType(NDJSON)
+                .content("{\"name\":\"Cucumber\"}")
+        ).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Forbidden when importing ingredients as an authenticated user")
+    void respond403OnImportAsAuthenticatedUser() throws Exception {
+        mvc.perform(post(INGREDIENTS_API_URL)
+                .contentType(NDJSON)
+                .content("{\"name\":\"Cucumber\"}")
+        ).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithIngredientManager
+    @DisplayName("create every ingredient from newline delimited JSON lines")
+    void importNdjson() throws Exception {
+        var commandsCaptor = commandsCaptor();
+        var results = importIngredients(NDJSON,
+                "{\"name\":\"Cucumber\",\"measurementTypes\":[\"COUNT\"]}\n"
+                        + "\n"
+                        + "{\"name\":\"Tomato\",\"measurementTypes\":[\"WEIGHT\",\"COUNT\"]}\n");
+
+        verify(ingredientManagementMock).createIngredients(commandsCaptor.capture());
+        assertThat(commandsCaptor.getValue().ingredients()).extracting(CreateIngredient::ingredientName)
+                .containsExactly(new Name("Cucumber"), new Name("Tomato"));
+        assertThat(commandsCaptor.getValue().ingredients().get(1).ingredientMeasurementTypes())
+                .containsExactly(WEIGHT, COUNT);
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).get("line").asInt()).isEqualTo(1);
+        assertThat(results.get(0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(results.get(0).get("id").asText())
+                .isEqualTo(commandsCaptor.getValue().ingredients().get(0).ingredientId().toString());
+        assertThat(results.get(1).get("line").asInt()).isEqualTo(3);
+        assertThat(results.get(1).get("status").asText()).isEqualTo("REJECTED");
+        assertThat(results.get(1).get("code").asInt()).isEqualTo(900000);
+    }
+
+    @Test
+    @WithIngredientManager
+    @DisplayName("create every ingredient from CSV lines")
+    void importCsv() throws Exception {
+        var commandsCaptor = commandsCaptor();
+        var results = importIngredients(CSV,
+                "measurementTypes,name\n"
+                        + "COUNT,Cucumber\n"
+                        + "WEIGHT|COUNT,\"Tomato, cherry\"\n"
+                        + ",Salt\n");
+
+        verify(ingredientManagementMock).createIngredients(commandsCaptor.capture());
+        assertThat(commandsCaptor.getValue().ingredients()).extracting(CreateIngredient::ingredientName)
+                .containsExactly(new Name("Cucumber"), new Name("Tomato, cherry"), new Name("Salt"));
+        assertThat(commandsCaptor.getValue().ingredients()).extracting(CreateIngredient::ingredientMeasurementTypes)
+                .containsExactly(List.of(COUNT), List.of(WEIGHT, COUNT), List.of());
+        assertThat(results).extracting(r -> r.get("line").asInt()).containsExactly(2, 3, 4);
+        assertThat(results).extracting(r -> r.get("status").asText()).containsOnly("CREATED");
+    }
+
+    @Test
+    @WithIngredientManager
+    @DisplayName("reject invalid lines without preventing other lines to be imported")
+    void rejectInvalidLines() throws Exception {
+        var commandsCaptor = commandsCaptor();
+        var results = importIngredients(NDJSON,
+                "{\"name\":\"Cucumber\"}\n"
+                        + "{\"name\":\n"
+                        + "{\"name\":\" \"}\n"
+                        + "{\"name\":\"Salt\",\"measurementTypes\":[\"UNKNOWN\"]}\n"
+                        + "{\"name\":\"Pepper\"}\n");
+
+        verify(ingredientManagementMock).createIngredients(commandsCaptor.capture());
+        assertThat(commandsCaptor.getValue().ingredients()).extracting(CreateIngredient::ingredientName)
+                .containsExactly(new Name("Cucumber"), new Name("Pepper"));
+        assertThat(results).extracting(r -> r.get("status").asText())
+                .containsExactly("CREATED", "REJECTED", "REJECTED", "REJECTED", "CREATED");
+        assertThat(results.get(1).get("code").asInt()).isEqualTo(101000);
+        assertThat(results.get(1).has("id")).isFalse();
+    }
+
+    @Test
+    @WithIngredientManager
+    @DisplayName("create ingredients by batches")
+    void importByBatches() throws Exception {
+        var lines = new StringBuilder();
+        for (int i = 0; i < IngredientsImportController.BATCH_SIZE + 1; i++) {
+            lines.append("{\"name\":\"Ingredient ").append(i).append("\"}\n");
+        }
+        var results = importIngredients(NDJSON, lines.toString());
+
+        verify(ingredientManagementMock, times(2)).createIngredients(any());
+        assertThat(results).hasSize(IngredientsImportController.BATCH_SIZE + 1);
+    }
+
+    private static ArgumentCaptor<CreateIngredients> commandsCaptor() {
+        return ArgumentCaptor.forClass(CreateIngredients.class);
+    }
+
+    private List<JsonNode> importIngredients(MediaType contentType, String content) throws Exception {
+        var response = mvc.perform(post(INGREDIENTS_API_URL)
+                .contentType(contentType)
+                .content(content)
+        ).andExpect(status().isOk()).andExpect(content().contentTypeCompatibleWith(NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        return Arrays.stream(response.split("\n"))
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .collect(toList());
+    }
+
+}
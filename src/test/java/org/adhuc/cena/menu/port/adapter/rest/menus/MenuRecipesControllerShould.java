@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.when;
+import static org.springframework.hateoas.MediaTypes.HAL_JSON;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
+import static org.adhuc.cena.menu.menus.MenuMother.DATE;
+import static org.adhuc.cena.menu.menus.MenuMother.MEAL_TYPE;
+import static org.adhuc.cena.menu.menus.MenuMother.id;
+import static org.adhuc.cena.menu.support.UserProvider.AUTHENTICATED_USER;
+
+import java.util.List;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.menus.Menu;
+import org.adhuc.cena.menu.menus.MenuConsultation;
+import org.adhuc.cena.menu.menus.MenuManagement;
+import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModelAssembler;
+import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipesController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
+import org.adhuc.cena.menu.recipes.*;
+import org.adhuc.cena.menu.support.WithAuthenticatedUser;
+import org.adhuc.cena.menu.support.WithCommunityUser;
+
+/**
+ * The {@link MenuRecipesController} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("restController")
+@WebMvcTest({MenusController.class, MenuController.class, MenuRecipesController.class, RecipesController.class,
+        MenuModelAssembler.class, ScaledRecipeModelAssembler.class, RecipeModelAssembler.class, MenuIdConverter.class,
+        RenderedResponseCache.class})
+@DisplayName("Menu recipes controller should")
+class MenuRecipesControllerShould {
+
+    private static final String MENU_RECIPES_API_URL = "/api/menus/{id}/recipes";
+
+    private static final String ID_PARAM = String.format("%s-%s", DATE, MEAL_TYPE);
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private MenuConsultation menuConsultationMock;
+    @MockBean
+    private MenuManagement menuManagementMock;
+    @MockBean
+    private RecipeConsultation recipeConsultationMock;
+    @MockBean
+    private RecipeAuthoring recipeAuthoringMock;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid", "01-01-2020-LUNCH", "2020-01-01-INVALID", "2020-01-01_LUNCH"})
+    @WithAuthenticatedUser
+    @DisplayName("respond Not Found when retrieving menu recipes with menu id in invalid format")
+    void respond404GetMenuRecipesInvalidIdFormat(String menuId) throws Exception {
+        mvc.perform(get(MENU_RECIPES_API_URL, menuId)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when retrieving menu recipes as an anonymous user")
+    void respond401OnGetAsAnonymous() throws Exception {
+        mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Not Found when retrieving recipes of unknown menu")
+    void respond404GetUnknownMenuRecipes() throws Exception {
+        when(menuConsultationMock.getMenuRecipes(id(AUTHENTICATED_USER)))
+                .thenThrow(new EntityNotFoundException(Menu.class, id(AUTHENTICATED_USER)));
+        mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM)).andExpect(status().isNotFound());
+    }
+
+    @Nested
+    @DisplayName("getting today's lunch recipes for 3 covers")
+    class TodayLunchRecipes {
+
+        @BeforeEach
+        void setUp() {
+            var recipe = RecipeMother.builder()
+                    .withServings(new Servings(2))
+                    .withIngredient(TOMATO_ID, true, new Quantity(1, MeasurementUnit.DOZEN))
+                    .andIngredient(CUCUMBER_ID, false, Quantity.UNDEFINED)
+                    .build();
+            when(menuConsultationMock.getMenuRecipes(id(AUTHENTICATED_USER)))
+                    .thenReturn(List.of(new ScaledRecipe(recipe, new Servings(3))));
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("return OK status")
+        void getMenuRecipesStatusOK() throws Exception {
+            mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM)).andExpect(status().isOk());
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("respond with HAL content when retrieving menu recipes with no specific requested content")
+        void respondHalOnList() throws Exception {
+            mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM))
+                    .andExpect(content().contentTypeCompatibleWith(HAL_JSON));
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("respond with JSON content when requested while retrieving menu recipes")
+        void respondJSONOnList() throws Exception {
+            mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM).accept(APPLICATION_JSON))
+                    .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON));
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("contain scaled recipe data")
+        void getMenuRecipesContainsData() throws Exception {
+            mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM))
+                    .andExpect(jsonPath("$._embedded.data", hasSize(1)))
+                    .andExpect(jsonPath("$._embedded.data[0].id").value(RecipeMother.ID.toString()))
+                    .andExpect(jsonPath("$._embedded.data[0].name").value(RecipeMother.NAME.value()))
+                    .andExpect(jsonPath("$._embedded.data[0].recipeServings").value(2))
+                    .andExpect(jsonPath("$._embedded.data[0].servings").value(3))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients", hasSize(2)));
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("contain scaled quantity for ingredient with quantity")
+        void getMenuRecipesContainsScaledQuantity() throws Exception {
+            mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].mainIngredient", TOMATO_ID).value(true))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].quantity", TOMATO_ID).value(1.5))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].exactQuantity", TOMATO_ID).value("3/2"))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].measurementUnit", TOMATO_ID).value("DOZEN"));
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("contain no quantity for ingredient without quantity")
+        void getMenuRecipesContainsNoQuantityForUndefined() throws Exception {
+            mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].mainIngredient", CUCUMBER_ID).value(false))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].quantity", CUCUMBER_ID).isEmpty())
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].exactQuantity", CUCUMBER_ID).isEmpty())
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients[?(@.id == '%s')].measurementUnit", CUCUMBER_ID).isEmpty());
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("contain link to original recipe")
+        void getMenuRecipesHasRecipeLink() throws Exception {
+            mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM))
+                    .andExpect(jsonPath("$._embedded.data[0]._links.recipe.href",
+                            endsWith("/api/recipes/" + RecipeMother.ID)));
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("contain self link to menu recipes and link to menu")
+        void getMenuRecipesHasLinks() throws Exception {
+            var result = mvc.perform(get(MENU_RECIPES_API_URL, ID_PARAM));
+            var requestUrl = result.andReturn().getRequest().getRequestURL().toString();
+            result.andExpect(jsonPath("$._links.self.href", equalTo(requestUrl)))
+                    .andExpect(jsonPath("$._links.menu.href", equalTo(requestUrl.replace("/recipes", ""))));
+        }
+
+    }
+
+}
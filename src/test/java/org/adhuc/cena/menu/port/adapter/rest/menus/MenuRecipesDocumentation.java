@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.menus;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
+import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import static org.adhuc.cena.menu.menus.MenuMother.*;
+import static org.adhuc.cena.menu.support.UserProvider.AUTHENTICATED_USER;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.adhuc.cena.menu.menus.MenuConsultation;
+import org.adhuc.cena.menu.menus.MenuManagement;
+import org.adhuc.cena.menu.port.adapter.rest.ResultHandlerConfiguration;
+import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModelAssembler;
+import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipesController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
+import org.adhuc.cena.menu.recipes.RecipeAuthoring;
+import org.adhuc.cena.menu.recipes.RecipeConsultation;
+import org.adhuc.cena.menu.recipes.RecipeMother;
+import org.adhuc.cena.menu.recipes.ScaledRecipe;
+import org.adhuc.cena.menu.recipes.Servings;
+import org.adhuc.cena.menu.support.WithAuthenticatedUser;
+
+/**
+ * The menu recipes related rest-services documentation.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("documentation")
+@WebMvcTest({MenusController.class, MenuController.class, MenuRecipesController.class, RecipesController.class,
+        MenuModelAssembler.class, ScaledRecipeModelAssembler.class, RecipeModelAssembler.class, MenuIdConverter.class,
+        RenderedResponseCache.class})
+@ContextConfiguration(classes = ResultHandlerConfiguration.class)
+@AutoConfigureRestDocs("build/generated-snippets")
+@DisplayName("Menu recipes resource documentation")
+class MenuRecipesDocumentation {
+
+    private static final String MENU_RECIPES_API_URL = "/api/menus/{id}/recipes";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private RestDocumentationResultHandler documentationHandler;
+
+    @MockBean
+    private MenuConsultation menuConsultationMock;
+    @MockBean
+    private MenuManagement menuManagementMock;
+    @MockBean
+    private RecipeConsultation recipeConsultationMock;
+    @MockBean
+    private RecipeAuthoring recipeAuthoringMock;
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("generates menu recipes list example")
+    void menuRecipesListExample() throws Exception {
+        when(menuConsultationMock.getMenuRecipes(id(AUTHENTICATED_USER)))
+                .thenReturn(List.of(new ScaledRecipe(RecipeMother.recipe(), new Servings(COVERS.value()))));
+
+        mvc.perform(get(MENU_RECIPES_API_URL, String.format("%s-%s", DATE, MEAL_TYPE))).andExpect(status().isOk())
+                .andDo(documentationHandler.document(
+                        pathParameters(parameterWithName("id").description("The <<resources-menu,menu>> identity")),
+                        links(
+                                linkWithRel("self").description("This <<resources-menu-recipes,menu recipes list>>"),
+                                linkWithRel("menu").description("The related <<resources-menu,menu>>")
+                        ),
+                        responseFields(
+                                fieldWithPath("_embedded.data[].id").description("The <<resources-recipe,recipe>> identity"),
+                                fieldWithPath("_embedded.data[].name").description("The name of the recipe"),
+                                fieldWithPath("_embedded.data[].recipeServings").description("The number of servings the recipe is written for"),
+                                fieldWithPath("_embedded.data[].servings").description("The number of servings the recipe is scaled to, corresponding to the menu covers"),
+                                fieldWithPath("_embedded.data[].ingredients[].id").description("The <<resources-ingredient,ingredient>> identity"),
+                                fieldWithPath("_embedded.data[].ingredients[].mainIngredient")
+                                        .description("Indicates whether the ingredient is a main ingredient for the recipe"),
+                                fieldWithPath("_embedded.data[].ingredients[].quantity").optional()
+                                        .description("The scaled quantity of ingredient, rounded to 2 decimals. Absent if the ingredient is used without quantity"),
+                                fieldWithPath("_embedded.data[].ingredients[].exactQuantity").optional()
+                                        .description("The exact scaled quantity of ingredient, as an irreducible fraction or an integer. Absent if the ingredient is used without quantity"),
+                                fieldWithPath("_embedded.data[].ingredients[].measurementUnit").optional()
+                                        .description("The <<measurement-units-list,unit of measurement>> of the quantity"),
+                                subsectionWithPath("_embedded.data[]._links").description("Links to the original <<resources-recipe,recipe>>"),
+                                subsectionWithPath("_links").description("<<resources-menu-recipes-links,Links>> to other resources")
+                        )));
+    }
+
+}
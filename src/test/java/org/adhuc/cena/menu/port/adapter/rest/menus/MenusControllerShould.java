@@ -16,6 +16,7 @@
 package org.adhuc.cena.menu.port.adapter.rest.menus;
 
 import static java.time.LocalDate.now;
+import static java.util.stream.Collectors.toList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -31,11 +32,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import static org.adhuc.cena.menu.menus.DateRange.*;
 import static org.adhuc.cena.menu.menus.MenuMother.*;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.KILOGRAM;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.UNIT;
 import static org.adhuc.cena.menu.support.UserProvider.AUTHENTICATED_USER;
 
+import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.*;
@@ -49,6 +55,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.ingredients.IngredientMother;
 import org.adhuc.cena.menu.menus.*;
 import org.adhuc.cena.menu.recipes.RecipeId;
 import org.adhuc.cena.menu.recipes.RecipeMother;
@@ -71,6 +78,9 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
 class MenusControllerShould {
 
     private static final String MENUS_API_URL = "/api/menus";
+    private static final String MENUS_BATCH_API_URL = "/api/menus/batch";
+    private static final String MENUS_GENERATION_API_URL = "/api/menus/generation";
+    private static final String MENUS_SHOPPING_LIST_API_URL = "/api/menus/shopping-list";
     private static final String MENU_OWNER_NAME = AUTHENTICATED_USER;
     private static final MenuOwner MENU_OWNER = new MenuOwner(MENU_OWNER_NAME);
 
@@ -124,7 +134,7 @@ class MenusControllerShould {
 
         mvc.perform(get(MENUS_API_URL)).andExpect(status().isOk());
 
-        verify(menuConsultationMock).getMenus(commandCaptor.capture());
+        verify(menuConsultationMock).getMenuSummaries(commandCaptor.capture());
         assertThat(commandCaptor.getValue()).isEqualTo(expectedQuery);
     }
 
@@ -139,7 +149,7 @@ class MenusControllerShould {
         mvc.perform(get(MENUS_API_URL).queryParam("filter[date][since]", since.toString()))
                 .andExpect(status().isOk());
 
-        verify(menuConsultationMock).getMenus(commandCaptor.capture());
+        verify(menuConsultationMock).getMenuSummaries(commandCaptor.capture());
         assertThat(commandCaptor.getValue()).isEqualTo(expectedQuery);
     }
 
@@ -154,7 +164,7 @@ class MenusControllerShould {
         mvc.perform(get(MENUS_API_URL).queryParam("filter[date][until]", until.toString()))
                 .andExpect(status().isOk());
 
-        verify(menuConsultationMock).getMenus(commandCaptor.capture());
+        verify(menuConsultationMock).getMenuSummaries(commandCaptor.capture());
         assertThat(commandCaptor.getValue()).isEqualTo(expectedQuery);
     }
 
@@ -172,7 +182,7 @@ class MenusControllerShould {
                 .queryParam("filter[date][until]", until.toString()))
                 .andExpect(status().isOk());
 
-        verify(menuConsultationMock).getMenus(commandCaptor.capture());
+        verify(menuConsultationMock).getMenuSummaries(commandCaptor.capture());
         assertThat(commandCaptor.getValue()).isEqualTo(expectedQuery);
     }
 
@@ -189,7 +199,7 @@ class MenusControllerShould {
                             .withCovers(TODAY_LUNCH_COVERS).withMainCourseRecipes(TODAY_LUNCH_MAIN_COURSE_RECIPES).build(),
                     MenuMother.builder().withOwnerName(MENU_OWNER_NAME).withDate(TOMORROW_DINNER_DATE).withMealType(TOMORROW_DINNER_MEAL_TYPE)
                             .withCovers(TOMORROW_DINNER_COVERS).withMainCourseRecipes(TOMORROW_DINNER_MAIN_COURSE_RECIPES).build());
-            when(menuConsultationMock.getMenus(listQuery(MENU_OWNER))).thenReturn(menus);
+            when(menuConsultationMock.getMenuSummaries(listQuery(MENU_OWNER))).thenReturn(summaries(menus));
         }
 
         @Test
@@ -236,6 +246,16 @@ class MenusControllerShould {
             assertJsonContainsMenu(result, "$._embedded.data[0]", menus.get(0));
             assertJsonContainsMenu(result, "$._embedded.data[1]", menus.get(1));
         }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("have names of known main course recipes when retrieving menus")
+        void haveRecipesNamesOnList() throws Exception {
+            mvc.perform(get(MENUS_API_URL))
+                    .andExpect(jsonPath("$._embedded.data[0].mainCourseRecipeNames['" + RecipeMother.ID + "']",
+                            equalTo(RecipeMother.NAME.value())))
+                    .andExpect(jsonPath("$._embedded.data[1].mainCourseRecipeNames").isEmpty());
+        }
     }
 
     @Nested
@@ -243,7 +263,7 @@ class MenusControllerShould {
     class WithEmptyList {
         @BeforeEach
         void setUp() {
-            when(menuConsultationMock.getMenus(listQuery(MENU_OWNER))).thenReturn(List.of());
+            when(menuConsultationMock.getMenuSummaries(listQuery(MENU_OWNER))).thenReturn(List.of());
         }
 
         @Test
@@ -256,6 +276,84 @@ class MenusControllerShould {
         }
     }
 
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when retrieving shopping list as a community user")
+    void respond401OnShoppingListAsCommunityUser() throws Exception {
+        mvc.perform(get(MENUS_SHOPPING_LIST_API_URL))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Bad Request when retrieving shopping list with invalid since date")
+    void respond400OnShoppingListWithInvalidSince() throws Exception {
+        mvc.perform(get(MENUS_SHOPPING_LIST_API_URL).queryParam("filter[date][since]", "2020-02-30"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Bad Request when retrieving shopping list with until date lower than since date")
+    void respond400OnShoppingListWithUntilLowerThanSince() throws Exception {
+        mvc.perform(get(MENUS_SHOPPING_LIST_API_URL).queryParam("filter[date][until]", now().minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Nested
+    @DisplayName("with shopping list")
+    class WithShoppingList {
+
+        private ShoppingList shoppingList;
+
+        @BeforeEach
+        void setUp() {
+            var query = new ListMenus(MENU_OWNER, range(now().plusDays(1), now().plusDays(2)));
+            shoppingList = new ShoppingList(MENU_OWNER, query.since(), query.until(), List.of(
+                    new ShoppingListItem(IngredientMother.CUCUMBER_ID, IngredientMother.CUCUMBER, List.of()),
+                    new ShoppingListItem(IngredientMother.TOMATO_ID, IngredientMother.TOMATO, List.of(
+                            new ShoppingListQuantity(new BigDecimal("1.5"), KILOGRAM),
+                            new ShoppingListQuantity(BigDecimal.valueOf(4), UNIT)))));
+            when(menuConsultationMock.getShoppingList(query)).thenReturn(shoppingList);
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("respond OK with shopping list when retrieving shopping list for date range")
+        void respond200OnShoppingList() throws Exception {
+            mvc.perform(get(MENUS_SHOPPING_LIST_API_URL)
+                    .queryParam("filter[date][since]", shoppingList.since().toString())
+                    .queryParam("filter[date][until]", shoppingList.until().toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(HAL_JSON))
+                    .andExpect(jsonPath("$.since", equalTo(shoppingList.since().toString())))
+                    .andExpect(jsonPath("$.until", equalTo(shoppingList.until().toString())))
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].id", equalTo(IngredientMother.CUCUMBER_ID.toString())))
+                    .andExpect(jsonPath("$.items[0].name", equalTo(IngredientMother.CUCUMBER.value())))
+                    .andExpect(jsonPath("$.items[0].quantities", hasSize(0)))
+                    .andExpect(jsonPath("$.items[1].id", equalTo(IngredientMother.TOMATO_ID.toString())))
+                    .andExpect(jsonPath("$.items[1].quantities[0].quantity", equalTo(1.5)))
+                    .andExpect(jsonPath("$.items[1].quantities[0].measurementUnit", equalTo("KILOGRAM")))
+                    .andExpect(jsonPath("$.items[1].quantities[1].quantity", equalTo(4)))
+                    .andExpect(jsonPath("$.items[1].quantities[1].measurementUnit", equalTo("UNIT")));
+        }
+
+        @Test
+        @WithAuthenticatedUser
+        @DisplayName("have self and menus links filtered on date range when retrieving shopping list")
+        void haveLinksOnShoppingList() throws Exception {
+            var filter = String.format("?filter%%5Bdate%%5D%%5Bsince%%5D=%s&filter%%5Bdate%%5D%%5Buntil%%5D=%s",
+                    shoppingList.since(), shoppingList.until());
+            mvc.perform(get(MENUS_SHOPPING_LIST_API_URL)
+                    .queryParam("filter[date][since]", shoppingList.since().toString())
+                    .queryParam("filter[date][until]", shoppingList.until().toString()))
+                    .andExpect(jsonPath("$._links.self.href", endsWith(MENUS_SHOPPING_LIST_API_URL + filter)))
+                    .andExpect(jsonPath("$._links.menus.href", endsWith(MENUS_API_URL + filter)));
+        }
+
+    }
+
     @Test
     @WithCommunityUser
     @DisplayName("respond Unauthorized when creating menu as a community user")
@@ -483,6 +581,163 @@ class MenusControllerShould {
         ).andExpect(status().isCreated());
     }
 
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when creating menus as a community user")
+    void respond401OnBatchCreationAsCommunityUser() throws Exception {
+        mvc.perform(post(MENUS_BATCH_API_URL)
+                .contentType(HAL_JSON)
+                .content(String.format("{\"menus\":[{\"date\":\"%s\",\"mealType\":\"LUNCH\",\"covers\":2,\"mainCourseRecipes\":[\"%s\"]}]}",
+                        now(), RecipeMother.ID))
+        ).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Bad Request when creating menus without any menu")
+    void respond400OnBatchCreationWithoutMenus() throws Exception {
+        mvc.perform(post(MENUS_BATCH_API_URL)
+                .contentType(APPLICATION_JSON)
+                .content("{\"menus\":[]}")
+        ).andExpect(status().isBadRequest());
+        verify(menuManagementMock, never()).createMenus(any());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Bad Request when creating menus with several menus scheduled for the same meal")
+    void respond400OnBatchCreationWithDuplicateMenus() throws Exception {
+        mvc.perform(post(MENUS_BATCH_API_URL)
+                .contentType(APPLICATION_JSON)
+                .content(String.format("{\"menus\":[" +
+                                "{\"date\":\"%1$s\",\"mealType\":\"LUNCH\",\"covers\":2,\"mainCourseRecipes\":[\"%2$s\"]}," +
+                                "{\"date\":\"%1$s\",\"mealType\":\"LUNCH\",\"covers\":4,\"mainCourseRecipes\":[\"%2$s\"]}]}",
+                        now(), RecipeMother.ID))
+        ).andExpect(status().isBadRequest());
+        verify(menuManagementMock, never()).createMenus(any());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Conflict when creating menus with AlreadyExistingEntityException from service")
+    void respond409OnBatchCreationAlreadyExistingEntityException() throws Exception {
+        doThrow(new AlreadyExistingEntityException("Menus are already scheduled")).when(menuManagementMock).createMenus(any());
+        mvc.perform(post(MENUS_BATCH_API_URL)
+                .contentType(APPLICATION_JSON)
+                .content(String.format("{\"menus\":[{\"date\":\"%s\",\"mealType\":\"LUNCH\",\"covers\":2,\"mainCourseRecipes\":[\"%s\"]}]}",
+                        now(), RecipeMother.ID))
+        ).andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Created with a Location header listing created menus when creating menus successfully")
+    void respond201WithLocationOnBatchCreation() throws Exception {
+        mvc.perform(post(MENUS_BATCH_API_URL)
+                .contentType(HAL_JSON)
+                .content(String.format("{\"menus\":[" +
+                                "{\"date\":\"%s\",\"mealType\":\"DINNER\",\"covers\":4,\"mainCourseRecipes\":[\"%s\"]}," +
+                                "{\"date\":\"%s\",\"mealType\":\"LUNCH\",\"covers\":2,\"mainCourseRecipes\":[\"%s\"]}]}",
+                        now().plusDays(1), RecipeMother.ID, now(), RecipeMother.ID))
+        ).andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, String.format(
+                        "http://localhost/api/menus?filter%%5Bdate%%5D%%5Bsince%%5D=%s&filter%%5Bdate%%5D%%5Buntil%%5D=%s",
+                        now(), now().plusDays(1))));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("call application service once when creating menus")
+    void callServiceOnBatchCreation() throws Exception {
+        var commandCaptor = ArgumentCaptor.forClass(CreateMenus.class);
+        var expectedCommand = new CreateMenus(MENU_OWNER, List.of(
+                createCommand(MenuMother.builder().withOwnerName(MENU_OWNER_NAME).build()),
+                createCommand(MenuMother.builder().withOwnerName(MENU_OWNER_NAME).withMealType(MealType.DINNER).build())));
+
+        mvc.perform(post(MENUS_BATCH_API_URL)
+                .contentType(APPLICATION_JSON)
+                .content(String.format("{\"menus\":[" +
+                                "{\"date\":\"%1$s\",\"mealType\":\"LUNCH\",\"covers\":2,\"mainCourseRecipes\":[\"%2$s\"]}," +
+                                "{\"date\":\"%1$s\",\"mealType\":\"DINNER\",\"covers\":2,\"mainCourseRecipes\":[\"%2$s\"]}]}",
+                        now(), RecipeMother.ID))
+        ).andExpect(status().isCreated());
+
+        verify(menuManagementMock, times(1)).createMenus(commandCaptor.capture());
+        assertThat(commandCaptor.getValue()).isEqualTo(expectedCommand);
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when generating menus as a community user")
+    void respond401OnGenerationAsCommunityUser() throws Exception {
+        mvc.perform(post(MENUS_GENERATION_API_URL)
+                .contentType(HAL_JSON)
+                .content(String.format("{\"since\":\"%s\",\"until\":\"%s\",\"mealTypes\":[\"LUNCH\"],\"covers\":2}",
+                        now(), now().plusDays(6)))
+        ).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Bad Request when generating menus with until lower than since")
+    void respond400OnGenerationWithUntilLowerThanSince() throws Exception {
+        mvc.perform(post(MENUS_GENERATION_API_URL)
+                .contentType(APPLICATION_JSON)
+                .content(String.format("{\"since\":\"%s\",\"until\":\"%s\",\"mealTypes\":[\"LUNCH\"],\"covers\":2}",
+                        now(), now().minusDays(1)))
+        ).andExpect(status().isBadRequest());
+        verify(menuManagementMock, never()).generateMenus(any());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Bad Request when generating menus for too many days")
+    void respond400OnGenerationForTooManyDays() throws Exception {
+        mvc.perform(post(MENUS_GENERATION_API_URL)
+                .contentType(APPLICATION_JSON)
+                .content(String.format("{\"since\":\"%s\",\"until\":\"%s\",\"mealTypes\":[\"LUNCH\"],\"covers\":2}",
+                        now(), now().plusDays(GenerateMenus.MAX_DAYS)))
+        ).andExpect(status().isBadRequest());
+        verify(menuManagementMock, never()).generateMenus(any());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Bad Request when generating menus without meal type")
+    void respond400OnGenerationWithoutMealType() throws Exception {
+        mvc.perform(post(MENUS_GENERATION_API_URL)
+                .contentType(APPLICATION_JSON)
+                .content(String.format("{\"since\":\"%s\",\"until\":\"%s\",\"mealTypes\":[],\"covers\":2}",
+                        now(), now().plusDays(6)))
+        ).andExpect(status().isBadRequest());
+        verify(menuManagementMock, never()).generateMenus(any());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("respond Created with a Location header listing generated menus when generating menus successfully")
+    void respond201WithLocationOnGeneration() throws Exception {
+        var commandCaptor = ArgumentCaptor.forClass(GenerateMenus.class);
+        mvc.perform(post(MENUS_GENERATION_API_URL)
+                .contentType(HAL_JSON)
+                .content(String.format("{\"since\":\"%s\",\"until\":\"%s\",\"mealTypes\":[\"LUNCH\",\"DINNER\"],\"covers\":2}",
+                        now(), now().plusDays(6)))
+        ).andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, String.format(
+                        "http://localhost/api/menus?filter%%5Bdate%%5D%%5Bsince%%5D=%s&filter%%5Bdate%%5D%%5Buntil%%5D=%s",
+                        now(), now().plusDays(6))));
+
+        verify(menuManagementMock).generateMenus(commandCaptor.capture());
+        assertThat(commandCaptor.getValue()).isEqualTo(new GenerateMenus(MENU_OWNER, range(now(), now().plusDays(6)),
+                Set.of(MealType.LUNCH, MealType.DINNER), new Covers(2)));
+    }
+
+    private static List<MenuSummary> summaries(List<Menu> menus) {
+        return menus.stream()
+                .map(menu -> new MenuSummary(menu, Map.of(RecipeMother.ID, RecipeMother.NAME)))
+                .collect(toList());
+    }
+
     void assertJsonContainsMenu(ResultActions resultActions, String jsonPath, Menu menu) throws Exception {
         resultActions.andExpect(jsonPath(jsonPath + ".date").exists())
                 .andExpect(jsonPath(jsonPath + ".date", equalTo(menu.date().toString())))
@@ -26,9 +26,16 @@ import static org.springframework.restdocs.request.RequestDocumentation.paramete
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
 import static org.adhuc.cena.menu.menus.MenuMother.*;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.KILOGRAM;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.UNIT;
 import static org.adhuc.cena.menu.support.UserProvider.AUTHENTICATED_USER;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -51,6 +58,10 @@ import org.adhuc.cena.menu.menus.MealType;
 import org.adhuc.cena.menu.menus.MenuConsultation;
 import org.adhuc.cena.menu.menus.MenuManagement;
 import org.adhuc.cena.menu.menus.MenuOwner;
+import org.adhuc.cena.menu.menus.MenuSummary;
+import org.adhuc.cena.menu.menus.ShoppingList;
+import org.adhuc.cena.menu.menus.ShoppingListItem;
+import org.adhuc.cena.menu.menus.ShoppingListQuantity;
 import org.adhuc.cena.menu.port.adapter.rest.ResultHandlerConfiguration;
 import org.adhuc.cena.menu.port.adapter.rest.documentation.support.ConstrainedFields;
 import org.adhuc.cena.menu.recipes.RecipeMother;
@@ -89,11 +100,13 @@ class MenusDocumentation {
     @WithAuthenticatedUser
     @DisplayName("generates menus list example")
     void menusListExample() throws Exception {
-        when(menuConsultationMock.getMenus(listQuery(MENU_OWNER))).thenReturn(List.of(
-                builder().withOwnerName(MENU_OWNER_NAME).withDate(TODAY_LUNCH_DATE).withMealType(TODAY_LUNCH_MEAL_TYPE)
+        when(menuConsultationMock.getMenuSummaries(listQuery(MENU_OWNER))).thenReturn(List.of(
+                new MenuSummary(builder().withOwnerName(MENU_OWNER_NAME).withDate(TODAY_LUNCH_DATE).withMealType(TODAY_LUNCH_MEAL_TYPE)
                         .withCovers(TODAY_LUNCH_COVERS).withMainCourseRecipes(TODAY_LUNCH_MAIN_COURSE_RECIPES).build(),
-                builder().withOwnerName(MENU_OWNER_NAME).withDate(TOMORROW_DINNER_DATE).withMealType(TOMORROW_DINNER_MEAL_TYPE)
-                        .withCovers(TOMORROW_DINNER_COVERS).withMainCourseRecipes(TOMORROW_DINNER_MAIN_COURSE_RECIPES).build()));
+                        Map.of(RecipeMother.TOMATO_CUCUMBER_MOZZA_SALAD_ID, RecipeMother.TOMATO_CUCUMBER_MOZZA_SALAD_NAME)),
+                new MenuSummary(builder().withOwnerName(MENU_OWNER_NAME).withDate(TOMORROW_DINNER_DATE).withMealType(TOMORROW_DINNER_MEAL_TYPE)
+                        .withCovers(TOMORROW_DINNER_COVERS).withMainCourseRecipes(TOMORROW_DINNER_MAIN_COURSE_RECIPES).build(),
+                        Map.of(RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_NAME))));
 
         mvc.perform(get(MENUS_API_URL)
                 .queryParam("filter[date][since]", LocalDate.now().toString())
@@ -131,6 +144,66 @@ class MenusDocumentation {
                         new MenusDocumentation.MealTypesSnippet()));
     }
 
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("generates menus generation example")
+    void menusGenerateExample() throws Exception {
+        var fields = new ConstrainedFields(GenerateMenusRequest.class);
+        mvc.perform(post(MENUS_API_URL + "/generation").contentType(APPLICATION_JSON)
+                .content(String.format("{\"since\":\"%s\",\"until\":\"%s\",\"mealTypes\":[\"LUNCH\",\"DINNER\"]," +
+                        "\"covers\":2,\"daysBeforeRecipeRepetition\":7}", LocalDate.now(), LocalDate.now().plusDays(6))))
+                .andExpect(status().isCreated()).andDo(documentationHandler
+                .document(requestFields(
+                        fields.withPath("since").description("The first date to generate menus for"),
+                        fields.withPath("until").description("The last date to generate menus for. Menus can be " +
+                                "generated for at most 62 days at once"),
+                        fields.withPath("mealTypes").description("The <<meal-types-list, meal types>> to generate " +
+                                "menus for, each day of the date range"),
+                        fields.withPath("covers").description("The number of covers of each generated menu"),
+                        fields.withPath("daysBeforeRecipeRepetition").optional().description("The number of days " +
+                                "during which a recipe is not chosen again, whether in generated or existing menus. " +
+                                "Defaults to 7 _(optional)_")
+                )));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("generates menus shopping list example")
+    void menusShoppingListExample() throws Exception {
+        var query = listQuery(MENU_OWNER);
+        when(menuConsultationMock.getShoppingList(query)).thenReturn(new ShoppingList(MENU_OWNER, query.since(),
+                query.until(), List.of(
+                new ShoppingListItem(CUCUMBER_ID, CUCUMBER, List.of(new ShoppingListQuantity(BigDecimal.valueOf(3), UNIT))),
+                new ShoppingListItem(TOMATO_ID, TOMATO, List.of(new ShoppingListQuantity(new BigDecimal("1.5"), KILOGRAM),
+                        new ShoppingListQuantity(BigDecimal.valueOf(4), UNIT))))));
+
+        mvc.perform(get(MENUS_API_URL + "/shopping-list")
+                .queryParam("filter[date][since]", query.since().toString())
+                .queryParam("filter[date][until]", query.until().toString()))
+                .andExpect(status().isOk())
+                .andDo(documentationHandler.document(
+                        requestParameters(parameterWithName("filter[date][since]").optional()
+                                        .description("The inclusive lower bound date to filter menus on. This date defaults to today _(optional)_"),
+                                parameterWithName("filter[date][until]").optional()
+                                        .description("The inclusive upper bound date to filter menus on. This date defaults to lower bound + 6 days _(optional)_")),
+                        links(linkWithRel("self").description("This shopping list"),
+                                linkWithRel("menus").description("The <<resources-menus,menus list>> the shopping list is computed for")),
+                        responseFields(
+                                fieldWithPath("since").description("The first date of the menus the shopping list is computed for"),
+                                fieldWithPath("until").description("The last date of the menus the shopping list is computed for"),
+                                fieldWithPath("items").description("The shopping list items, sorted by ingredient name"),
+                                fieldWithPath("items[].id").description("The <<resources-ingredient,ingredient>> identity"),
+                                fieldWithPath("items[].name").description("The ingredient name"),
+                                fieldWithPath("items[].quantities").description("The quantities to buy, with at most " +
+                                        "one quantity per measurement type. Empty if the ingredient is only used " +
+                                        "without quantity in recipes"),
+                                fieldWithPath("items[].quantities[].quantity").description("The quantity to buy, " +
+                                        "rounded to 2 decimals, or to the upper unit for counts and quantities at convenience"),
+                                fieldWithPath("items[].quantities[].measurementUnit").description("The measurement unit of the quantity"),
+                                subsectionWithPath("_links")
+                                        .description("Links to other resources"))));
+    }
+
     private static class MealTypesSnippet extends TemplatedSnippet {
         public MealTypesSnippet() {
             super("meal-types", null);
@@ -37,6 +37,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientsController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.Recipe;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
@@ -55,7 +56,7 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
 @Tag("integration")
 @Tag("restController")
 @WebMvcTest({RecipesController.class, RecipeController.class, RecipeIngredientsController.class,
-        RecipeModelAssembler.class, RecipeIngredientModelAssembler.class})
+        RecipeModelAssembler.class, RecipeIngredientModelAssembler.class, RenderedResponseCache.class})
 @DisplayName("Recipe controller should")
 class RecipeControllerShould {
 
@@ -43,6 +43,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.adhuc.cena.menu.port.adapter.rest.ResultHandlerConfiguration;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientsController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
 import org.adhuc.cena.menu.support.WithSuperAdministrator;
@@ -57,7 +58,7 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
 @Tag("integration")
 @Tag("documentation")
 @WebMvcTest({RecipesController.class, RecipeController.class, RecipeIngredientsController.class,
-        RecipeModelAssembler.class, RecipeIngredientModelAssembler.class})
+        RecipeModelAssembler.class, RecipeIngredientModelAssembler.class, RenderedResponseCache.class})
 @ContextConfiguration(classes = ResultHandlerConfiguration.class)
 @AutoConfigureRestDocs("build/generated-snippets")
 @DisplayName("Recipe resource documentation")
@@ -15,7 +15,9 @@
  */
 package org.adhuc.cena.menu.port.adapter.rest.recipes;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,12 +28,16 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.Paging.DEFAULT_PAGE_SIZE;
 import static org.adhuc.cena.menu.recipes.RecipeMother.*;
 import static org.adhuc.cena.menu.recipes.Servings.DEFAULT;
 
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.*;
@@ -44,9 +50,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 import org.adhuc.cena.menu.ingredients.IngredientMother;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientsController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.*;
 import org.adhuc.cena.menu.support.*;
 
@@ -60,7 +69,7 @@ import org.adhuc.cena.menu.support.*;
 @Tag("integration")
 @Tag("restController")
 @WebMvcTest({RecipesController.class, RecipesDeletionController.class, RecipeIngredientsController.class,
-        RecipeModelAssembler.class, RecipeIngredientModelAssembler.class})
+        RecipeModelAssembler.class, RecipeIngredientModelAssembler.class, RenderedResponseCache.class})
 @DisplayName("Recipes controller should")
 class RecipesControllerShould {
 
@@ -74,6 +83,13 @@ class RecipesControllerShould {
     private RecipeAuthoring recipeAuthoringMock;
     @MockBean
     private RecipeAdministration recipeAdministrationMock;
+    @Autowired
+    private RenderedResponseCache responseCache;
+
+    @AfterEach
+    void clearResponseCache() {
+        responseCache.clear();
+    }
 
     @Nested
     @DisplayName("with 2 recipes")
@@ -84,7 +100,8 @@ class RecipesControllerShould {
         @BeforeEach
         void setUp() {
             recipes = new ArrayList<>(recipes());
-            when(recipeConsultationMock.getRecipes(QueryRecipes.query())).thenReturn(recipes);
+            when(recipeConsultationMock.getRecipeSummaries(Pagination.first(DEFAULT_PAGE_SIZE)))
+                    .thenReturn(new Page<>(summaries(recipes), null, null));
         }
 
         @Test
@@ -127,17 +144,32 @@ class RecipesControllerShould {
             assertJsonContainsRecipe(result, "$._embedded.data[0]", recipes.get(0));
             assertJsonContainsRecipe(result, "$._embedded.data[1]", recipes.get(1));
         }
+
+        @Test
+        @DisplayName("have recipes ingredients with their names when retrieving recipes")
+        void haveIngredientsNamesOnList() throws Exception {
+            mvc.perform(get(RECIPES_API_URL))
+                    .andExpect(jsonPath("$._embedded.data[0].ingredients").doesNotExist())
+                    .andExpect(jsonPath("$._embedded.data[1].ingredients", Matchers.hasSize(1)))
+                    .andExpect(jsonPath("$._embedded.data[1].ingredients[0].id",
+                            Matchers.equalTo(IngredientMother.TOMATO_ID.toString())))
+                    .andExpect(jsonPath("$._embedded.data[1].ingredients[0].name",
+                            Matchers.equalTo(IngredientMother.TOMATO.value())))
+                    .andExpect(jsonPath("$._embedded.data[1].ingredients[0].mainIngredient").isBoolean());
+        }
     }
 
     @Test
     @DisplayName("not apply ingredient filter when not present")
     void notApplyIngredientFilterWhenNotPresent() throws Exception {
         var queryCaptor = ArgumentCaptor.forClass(QueryRecipes.class);
-        when(recipeConsultationMock.getRecipes(any())).thenReturn(new ArrayList<>(recipes()));
+        when(recipeConsultationMock.getRecipeSummaries(any())).thenReturn(new Page<>(summaries(recipes()), null, null));
         mvc.perform(get(RECIPES_API_URL)).andExpect(status().isOk());
         // At least once because of a Pitest error when defaulting to 1
-        verify(recipeConsultationMock, atLeastOnce()).getRecipes(queryCaptor.capture());
+        verify(recipeConsultationMock, atLeastOnce()).getRecipesVersion(queryCaptor.capture());
         assertThat(queryCaptor.getValue().ingredientId()).isEmpty();
+        verify(recipeConsultationMock, atLeastOnce()).getRecipeSummaries(any());
+        verify(recipeConsultationMock, never()).getRecipes(any(), any());
     }
 
     @Test
@@ -158,18 +190,96 @@ class RecipesControllerShould {
     @DisplayName("apply ingredient filter when filled with valid UUID")
     void applyIngredientFilterWhenFilled() throws Exception {
         var queryCaptor = ArgumentCaptor.forClass(QueryRecipes.class);
-        when(recipeConsultationMock.getRecipes(any())).thenReturn(new ArrayList<>(recipes()));
+        when(recipeConsultationMock.getRecipes(any(), any())).thenReturn(new Page<>(List.copyOf(recipes()), null, null));
         mvc.perform(get(RECIPES_API_URL).param("filter[ingredient]", IngredientMother.ID.toString())).andExpect(status().isOk());
-        verify(recipeConsultationMock).getRecipes(queryCaptor.capture());
+        verify(recipeConsultationMock).getRecipes(queryCaptor.capture(), any());
         assertThat(queryCaptor.getValue().ingredientId()).contains(IngredientMother.ID);
     }
 
+    @Test
+    @DisplayName("respond with rendered recipes without loading them again while recipes version does not change")
+    void respondRenderedListWhileVersionUnchanged() throws Exception {
+        when(recipeConsultationMock.getRecipesVersion(any())).thenReturn(42L);
+        when(recipeConsultationMock.getRecipeSummaries(any())).thenReturn(new Page<>(summaries(recipes()), null, null));
+        var rendered = mvc.perform(get(RECIPES_API_URL)).andReturn().getResponse().getContentAsString();
+
+        mvc.perform(get(RECIPES_API_URL))
+                .andExpect(status().isOk())
+                .andExpect(content().string(rendered));
+        verify(recipeConsultationMock, times(1)).getRecipeSummaries(any());
+    }
+
+    @Test
+    @DisplayName("load recipes for each request filtered on ingredient")
+    void notRenderFilteredListFromCache() throws Exception {
+        when(recipeConsultationMock.getRecipesVersion(any())).thenReturn(42L);
+        when(recipeConsultationMock.getRecipes(any(), any())).thenReturn(new Page<>(List.copyOf(recipes()), null, null));
+
+        mvc.perform(get(RECIPES_API_URL).param("filter[ingredient]", IngredientMother.ID.toString())).andExpect(status().isOk());
+        mvc.perform(get(RECIPES_API_URL).param("filter[ingredient]", IngredientMother.ID.toString())).andExpect(status().isOk());
+        verify(recipeConsultationMock, times(2)).getRecipes(any(), any());
+    }
+
+    @Test
+    @DisplayName("apply page parameters when filled")
+    void applyPageParametersWhenFilled() throws Exception {
+        var recipes = List.copyOf(recipes());
+        var after = recipes.get(0).id();
+        when(recipeConsultationMock.getRecipeSummaries(Pagination.after(after, 1)))
+                .thenReturn(new Page<>(summaries(recipes.subList(1, 2)), Pagination.first(1), Pagination.after(recipes.get(1).id(), 1)));
+        mvc.perform(get(RECIPES_API_URL).param("page[size]", "1").param("page[after]", cursor(after)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.data", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$._embedded.data[0].id").value(recipes.get(1).id().toString()))
+                .andExpect(jsonPath("$._links.prev.href", Matchers.endsWith(RECIPES_API_URL + "?page[size]=1")))
+                .andExpect(jsonPath("$._links.next.href", Matchers.endsWith(
+                        RECIPES_API_URL + "?page[size]=1&page[after]=" + cursor(recipes.get(1).id()))));
+    }
+
+    @Test
+    @DisplayName("keep ingredient filter in page links")
+    void keepIngredientFilterInPageLinks() throws Exception {
+        var recipes = List.copyOf(recipes());
+        when(recipeConsultationMock.getRecipes(any(), any()))
+                .thenReturn(new Page<>(recipes.subList(0, 1), null, Pagination.after(recipes.get(0).id(), 1)));
+        mvc.perform(get(RECIPES_API_URL).param("filter[ingredient]", IngredientMother.ID.toString())
+                .param("page[size]", "1"))
+                .andExpect(jsonPath("$._links.prev").doesNotExist())
+                .andExpect(jsonPath("$._links.next.href", Matchers.endsWith(RECIPES_API_URL + "?filter[ingredient]="
+                        + IngredientMother.ID + "&page[size]=1&page[after]=" + cursor(recipes.get(0).id()))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "101"})
+    @DisplayName("respond Bad Request when querying recipes list with invalid page size")
+    void respond400OnListWithInvalidPageSize(String pageSize) throws Exception {
+        mvc.perform(get(RECIPES_API_URL).param("page[size]", pageSize))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("respond Bad Request when querying recipes list with invalid page cursor")
+    void respond400OnListWithInvalidPageCursor() throws Exception {
+        mvc.perform(get(RECIPES_API_URL).param("page[after]", "invalid cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static List<RecipeSummary> summaries(Collection<Recipe> recipes) {
+        var ingredientNames = Map.of(IngredientMother.TOMATO_ID, IngredientMother.TOMATO);
+        return recipes.stream().map(recipe -> new RecipeSummary(recipe, ingredientNames)).collect(toList());
+    }
+
+    private static String cursor(RecipeId id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(UTF_8));
+    }
+
     @Nested
     @DisplayName("with empty list")
     class WithEmptyList {
         @BeforeEach
         void setUp() {
-            when(recipeConsultationMock.getRecipes(QueryRecipes.query())).thenReturn(List.of());
+            when(recipeConsultationMock.getRecipeSummaries(Pagination.first(DEFAULT_PAGE_SIZE)))
+                    .thenReturn(new Page<>(List.of(), null, null));
         }
 
         @Test
@@ -29,6 +29,7 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.support.WithSuperAdministrator;
@@ -42,7 +43,8 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
  */
 @Tag("integration")
 @Tag("restController")
-@WebMvcTest({RecipesController.class, RecipesDeletionController.class, RecipeModelAssembler.class})
+@WebMvcTest({RecipesController.class, RecipesDeletionController.class, RecipeModelAssembler.class,
+        RenderedResponseCache.class})
 @TestPropertySource(properties = "cena.menu-generation.features.recipes-deletion=false")
 @EnableConfigurationProperties(MenuGenerationProperties.class)
 @DisplayName("Recipes deletion controller should")
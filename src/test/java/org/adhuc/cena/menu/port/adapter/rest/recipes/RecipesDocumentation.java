@@ -16,19 +16,23 @@
 package org.adhuc.cena.menu.port.adapter.rest.recipes;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.NDJSON;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_MOZZA_SALAD_ID;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID;
 import static org.adhuc.cena.menu.recipes.RecipeMother.recipes;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,12 +50,19 @@ import org.springframework.restdocs.snippet.TemplatedSnippet;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Page;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.Ingredient;
 import org.adhuc.cena.menu.ingredients.IngredientMother;
 import org.adhuc.cena.menu.port.adapter.rest.ResultHandlerConfiguration;
 import org.adhuc.cena.menu.port.adapter.rest.documentation.support.ConstrainedFields;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.ingredients.RecipeIngredientsController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.CourseType;
+import org.adhuc.cena.menu.recipes.CreateRecipes;
 import org.adhuc.cena.menu.recipes.RecipeAdministration;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
@@ -67,8 +78,9 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
  */
 @Tag("integration")
 @Tag("documentation")
-@WebMvcTest({RecipesController.class, RecipesDeletionController.class, RecipeIngredientsController.class,
-        RecipeModelAssembler.class, RecipeIngredientModelAssembler.class})
+@WebMvcTest({RecipesController.class, RecipesDeletionController.class, RecipesImportController.class,
+        RecipeIngredientsController.class, RecipeModelAssembler.class, RecipeIngredientModelAssembler.class,
+        RenderedResponseCache.class})
 @ContextConfiguration(classes = ResultHandlerConfiguration.class)
 @AutoConfigureRestDocs("build/generated-snippets")
 @DisplayName("Recipes resource documentation")
@@ -91,14 +103,23 @@ class RecipesDocumentation {
     @Test
     @DisplayName("generates recipes list example")
     void recipesListExample() throws Exception {
-        when(recipeConsultationMock.getRecipes(any())).thenReturn(new ArrayList<>(recipes()));
+        var recipes = List.copyOf(recipes());
+        when(recipeConsultationMock.getRecipes(any(), any())).thenReturn(new Page<>(recipes,
+                Pagination.first(recipes.size()), Pagination.after(recipes.get(recipes.size() - 1).id(), recipes.size())));
 
-        mvc.perform(get(RECIPES_API_URL).param("filter[ingredient]", IngredientMother.ID.toString()))
+        mvc.perform(get(RECIPES_API_URL).param("filter[ingredient]", IngredientMother.ID.toString())
+                .param("page[size]", String.valueOf(recipes.size())).param("page[after]", "M2ZhODVmNjQtNTcxNy00NTYyLWIzZmMtMmM5NjNmNjZhZmE2"))
                 .andExpect(status().isOk())
                 .andDo(documentationHandler.document(
                         requestParameters(parameterWithName("filter[ingredient]").optional()
-                                .description("The <<resources-ingredient,ingredient>> identity to filter recipes list on, resulting in a list of recipes composed of the specified ingredient _(optional)_")),
-                        links(linkWithRel("self").description("This <<resources-recipes,recipes list>>")),
+                                        .description("The <<resources-ingredient,ingredient>> identity to filter recipes list on, resulting in a list of recipes composed of the specified ingredient _(optional)_"),
+                                parameterWithName("page[size]").optional()
+                                        .description("The maximum number of recipes in the page, between 1 and 100. Defaults to 50 _(optional)_"),
+                                parameterWithName("page[after]").optional()
+                                        .description("The opaque cursor of the recipe after which the page starts, as provided by `next` and `prev` links _(optional)_")),
+                        links(linkWithRel("self").description("This <<resources-recipes,recipes list>>"),
+                                linkWithRel("next").optional().description("The next page of this <<resources-recipes,recipes list>>, if any"),
+                                linkWithRel("prev").optional().description("The previous page of this <<resources-recipes,recipes list>>, if any")),
                         responseFields(
                                 subsectionWithPath("_embedded.data")
                                         .description("An array of <<resources-recipe, Recipe resources>>"),
@@ -126,6 +147,27 @@ class RecipesDocumentation {
                         new CourseTypesSnippet()));
     }
 
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("generates recipes import example")
+    void recipesImportExample() throws Exception {
+        doAnswer(invocation -> {
+            var resultSink = invocation.<CreateRecipes>getArgument(0).resultSink();
+            resultSink.accept(CreationResult.created(TOMATO_CUCUMBER_MOZZA_SALAD_ID));
+            resultSink.accept(CreationResult.rejected(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID,
+                    new EntityNotFoundException(Ingredient.class, IngredientMother.CUCUMBER_ID)));
+            return null;
+        }).when(recipeAuthoringMock).createRecipes(any());
+        // Newline delimited JSON cannot be pretty printed without altering its structure
+        mvc.perform(post(RECIPES_API_URL).contentType(NDJSON)
+                .content("{\"name\":\"Tomato and mozzarella salad\",\"content\":\"Cut everything into dices, mix it, dress it\","
+                        + "\"servings\":2,\"ingredients\":[{\"id\":\"" + IngredientMother.TOMATO_ID + "\","
+                        + "\"mainIngredient\":true,\"quantity\":4,\"measurementUnit\":\"UNIT\"}]}\n"
+                        + "{\"name\":\"Cucumber salad\",\"content\":\"Cut cucumbers into slices, dress it\","
+                        + "\"ingredients\":[{\"id\":\"" + IngredientMother.CUCUMBER_ID + "\",\"mainIngredient\":true}]}\n"))
+                .andExpect(status().isOk()).andDo(document("{method-name}"));
+    }
+
     @Test
     @WithSuperAdministrator
     @DisplayName("generates recipes deletion example")
@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.recipes;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
+import static org.adhuc.cena.menu.port.adapter.rest.support.BulkImportReader.NDJSON;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.UNIT;
+import static org.adhuc.cena.menu.support.UserProvider.AUTHENTICATED_USER;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
+import org.adhuc.cena.menu.ingredients.Ingredient;
+import org.adhuc.cena.menu.recipes.AddIngredientToRecipe;
+import org.adhuc.cena.menu.recipes.CreateRecipes;
+import org.adhuc.cena.menu.recipes.Quantity;
+import org.adhuc.cena.menu.recipes.RecipeAuthor;
+import org.adhuc.cena.menu.recipes.RecipeAuthoring;
+import org.adhuc.cena.menu.support.WithAuthenticatedUser;
+import org.adhuc.cena.menu.support.WithCommunityUser;
+
+/**
+ * The {@link RecipesImportController} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("integration")
+@Tag("restController")
+@WebMvcTest(RecipesImportController.class)
+@EnableConfigurationProperties(MenuGenerationProperties.class)
+@DisplayName("Recipes import controller should")
+class RecipesImportControllerShould {
+
+    private static final String RECIPES_API_URL = "/api/recipes";
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @MockBean
+    private RecipeAuthoring recipeAuthoringMock;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            var command = invocation.<CreateRecipes>getArgument(0);
+            command.recipes().forEach(recipe -> command.resultSink().accept(recipe.ingredients().stream()
+                    .anyMatch(ingredient -> ingredient.ingredientId().equals(CUCUMBER_ID))
+                    ? CreationResult.rejected(recipe.recipeId(),
+                    new EntityNotFoundException(Ingredient.class, CUCUMBER_ID))
+                    : CreationResult.created(recipe.recipeId())));
+            return null;
+        }).when(recipeAuthoringMock).createRecipes(any());
+    }
+
+    @Test
+    @WithCommunityUser
+    @DisplayName("respond Unauthorized when importing recipes as a community user")
+    void respond401OnImportAsCommunityUser() throws Exception {
+        mvc.perform(post(RECIPES_API_URL)
+                .contentType(NDJSON)
+                .content("{\"name\":\"Tomato salad\",\"content\":\"Cut tomatoes\"}")
+        ).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("create every recipe along with its ingredients from newline delimited JSON lines")
+    void importNdjson() throws Exception {
+        var commandsCaptor = commandsCaptor();
+        var results = importRecipes("{\"name\":\"Tomato salad\",\"content\":\"Cut tomatoes\",\"servings\":2,"
+                + "\"ingredients\":[{\"id\":\"" + TOMATO_ID + "\",\"mainIngredient\":true,"
+                + "\"quantity\":4,\"measurementUnit\":\"UNIT\"}]}\n"
+                + "{\"name\":\"Cucumber salad\",\"content\":\"Cut cucumbers\","
+                + "\"ingredients\":[{\"id\":\"" + CUCUMBER_ID + "\"}]}\n"
+                + "{\"name\":\"Dressing\",\"content\":\"Mix oil and vinegar\"}\n");
+
+        verify(recipeAuthoringMock).createRecipes(commandsCaptor.capture());
+        var commands = commandsCaptor.getValue().recipes();
+        assertThat(commands).extracting(command -> command.recipe().recipeName())
+                .containsExactly(new Name("Tomato salad"), new Name("Cucumber salad"), new Name("Dressing"));
+        assertThat(commands).extracting(command -> command.recipe().recipeAuthor())
+                .containsOnly(new RecipeAuthor(AUTHENTICATED_USER));
+        assertThat(commands.get(0).ingredients()).containsExactly(
+                new AddIngredientToRecipe(TOMATO_ID, commands.get(0).recipeId(), true, new Quantity(4, UNIT)));
+        assertThat(commands.get(1).ingredients()).extracting(AddIngredientToRecipe::quantity)
+                .containsExactly(Quantity.UNDEFINED);
+        assertThat(commands.get(2).ingredients()).isEmpty();
+
+        assertThat(results).extracting(r -> r.get("status").asText())
+                .containsExactly("CREATED", "REJECTED", "CREATED");
+        assertThat(results.get(0).get("id").asText()).isEqualTo(commands.get(0).recipeId().toString());
+        assertThat(results.get(1).get("code").asInt()).isEqualTo(102000);
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("reject invalid lines without preventing other lines to be imported")
+    void rejectInvalidLines() throws Exception {
+        var commandsCaptor = commandsCaptor();
+        var results = importRecipes("{\"name\":\"Tomato salad\",\"content\":\"Cut tomatoes\"}\n"
+                + "{\"name\":\"Empty salad\",\"content\":\" \"}\n"
+                + "{\"name\":\"Null salad\",\"content\":\"Nothing\",\"ingredients\":[null]}\n"
+                + "{\"name\":\"Tomato salad\",\"content\":\"Cut tomatoes\","
+                + "\"ingredients\":[{\"id\":\"" + TOMATO_ID + "\",\"quantity\":4}]}\n");
+
+        verify(recipeAuthoringMock).createRecipes(commandsCaptor.capture());
+        assertThat(commandsCaptor.getValue().recipes()).hasSize(1);
+        assertThat(results).extracting(r -> r.get("status").asText())
+                .containsExactly("CREATED", "REJECTED", "REJECTED", "REJECTED");
+        assertThat(results).extracting(r -> r.get("line").asInt()).containsExactly(1, 2, 3, 4);
+        assertThat(results.get(1).get("code").asInt()).isEqualTo(101000);
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("create recipes by batches")
+    void importByBatches() throws Exception {
+        var lines = new StringBuilder();
+        for (int i = 0; i < RecipesImportController.BATCH_SIZE + 1; i++) {
+            lines.append("{\"name\":\"Recipe ").append(i).append("\",\"content\":\"Content\"}\n");
+        }
+        var results = importRecipes(lines.toString());
+
+        verify(recipeAuthoringMock, times(2)).createRecipes(any());
+        assertThat(results).hasSize(RecipesImportController.BATCH_SIZE + 1);
+    }
+
+    private static ArgumentCaptor<CreateRecipes> commandsCaptor() {
+        return ArgumentCaptor.forClass(CreateRecipes.class);
+    }
+
+    private List<JsonNode> importRecipes(String content) throws Exception {
+        var response = mvc.perform(post(RECIPES_API_URL)
+                .contentType(NDJSON)
+                .content(content)
+        ).andExpect(status().isOk()).andExpect(content().contentTypeCompatibleWith(NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        return Arrays.stream(response.split("\n"))
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .collect(toList());
+    }
+
+}
@@ -41,6 +41,7 @@ import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientModelAssemble
 import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientsController;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipesController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.Recipe;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
@@ -60,7 +61,7 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
 @Tag("restController")
 @WebMvcTest({RecipeIngredientController.class, RecipeIngredientsController.class, RecipesController.class,
         IngredientsController.class, RecipeIngredientModelAssembler.class, RecipeModelAssembler.class,
-        IngredientModelAssembler.class})
+        IngredientModelAssembler.class, RenderedResponseCache.class})
 @DisplayName("Recipe ingredient controller should")
 class RecipeIngredientControllerShould {
 
@@ -46,6 +46,7 @@ import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientModelAssemble
 import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientsController;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipesController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
 import org.adhuc.cena.menu.recipes.RecipeMother;
@@ -62,7 +63,7 @@ import org.adhuc.cena.menu.support.WithAuthenticatedUser;
 @Tag("documentation")
 @WebMvcTest({RecipeIngredientController.class, RecipeIngredientsController.class, RecipesController.class,
         IngredientsController.class, RecipeIngredientModelAssembler.class, RecipeModelAssembler.class,
-        IngredientModelAssembler.class})
+        IngredientModelAssembler.class, RenderedResponseCache.class})
 @ContextConfiguration(classes = ResultHandlerConfiguration.class)
 @AutoConfigureRestDocs("build/generated-snippets")
 @DisplayName("Recipe ingredient resource documentation")
@@ -51,6 +51,7 @@ import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientModelAssemble
 import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientsController;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipesController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.*;
 import org.adhuc.cena.menu.support.WithAuthenticatedUser;
 import org.adhuc.cena.menu.support.WithCommunityUser;
@@ -68,7 +69,7 @@ import org.adhuc.cena.menu.support.WithSuperAdministrator;
 @Tag("restController")
 @WebMvcTest({RecipeIngredientsController.class, RecipesController.class, IngredientsController.class,
         RecipeIngredientModelAssembler.class, RecipeModelAssembler.class,
-        IngredientModelAssembler.class})
+        IngredientModelAssembler.class, RenderedResponseCache.class})
 @DisplayName("Recipe ingredients controller should")
 class RecipeIngredientsControllerShould {
 
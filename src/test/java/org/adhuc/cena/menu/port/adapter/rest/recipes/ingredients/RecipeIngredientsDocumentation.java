@@ -60,6 +60,7 @@ import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientModelAssemble
 import org.adhuc.cena.menu.port.adapter.rest.ingredients.IngredientsController;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipeModelAssembler;
 import org.adhuc.cena.menu.port.adapter.rest.recipes.RecipesController;
+import org.adhuc.cena.menu.port.adapter.rest.support.RenderedResponseCache;
 import org.adhuc.cena.menu.recipes.MeasurementUnit;
 import org.adhuc.cena.menu.recipes.RecipeConsultation;
 import org.adhuc.cena.menu.recipes.RecipeAuthoring;
@@ -76,7 +77,7 @@ import org.adhuc.cena.menu.support.WithAuthenticatedUser;
 @Tag("documentation")
 @WebMvcTest({RecipeIngredientsController.class, RecipesController.class, IngredientsController.class,
         RecipeIngredientModelAssembler.class, RecipeModelAssembler.class,
-        IngredientModelAssembler.class})
+        IngredientModelAssembler.class, RenderedResponseCache.class})
 @ContextConfiguration(classes = ResultHandlerConfiguration.class)
 @AutoConfigureRestDocs("build/generated-snippets")
 @DisplayName("Recipe ingredients resource documentation")
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+
+/**
+ * The {@link BulkImportReader} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Bulk import reader should")
+class BulkImportReaderShould {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private List<List<String>> batches;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    void setUp() {
+        batches = new ArrayList<>();
+        output = new ByteArrayOutputStream();
+    }
+
+    @Test
+    @DisplayName("split CSV line into fields")
+    void splitCsvFields() {
+        assertThat(BulkImportReader.csvFields("Tomato,WEIGHT|COUNT")).containsExactly("Tomato", "WEIGHT|COUNT");
+        assertThat(BulkImportReader.csvFields(",Salt,")).containsExactly("", "Salt", "");
+        assertThat(BulkImportReader.csvFields("\"Tomato, cherry\",COUNT")).containsExactly("Tomato, cherry", "COUNT");
+        assertThat(BulkImportReader.csvFields("\"The \"\"best\"\" tomato\"")).containsExactly("The \"best\" tomato");
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when splitting CSV line with unclosed quoted field")
+    void throwIAESplitCsvUnclosedQuote() {
+        assertThrows(IllegalArgumentException.class, () -> BulkImportReader.csvFields("\"Tomato,COUNT"));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when reading unsupported content type")
+    void throwIAEUnsupportedContentType() {
+        assertThrows(IllegalArgumentException.class, () -> BulkImportReader.forContentType(APPLICATION_JSON,
+                input(""), OBJECT_MAPPER.readerFor(Map.class), values -> values.get("name")));
+    }
+
+    @Test
+    @DisplayName("import newline delimited JSON lines by batches")
+    void importNdjsonByBatches() throws IOException {
+        var reader = BulkImportReader.<Map<String, String>>ndjson(input("{\"name\":\"Tomato\"}\n"
+                + "\n"
+                + "{\"name\":\"Cucumber\"}\n"
+                + "{\"name\":\"Salt\"}"), OBJECT_MAPPER.readerFor(Map.class));
+        var imported = importAll(reader, element -> element.get("name"));
+
+        assertThat(imported).isEqualTo(3);
+        assertThat(batches).containsExactly(List.of("Tomato", "Cucumber"), List.of("Salt"));
+        assertThat(results()).extracting(r -> r.get("line").asInt()).containsExactly(1, 3, 4);
+        assertThat(results()).extracting(r -> r.get("status").asText()).containsOnly("CREATED");
+    }
+
+    @Test
+    @DisplayName("import CSV lines, mapping values by column name")
+    void importCsv() throws IOException {
+        var reader = BulkImportReader.csv(input("code,name\n"
+                + "1,Tomato\n"
+                + "2\n"
+                + "3,Cucumber,unexpected\n"), values -> values.getOrDefault("name", ""));
+        importAll(reader, name -> {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Missing name");
+            }
+            return name;
+        });
+
+        assertThat(batches).containsExactly(List.of("Tomato"));
+        var results = results();
+        assertThat(results).extracting(r -> r.get("line").asInt()).containsExactly(2, 3, 4);
+        assertThat(results).extracting(r -> r.get("status").asText())
+                .containsExactly("CREATED", "REJECTED", "REJECTED");
+        assertThat(results.get(1).get("message").asText()).isEqualTo("Missing name");
+        assertThat(results.get(2).get("code").asInt()).isEqualTo(101000);
+    }
+
+    @Test
+    @DisplayName("reject unparseable and null lines without preventing other lines to be imported")
+    void rejectInvalidLines() throws IOException {
+        var reader = BulkImportReader.<Map<String, String>>ndjson(input("{\"name\":\n"
+                + "null\n"
+                + "{\"name\":\"Tomato\"}\n"), OBJECT_MAPPER.readerFor(Map.class));
+        importAll(reader, element -> element.get("name"));
+
+        assertThat(batches).containsExactly(List.of("Tomato"));
+        var results = results();
+        assertThat(results).extracting(r -> r.get("status").asText())
+                .containsExactly("REJECTED", "REJECTED", "CREATED");
+        assertThat(results.get(1).get("message").asText()).isEqualTo("Cannot import null element");
+        assertThat(results.get(0).has("id")).isFalse();
+    }
+
+    @Test
+    @DisplayName("not execute any batch when importing only invalid lines")
+    void notExecuteBatchOnlyInvalidLines() throws IOException {
+        var reader = BulkImportReader.<Map<String, String>>ndjson(input("{\n{\n"), OBJECT_MAPPER.readerFor(Map.class));
+        importAll(reader, element -> element.get("name"));
+        assertThat(batches).isEmpty();
+        assertThat(results()).hasSize(2);
+    }
+
+    private <T> int importAll(BulkImportReader<T> reader, Function<T, String> toCommand)
+            throws IOException {
+        try (reader; var writer = new BulkImportResultWriter(output)) {
+            return reader.<String, IngredientId>importAll(2, toCommand, (names, resultSink) -> {
+                batches.add(names);
+                names.forEach(n -> resultSink.accept(CreationResult.created(IngredientId.generate())));
+            }, writer);
+        }
+    }
+
+    private List<JsonNode> results() {
+        return Arrays.stream(output.toString(UTF_8).split("\n"))
+                .map(line -> {
+                    try {
+                        return OBJECT_MAPPER.readTree(line);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .collect(toList());
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.port.adapter.rest.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * The {@link LinkTemplate} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@DisplayName("Link template should")
+class LinkTemplateShould {
+
+    private AtomicInteger renderings;
+    private LinkTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        renderings = new AtomicInteger();
+        template = LinkTemplate.of(2, params -> {
+            renderings.incrementAndGet();
+            return new Link("http://localhost/api/recipes/" + params[0] + "/ingredients/" + params[1]);
+        });
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("not accept template without parameter")
+    void noParameter() {
+        assertThatThrownBy(() -> LinkTemplate.of(0, params -> new Link("http://localhost/api")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("expand link with parameters values")
+    void expandLink() {
+        assertThat(template.expand(SELF, "recipe", "ingredient"))
+                .isEqualTo(new Link("http://localhost/api/recipes/recipe/ingredients/ingredient", SELF));
+    }
+
+    @Test
+    @DisplayName("expand link with string relation")
+    void expandLinkWithStringRelation() {
+        assertThat(template.expand("ingredient", "recipe", "ingredient"))
+                .isEqualTo(new Link("http://localhost/api/recipes/recipe/ingredients/ingredient", "ingredient"));
+    }
+
+    @Test
+    @DisplayName("render link once per request")
+    void renderOncePerRequest() {
+        template.expand(SELF, "recipe1", "ingredient1");
+        var link = template.expand(SELF, "recipe2", "ingredient2");
+        assertThat(link.getHref()).isEqualTo("http://localhost/api/recipes/recipe2/ingredients/ingredient2");
+        assertThat(renderings).hasValue(1);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        template.expand(SELF, "recipe3", "ingredient3");
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("render link on each expansion outside of request")
+    void renderOutsideOfRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        template.expand(SELF, "recipe1", "ingredient1");
+        template.expand(SELF, "recipe2", "ingredient2");
+        assertThat(renderings).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("not expand link with wrong parameters count")
+    void wrongParametersCount() {
+        assertThatThrownBy(() -> template.expand(SELF, "recipe"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("not expand link whose builder ignores parameters")
+    void builderIgnoringParameters() {
+        var ignoringTemplate = LinkTemplate.of(1, params -> new Link("http://localhost/api/recipes"));
+        assertThatThrownBy(() -> ignoringTemplate.expand(SELF, "recipe"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
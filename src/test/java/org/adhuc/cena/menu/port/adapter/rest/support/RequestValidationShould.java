@@ -45,7 +45,7 @@ import org.adhuc.cena.menu.support.WithIngredientManager;
  */
 @Tag("integration")
 @Tag("restController")
-@WebMvcTest({IngredientsController.class, IngredientModelAssembler.class})
+@WebMvcTest({IngredientsController.class, IngredientModelAssembler.class, RenderedResponseCache.class})
 @DisplayName("Request validation should")
 class RequestValidationShould {
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.recipes.RecipeMother.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
+
+/**
+ * The {@link CreateRecipes} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("domain")
+@DisplayName("Recipes creation command should")
+class CreateRecipesShould {
+
+    @ParameterizedTest
+    @MethodSource("invalidCreationParameters")
+    @DisplayName("not be creatable with invalid parameters")
+    void notBeCreatableWithInvalidParameters(List<CreateRecipeWithIngredients> recipes,
+                                             Consumer<CreationResult<RecipeId>> resultSink) {
+        assertThrows(IllegalArgumentException.class, () -> new CreateRecipes(recipes, resultSink));
+    }
+
+    private static Stream<Arguments> invalidCreationParameters() {
+        Consumer<CreationResult<RecipeId>> resultSink = result -> {
+        };
+        return Stream.of(
+                Arguments.of(null, resultSink),
+                Arguments.of(List.of(), resultSink),
+                Arguments.of(List.of(createWithIngredientsCommand()), null)
+        );
+    }
+
+    @Test
+    @DisplayName("contain values used during creation")
+    void containCreationValues() {
+        var results = new ArrayList<CreationResult<RecipeId>>();
+        var command = new CreateRecipes(List.of(createWithIngredientsCommand()), results::add);
+        assertThat(command.recipes()).containsExactly(createWithIngredientsCommand());
+        command.resultSink().accept(CreationResult.created(ID));
+        assertThat(results).containsExactly(CreationResult.created(ID));
+    }
+
+    private static CreateRecipeWithIngredients createWithIngredientsCommand() {
+        return new CreateRecipeWithIngredients(createCommand(), List.of());
+    }
+
+}
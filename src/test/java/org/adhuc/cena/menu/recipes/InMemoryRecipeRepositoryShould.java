@@ -17,14 +17,22 @@ package org.adhuc.cena.menu.recipes;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 
 import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
 import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
+import static org.adhuc.cena.menu.recipes.CourseType.*;
 import static org.adhuc.cena.menu.recipes.RecipeMother.*;
 
+import java.util.Optional;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.*;
 
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.aggregate.Journal;
 import org.adhuc.cena.menu.ingredients.IngredientId;
 import org.adhuc.cena.menu.ingredients.IngredientMother;
 
@@ -74,6 +82,26 @@ class InMemoryRecipeRepositoryShould {
         assertThrows(IllegalArgumentException.class, () -> repository.delete(null));
     }
 
+    @Test
+    @DisplayName("keep recipe and indexes unchanged when update fails to be recorded")
+    @SuppressWarnings("unchecked")
+    void keepRecipeUnchangedOnUnrecordedUpdate() {
+        var journal = (Journal<Recipe, RecipeId>) mock(Journal.class);
+        repository = new InMemoryRecipeRepository(Optional.of(journal));
+        var recipe = builder().withIngredients(TOMATO_ID, MOZZA_ID).build();
+        repository.save(recipe);
+        doThrow(new IllegalStateException("Journal failure")).when(journal).recordSave(any());
+
+        assertThrows(IllegalStateException.class, () -> repository.update(recipe.id(), r -> r.addIngredient(
+                addIngredientCommand(FETA_ID, recipe.id(), false, QUANTITY))));
+
+        assertThat(repository.findNotNullById(recipe.id()).ingredientIds())
+                .containsExactlyInAnyOrder(TOMATO_ID, MOZZA_ID);
+        assertThat(repository.findByIngredient(FETA_ID)).isEmpty();
+        assertThat(repository.findByIngredient(MOZZA_ID)).extracting(Recipe::id).containsExactly(recipe.id());
+        assertThat(repository.findByCourseType(MAIN_COURSE)).extracting(Recipe::id).containsExactly(recipe.id());
+    }
+
     @Nested
     @DisplayName("with no recipe")
     class WithNoEntity {
@@ -116,6 +144,15 @@ class InMemoryRecipeRepositoryShould {
             assertThat(repository.findAll()).usingFieldByFieldElementComparator().containsExactly(tomatoCucumberAndMozzaSalad);
         }
 
+        @Test
+        @DisplayName("keep every ingredient added concurrently to recipe")
+        void keepIngredientsAddedConcurrently() {
+            IntStream.range(0, 1000).parallel().forEach(i -> repository.update(TOMATO_CUCUMBER_MOZZA_SALAD_ID,
+                    r -> r.addIngredient(addIngredientCommand(IngredientId.generate(), TOMATO_CUCUMBER_MOZZA_SALAD_ID,
+                            false, QUANTITY))));
+            assertThat(repository.findNotNullById(TOMATO_CUCUMBER_MOZZA_SALAD_ID).ingredients()).hasSize(1003);
+        }
+
         @Test
         @DisplayName("return a collection containing recipe when finding recipes composed of mozzarella")
         void returnCollectionContainingRecipeComposedOfMozza() {
@@ -128,6 +165,53 @@ class InMemoryRecipeRepositoryShould {
             assertThat(repository.findByIngredient(FETA_ID)).isEmpty();
         }
 
+        @Test
+        @DisplayName("indicate that a recipe is composed of mozzarella")
+        void existsByIngredientMozza() {
+            assertThat(repository.existsByIngredient(MOZZA_ID)).isTrue();
+        }
+
+        @Test
+        @DisplayName("indicate that no recipe is composed of feta")
+        void notExistsByIngredientFeta() {
+            assertThat(repository.existsByIngredient(FETA_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("return recipe when finding recipes composed of feta after feta addition")
+        void returnRecipeComposedOfFetaAfterAddition() {
+            repository.update(TOMATO_CUCUMBER_MOZZA_SALAD_ID, r -> r.addIngredient(
+                    addIngredientCommand(FETA_ID, TOMATO_CUCUMBER_MOZZA_SALAD_ID, false, QUANTITY)));
+            assertThat(repository.findByIngredient(FETA_ID)).containsExactly(tomatoCucumberAndMozzaSalad);
+        }
+
+        @Test
+        @DisplayName("return empty collection when finding recipes composed of mozzarella after mozzarella removal")
+        void returnEmptyCollectionComposedOfMozzaAfterRemoval() {
+            repository.update(TOMATO_CUCUMBER_MOZZA_SALAD_ID, r -> r.removeIngredient(
+                    removeIngredientCommand(MOZZA_ID, TOMATO_CUCUMBER_MOZZA_SALAD_ID)));
+            assertThat(repository.findByIngredient(MOZZA_ID)).isEmpty();
+            assertThat(repository.existsByIngredient(MOZZA_ID)).isFalse();
+            assertThat(repository.findByIngredient(TOMATO_ID)).containsExactly(tomatoCucumberAndMozzaSalad);
+        }
+
+        @Test
+        @DisplayName("return empty collection when finding recipes composed of tomato after ingredients removal")
+        void returnEmptyCollectionComposedOfTomatoAfterIngredientsRemoval() {
+            repository.update(TOMATO_CUCUMBER_MOZZA_SALAD_ID, r -> r.removeIngredients(
+                    new RemoveIngredientsFromRecipe(TOMATO_CUCUMBER_MOZZA_SALAD_ID)));
+            assertThat(repository.findByIngredient(TOMATO_ID)).isEmpty();
+            assertThat(repository.existsByIngredient(CUCUMBER_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("return empty collection when finding recipes composed of tomato after recipe deletion")
+        void returnEmptyCollectionComposedOfTomatoAfterDeletion() {
+            repository.delete(tomatoCucumberAndMozzaSalad);
+            assertThat(repository.findByIngredient(TOMATO_ID)).isEmpty();
+            assertThat(repository.existsByIngredient(TOMATO_ID)).isFalse();
+        }
+
         @Test
         @DisplayName("indicate that tomato, cucumber and mozzarella salad exists")
         void exists() {
@@ -211,6 +295,7 @@ class InMemoryRecipeRepositoryShould {
                         .withName(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_NAME)
                         .withContent(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_CONTENT)
                         .withAuthor(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_AUTHOR)
+                        .withCourseTypes(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_COURSE_TYPES)
                         .withIngredients(TOMATO_ID, CUCUMBER_ID, FETA_ID)
                         .build();
                 repository.save(tomatoCucumberOliveAndFetaSalad);
@@ -240,6 +325,31 @@ class InMemoryRecipeRepositoryShould {
                 assertThat(repository.findByIngredient(FETA_ID)).usingFieldByFieldElementComparator().containsExactly(tomatoCucumberOliveAndFetaSalad);
             }
 
+            @Test
+            @DisplayName("return recipes ordered by identity when finding recipes by course type")
+            void returnRecipesByCourseType() {
+                assertThat(repository.findByCourseType(MAIN_COURSE)).extracting(Recipe::id)
+                        .containsExactly(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, TOMATO_CUCUMBER_MOZZA_SALAD_ID);
+                assertThat(repository.findByCourseType(STARTER)).extracting(Recipe::id)
+                        .containsExactly(TOMATO_CUCUMBER_MOZZA_SALAD_ID);
+                assertThat(repository.findByCourseType(DESSERT)).isEmpty();
+            }
+
+            @Test
+            @DisplayName("return empty collection when finding recipes by course type after deleting all recipes")
+            void returnEmptyCollectionByCourseTypeAfterDeletion() {
+                repository.deleteAll();
+                assertThat(repository.findByCourseType(MAIN_COURSE)).isEmpty();
+            }
+
+            @Test
+            @DisplayName("return remaining recipe when finding recipes by course type after deleting a recipe")
+            void returnRemainingRecipeByCourseTypeAfterDeletion() {
+                repository.delete(tomatoCucumberAndMozzaSalad);
+                assertThat(repository.findByCourseType(MAIN_COURSE)).extracting(Recipe::id)
+                        .containsExactly(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID);
+            }
+
             @Test
             @DisplayName("return empty collection after deleting all recipes")
             void returnEmptyCollectionAfterDeletion() {
@@ -247,6 +357,14 @@ class InMemoryRecipeRepositoryShould {
                 assertThat(repository.findAll()).isEmpty();
             }
 
+            @Test
+            @DisplayName("return empty collection when finding recipes composed of tomato after deleting all recipes")
+            void returnEmptyCollectionComposedOfTomatoAfterDeletion() {
+                repository.deleteAll();
+                assertThat(repository.findByIngredient(TOMATO_ID)).isEmpty();
+                assertThat(repository.existsByIngredient(TOMATO_ID)).isFalse();
+            }
+
         }
 
     }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static org.adhuc.cena.menu.ingredients.MeasurementType.*;
+import static org.adhuc.cena.menu.recipes.MeasurementUnit.*;
+import static org.adhuc.cena.menu.recipes.QuantityConversion.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * The {@link QuantityConversion} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("domain")
+@DisplayName("Quantity conversion should")
+class QuantityConversionShould {
+
+    @Test
+    @DisplayName("convert whole units to fixed-point values")
+    void convertToFixedPoint() {
+        assertThat(toFixedPoint(3)).isEqualTo(3 * SCALE);
+    }
+
+    @Test
+    @DisplayName("get reference unit of each measurement type")
+    void getReferenceUnit() {
+        assertThat(referenceUnit(VOLUME)).isEqualTo(MILLILITER);
+        assertThat(referenceUnit(WEIGHT)).isEqualTo(GRAM);
+        assertThat(referenceUnit(COUNT)).isEqualTo(UNIT);
+        assertThat(referenceUnit(AT_CONVENIENCE)).isEqualTo(PINCH);
+    }
+
+    @Test
+    @DisplayName("get reference unit of the measurement type associated to each unit")
+    void getReferenceUnitOfUnit() {
+        assertThat(referenceUnit(CENTILITER)).isEqualTo(MILLILITER);
+        assertThat(referenceUnit(POUND)).isEqualTo(GRAM);
+        assertThat(referenceUnit(DOZEN)).isEqualTo(UNIT);
+        assertThat(referenceUnit(PINCH)).isEqualTo(PINCH);
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting reference unit of undefined unit")
+    void throwIAEReferenceUnitOfUndefinedUnit() {
+        assertThrows(IllegalArgumentException.class, () -> referenceUnit(UNDEFINED));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when converting from null unit")
+    void throwIAEConvertFromNullUnit() {
+        assertThrows(IllegalArgumentException.class, () -> convert(SCALE, null, LITER));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when converting to null unit")
+    void throwIAEConvertToNullUnit() {
+        assertThrows(IllegalArgumentException.class, () -> convert(SCALE, LITER, null));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"LITER,GRAM", "GRAM,UNIT", "DOZEN,PINCH", "PINCH,TEASPOON", "UNDEFINED,UNIT", "UNIT,UNDEFINED",
+            "UNDEFINED,UNDEFINED"})
+    @DisplayName("throw IllegalArgumentException when converting between units of different measurement types")
+    void throwIAEConvertBetweenMeasurementTypes(MeasurementUnit from, MeasurementUnit to) {
+        assertThat(isConvertible(from, to)).isFalse();
+        assertThrows(IllegalArgumentException.class, () -> convert(SCALE, from, to));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MeasurementUnit.class, names = "UNDEFINED", mode = EnumSource.Mode.EXCLUDE)
+    @DisplayName("convert quantity to the same unit without change")
+    void convertToSameUnit(MeasurementUnit unit) {
+        assertThat(isConvertible(unit, unit)).isTrue();
+        assertThat(convert(1_234_567, unit, unit)).isEqualTo(1_234_567);
+    }
+
+    @ParameterizedTest
+    @MethodSource("conversionParameters")
+    @DisplayName("convert quantity between units of the same measurement type")
+    void convertBetweenUnits(long value, MeasurementUnit from, MeasurementUnit to, long expected) {
+        assertThat(convert(value, from, to)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> conversionParameters() {
+        return Stream.of(
+                Arguments.of(SCALE, LITER, CENTILITER, 100 * SCALE),
+                Arguments.of(SCALE, LITER, MILLILITER, 1000 * SCALE),
+                Arguments.of(25 * SCALE, CENTILITER, LITER, 250_000),
+                Arguments.of(SCALE, TABLESPOON, MILLILITER, 15 * SCALE),
+                Arguments.of(SCALE, TABLESPOON, TEASPOON, 3 * SCALE),
+                Arguments.of(SCALE, TEASPOON, LITER, 5_000),
+                Arguments.of(1_500 * SCALE, GRAM, KILOGRAM, 1_500_000),
+                Arguments.of(SCALE, POUND, GRAM, 453_592_370),
+                Arguments.of(SCALE, KILOGRAM, POUND, 2_204_623),
+                Arguments.of(SCALE, DOZEN, UNIT, 12 * SCALE),
+                Arguments.of(SCALE, UNIT, DOZEN, 83_333),
+                Arguments.of(2 * SCALE, UNIT, DOZEN, 166_667),
+                Arguments.of(-2 * SCALE, UNIT, DOZEN, -166_667),
+                Arguments.of(SCALE, TEN, DOZEN, 833_333)
+        );
+    }
+
+    @Test
+    @DisplayName("throw ArithmeticException when converted quantity overflows")
+    void throwArithmeticExceptionOnOverflow() {
+        assertThrows(ArithmeticException.class, () -> convert(Long.MAX_VALUE / 10, LITER, MILLILITER));
+    }
+
+    @Test
+    @DisplayName("convert quantities in bulk")
+    void convertInBulk() {
+        var values = new long[]{SCALE, 50 * SCALE, 2 * SCALE};
+        var converted = new long[values.length];
+        convert(values, new MeasurementUnit[]{LITER, CENTILITER, TABLESPOON}, MILLILITER, converted);
+        assertThat(converted).containsExactly(1000 * SCALE, 500 * SCALE, 30 * SCALE);
+    }
+
+    @Test
+    @DisplayName("convert quantities in bulk in place")
+    void convertInBulkInPlace() {
+        var values = new long[]{SCALE, 2 * SCALE};
+        convert(values, new MeasurementUnit[]{KILOGRAM, GRAM}, GRAM, values);
+        assertThat(values).containsExactly(1000 * SCALE, 2 * SCALE);
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when converting quantities in bulk with missing units")
+    void throwIAEConvertInBulkMissingUnits() {
+        assertThrows(IllegalArgumentException.class,
+                () -> convert(new long[2], new MeasurementUnit[]{LITER}, MILLILITER, new long[2]));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1,1", "1,0", "1,-1"})
+    @DisplayName("throw IllegalArgumentException when scaling with invalid ratio")
+    void throwIAEScaleInvalidRatio(long multiplier, long divisor) {
+        assertThrows(IllegalArgumentException.class, () -> scale(SCALE, multiplier, divisor));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"2000000,4,6,1333333", "1000000,2,3,666667", "5,1,2,3", "-5,1,2,-3", "4000000,3,2,6000000",
+            "4611686018427387903,2,3,3074457345618258602"})
+    @DisplayName("scale quantity rounding half away from zero")
+    void scaleQuantity(long value, long multiplier, long divisor, long expected) {
+        assertThat(scale(value, multiplier, divisor)).isEqualTo(expected);
+    }
+
+}
@@ -34,7 +34,7 @@ import org.junit.jupiter.params.provider.MethodSource;
  * The {@link Quantity} test class.
  *
  * @author Alexandre Carbenay
- * @version 0.2.0
+ * @version 0.3.0
  * @since 0.2.0
  */
 @Tag("unit")
@@ -111,4 +111,22 @@ public class QuantityShould {
         );
     }
 
+    @ParameterizedTest
+    @MethodSource("scalingSource")
+    @DisplayName("be scaled to an exact reduced fraction")
+    void scale(Quantity quantity, int multiplier, int divisor, ScaledQuantity expected) {
+        assertThat(quantity.scale(multiplier, divisor)).isEqualTo(expected);
+    }
+
+    private static Stream<Arguments> scalingSource() {
+        return Stream.of(
+                Arguments.of(new Quantity(3, UNIT), 4, 2, new ScaledQuantity(6, 1, UNIT)),
+                Arguments.of(new Quantity(1, DOZEN), 3, 2, new ScaledQuantity(3, 2, DOZEN)),
+                Arguments.of(new Quantity(200, GRAM), 4, 6, new ScaledQuantity(400, 3, GRAM)),
+                Arguments.of(new Quantity(Integer.MAX_VALUE, PINCH), Integer.MAX_VALUE, 1,
+                        new ScaledQuantity((long) Integer.MAX_VALUE * Integer.MAX_VALUE, 1, PINCH)),
+                Arguments.of(Quantity.UNDEFINED, 3, 2, ScaledQuantity.UNDEFINED)
+        );
+    }
+
 }
@@ -16,6 +16,10 @@
 package org.adhuc.cena.menu.recipes;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import static org.adhuc.cena.menu.ingredients.IngredientMother.CUCUMBER_ID;
 import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
@@ -26,6 +30,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
 import org.adhuc.cena.menu.ingredients.IngredientId;
 
 /**
@@ -44,12 +49,16 @@ class RecipeAdministrationImplShould {
     private static final IngredientId FETA_ID = IngredientId.generate();
 
     private RecipeRepository recipeRepository;
+    private DomainEventDispatcher eventDispatcher;
+    private RecipeSummaryProjection recipeSummaries;
     private RecipeAdministrationImpl service;
 
     @BeforeEach
     void setUp() {
         recipeRepository = new InMemoryRecipeRepository();
-        service = new RecipeAdministrationImpl(recipeRepository);
+        eventDispatcher = mock(DomainEventDispatcher.class);
+        recipeSummaries = mock(RecipeSummaryProjection.class);
+        service = new RecipeAdministrationImpl(recipeRepository, event -> {}, eventDispatcher, recipeSummaries);
 
         var tomatoCucumberAndMozzaSalad = builder()
                 .withId(TOMATO_CUCUMBER_MOZZA_SALAD_ID)
@@ -76,4 +85,27 @@ class RecipeAdministrationImplShould {
         assertThat(recipeRepository.findAll()).isEmpty();
     }
 
+    @Test
+    @DisplayName("wait for the dispatch of published events after deleting all recipes")
+    void waitForDispatchAfterDeletion() {
+        service.deleteRecipes();
+        verify(eventDispatcher).awaitDispatch(RecipeAdministrationImpl.DISPATCH_TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("mark recipe summaries stale when dispatch times out after deleting all recipes")
+    void markSummariesStaleOnDispatchTimeout() {
+        when(eventDispatcher.awaitDispatch(RecipeAdministrationImpl.DISPATCH_TIMEOUT)).thenReturn(false);
+        service.deleteRecipes();
+        verify(recipeSummaries).markStale();
+    }
+
+    @Test
+    @DisplayName("not mark recipe summaries stale when dispatch completes after deleting all recipes")
+    void notMarkSummariesStaleOnDispatch() {
+        when(eventDispatcher.awaitDispatch(RecipeAdministrationImpl.DISPATCH_TIMEOUT)).thenReturn(true);
+        service.deleteRecipes();
+        verify(recipeSummaries, never()).markStale();
+    }
+
 }
@@ -37,6 +37,8 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.configuration.ApplicationSecurityConfiguration;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
@@ -65,6 +67,10 @@ class RecipeAdministrationWithSecurityShould {
     private RecipeRepository repository;
     @MockBean
     private IngredientConsultation ingredientConsultationMock;
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+    @MockBean
+    private DomainEventDispatcher domainEventDispatcher;
 
     @BeforeEach
     void setUp() {
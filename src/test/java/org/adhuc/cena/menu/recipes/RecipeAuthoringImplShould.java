@@ -15,10 +15,14 @@
  */
 package org.adhuc.cena.menu.recipes;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
@@ -27,10 +31,18 @@ import static org.adhuc.cena.menu.recipes.RecipeMother.createCommand;
 import static org.adhuc.cena.menu.recipes.RecipeMother.deleteCommand;
 import static org.adhuc.cena.menu.recipes.RecipeMother.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.*;
 
 import org.adhuc.cena.menu.common.aggregate.AlreadyExistingEntityException;
+import org.adhuc.cena.menu.common.aggregate.CreationResult;
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
+import org.adhuc.cena.menu.common.event.DomainEvent;
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
 import org.adhuc.cena.menu.ingredients.Ingredient;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientId;
@@ -54,15 +66,22 @@ class RecipeAuthoringImplShould {
     private RecipeRepository recipeRepository;
     private IngredientConsultation ingredientConsultationMock;
     private RecipeAuthoringImpl service;
+    private List<DomainEvent> events;
+    private DomainEventDispatcher eventDispatcher;
+    private RecipeSummaryProjection recipeSummaries;
 
     @BeforeEach
     void setUp() {
         recipeRepository = new InMemoryRecipeRepository();
         ingredientConsultationMock = mock(IngredientConsultation.class);
-        var creationService = new RecipeCreation(recipeRepository);
-        var additionService = new IngredientToRecipeAddition(recipeRepository, ingredientConsultationMock);
-        var removalService = new IngredientFromRecipeRemoval(recipeRepository, ingredientConsultationMock);
-        service = new RecipeAuthoringImpl(creationService, additionService, removalService, recipeRepository);
+        events = new ArrayList<>();
+        eventDispatcher = mock(DomainEventDispatcher.class);
+        recipeSummaries = mock(RecipeSummaryProjection.class);
+        var creationService = new RecipeCreation(recipeRepository, ingredientConsultationMock, events::add);
+        var additionService = new IngredientToRecipeAddition(recipeRepository, ingredientConsultationMock, events::add);
+        var removalService = new IngredientFromRecipeRemoval(recipeRepository, ingredientConsultationMock, events::add);
+        service = new RecipeAuthoringImpl(creationService, additionService, removalService, recipeRepository,
+                events::add, eventDispatcher, recipeSummaries);
     }
 
     @Test
@@ -71,6 +90,12 @@ class RecipeAuthoringImplShould {
         assertThrows(IllegalArgumentException.class, () -> service.createRecipe(null));
     }
 
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating recipes from null command")
+    void throwIAECreateRecipesNullCommands() {
+        assertThrows(IllegalArgumentException.class, () -> service.createRecipes(null));
+    }
+
     @Test
     @DisplayName("throw IllegalArgumentException when deleting recipe from null command")
     void throwIAEDeleteRecipeNullCommand() {
@@ -101,6 +126,7 @@ class RecipeAuthoringImplShould {
         var recipe = builder().build();
         service.createRecipe(createCommand(recipe));
         assertThat(recipeRepository.findNotNullById(recipe.id())).isNotNull().isEqualToComparingFieldByField(recipe);
+        assertThat(events).containsExactly(new RecipeCreated(recipe.id()));
     }
 
     @Nested
@@ -129,12 +155,46 @@ class RecipeAuthoringImplShould {
             assertThat(exception.getMessage()).isEqualTo("Entity of type Recipe with identity '" + TOMATO_CUCUMBER_MOZZA_SALAD_ID + "' already exists");
         }
 
+        @Test
+        @DisplayName("reject recipe with already used identity when creating recipes")
+        void rejectCreateRecipesAlreadyExistingId() {
+            var command = new CreateRecipeWithIngredients(createCommand(tomatoCucumberAndMozzaSalad), List.of());
+            var results = new ArrayList<CreationResult<RecipeId>>();
+            service.createRecipes(new CreateRecipes(List.of(command), results::add));
+            assertThat(results).extracting(CreationResult::isCreated).containsExactly(false);
+            assertThat(results.get(0).failure()).containsInstanceOf(AlreadyExistingEntityException.class);
+        }
+
         @Test
         @DisplayName("delete tomato, cucumber and mozzarella salad successfully")
         void deleteTomatoCucumberAndMozzaSalad() {
             assumeThat(recipeRepository.exists(TOMATO_CUCUMBER_MOZZA_SALAD_ID)).isTrue();
             service.deleteRecipe(deleteCommand());
             assertThat(recipeRepository.exists(TOMATO_CUCUMBER_MOZZA_SALAD_ID)).isFalse();
+            assertThat(events).containsExactly(new RecipeDeleted(TOMATO_CUCUMBER_MOZZA_SALAD_ID));
+        }
+
+        @Test
+        @DisplayName("wait for the dispatch of published events after deleting tomato, cucumber and mozzarella salad")
+        void waitForDispatchAfterDeletion() {
+            service.deleteRecipe(deleteCommand());
+            verify(eventDispatcher).awaitDispatch(RecipeAuthoringImpl.DISPATCH_TIMEOUT);
+        }
+
+        @Test
+        @DisplayName("mark recipe summaries stale when dispatch times out after deleting recipe")
+        void markSummariesStaleOnDispatchTimeout() {
+            when(eventDispatcher.awaitDispatch(RecipeAuthoringImpl.DISPATCH_TIMEOUT)).thenReturn(false);
+            service.deleteRecipe(deleteCommand());
+            verify(recipeSummaries).markStale();
+        }
+
+        @Test
+        @DisplayName("not mark recipe summaries stale when dispatch completes after deleting recipe")
+        void notMarkSummariesStaleOnDispatch() {
+            when(eventDispatcher.awaitDispatch(RecipeAuthoringImpl.DISPATCH_TIMEOUT)).thenReturn(true);
+            service.deleteRecipe(deleteCommand());
+            verify(recipeSummaries, never()).markStale();
         }
 
         @Test
@@ -224,11 +284,49 @@ class RecipeAuthoringImplShould {
                     " does not correspond to ingredient's measurement types " + MEASUREMENT_TYPES);
         }
 
+        @Test
+        @DisplayName("create recipes with their ingredients, rejecting recipes with invalid ingredients")
+        void createRecipesWithIngredients() {
+            when(ingredientConsultationMock.getIngredientsById(any())).thenReturn(List.of(ingredient(),
+                    ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES)));
+            var valid = withIngredients(RecipeId.generate(), IngredientMother.ID, CUCUMBER_ID);
+            var invalidUnitId = RecipeId.generate();
+            var invalidUnit = new CreateRecipeWithIngredients(createCommand(builder().withId(invalidUnitId).build()),
+                    List.of(addIngredientCommand(CUCUMBER_ID, invalidUnitId, MAIN_INGREDIENT, new Quantity(200, CENTILITER))));
+            var unknownIngredient = withIngredients(RecipeId.generate(), IngredientMother.ID, MOZZA_ID);
+
+            var results = new ArrayList<CreationResult<RecipeId>>();
+            service.createRecipes(new CreateRecipes(List.of(valid, invalidUnit, unknownIngredient), results::add));
+
+            assertThat(results).extracting(CreationResult::id)
+                    .containsExactly(valid.recipeId(), invalidUnit.recipeId(), unknownIngredient.recipeId());
+            assertThat(results).extracting(CreationResult::isCreated).containsExactly(true, false, false);
+            assertThat(results.get(1).failure()).containsInstanceOf(InvalidMeasurementUnitForIngredientException.class);
+            assertThat(results.get(2).failure()).containsInstanceOf(EntityNotFoundException.class);
+            assertThat(recipeRepository.findNotNullById(valid.recipeId()).ingredientIds())
+                    .containsExactlyInAnyOrder(IngredientMother.ID, CUCUMBER_ID);
+            assertThat(recipeRepository.exists(unknownIngredient.recipeId())).isFalse();
+            verify(ingredientConsultationMock).getIngredientsById(Set.of(IngredientMother.ID, CUCUMBER_ID, MOZZA_ID));
+            verify(ingredientConsultationMock, never()).getIngredient(any());
+        }
+
+        @Test
+        @DisplayName("reject recipe whose identity is duplicated when creating recipes")
+        void rejectCreateRecipesDuplicatedId() {
+            var recipeId = RecipeId.generate();
+            var results = new ArrayList<CreationResult<RecipeId>>();
+            service.createRecipes(new CreateRecipes(List.of(withIngredients(recipeId), withIngredients(recipeId)),
+                    results::add));
+            assertThat(results).extracting(CreationResult::isCreated).containsExactly(true, false);
+            assertThat(results.get(1).failure()).containsInstanceOf(AlreadyExistingEntityException.class);
+        }
+
         @Test
         @DisplayName("add ingredient to recipe successfully")
         void addIngredientToRecipe() {
             service.addIngredientToRecipe(addIngredientCommand(IngredientMother.ID, MAIN_INGREDIENT));
             assertThat(recipeRepository.findNotNullById(RecipeMother.ID).ingredients()).contains(recipeIngredient());
+            assertThat(events).containsExactly(new RecipeIngredientAdded(RecipeMother.ID, IngredientMother.ID));
         }
 
         @Test
@@ -237,6 +335,7 @@ class RecipeAuthoringImplShould {
             service.removeIngredientFromRecipe(removeIngredientCommand(CUCUMBER_ID));
             assertThat(recipeRepository.findNotNullById(RecipeMother.ID).ingredients())
                     .doesNotContain(recipeIngredient(CUCUMBER_ID, MAIN_INGREDIENT, QUANTITY));
+            assertThat(events).containsExactly(new RecipeIngredientRemoved(RecipeMother.ID, CUCUMBER_ID));
         }
 
         @Nested
@@ -260,4 +359,11 @@ class RecipeAuthoringImplShould {
 
     }
 
+    private static CreateRecipeWithIngredients withIngredients(RecipeId recipeId, IngredientId... ingredientIds) {
+        return new CreateRecipeWithIngredients(createCommand(builder().withId(recipeId).build()),
+                Arrays.stream(ingredientIds)
+                        .map(ingredientId -> addIngredientCommand(ingredientId, recipeId, false, QUANTITY))
+                        .collect(toList()));
+    }
+
 }
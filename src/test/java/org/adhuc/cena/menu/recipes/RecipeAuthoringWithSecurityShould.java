@@ -28,6 +28,8 @@ import static org.adhuc.cena.menu.recipes.RecipeMother.createCommand;
 import static org.adhuc.cena.menu.recipes.RecipeMother.deleteCommand;
 import static org.adhuc.cena.menu.recipes.RecipeMother.*;
 
+import java.util.List;
+
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -46,6 +48,8 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.configuration.ApplicationSecurityConfiguration;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
@@ -79,6 +83,10 @@ class RecipeAuthoringWithSecurityShould {
     private RecipeRepository repository;
     @MockBean
     private IngredientConsultation ingredientConsultationMock;
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+    @MockBean
+    private DomainEventDispatcher domainEventDispatcher;
 
     @BeforeEach
     void setUp() {
@@ -124,6 +132,22 @@ class RecipeAuthoringWithSecurityShould {
         assertThat(repository.exists(ID)).isTrue();
     }
 
+    @Test
+    @WithCommunityUser
+    @DisplayName("deny recipes creation access to community user")
+    void denyRecipesCreationAsCommunityUser() {
+        assertThrows(AccessDeniedException.class, () -> service.createRecipes(createRecipesCommand()));
+    }
+
+    @Test
+    @WithAuthenticatedUser
+    @DisplayName("grant recipes creation access to authenticated user")
+    void grantRecipesCreationAsAuthenticatedUser() {
+        assumeThat(repository.exists(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)).isFalse();
+        service.createRecipes(createRecipesCommand());
+        assertThat(repository.exists(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)).isTrue();
+    }
+
     @Test
     @WithCommunityUser
     @DisplayName("deny recipe deletion access to community user")
@@ -317,6 +341,13 @@ class RecipeAuthoringWithSecurityShould {
         assertThat(repository.findNotNullById(ID).ingredients()).isEmpty();
     }
 
+    private static CreateRecipes createRecipesCommand() {
+        return new CreateRecipes(List.of(new CreateRecipeWithIngredients(
+                createCommand(builder().withId(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID).build()), List.of())),
+                result -> {
+                });
+    }
+
     @Configuration
     @Import(ApplicationSecurityConfiguration.class)
     @EnableConfigurationProperties(MenuGenerationProperties.class)
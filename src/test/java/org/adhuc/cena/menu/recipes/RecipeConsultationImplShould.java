@@ -16,6 +16,7 @@
 package org.adhuc.cena.menu.recipes;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -25,10 +26,14 @@ import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
 import static org.adhuc.cena.menu.recipes.QueryRecipes.query;
 import static org.adhuc.cena.menu.recipes.RecipeMother.*;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.*;
 
 import org.adhuc.cena.menu.common.aggregate.EntityNotFoundException;
 import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
 import org.adhuc.cena.menu.ingredients.Ingredient;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
 import org.adhuc.cena.menu.ingredients.IngredientId;
@@ -56,7 +61,8 @@ class RecipeConsultationImplShould {
     void setUp() {
         recipeRepository = new InMemoryRecipeRepository();
         ingredientConsultationMock = mock(IngredientConsultation.class);
-        service = new RecipeConsultationImpl(recipeRepository, ingredientConsultationMock);
+        service = new RecipeConsultationImpl(recipeRepository, ingredientConsultationMock, new RecipeScaling(recipeRepository),
+                new RecipeSummaryProjection(recipeRepository, ingredientConsultationMock));
 
         when(ingredientConsultationMock.getIngredient(TOMATO_ID)).thenReturn(ingredient(TOMATO_ID, TOMATO, TOMATO_MEASUREMENT_TYPES));
         when(ingredientConsultationMock.getIngredient(CUCUMBER_ID)).thenReturn(ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES));
@@ -85,6 +91,64 @@ class RecipeConsultationImplShould {
         assertThrows(EntityNotFoundException.class, () -> service.getRecipes(query().withIngredientId(ingredientId)));
     }
 
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting recipes page from null pagination")
+    void throwIAEGetRecipesNullPagination() {
+        assertThrows(IllegalArgumentException.class, () -> service.getRecipes(query(), null));
+    }
+
+    @Test
+    @DisplayName("throw EntityNotFoundException when paginating recipes filtered on unknown ingredient identity")
+    void throwEntityNotFoundExceptionRecipePageFilteredOnUnknownIngredientIdentity() {
+        var ingredientId = IngredientId.generate();
+        when(ingredientConsultationMock.getIngredient(ingredientId)).thenThrow(new EntityNotFoundException(Ingredient.class, ingredientId));
+
+        assertThrows(EntityNotFoundException.class,
+                () -> service.getRecipes(query().withIngredientId(ingredientId), Pagination.first(10)));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting recipes from null identities")
+    void throwIAEGetRecipesByIdNullIds() {
+        assertThrows(IllegalArgumentException.class, () -> service.getRecipesById(null));
+    }
+
+    @Test
+    @DisplayName("return known recipes when getting recipes from identities")
+    void returnRecipesById() {
+        recipeRepository.save(recipe());
+        assertThat(service.getRecipesById(List.of(RecipeMother.ID, TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)))
+                .extracting(Recipe::id).containsExactly(RecipeMother.ID);
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting ingredient names from null identities")
+    void throwIAEGetIngredientNamesNullIds() {
+        assertThrows(IllegalArgumentException.class, () -> service.getIngredientNames(null));
+    }
+
+    @Test
+    @DisplayName("return known ingredient names when getting ingredient names from identities")
+    void returnIngredientNames() {
+        when(ingredientConsultationMock.getIngredientsById(Set.of(TOMATO_ID, FETA_ID)))
+                .thenReturn(List.of(ingredient(TOMATO_ID, TOMATO, TOMATO_MEASUREMENT_TYPES)));
+        assertThat(service.getIngredientNames(List.of(TOMATO_ID, FETA_ID))).containsOnly(entry(TOMATO_ID, TOMATO));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when getting recipes from null course type")
+    void throwIAEGetRecipesByCourseTypeNullCourseType() {
+        assertThrows(IllegalArgumentException.class, () -> service.getRecipesByCourseType(null));
+    }
+
+    @Test
+    @DisplayName("return recipes that can be served as course type")
+    void returnRecipesByCourseType() {
+        recipeRepository.save(recipe());
+        assertThat(service.getRecipesByCourseType(CourseType.MAIN_COURSE)).extracting(Recipe::id).containsExactly(RecipeMother.ID);
+        assertThat(service.getRecipesByCourseType(CourseType.DESSERT)).isEmpty();
+    }
+
     @Test
     @DisplayName("throw IllegalArgumentException when checking if recipe exists from null identity")
     void throwIAEExistsNullId() {
@@ -158,6 +222,13 @@ class RecipeConsultationImplShould {
                     .containsExactly(tomatoCucumberAndMozzaSalad);
         }
 
+        @Test
+        @DisplayName("return page of recipe summaries containing tomato, cucumber and mozzarella salad")
+        void returnRecipeSummariesWithTomatoCucumberAndMozzaSalad() {
+            assertThat(service.getRecipeSummaries(Pagination.first(10)).content()).extracting(RecipeSummary::id)
+                    .containsExactly(TOMATO_CUCUMBER_MOZZA_SALAD_ID);
+        }
+
         @Test
         @DisplayName("return list of recipes containing tomato, cucumber and mozzarella salad when filtering on mozzarella")
         void returnRecipeListWithTomatoCucumberAndMozzaSaladFilteredOnMozza() {
@@ -195,6 +266,24 @@ class RecipeConsultationImplShould {
             assertThat(service.exists(TOMATO_CUCUMBER_MOZZA_SALAD_ID)).isTrue();
         }
 
+        @Test
+        @DisplayName("return recipe version and no version for unknown recipe")
+        void returnRecipeVersion() {
+            assertThat(service.getRecipeVersion(TOMATO_CUCUMBER_MOZZA_SALAD_ID)).isPositive();
+            assertThat(service.getRecipeVersion(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID)).isZero();
+        }
+
+        @Test
+        @DisplayName("return recipes version when filtering on known ingredient, and no version when filtering on unknown ingredient")
+        void returnRecipesVersionFilteredOnIngredient() {
+            when(ingredientConsultationMock.getIngredientVersion(MOZZA_ID)).thenReturn(12L);
+            var version = service.getRecipesVersion(query());
+
+            assertThat(version).isPositive();
+            assertThat(service.getRecipesVersion(query().withIngredientId(MOZZA_ID))).isEqualTo(recipeRepository.version());
+            assertThat(service.getRecipesVersion(query().withIngredientId(IngredientId.generate()))).isZero();
+        }
+
         @Nested
         @DisplayName("and tomato, cucumber, olive and feta salad")
         class AndTomatoCucumberOliveAndFetaSalad {
@@ -241,6 +330,33 @@ class RecipeConsultationImplShould {
                         .containsExactlyInAnyOrder(tomatoCucumberOliveAndFetaSalad);
             }
 
+            @Test
+            @DisplayName("return pages of recipes ordered by identity when paginating recipes filtered on tomato")
+            void returnRecipePagesFilteredOnTomato() {
+                var first = TOMATO_CUCUMBER_MOZZA_SALAD_ID.compareTo(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID) < 0
+                        ? tomatoCucumberAndMozzaSalad : tomatoCucumberOliveAndFetaSalad;
+                var second = first == tomatoCucumberAndMozzaSalad ? tomatoCucumberOliveAndFetaSalad : tomatoCucumberAndMozzaSalad;
+
+                var firstPage = service.getRecipes(query().withIngredientId(TOMATO_ID), Pagination.first(1));
+                assertThat(firstPage.content()).containsExactly(first);
+                assertThat(firstPage.previous()).isEmpty();
+                assertThat(firstPage.next()).contains(Pagination.after(first.id(), 1));
+
+                var secondPage = service.getRecipes(query().withIngredientId(TOMATO_ID), firstPage.next().get());
+                assertThat(secondPage.content()).containsExactly(second);
+                assertThat(secondPage.previous()).contains(Pagination.first(1));
+                assertThat(secondPage.next()).isEmpty();
+            }
+
+            @Test
+            @DisplayName("return single page of recipes when paginating recipes filtered on feta")
+            void returnSingleRecipePageFilteredOnFeta() {
+                var page = service.getRecipes(query().withIngredientId(FETA_ID), Pagination.first(10));
+                assertThat(page.content()).containsExactly(tomatoCucumberOliveAndFetaSalad);
+                assertThat(page.previous()).isEmpty();
+                assertThat(page.next()).isEmpty();
+            }
+
         }
 
     }
@@ -36,6 +36,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import org.adhuc.cena.menu.common.event.DomainEventDispatcher;
+import org.adhuc.cena.menu.common.event.DomainEventPublisher;
 import org.adhuc.cena.menu.configuration.ApplicationSecurityConfiguration;
 import org.adhuc.cena.menu.configuration.MenuGenerationProperties;
 import org.adhuc.cena.menu.ingredients.IngredientConsultation;
@@ -64,6 +66,10 @@ class RecipeConsultationWithSecurityShould {
     private RecipeRepository repository;
     @MockBean
     private IngredientConsultation ingredientConsultationMock;
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+    @MockBean
+    private DomainEventDispatcher domainEventDispatcher;
 
     @BeforeEach
     void setUp() {
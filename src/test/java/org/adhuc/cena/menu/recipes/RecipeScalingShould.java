@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import static org.adhuc.cena.menu.ingredients.IngredientMother.TOMATO_ID;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link RecipeScaling} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("domainService")
+@DisplayName("Recipe scaling should")
+class RecipeScalingShould {
+
+    private static final Servings SERVINGS = new Servings(3);
+
+    private RecipeRepository recipeRepository;
+    private RecipeScaling scaling;
+
+    private Recipe mozzaSalad;
+    private Recipe fetaSalad;
+
+    @BeforeEach
+    void setUp() {
+        recipeRepository = mock(RecipeRepository.class);
+        scaling = new RecipeScaling(recipeRepository);
+        mozzaSalad = RecipeMother.recipe();
+        fetaSalad = RecipeMother.builder().withId(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID).build();
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(mozzaSalad, fetaSalad));
+    }
+
+    @Test
+    @DisplayName("scale recipes sorted by identity")
+    void scaleRecipes() {
+        assertThat(scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS)).containsExactly(
+                new ScaledRecipe(mozzaSalad, SERVINGS), new ScaledRecipe(fetaSalad, SERVINGS));
+    }
+
+    @Test
+    @DisplayName("retrieve recipes that are not cached yet at once")
+    void retrieveMissingRecipesAtOnce() {
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        verify(recipeRepository).findAllById(Set.of(mozzaSalad.id(), fetaSalad.id()));
+    }
+
+    @Test
+    @DisplayName("not retrieve recipes already scaled to the same number of servings")
+    void useCachedScaledRecipes() {
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        var scaledRecipes = scaling.scaleRecipes(List.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        verify(recipeRepository, times(1)).findAllById(any());
+        assertThat(scaledRecipes).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("retrieve recipes scaled to a different number of servings")
+    void scaleCachedRecipesToOtherServings() {
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        var scaledRecipes = scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), new Servings(4));
+        verify(recipeRepository, times(2)).findAllById(Set.of(mozzaSalad.id(), fetaSalad.id()));
+        assertThat(scaledRecipes).extracting(ScaledRecipe::servings).containsOnly(new Servings(4));
+    }
+
+    @Test
+    @DisplayName("retrieve only recipe whose ingredients changed again")
+    void retrieveChangedRecipe() {
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        scaling.handleEvents(List.of(new RecipeIngredientAdded(mozzaSalad.id(), TOMATO_ID)));
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(mozzaSalad));
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        verify(recipeRepository).findAllById(Set.of(mozzaSalad.id()));
+    }
+
+    @Test
+    @DisplayName("ignore deleted recipe once deletion is handled")
+    void ignoreDeletedRecipe() {
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        scaling.handleEvents(List.of(new RecipeDeleted(fetaSalad.id())));
+        when(recipeRepository.findAllById(any())).thenReturn(List.of());
+        assertThat(scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS))
+                .containsExactly(new ScaledRecipe(mozzaSalad, SERVINGS));
+    }
+
+    @Test
+    @DisplayName("retrieve every recipe again after every recipe deletion")
+    void retrieveAllRecipesAfterRecipesDeletion() {
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        scaling.handleEvents(List.of(new RecipesDeleted()));
+        scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS);
+        verify(recipeRepository, times(2)).findAllById(Set.of(mozzaSalad.id(), fetaSalad.id()));
+    }
+
+    @Test
+    @DisplayName("evict cached recipes when maximum number of cached recipes is reached")
+    void evictCachedRecipes() {
+        scaling = new RecipeScaling(recipeRepository, 1);
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(mozzaSalad));
+        scaling.scaleRecipes(Set.of(mozzaSalad.id()), SERVINGS);
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(fetaSalad));
+        scaling.scaleRecipes(Set.of(fetaSalad.id()), SERVINGS);
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(mozzaSalad));
+        scaling.scaleRecipes(Set.of(mozzaSalad.id()), SERVINGS);
+        verify(recipeRepository, times(2)).findAllById(Set.of(mozzaSalad.id()));
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating with non-positive maximum cached recipes")
+    void throwIAENonPositiveMaximumCachedRecipes() {
+        assertThrows(IllegalArgumentException.class, () -> new RecipeScaling(recipeRepository, 0));
+    }
+
+    @Test
+    @DisplayName("ignore unknown recipes")
+    void ignoreUnknownRecipes() {
+        when(recipeRepository.findAllById(any())).thenReturn(List.of(mozzaSalad));
+        assertThat(scaling.scaleRecipes(Set.of(mozzaSalad.id(), fetaSalad.id()), SERVINGS))
+                .containsExactly(new ScaledRecipe(mozzaSalad, SERVINGS));
+    }
+
+}
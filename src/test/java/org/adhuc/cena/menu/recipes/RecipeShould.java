@@ -93,6 +93,26 @@ class RecipeShould {
         });
     }
 
+    @Test
+    @DisplayName("contain ingredients used during creation")
+    void containCreationIngredients() {
+        var tomato = recipeIngredient(TOMATO_ID, MAIN_INGREDIENT, QUANTITY);
+        var cucumber = recipeIngredient(CUCUMBER_ID, false, new Quantity(3, UNIT));
+        var recipe = new Recipe(createCommand(), Set.of(tomato, cucumber));
+        assertSoftly(softly -> {
+            softly.assertThat(recipe.id()).isEqualTo(ID);
+            softly.assertThat(recipe.name()).isEqualTo(NAME);
+            softly.assertThat(recipe.ingredients()).containsExactlyInAnyOrder(tomato, cucumber);
+        });
+    }
+
+    @Test
+    @DisplayName("throw IllegalArgumentException when creating recipe with ingredient related to another recipe")
+    void notBeCreatableWithIngredientOfOtherRecipe() {
+        var ingredient = recipeIngredient(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID, TOMATO_ID, MAIN_INGREDIENT, QUANTITY);
+        assertThrows(IllegalArgumentException.class, () -> new Recipe(createCommand(), Set.of(ingredient)));
+    }
+
     @Test
     @DisplayName("return non modifiable course types set")
     void courseTypesNotModifiable() {
@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2019-2020 Alexandre Carbenay
+ *
+ * This file is part of Cena Project.
+ *
+ * Cena Project is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Cena Project is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with Cena Project. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package org.adhuc.cena.menu.recipes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import static org.adhuc.cena.menu.ingredients.IngredientMother.*;
+import static org.adhuc.cena.menu.recipes.RecipeMother.TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import org.adhuc.cena.menu.common.aggregate.Name;
+import org.adhuc.cena.menu.common.aggregate.Pagination;
+import org.adhuc.cena.menu.ingredients.IngredientConsultation;
+import org.adhuc.cena.menu.ingredients.IngredientDeleted;
+import org.adhuc.cena.menu.ingredients.IngredientId;
+import org.adhuc.cena.menu.ingredients.IngredientsDeleted;
+
+/**
+ * The {@link RecipeSummaryProjection} test class.
+ *
+ * @author Alexandre Carbenay
+ * @version 0.3.0
+ * @since 0.3.0
+ */
+@Tag("unit")
+@Tag("domainService")
+@DisplayName("Recipe summary projection should")
+class RecipeSummaryProjectionShould {
+
+    private RecipeRepository recipeRepository;
+    private IngredientConsultation ingredientConsultation;
+    private RecipeSummaryProjection projection;
+
+    private Recipe mozzaSalad;
+    private Recipe fetaSalad;
+
+    @BeforeEach
+    void setUp() {
+        recipeRepository = new InMemoryRecipeRepository();
+        ingredientConsultation = mock(IngredientConsultation.class);
+        projection = new RecipeSummaryProjection(recipeRepository, ingredientConsultation);
+
+        when(ingredientConsultation.getIngredientsById(any())).thenReturn(List.of(
+                ingredient(TOMATO_ID, TOMATO, TOMATO_MEASUREMENT_TYPES),
+                ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES)));
+        mozzaSalad = RecipeMother.recipe();
+        fetaSalad = RecipeMother.builder().withId(TOMATO_CUCUMBER_OLIVE_FETA_SALAD_ID).withIngredients(TOMATO_ID).build();
+        recipeRepository.save(mozzaSalad);
+    }
+
+    @Test
+    @DisplayName("summarize recipes with their listed properties")
+    void summarizeRecipes() {
+        var summary = projection.page(Pagination.first(10)).content().get(0);
+        assertThat(summary.id()).isEqualTo(mozzaSalad.id());
+        assertThat(summary.name()).isEqualTo(mozzaSalad.name());
+        assertThat(summary.content()).isEqualTo(mozzaSalad.content());
+        assertThat(summary.author()).isEqualTo(mozzaSalad.author());
+        assertThat(summary.servings()).isEqualTo(mozzaSalad.servings());
+        assertThat(summary.courseTypes()).isEqualTo(mozzaSalad.courseTypes());
+    }
+
+    @Test
+    @DisplayName("summarize recipes with their ingredients names, sorted by ingredient identity")
+    void summarizeRecipesWithIngredientsNames() {
+        var summary = projection.page(Pagination.first(10)).content().get(0);
+        assertThat(summary.ingredients()).extracting(RecipeSummaryIngredient::name)
+                .containsExactlyInAnyOrder(TOMATO, CUCUMBER);
+        assertThat(summary.ingredients()).isSortedAccordingTo(
+                Comparator.comparing(RecipeSummaryIngredient::ingredientId));
+    }
+
+    @Test
+    @DisplayName("ignore ingredients whose name is unknown")
+    void ignoreUnknownIngredients() {
+        var unknownIngredient = IngredientId.generate();
+        mozzaSalad.addIngredient(RecipeMother.addIngredientCommand(unknownIngredient, false));
+        recipeRepository.save(mozzaSalad);
+
+        assertThat(projection.page(Pagination.first(10)).content().get(0).ingredients())
+                .extracting(RecipeSummaryIngredient::ingredientId)
+                .containsExactlyInAnyOrder(TOMATO_ID, CUCUMBER_ID);
+    }
+
+    @Test
+    @DisplayName("return unmodifiable summaries")
+    void returnUnmodifiableSummaries() {
+        var summaries = projection.page(Pagination.first(10)).content();
+        assertThrows(UnsupportedOperationException.class, () -> summaries.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> summaries.get(0).ingredients().remove(0));
+    }
+
+    @Test
+    @DisplayName("load summaries from repository only once")
+    void loadSummariesOnce() {
+        var version = projection.version();
+        recipeRepository.save(fetaSalad);
+
+        assertThat(projection.page(Pagination.first(10)).content()).extracting(RecipeSummary::id)
+                .containsExactly(mozzaSalad.id());
+        assertThat(projection.version()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("add summaries of created recipes and change version")
+    void addCreatedRecipes() {
+        var version = projection.version();
+        recipeRepository.save(fetaSalad);
+        projection.handleEvents(List.of(new RecipeCreated(fetaSalad.id())));
+
+        assertThat(projection.page(Pagination.first(10)).content()).extracting(RecipeSummary::id)
+                .containsExactlyInAnyOrder(mozzaSalad.id(), fetaSalad.id())
+                .isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(projection.version()).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("update summaries of changed recipes and change version")
+    void updateChangedRecipes() {
+        var version = projection.version();
+        var updatedName = new Name("Updated salad");
+        recipeRepository.save(RecipeMother.builder().withName(updatedName).build());
+        projection.handleEvents(List.of(new RecipeIngredientsRemoved(mozzaSalad.id())));
+
+        var summaries = projection.page(Pagination.first(10)).content();
+        assertThat(summaries).extracting(RecipeSummary::id).containsExactly(mozzaSalad.id());
+        assertThat(summaries.get(0).name()).isEqualTo(updatedName);
+        assertThat(projection.version()).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("remove summaries of deleted recipes")
+    void removeDeletedRecipes() {
+        recipeRepository.save(fetaSalad);
+        projection.page(Pagination.first(10));
+        recipeRepository.delete(mozzaSalad);
+        projection.handleEvents(List.of(new RecipeDeleted(mozzaSalad.id())));
+
+        assertThat(projection.page(Pagination.first(10)).content()).extracting(RecipeSummary::id)
+                .containsExactly(fetaSalad.id());
+    }
+
+    @Test
+    @DisplayName("reload summaries when every recipe is deleted")
+    void reloadWhenEveryRecipeDeleted() {
+        var version = projection.version();
+        recipeRepository.deleteAll();
+        projection.handleEvents(List.of(new RecipesDeleted()));
+
+        assertThat(projection.page(Pagination.first(10)).content()).isEmpty();
+        assertThat(projection.version()).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("update summaries of recipes composed of deleted ingredients and change version")
+    void updateRecipesComposedOfDeletedIngredient() {
+        recipeRepository.save(fetaSalad);
+        var version = projection.version();
+        when(ingredientConsultation.getIngredientsById(any())).thenReturn(List.of(
+                ingredient(CUCUMBER_ID, CUCUMBER, CUCUMBER_MEASUREMENT_TYPES)));
+        projection.handleEvents(List.of(new IngredientDeleted(TOMATO_ID)));
+
+        var summaries = projection.page(Pagination.first(10)).content();
+        assertThat(summaries).extracting(RecipeSummary::id).containsExactlyInAnyOrder(mozzaSalad.id(), fetaSalad.id());
+        assertThat(summaries).flatExtracting(RecipeSummary::ingredients).extracting(RecipeSummaryIngredient::name)
+                .containsExactly(CUCUMBER);
+        assertThat(projection.version()).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("keep summaries and version when deleted ingredient does not compose any recipe")
+    void keepSummariesOnUnrelatedIngredientDeletion() {
+        var version = projection.version();
+        projection.handleEvents(List.of(new IngredientDeleted(IngredientId.generate())));
+
+        assertThat(projection.version()).isEqualTo(version);
+        verify(ingredientConsultation, times(1)).getIngredientsById(any());
+    }
+
+    @Test
+    @DisplayName("reload summaries without ingredients names when every ingredient is deleted")
+    void reloadWhenEveryIngredientDeleted() {
+        var version = projection.version();
+        when(ingredientConsultation.getIngredientsById(any())).thenReturn(List.of());
+        projection.handleEvents(List.of(new IngredientsDeleted()));
+
+        assertThat(projection.page(Pagination.first(10)).content().get(0).ingredients()).isEmpty();
+        assertThat(projection.version()).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("reload summaries marked stale on next read and change version")
+    void reloadStaleSummaries() {
+        var version = projection.version();
+        recipeRepository.save(fetaSalad);
+        projection.markStale();
+
+        assertThat(projection.page(Pagination.first(10)).content()).extracting(RecipeSummary::id)
+                .containsExactlyInAnyOrder(mozzaSalad.id(), fetaSalad.id());
+        assertThat(projection.version()).isNotEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("return pages of summaries ordered by identity")
+    void returnSummaryPages() {
+        recipeRepository.save(fetaSalad);
+        var first = mozzaSalad.id().compareTo(fetaSalad.id()) < 0 ? mozzaSalad : fetaSalad;
+        var second = first == mozzaSalad ? fetaSalad : mozzaSalad;
+
+        var firstPage = projection.page(Pagination.first(1));
+        assertThat(firstPage.content()).extracting(RecipeSummary::id).containsExactly(first.id());
+        assertThat(firstPage.previous()).isEmpty();
+        assertThat(firstPage.next()).contains(Pagination.after(first.id(), 1));
+
+        var secondPage = projection.page(firstPage.next().get());
+        assertThat(secondPage.content()).extracting(RecipeSummary::id).containsExactly(second.id());
+        assertThat(secondPage.previous()).contains(Pagination.first(1));
+        assertThat(secondPage.next()).isEmpty();
+    }
+
+}